@@ -25,6 +25,7 @@ const BookingPage = () => {
   const [seatInfo, setSeatInfo] = useState([]); // 실제 좌석 정보
   const [isSuccessModalOpen, setIsSuccessModalOpen] = useState(false);
   const [reservationId, setReservationId] = useState(null);
+  const [holdToken, setHoldToken] = useState(null); // 좌석 홀드 토큰 (예매 확정/홀드 취소 때 사용)
 
   // 영화 정보 가져오기 (실제 API 호출로 대체 필요)
   useEffect(() => {
@@ -221,6 +222,7 @@ const BookingPage = () => {
       }
       
       // 2. 좌석 홀드 성공 시 결제 모달 열기
+      setHoldToken(lockRes.data.holdToken);
       setIsPaymentModalOpen(true);
       
     } catch (error) {
@@ -244,7 +246,8 @@ const BookingPage = () => {
         movieId,
         screeningId: selectedScreeningId,
         seatIds: selectedSeatIds,
-        totalPrice: totalPrice
+        totalPrice: totalPrice,
+        holdToken
       };
 
       // 3. 예매 확정 API 호출
@@ -275,7 +278,8 @@ const BookingPage = () => {
         
         await axios.post('/api/bookings/unlock-seats', {
           screeningId: selectedScreeningId,
-          seatIds: selectedSeatIds
+          seatIds: selectedSeatIds,
+          holdToken
         }, { withCredentials: true });
       } catch (unlockError) {
         console.error('좌석 잠금 해제 실패:', unlockError);
@@ -484,7 +488,8 @@ const BookingPage = () => {
           selectedSeats: selectedSeats || [],
           totalPrice: selectedSeats.length * 10000,
           screeningId: selectedScreeningId,
-          seatInfo: seatInfo
+          seatInfo: seatInfo,
+          holdToken
         }}
         onPay={handlePayment}
       />
@@ -57,7 +57,8 @@ const PaymentModal = ({ isOpen, onClose, bookingInfo, onPay }) => {
           credentials: 'include',
           body: JSON.stringify({
             screeningId: bookingInfo.screeningId,
-            seatIds: selectedSeatIds
+            seatIds: selectedSeatIds,
+            holdToken: bookingInfo.holdToken
           })
         });
         console.log('좌석 잠금이 해제되었습니다.');
@@ -121,7 +122,8 @@ const PaymentModal = ({ isOpen, onClose, bookingInfo, onPay }) => {
               credentials: 'include',
               body: JSON.stringify({
                 screeningId: bookingInfo.screeningId,
-                seatIds: selectedSeatIds
+                seatIds: selectedSeatIds,
+                holdToken: bookingInfo.holdToken
               })
             });
           } catch (unlockError) {
@@ -10,10 +10,15 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import com.movie.movie_backend.config.TwoLevelCacheManager.LocalCacheConfig;
+
 import java.time.Duration;
 
 @Configuration
@@ -40,8 +45,12 @@ public class RedisConfig {
         return template;
     }
 
+    /**
+     * 2단 캐시 (L1: 서버 내 Caffeine, L2: Redis)
+     * L1은 캐시별로 크기/TTL을 지정하고, 저장/삭제 시 Redis pub/sub으로 다른 서버 L1을 비운다.
+     */
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory connectionFactory, StringRedisTemplate stringRedisTemplate) {
         GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(objectMapper);
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofHours(1)) // 기본 1시간 캐시 유지
@@ -49,11 +58,8 @@ public class RedisConfig {
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer))
                 .disableCachingNullValues();
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultConfig)
-                // 인기검색어 캐시: 2분 TTL
-                .withCacheConfiguration("popularKeywords", 
-                    defaultConfig.entryTtl(Duration.ofMinutes(2)))
                 // 평균 별점 캐시: 5분 TTL (적절한 로딩 속도와 최신성)
                 .withCacheConfiguration("averageRatings", 
                     defaultConfig.entryTtl(Duration.ofMinutes(5)))
@@ -70,5 +76,33 @@ public class RedisConfig {
                 .withCacheConfiguration("verificationCodes", 
                     defaultConfig.entryTtl(Duration.ofMinutes(3)))
                 .build();
+        redisCacheManager.afterPropertiesSet();
+
+        return TwoLevelCacheManager.builder(redisCacheManager)
+                .localDefaults(LocalCacheConfig.of(1_000, Duration.ofMinutes(1)))
+                // 평균 별점(averageRatings)은 RatingCacheService가 자체 near-cache + MGET으로 처리
+                // 평점 높은 영화: 값이 엔티티 목록이라 인스턴스 공유를 피하려고 Redis만 사용
+                .withLocalCacheConfiguration("topRatedMovies", LocalCacheConfig.disabled())
+                .withLocalCacheConfiguration("ratingCounts",
+                    LocalCacheConfig.of(20_000, Duration.ofSeconds(30)))
+                // 추천: 사용자/페이지별 키
+                .withLocalCacheConfiguration("recommendations",
+                    LocalCacheConfig.of(5_000, Duration.ofMinutes(2)))
+                // 이메일 인증 코드: 한 번 쓰고 한 번 읽으므로 L1 불필요
+                .withLocalCacheConfiguration("verificationCodes", LocalCacheConfig.disabled())
+                .invalidateVia(stringRedisTemplate)
+                .build();
+    }
+
+    /**
+     * 다른 서버의 캐시 변경 알림 수신 → L1 무효화
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            TwoLevelCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+        return container;
     }
 } 
\ No newline at end of file
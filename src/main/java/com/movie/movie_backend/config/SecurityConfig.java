@@ -154,6 +154,7 @@ public class SecurityConfig {
                     "/api/genre-tags",
                     "/api/tmdb-popularity",
                     "/api/movies/filter",
+                    "/api/movies/filter/cursor",
                     "/api/person/actor/*",
                     "/api/person/director/*",
                     "/api/person/recommended-actor",
@@ -169,6 +170,7 @@ public class SecurityConfig {
                     "/api/comments/review/*/all",
                     "/api/comments/review/*/flat",
                     "/api/search",
+                    "/api/search/suggest",
                     "/api/popular-keywords/**",
                     "/api/forbidden-words/filter",
                     "/api/forbidden-words/check",
@@ -0,0 +1,197 @@
+package com.movie.movie_backend.config;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 2단 캐시 (L1: 서버 내 Caffeine, L2: Redis)
+ * - 조회: L1 → L2 (L2 적중 시 L1에 채움)
+ * - 저장/삭제: L2에 먼저 반영한 뒤 L1 반영, 다른 서버 L1은 invalidation 메시지로 비움
+ * - L1 키는 key.toString() (다른 서버에서 같은 키를 지울 수 있도록 문자열로 통일)
+ */
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local; // L1이 꺼져 있으면 null
+    private final Cache remote;
+    private final TwoLevelCacheManager.InvalidationPublisher publisher;
+
+    private final TierStats localStats = new TierStats();
+    private final TierStats remoteStats = new TierStats();
+
+    TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<String, Object> local, Cache remote,
+                  TwoLevelCacheManager.InvalidationPublisher publisher) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.publisher = publisher;
+    }
+
+    /**
+     * 계층별 적중/누락 횟수와 조회 시간 누계
+     */
+    static final class TierStats {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        void record(boolean hit, long startNanos) {
+            (hit ? hits : misses).increment();
+            nanos.add(System.nanoTime() - startNanos);
+        }
+
+        Map<String, Object> toMap() {
+            long hitCount = hits.sum();
+            long missCount = misses.sum();
+            long requests = hitCount + missCount;
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("hits", hitCount);
+            map.put("misses", missCount);
+            map.put("hitRate", requests > 0 ? (double) hitCount / requests : 0.0);
+            map.put("avgLatencyMicros", requests > 0 ? nanos.sum() / requests / 1000.0 : 0.0);
+            return map;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Object value = getLocal(key);
+        if (value != null) {
+            return new SimpleValueWrapper(value);
+        }
+        long start = System.nanoTime();
+        ValueWrapper wrapper = remote.get(key);
+        remoteStats.record(wrapper != null, start);
+        if (wrapper != null) {
+            putLocal(key, wrapper.get());
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = getLocal(key);
+        if (value != null) {
+            return (T) value;
+        }
+        long start = System.nanoTime();
+        boolean[] loaded = {false};
+        T result = remote.get(key, () -> {
+            loaded[0] = true;
+            return valueLoader.call();
+        });
+        remoteStats.record(!loaded[0], start);
+        putLocal(key, result);
+        return result;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        putLocal(key, value);
+        publisher.publish(name, key.toString());
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        if (existing != null) {
+            putLocal(key, existing.get());
+        } else {
+            putLocal(key, value);
+            publisher.publish(name, key.toString());
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        evictLocal(key.toString());
+        publisher.publish(name, key.toString());
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = remote.evictIfPresent(key);
+        evictLocal(key.toString());
+        publisher.publish(name, key.toString());
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        clearLocal();
+        publisher.publish(name, null);
+    }
+
+    /**
+     * 다른 서버의 변경 알림으로 L1만 비움
+     */
+    void evictLocal(String key) {
+        if (local != null) {
+            local.invalidate(key);
+        }
+    }
+
+    void clearLocal() {
+        if (local != null) {
+            local.invalidateAll();
+        }
+    }
+
+    Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        if (local != null) {
+            Map<String, Object> l1 = localStats.toMap();
+            l1.put("size", local.estimatedSize());
+            stats.put("l1", l1);
+        }
+        stats.put("l2", remoteStats.toMap());
+        return stats;
+    }
+
+    private Object getLocal(Object key) {
+        if (local == null) {
+            return null;
+        }
+        long start = System.nanoTime();
+        Object value = local.getIfPresent(key.toString());
+        localStats.record(value != null, start);
+        return value;
+    }
+
+    private void putLocal(Object key, Object value) {
+        if (local != null && value != null) {
+            local.put(key.toString(), value);
+        }
+    }
+}
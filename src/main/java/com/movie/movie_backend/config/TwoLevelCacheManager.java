@@ -0,0 +1,208 @@
+package com.movie.movie_backend.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Caffeine(L1) + Redis(L2) 2단 CacheManager
+ * - 캐시 이름별 L1 크기/TTL은 RedisCacheManager의 withCacheConfiguration처럼 withLocalCacheConfiguration으로 지정
+ * - L1 설정이 없는 캐시는 기본 설정, LocalCacheConfig.disabled()면 Redis만 사용
+ * - 저장/삭제 시 Redis pub/sub으로 다른 서버에 알려서 그 서버들의 L1 항목을 비움
+ * - Spring Cache가 아닌 서비스 내부 로컬 캐시도 registerLocalCache로 같은 채널의 무효화를 받을 수 있음
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidate";
+    private static final String SEPARATOR = "|";
+
+    private final CacheManager remoteCacheManager;
+    private final LocalCacheConfig defaultLocalConfig;
+    private final Map<String, LocalCacheConfig> localConfigs;
+    private final InvalidationPublisher publisher;
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+    private final Map<String, Consumer<String>> localCaches = new ConcurrentHashMap<>();
+
+    /**
+     * L1 캐시 설정 (최대 항목 수, 쓰기 후 TTL)
+     */
+    public static final class LocalCacheConfig {
+        private final long maximumSize;
+        private final Duration ttl;
+
+        private LocalCacheConfig(long maximumSize, Duration ttl) {
+            this.maximumSize = maximumSize;
+            this.ttl = ttl;
+        }
+
+        public static LocalCacheConfig of(long maximumSize, Duration ttl) {
+            return new LocalCacheConfig(maximumSize, ttl);
+        }
+
+        public static LocalCacheConfig disabled() {
+            return new LocalCacheConfig(0, Duration.ZERO);
+        }
+
+        boolean isEnabled() {
+            return maximumSize > 0 && !ttl.isZero();
+        }
+    }
+
+    /**
+     * L1 무효화 메시지 발행 (보낸 서버는 자기 메시지를 무시)
+     */
+    static final class InvalidationPublisher {
+        private final StringRedisTemplate redisTemplate;
+        private final String nodeId = UUID.randomUUID().toString();
+
+        private InvalidationPublisher(StringRedisTemplate redisTemplate) {
+            this.redisTemplate = redisTemplate;
+        }
+
+        void publish(String cacheName, String key) {
+            if (redisTemplate == null) {
+                return;
+            }
+            try {
+                redisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+                        nodeId + SEPARATOR + cacheName + SEPARATOR + (key != null ? key : ""));
+            } catch (Exception e) {
+                log.warn("캐시 무효화 메시지 발행 실패: cache={}, key={}, {}", cacheName, key, e.getMessage());
+            }
+        }
+    }
+
+    private TwoLevelCacheManager(Builder builder) {
+        this.remoteCacheManager = builder.remoteCacheManager;
+        this.defaultLocalConfig = builder.defaultLocalConfig;
+        this.localConfigs = new HashMap<>(builder.localConfigs);
+        this.publisher = new InvalidationPublisher(builder.redisTemplate);
+    }
+
+    public static Builder builder(CacheManager remoteCacheManager) {
+        return new Builder(remoteCacheManager);
+    }
+
+    public static final class Builder {
+        private final CacheManager remoteCacheManager;
+        private LocalCacheConfig defaultLocalConfig = LocalCacheConfig.disabled();
+        private final Map<String, LocalCacheConfig> localConfigs = new LinkedHashMap<>();
+        private StringRedisTemplate redisTemplate;
+
+        private Builder(CacheManager remoteCacheManager) {
+            this.remoteCacheManager = remoteCacheManager;
+        }
+
+        public Builder localDefaults(LocalCacheConfig config) {
+            this.defaultLocalConfig = config;
+            return this;
+        }
+
+        public Builder withLocalCacheConfiguration(String cacheName, LocalCacheConfig config) {
+            this.localConfigs.put(cacheName, config);
+            return this;
+        }
+
+        public Builder invalidateVia(StringRedisTemplate redisTemplate) {
+            this.redisTemplate = redisTemplate;
+            return this;
+        }
+
+        public TwoLevelCacheManager build() {
+            return new TwoLevelCacheManager(this);
+        }
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoLevelCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> new TwoLevelCache(cacheName, createLocal(cacheName), remote, publisher));
+    }
+
+    /**
+     * 서비스 내부 로컬 캐시 등록: 다른 서버가 publishInvalidation한 키로 handler 호출 (전체 무효화면 null)
+     */
+    public void registerLocalCache(String name, Consumer<String> handler) {
+        localCaches.put(name, handler);
+    }
+
+    /**
+     * 다른 서버들의 로컬 캐시 항목 무효화 알림 (key가 null이면 전체)
+     */
+    public void publishInvalidation(String name, String key) {
+        publisher.publish(name, key);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    /**
+     * 다른 서버의 저장/삭제 알림 → 이 서버 L1에서 해당 항목 제거
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length < 3 || publisher.nodeId.equals(parts[0])) {
+            return;
+        }
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache == null) {
+            Consumer<String> handler = localCaches.get(parts[1]);
+            if (handler != null) {
+                handler.accept(parts[2].isEmpty() ? null : parts[2]);
+            }
+            return;
+        }
+        if (parts[2].isEmpty()) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(parts[2]);
+        }
+    }
+
+    /**
+     * 캐시별 L1/L2 적중률, 평균 조회 시간
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        caches.values().stream()
+                .sorted((a, b) -> a.getName().compareTo(b.getName()))
+                .forEach(cache -> stats.put(cache.getName(), cache.getStats()));
+        return stats;
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<String, Object> createLocal(String cacheName) {
+        LocalCacheConfig config = localConfigs.getOrDefault(cacheName, defaultLocalConfig);
+        if (!config.isEnabled()) {
+            return null;
+        }
+        return Caffeine.newBuilder()
+                .maximumSize(config.maximumSize)
+                .expireAfterWrite(config.ttl)
+                .build();
+    }
+}
@@ -34,6 +34,13 @@ import com.movie.movie_backend.repository.PRDDirectorRepository;
 import com.movie.movie_backend.repository.CastRepository;
 import com.movie.movie_backend.repository.PRDActorRepository;
 import com.movie.movie_backend.service.FileUploadService;
+import com.movie.movie_backend.config.TwoLevelCacheManager;
+import com.movie.movie_backend.service.RecommendationLogWriter;
+import com.movie.movie_backend.service.SearchLogWriter;
+import com.movie.movie_backend.service.LogRetentionService;
+import com.movie.movie_backend.service.ItemCollaborativeFilteringService;
+import com.movie.movie_backend.service.IngestionPipeline;
+import com.movie.movie_backend.service.SyncStateService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -58,6 +65,13 @@ public class AdminController {
     private final CastRepository castRepository;
     private final PRDActorRepository actorRepository;
     private final FileUploadService fileUploadService;
+    private final TwoLevelCacheManager cacheManager;
+    private final RecommendationLogWriter recommendationLogWriter;
+    private final SearchLogWriter searchLogWriter;
+    private final LogRetentionService logRetentionService;
+    private final ItemCollaborativeFilteringService itemCollaborativeFilteringService;
+    private final IngestionPipeline ingestionPipeline;
+    private final SyncStateService syncStateService;
 
     // ===== 영화 관리 =====
 
@@ -937,4 +951,84 @@ public class AdminController {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
-} 
+
+    /**
+     * 캐시별 L1(Caffeine)/L2(Redis) 적중률과 평균 조회 시간
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        return ResponseEntity.ok(cacheManager.getStats());
+    }
+
+    /**
+     * 추천 로그 배치 저장 처리량/적체 지표
+     */
+    @GetMapping("/recommendation-logs/stats")
+    public ResponseEntity<Map<String, Object>> getRecommendationLogStats() {
+        return ResponseEntity.ok(recommendationLogWriter.getStats());
+    }
+
+    /**
+     * 검색 로그 배치 저장 처리량/적체 지표
+     */
+    @GetMapping("/search-logs/stats")
+    public ResponseEntity<Map<String, Object>> getSearchLogStats() {
+        return ResponseEntity.ok(searchLogWriter.getStats());
+    }
+
+    /**
+     * 협업 필터링 모델 현황 (사용자/영화/상호작용 수, 대기 중인 증분 갱신)
+     */
+    @GetMapping("/recommendations/cf/stats")
+    public ResponseEntity<Map<String, Object>> getCollaborativeFilteringStats() {
+        return ResponseEntity.ok(itemCollaborativeFilteringService.getStats());
+    }
+
+    /**
+     * 협업 필터링 오프라인 평가 (최근 상호작용을 숨기고 precision@K 측정)
+     */
+    @GetMapping("/recommendations/cf/evaluate")
+    public ResponseEntity<Map<String, Object>> evaluateCollaborativeFiltering(
+            @RequestParam(defaultValue = "10") int k,
+            @RequestParam(defaultValue = "1000") int maxUsers) {
+        return ResponseEntity.ok(itemCollaborativeFilteringService.evaluate(Math.max(k, 1), Math.max(maxUsers, 1)));
+    }
+
+    /**
+     * 로그 테이블 보존 기간 정리 진행 상황
+     */
+    @GetMapping("/log-retention/progress")
+    public ResponseEntity<Map<String, Object>> getLogRetentionProgress() {
+        return ResponseEntity.ok(Map.of(
+                "running", logRetentionService.isRunning(),
+                "tables", logRetentionService.getProgress()));
+    }
+
+    /**
+     * 로그 테이블 보존 기간 정리 수동 실행 (백그라운드)
+     */
+    @PostMapping("/log-retention/run")
+    public ResponseEntity<Map<String, Object>> runLogRetention() {
+        if (logRetentionService.isRunning()) {
+            return ResponseEntity.ok(Map.of("success", false, "message", "이미 실행 중입니다."));
+        }
+        java.util.concurrent.CompletableFuture.runAsync(logRetentionService::purgeExpiredLogs);
+        return ResponseEntity.ok(Map.of("success", true, "message", "로그 정리를 시작했습니다."));
+    }
+
+    /**
+     * 외부 API 수집 파이프라인 현황 (API별 호출/재시도/실패 수, 동시 실행 중인 작업)
+     */
+    @GetMapping("/ingestion/stats")
+    public ResponseEntity<Map<String, Object>> getIngestionStats() {
+        return ResponseEntity.ok(ingestionPipeline.getStats());
+    }
+
+    /**
+     * 포스터/스틸컷/관람등급 보완 작업별 진행 위치와 마지막 실행 결과
+     */
+    @GetMapping("/sync/checkpoints")
+    public ResponseEntity<List<Map<String, Object>>> getSyncCheckpoints() {
+        return ResponseEntity.ok(syncStateService.getCheckpoints());
+    }
+}
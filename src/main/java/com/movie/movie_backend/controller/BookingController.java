@@ -9,8 +9,10 @@ import com.movie.movie_backend.dto.ScreeningDto;
 import com.movie.movie_backend.dto.ScreeningSeatDto;
 import com.movie.movie_backend.entity.Payment;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
@@ -77,6 +79,12 @@ public class BookingController {
         }
     }
 
+    // 특정 상영의 좌석 상태 변경 구독 (SSE: snapshot 1번 + 이후 delta)
+    @GetMapping(value = "/screenings/{screeningId}/seats/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSeatsByScreening(@PathVariable Long screeningId) {
+        return bookingService.subscribeSeats(screeningId);
+    }
+
     // 예매 처리
     @PostMapping("/bookings")
     public ResponseEntity<Map<String, Object>> createBooking(@RequestBody Map<String, Object> bookingRequest) {
@@ -89,8 +97,9 @@ public class BookingController {
                 .map(obj -> Long.valueOf(obj.toString()))
                 .collect(java.util.stream.Collectors.toList());
             Integer totalPrice = (Integer) bookingRequest.get("totalPrice");
+            String holdToken = (String) bookingRequest.get("holdToken");
 
-            boolean success = bookingService.createBooking(movieId, screeningId, seatIds, totalPrice);
+            boolean success = bookingService.createBooking(movieId, screeningId, seatIds, totalPrice, holdToken);
             Long reservationId = bookingService.getLastReservationIdForUser(1L); // 실제 서비스에서는 인증 정보 사용
             if (success) {
                 return ResponseEntity.ok(Map.of(
@@ -121,11 +130,12 @@ public class BookingController {
             List<Long> seatIds = seatIdsRaw.stream()
                 .map(obj -> Long.valueOf(obj.toString()))
                 .collect(java.util.stream.Collectors.toList());
-            boolean success = bookingService.lockSeatsForPayment(screeningId, seatIds);
-            if (success) {
+            String holdToken = bookingService.lockSeatsForPayment(screeningId, seatIds);
+            if (holdToken != null) {
                 return ResponseEntity.ok(Map.of(
                     "success", true,
-                    "message", "좌석이 임시 홀드(LOCKED)되었습니다."
+                    "message", "좌석이 임시 홀드(LOCKED)되었습니다.",
+                    "holdToken", holdToken
                 ));
             } else {
                 return ResponseEntity.ok(Map.of(
@@ -150,7 +160,8 @@ public class BookingController {
             List<Long> seatIds = seatIdsRaw.stream()
                 .map(obj -> Long.valueOf(obj.toString()))
                 .collect(java.util.stream.Collectors.toList());
-            boolean success = bookingService.unlockSeats(screeningId, seatIds);
+            String holdToken = (String) request.get("holdToken");
+            boolean success = bookingService.unlockSeats(screeningId, seatIds, holdToken);
             if (success) {
                 return ResponseEntity.ok(Map.of(
                     "success", true,
@@ -211,6 +222,16 @@ public class BookingController {
         }
     }
 
+    // 상영별 좌석 홀드 지표 조회 API (홀드 TTL, 홀드 수, 다음 만료 시각)
+    @GetMapping("/screenings/{screeningId}/holds")
+    public ResponseEntity<Map<String, Object>> getSeatHoldMetrics(@PathVariable Long screeningId) {
+        try {
+            return ResponseEntity.ok(bookingService.getSeatHoldMetrics(screeningId));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     // 오래된 LOCKED 좌석 정리 API (관리자용)
     @PostMapping("/bookings/cleanup-locked-seats")
     public ResponseEntity<Map<String, Object>> cleanupLockedSeats() {
@@ -17,6 +17,7 @@ import com.movie.movie_backend.service.KobisApiService;
 import com.movie.movie_backend.service.DataMigrationService;
 import com.movie.movie_backend.service.NaverMovieService;
 import com.movie.movie_backend.service.TmdbPosterService;
+import com.movie.movie_backend.service.MovieSearchIndexService;
 import com.movie.movie_backend.repository.PRDMovieListRepository;
 import com.movie.movie_backend.repository.PRDMovieRepository;
 import com.movie.movie_backend.repository.BoxOfficeRepository;
@@ -24,6 +25,7 @@ import com.movie.movie_backend.repository.SearchLogRepository;
 import com.movie.movie_backend.mapper.MovieDetailMapper;
 import com.movie.movie_backend.mapper.MovieListMapper;
 import com.movie.movie_backend.mapper.TopRatedMovieMapper;
+import com.movie.movie_backend.util.KeysetCursor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -44,6 +46,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Set;
+import java.util.Optional;
 
 import com.movie.movie_backend.constant.MovieStatus;
 import com.movie.movie_backend.repository.REVLikeRepository;
@@ -91,6 +94,7 @@ public class DataViewController {
     private final PRDDirectorRepository directorRepository;
     private final MovieDetailRepository movieDetailRepository;
     private final REVRatingService ratingService;
+    private final MovieSearchIndexService movieSearchIndexService;
 
     /**
      * 데이터 조회 메인 페이지
@@ -469,13 +473,7 @@ public class DataViewController {
                 }
             }
             User currentUser = getCurrentUser(request);
-            List<MovieDetailDto> dtoList = movieDetails.stream()
-                .map(md -> movieDetailMapper.toDto(
-                    md,
-                    likeRepository.countByMovieDetail(md),
-                    currentUser != null && likeRepository.existsByMovieDetailAndUser(md, currentUser)
-                ))
-                .collect(Collectors.toList());
+            List<MovieDetailDto> dtoList = movieDetailMapper.toDtoList(movieDetails, currentUser);
             return ResponseEntity.ok(Map.of(
                 "data", dtoList,
                 "total", total,
@@ -519,6 +517,30 @@ public class DataViewController {
         try {
             log.info("영화 통합 검색 요청(띄어쓰기 무시): keyword={}, page={}, size={}", keyword, page, size);
             
+            // 1. 검색 인덱스가 준비되어 있으면 인덱스에서 랭킹/페이지네이션 후 해당 페이지만 조회
+            if (movieSearchIndexService.isReady()) {
+                MovieSearchIndexService.SearchPage searchPage = movieSearchIndexService.search(keyword, page, size);
+                List<MovieDetail> pagedList = loadSearchPageMovies(searchPage.getMovieCds());
+                
+                User currentUser = getCurrentUser(request);
+                List<MovieDetailDto> dtoList = movieDetailMapper.toDtoList(pagedList, currentUser);
+                
+                int total = searchPage.getTotal();
+                log.info("영화 통합 검색 결과(인덱스): keyword={}, total={}, page={}, size={}", keyword, total, page, size);
+                return ResponseEntity.ok(Map.of(
+                    "data", dtoList,
+                    "total", total,
+                    "page", page,
+                    "size", size,
+                    "totalPages", (int) Math.ceil((double) total / size),
+                    "keyword", keyword,
+                    "searchSource", Map.of(
+                        "movieDetailCount", searchPage.getDetailCount(),
+                        "movieListCount", searchPage.getListOnlyCount()
+                    )
+                ));
+            }
+            
             // 2. movie_list에서 검색 (기본 검색)
             List<MovieListDto> movieListDtos = prdMovieListService.searchMoviesIgnoreSpace(keyword);
             log.info("movie_list 검색 결과: {}개", movieListDtos.size());
@@ -563,17 +585,11 @@ public class DataViewController {
             int total = allResults.size();
             int start = page * size;
             int end = Math.min(start + size, total);
-            List<MovieDetail> pagedList = allResults.subList(start, end);
+            List<MovieDetail> pagedList = start < total ? allResults.subList(start, end) : new ArrayList<>();
             
             // 6. DTO 변환
             User currentUser = getCurrentUser(request);
-            List<MovieDetailDto> dtoList = pagedList.stream()
-                .map(md -> movieDetailMapper.toDto(
-                    md,
-                    likeRepository.countByMovieDetail(md),
-                    currentUser != null && likeRepository.existsByMovieDetailAndUser(md, currentUser)
-                ))
-                .collect(Collectors.toList());
+            List<MovieDetailDto> dtoList = movieDetailMapper.toDtoList(pagedList, currentUser);
             
             log.info("영화 통합 검색 결과: keyword={}, total={}, page={}, size={}", keyword, total, page, size);
             return ResponseEntity.ok(Map.of(
@@ -594,6 +610,46 @@ public class DataViewController {
         }
     }
 
+    /**
+     * 검색 결과 한 페이지의 영화 조회 (인덱스 랭킹 순서 유지)
+     * movie_detail이 없는 영화는 movie_list 기본 정보로 채운다.
+     */
+    private List<MovieDetail> loadSearchPageMovies(List<String> movieCds) {
+        if (movieCds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<String, MovieDetail> movieDetailMap = movieRepository.findByMovieCdIn(movieCds).stream()
+                .collect(Collectors.toMap(MovieDetail::getMovieCd, md -> md, (a, b) -> a));
+        List<String> listOnlyCds = movieCds.stream()
+                .filter(cd -> !movieDetailMap.containsKey(cd))
+                .collect(Collectors.toList());
+        Map<String, MovieList> movieListMap = listOnlyCds.isEmpty() ? Map.of()
+                : movieListRepository.findByMovieCdIn(listOnlyCds).stream()
+                    .collect(Collectors.toMap(MovieList::getMovieCd, ml -> ml, (a, b) -> a));
+        
+        List<MovieDetail> result = new ArrayList<>(movieCds.size());
+        for (String movieCd : movieCds) {
+            MovieDetail movieDetail = movieDetailMap.get(movieCd);
+            if (movieDetail != null) {
+                result.add(movieDetail);
+                continue;
+            }
+            MovieList movieList = movieListMap.get(movieCd);
+            if (movieList != null) {
+                MovieDetail basic = new MovieDetail();
+                basic.setMovieCd(movieList.getMovieCd());
+                basic.setMovieNm(movieList.getMovieNm());
+                basic.setMovieNmEn(movieList.getMovieNmEn());
+                basic.setOpenDt(movieList.getOpenDt());
+                basic.setGenreNm(movieList.getGenreNm());
+                basic.setNationNm(movieList.getNationNm());
+                basic.setWatchGradeNm(movieList.getWatchGradeNm());
+                result.add(basic);
+            }
+        }
+        return result;
+    }
+
     /**
      * MovieList DTO 데이터 조회 API (왓챠피디아 스타일)
      * 
@@ -1017,13 +1073,7 @@ public class DataViewController {
             
             // 5. DTO 변환
             User currentUser = getCurrentUser(request);
-            List<MovieDetailDto> dtoList = pagedList.stream()
-                .map(md -> movieDetailMapper.toDto(
-                    md,
-                    likeRepository.countByMovieDetail(md),
-                    currentUser != null && likeRepository.existsByMovieDetailAndUser(md, currentUser)
-                ))
-                .collect(Collectors.toList());
+            List<MovieDetailDto> dtoList = movieDetailMapper.toDtoList(pagedList, currentUser);
             
             return ResponseEntity.ok(Map.of(
                 "data", dtoList,
@@ -1040,6 +1090,92 @@ public class DataViewController {
         }
     }
 
+    /**
+     * 비슷한 장르 영화 조회 API (커서 기반)
+     * 
+     * React에서 사용법:
+     * - 첫 요청은 cursor 없이, 다음 페이지는 응답의 nextCursor를 cursor로 전달
+     * - 평균 평점 높은 순 (평점 없는 영화는 뒤), 몇 번째 페이지든 필요한 행만 DB에서 읽음
+     * 
+     * 예시:
+     * fetch('/data/api/similar-genre-movies/cursor?movieCd=20201234&size=10')
+     *   .then(res => res.json())
+     *   .then(data => console.log(data.data, data.nextCursor));
+     */
+    @GetMapping("/api/similar-genre-movies/cursor")
+    @ResponseBody
+    @Operation(summary = "비슷한 장르 영화 조회 API (커서 기반)", 
+               description = "특정 영화와 장르가 하나라도 겹치는 영화를 평균 평점 순으로 커서(키셋) 페이지네이션합니다. React에서 사용할 때: fetch('/data/api/similar-genre-movies/cursor?movieCd=20201234&size=10&cursor=...')")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "비슷한 장르 영화 조회 성공"),
+        @ApiResponse(responseCode = "400", description = "비슷한 장르 영화 조회 실패 (잘못된 커서 포함)")
+    })
+    public ResponseEntity<Map<String, Object>> getSimilarGenreMoviesByCursor(
+            @RequestParam String movieCd,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            HttpServletRequest request) {
+        try {
+            int limit = Math.max(1, Math.min(size, 100));
+            MovieDetail targetMovie = movieDetailRepository.findByMovieCd(movieCd);
+            if (targetMovie == null) {
+                return ResponseEntity.badRequest().body(Map.of("error", "영화를 찾을 수 없습니다: " + movieCd));
+            }
+            String genrePattern = Arrays.stream(Optional.ofNullable(targetMovie.getGenreNm()).orElse("").split(","))
+                    .map(String::trim)
+                    .filter(genre -> !genre.isEmpty())
+                    .map(genre -> genre.replaceAll("[\\\\^$.|?*+()\\[\\]{}]", "\\\\$0"))
+                    .collect(Collectors.joining("|"));
+            if (genrePattern.isEmpty()) {
+                return ResponseEntity.ok(Map.of(
+                    "data", new ArrayList<>(),
+                    "size", 0,
+                    "hasNext", false,
+                    "message", "해당 영화의 장르 정보가 없습니다."
+                ));
+            }
+
+            // 커서 = (마지막 영화의 평균 평점 또는 null, movie_detail_id)
+            Double afterRating = Double.MAX_VALUE;
+            long afterId = Long.MAX_VALUE;
+            if (cursor != null && !cursor.isBlank()) {
+                String[] key = KeysetCursor.decode(cursor, 2);
+                afterRating = key[0] != null ? Double.valueOf(key[0]) : null;
+                afterId = Long.parseLong(key[1]);
+            }
+
+            // 한 건 더 읽어서 다음 페이지 여부 판단, 평점 있는 영화가 모자라면 평점 없는 영화로 이어감
+            List<MovieDetail> movies = new ArrayList<>();
+            if (afterRating != null) {
+                movies.addAll(movieDetailRepository.findSimilarGenreRatedAfter(genrePattern, movieCd, afterRating, afterId, limit + 1));
+                afterId = Long.MAX_VALUE;
+            }
+            if (movies.size() <= limit) {
+                movies.addAll(movieDetailRepository.findSimilarGenreUnratedAfter(genrePattern, movieCd, afterId, limit + 1 - movies.size()));
+            }
+            boolean hasNext = movies.size() > limit;
+            List<MovieDetail> pagedList = hasNext ? movies.subList(0, limit) : movies;
+            MovieDetail last = pagedList.isEmpty() ? null : pagedList.get(pagedList.size() - 1);
+
+            User currentUser = getCurrentUser(request);
+            List<MovieDetailDto> dtoList = movieDetailMapper.toDtoList(pagedList, currentUser);
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("data", dtoList);
+            result.put("size", dtoList.size());
+            result.put("hasNext", hasNext);
+            result.put("nextCursor", hasNext ? KeysetCursor.encode(last.getAverageRating(), last.getId()) : null);
+            result.put("targetGenre", targetMovie.getGenreNm());
+            return ResponseEntity.ok(result);
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "잘못된 커서입니다."));
+        } catch (Exception e) {
+            log.error("비슷한 장르 영화 조회 실패(커서): movieCd={}", movieCd, e);
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     /**
      * TMDB 인기도 데이터 조회 API
      *
@@ -1,27 +1,22 @@
 package com.movie.movie_backend.controller;
 
-import com.movie.movie_backend.entity.MovieList;
 import com.movie.movie_backend.dto.MovieListDto;
-import com.movie.movie_backend.repository.PRDMovieListRepository;
-import com.movie.movie_backend.mapper.MovieListMapper;
+import com.movie.movie_backend.service.MovieCatalogIndexService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.*;
-import java.util.stream.Collectors;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 
 @Slf4j
 @RestController
 @RequestMapping("/api/movies")
 @RequiredArgsConstructor
 public class MovieFilterController {
-    private final PRDMovieListRepository movieListRepository;
-    private final MovieListMapper movieListMapper;
+    private final MovieCatalogIndexService movieCatalogIndexService;
 
     /**
      * 영화 필터링 API
@@ -42,75 +37,17 @@ public class MovieFilterController {
             log.info("영화 필터링 요청: page={}, size={}, genres={}, search={}, sort={}", 
                     page, size, genres, search, sort);
 
-            Pageable pageable = PageRequest.of(page, size);
-            Page<MovieList> moviePage;
+            // 장르 필터링 (쉼표 구분, 하나라도 일치)
+            List<String> genreList = genres != null && !genres.trim().isEmpty()
+                    ? Arrays.stream(genres.split(",")).map(String::trim).filter(g -> !g.isEmpty()).toList()
+                    : List.of();
 
-            if (search != null && !search.trim().isEmpty()) {
-                moviePage = movieListRepository.findByMovieNmContainingIgnoreCase(search.trim(), pageable);
-                log.info("검색어 '{}'로 필터링된 영화: {}개", search, moviePage.getTotalElements());
-            } else {
-                List<MovieList> allMovies = new ArrayList<>();
-                int pageIdx = 0, chunkSize = 1000;
-                do {
-                    moviePage = movieListRepository.findAll(PageRequest.of(pageIdx++, chunkSize));
-                    allMovies.addAll(moviePage.getContent());
-                } while (moviePage.hasNext());
-                log.info("전체 영화 조회: {}개", allMovies.size());
-            }
-
-            List<MovieList> filteredMovies = moviePage.getContent();
-
-            // 포스터 URL이 없는 영화 제외
-            filteredMovies = filteredMovies.stream()
-                    .filter(movie -> movie.getPosterUrl() != null && 
-                                   !movie.getPosterUrl().trim().isEmpty() && 
-                                   !movie.getPosterUrl().equals("null"))
-                    .collect(Collectors.toList());
-            log.info("포스터 URL 필터링 후 영화: {}개", filteredMovies.size());
-
-            // 장르 필터링 (자바에서 처리)
-            if (genres != null && !genres.trim().isEmpty()) {
-                Set<String> genreSet = Arrays.stream(genres.split(","))
-                        .map(String::trim)
-                        .collect(Collectors.toSet());
-                filteredMovies = filteredMovies.stream()
-                        .filter(movie -> {
-                            if (movie.getGenreNm() == null) return false;
-                            Set<String> movieGenres = new HashSet<>(Arrays.asList(movie.getGenreNm().split(",")));
-                            return !Collections.disjoint(genreSet, movieGenres);
-                        })
-                        .collect(Collectors.toList());
-                log.info("장르 필터링 후 영화: {}개", filteredMovies.size());
-            }
-
-            // 정렬 분기 추가
-            if (sort != null) {
-                switch (sort) {
-                    case "openDt":
-                        filteredMovies.sort(Comparator.comparing(MovieList::getOpenDt, Comparator.nullsLast(Comparator.reverseOrder())));
-                        break;
-                    case "name":
-                        filteredMovies.sort(Comparator.comparing(MovieList::getMovieNm, Comparator.nullsLast(Comparator.naturalOrder())));
-                        break;
-                    case "random":
-                        Collections.shuffle(filteredMovies);
-                        break;
-                    case "tmdb_popularity":
-                    default:
-                        filteredMovies.sort(Comparator.comparing(MovieList::getTmdbPopularity, Comparator.nullsLast(Comparator.reverseOrder())));
-                        break;
-                }
-            }
-
-            // page/size에 맞게 슬라이싱
-            int fromIndex = Math.min(page * size, filteredMovies.size());
-            int toIndex = Math.min(fromIndex + size, filteredMovies.size());
-            List<MovieList> pagedMovies = filteredMovies.subList(fromIndex, toIndex);
-
-            int total = filteredMovies.size();
+            // 포스터 있는 영화만, 인메모리 카탈로그에서 필터/정렬/페이지 처리
+            MovieCatalogIndexService.CatalogPage result =
+                    movieCatalogIndexService.filter(genreList, search, sort, page, size);
+            List<MovieListDto> dtoList = result.content();
+            int total = result.total();
             int totalPages = (int) Math.ceil((double) total / size);
-
-            List<MovieListDto> dtoList = movieListMapper.toDtoList(pagedMovies);
             log.info("필터링 완료: 총 {}개 중 {} (페이지: {})", total, dtoList.size(), page);
 
             return ResponseEntity.ok(Map.of(
@@ -126,9 +63,64 @@ public class MovieFilterController {
                     )
             ));
 
+        } catch (MovieCatalogIndexService.CatalogNotReadyException e) {
+            return notReady(e);
         } catch (Exception e) {
             log.error("영화 필터링 실패", e);
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
+
+    /**
+     * 영화 필터링 API (커서 기반)
+     * 
+     * 사용법:
+     * - 첫 페이지: /api/movies/filter/cursor?genres=액션&sort=openDt&size=20
+     * - 다음 페이지: 응답의 nextCursor를 cursor로 전달 (정렬 기준은 같아야 함, random 정렬은 인기도 순으로 처리)
+     */
+    @GetMapping("/filter/cursor")
+    public ResponseEntity<Map<String, Object>> filterMoviesByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String genres,
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "tmdb_popularity") String sort) {
+        try {
+            List<String> genreList = genres != null && !genres.trim().isEmpty()
+                    ? Arrays.stream(genres.split(",")).map(String::trim).filter(g -> !g.isEmpty()).toList()
+                    : List.of();
+            MovieCatalogIndexService.CatalogCursorPage result = movieCatalogIndexService.filterAfter(
+                    genreList, search, sort, cursor, Math.max(1, Math.min(size, 100)));
+
+            Map<String, Object> body = new HashMap<>();
+            body.put("data", result.content());
+            body.put("total", result.total());
+            body.put("size", result.content().size());
+            body.put("hasNext", result.hasNext());
+            body.put("nextCursor", result.nextCursor());
+            body.put("filters", Map.of(
+                    "genres", genres != null ? genres : "",
+                    "search", search != null ? search : "",
+                    "sort", sort
+            ));
+            return ResponseEntity.ok(body);
+
+        } catch (MovieCatalogIndexService.CatalogNotReadyException e) {
+            return notReady(e);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            log.error("영화 필터링(커서) 실패", e);
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * 기동 직후 카탈로그 구축 중 - 잠시 후 재시도하도록 503
+     */
+    private ResponseEntity<Map<String, Object>> notReady(RuntimeException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(Map.of("error", e.getMessage()));
+    }
 }
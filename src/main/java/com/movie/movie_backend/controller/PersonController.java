@@ -286,9 +286,7 @@ public class PersonController {
         result.put("actor", actorDto);
         result.put("movieCount", allMovies.size());
         result.put("averageRating", getAverageRatingByActor(currentRecommendedActor.getId()));
-        result.put("allMovies", sortedMovies.stream()
-            .map(movie -> movieDetailMapper.toDto(movie, 0, false))
-            .collect(Collectors.toList()));
+        result.put("allMovies", movieDetailMapper.toDtoList(sortedMovies, null));
         return result;
     }
 
@@ -471,9 +469,7 @@ public class PersonController {
         result.put("director", directorDto);
         result.put("movieCount", allMovies.size());
         result.put("averageRating", getAverageRatingByDirector(currentRecommendedDirector.getId()));
-        result.put("allMovies", sortedMovies.stream()
-            .map(movie -> movieDetailMapper.toDto(movie, 0, false))
-            .collect(Collectors.toList()));
+        result.put("allMovies", movieDetailMapper.toDtoList(sortedMovies, null));
         return result;
     }
 
@@ -3,12 +3,12 @@ package com.movie.movie_backend.controller;
 import com.movie.movie_backend.entity.PopularKeyword;
 import com.movie.movie_backend.repository.PopularKeywordRepository;
 import com.movie.movie_backend.service.PopularKeywordBatchService;
+import com.movie.movie_backend.service.PopularKeywordService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.CacheEvict;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.ArrayList;
 
@@ -20,28 +20,41 @@ public class PopularKeywordController {
 
     private final PopularKeywordRepository popularKeywordRepository;
     private final PopularKeywordBatchService popularKeywordBatchService;
+    private final PopularKeywordService popularKeywordService;
 
     @GetMapping
-    @Cacheable(value = "popularKeywords", key = "'all'")
     public List<PopularKeyword> getPopularKeywords() {
-        log.info("인기검색어 조회 요청");
-        List<PopularKeyword> keywords = popularKeywordRepository.findTop10ByOrderBySearchCountDesc();
-        log.info("인기검색어 조회 결과: {}개", keywords.size());
-        return new ArrayList<>(keywords);
+        // 메모리 슬라이딩 윈도우 상위 10개 (아직 집계가 없으면 마지막 스냅샷)
+        List<PopularKeywordService.KeywordCount> top = popularKeywordService.getTopKeywords();
+        if (top.isEmpty()) {
+            return new ArrayList<>(popularKeywordRepository.findTop10ByOrderBySearchCountDesc());
+        }
+        LocalDateTime aggregatedAt = popularKeywordService.getAggregatedAt();
+        List<PopularKeyword> keywords = new ArrayList<>(top.size());
+        for (PopularKeywordService.KeywordCount keywordCount : top) {
+            PopularKeyword pk = new PopularKeyword();
+            pk.setKeyword(keywordCount.getKeyword());
+            pk.setSearchCount((int) Math.min(Integer.MAX_VALUE, keywordCount.getCount()));
+            pk.setAggregatedAt(aggregatedAt);
+            keywords.add(pk);
+        }
+        return keywords;
     }
 
     @PostMapping("/aggregate")
-    @CacheEvict(value = "popularKeywords", allEntries = true)
     public String aggregatePopularKeywords() {
         log.info("인기검색어 수동 집계 요청");
         popularKeywordBatchService.aggregatePopularKeywords();
         return "인기검색어 집계 완료";
     }
 
+    /**
+     * 캐시 대신 메모리 스냅샷을 바로 다시 계산 (주기 갱신을 기다리지 않음)
+     */
     @PostMapping("/clear-cache")
-    @CacheEvict(value = "popularKeywords", allEntries = true)
     public String clearPopularKeywordsCache() {
         log.info("인기검색어 캐시 무효화 요청");
+        popularKeywordService.refresh();
         return "인기검색어 캐시 무효화 완료";
     }
 } 
\ No newline at end of file
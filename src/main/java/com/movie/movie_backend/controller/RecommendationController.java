@@ -1,6 +1,7 @@
 package com.movie.movie_backend.controller;
 
 import com.movie.movie_backend.dto.RecommendationDto;
+import com.movie.movie_backend.service.ItemCollaborativeFilteringService;
 import com.movie.movie_backend.service.PersonalizedRecommendationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -19,6 +20,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class RecommendationController {
     private final PersonalizedRecommendationService recommendationService;
+    private final ItemCollaborativeFilteringService itemCollaborativeFilteringService;
     private final USRUserRepository userRepository;
 
     @GetMapping("/liked-people")
@@ -43,6 +45,28 @@ public class RecommendationController {
         return recommendationService.recommendByLikedPeople(userId, page, size);
     }
 
+    /**
+     * 협업 필터링 추천 (나와 취향이 비슷한 사용자들이 좋아한 영화)
+     */
+    @GetMapping("/similar-users")
+    public List<RecommendationDto> recommendBySimilarUsers(
+        @AuthenticationPrincipal Object principal,
+        @RequestParam(defaultValue = "20") int limit
+    ) {
+        Long userId = null;
+        if (principal instanceof User) {
+            userId = ((User) principal).getId();
+        } else if (principal instanceof DefaultOAuth2User) {
+            Object email = ((DefaultOAuth2User) principal).getAttribute("email");
+            if (email != null) {
+                User user = userRepository.findByEmail(email.toString()).orElse(null);
+                if (user != null) userId = user.getId();
+            }
+        }
+        if (userId == null) throw new RuntimeException("로그인 유저 식별 불가");
+        return itemCollaborativeFilteringService.recommend(userId, Math.min(Math.max(limit, 1), 100));
+    }
+
     @GetMapping("/clear-cache")
     public String clearCache(@AuthenticationPrincipal Object principal) {
         Long userId = null;
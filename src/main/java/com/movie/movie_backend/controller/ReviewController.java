@@ -11,6 +11,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import com.movie.movie_backend.dto.ReviewRequestDto;
 import com.movie.movie_backend.dto.ReviewResponseDto;
+import com.movie.movie_backend.dto.CursorPageDto;
 import org.springframework.data.domain.Page;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
@@ -420,6 +421,22 @@ public class ReviewController {
         return ResponseEntity.ok(pageResult);
     }
 
+    /**
+     * [DTO 기반] 영화별 리뷰 목록(최신순, 커서 기반)
+     * 첫 요청은 cursor 없이, 다음 페이지는 응답의 nextCursor를 cursor로 전달
+     */
+    @GetMapping("/dto/list/cursor")
+    public ResponseEntity<CursorPageDto<ReviewResponseDto>> getReviewsByMovieCursor(
+            @RequestParam Long movieId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            return ResponseEntity.ok(reviewService.getReviewsByMovieCursor(movieId, cursor, Math.max(1, Math.min(size, 100))));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * [DTO 기반] 리뷰 상세(댓글 포함)
      */
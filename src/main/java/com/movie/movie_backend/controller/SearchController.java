@@ -1,19 +1,24 @@
 package com.movie.movie_backend.controller;
 
 import com.movie.movie_backend.dto.SearchResultDto;
+import com.movie.movie_backend.dto.SuggestionDto;
 import com.movie.movie_backend.service.SearchService;
+import com.movie.movie_backend.service.SuggestService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/search")
 @RequiredArgsConstructor
 public class SearchController {
 
     private final SearchService searchService;
+    private final SuggestService suggestService;
 
     @GetMapping("")
     public SearchResultDto search(@RequestParam("query") String query,
@@ -22,4 +27,11 @@ public class SearchController {
                                  @RequestParam(value = "size", defaultValue = "10") int size) {
         return searchService.search(query, type, page, size);
     }
-} 
+
+    // 검색어 자동완성 (초성/입력 중인 글자/오타 허용)
+    @GetMapping("/suggest")
+    public List<SuggestionDto> suggest(@RequestParam("q") String q,
+                                       @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return suggestService.suggest(q, limit);
+    }
+}
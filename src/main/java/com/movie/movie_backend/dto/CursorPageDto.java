@@ -0,0 +1,17 @@
+package com.movie.movie_backend.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 커서(키셋) 페이지
+ * nextCursor를 다음 요청의 cursor로 그대로 넘기면 이어지는 페이지를 받음 (hasNext가 false면 null)
+ */
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class CursorPageDto<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
@@ -0,0 +1,22 @@
+package com.movie.movie_backend.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 좌석 배치도 변경분 (SSE "delta" 이벤트)
+ * version이 클라이언트가 가진 스냅샷 version 이하이면 무시하면 된다.
+ */
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class SeatMapDeltaDto {
+    private Long screeningId;
+    private long version;
+    private List<SeatChange> changes;
+
+    @Getter @Setter @NoArgsConstructor @AllArgsConstructor
+    public static class SeatChange {
+        private Long seatId;
+        private String status;
+    }
+}
@@ -0,0 +1,15 @@
+package com.movie.movie_backend.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 좌석 배치도 전체 (SSE "snapshot" 이벤트)
+ */
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class SeatMapSnapshotDto {
+    private Long screeningId;
+    private long version;
+    private List<ScreeningSeatDto> seats;
+}
@@ -0,0 +1,17 @@
+package com.movie.movie_backend.dto;
+
+public class SuggestionDto {
+    private String text;
+    private String type;    // movie, director, actor, keyword
+    private String movieCd; // type이 movie일 때만
+
+    public SuggestionDto(String text, String type, String movieCd) {
+        this.text = text;
+        this.type = type;
+        this.movieCd = movieCd;
+    }
+
+    public String getText() { return text; }
+    public String getType() { return type; }
+    public String getMovieCd() { return movieCd; }
+}
@@ -2,11 +2,14 @@ package com.movie.movie_backend.entity;
 
 import lombok.*;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import java.time.LocalDate;
 import java.util.List;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_director_name", columnNames = "name")) // 이름당 한 행 (일괄 저장 업서트 기준)
+@BatchSize(size = 100)
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class Director {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -2,6 +2,7 @@ package com.movie.movie_backend.entity;
 
 import lombok.*;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -9,7 +10,9 @@ import java.util.List;
 
 @Entity
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
-@Table(name = "movie_detail")
+@Table(name = "movie_detail", indexes = {
+        @Index(name = "idx_movie_detail_average_rating", columnList = "averageRating, movie_detail_id") // 평점순 키셋 페이지네이션용
+})
 public class MovieDetail {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -51,10 +54,12 @@ public class MovieDetail {
     private Director director; // 감독 (N:1)
 
     @OneToMany(mappedBy = "movieDetail", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     @JsonIgnore
     private List<Cast> casts; // 출연 배우 목록 (역할 정보 포함)
 
     @ManyToMany
+    @BatchSize(size = 100)
     @JoinTable(name = "movie_detail_tag",
             joinColumns = @JoinColumn(name = "movie_detail_id"),
             inverseJoinColumns = @JoinColumn(name = "tag_id"))
@@ -78,6 +83,7 @@ public class MovieDetail {
     private List<Screening> screenings; // 영화의 상영 정보 목록
 
     @OneToMany(mappedBy = "movieDetail", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     @JsonIgnore
     private List<Stillcut> stillcuts = new java.util.ArrayList<>(); // 영화의 스틸컷 이미지 목록
 
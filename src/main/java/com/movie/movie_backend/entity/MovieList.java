@@ -9,6 +9,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 @Entity
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 @Table(name = "movie_list")
+@EntityListeners(MovieListChangeListener.class)
 public class MovieList {
     @Id
     @Column(name = "movie_cd")
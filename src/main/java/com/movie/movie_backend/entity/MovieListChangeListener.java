@@ -0,0 +1,31 @@
+package com.movie.movie_backend.entity;
+
+import com.movie.movie_backend.service.MovieCatalogIndexService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * MovieList 저장/수정/삭제를 영화 카탈로그 인덱스에 알림
+ * (movie_list를 저장하는 곳이 여러 서비스에 흩어져 있어서 엔티티 콜백으로 한 곳에서 받음)
+ * 인덱스 서비스는 리포지토리(EntityManagerFactory)에 의존하므로 순환 참조를 피하려고 ObjectProvider로 늦게 찾음
+ */
+@Component
+@RequiredArgsConstructor
+public class MovieListChangeListener {
+
+    private final ObjectProvider<MovieCatalogIndexService> catalogIndexService;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(MovieList movieList) {
+        MovieCatalogIndexService service = catalogIndexService.getIfAvailable();
+        if (service != null) {
+            service.markDirty(movieList.getMovieCd());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.movie.movie_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 영화별 별점 집계 (별점 등록/수정/삭제 때마다 증분 갱신)
+ * - 점수는 0.5 단위라서 합계를 "반 점" 단위 정수로 저장 (부동소수 오차 누적 방지)
+ * - 분포는 0.5~5.0 구간별 개수를 컬럼 10개에 저장
+ */
+@Entity
+@Getter @Setter @NoArgsConstructor
+@Table(name = "movie_rating_aggregate", indexes = {
+        @Index(name = "idx_movie_rating_aggregate_movie_cd", columnList = "movie_cd")
+})
+public class MovieRatingAggregate {
+    public static final int BUCKET_COUNT = 10;
+
+    @Id
+    @Column(name = "movie_detail_id")
+    private Long movieDetailId; // MovieDetail 기본키
+
+    @Column(name = "movie_cd", nullable = false)
+    private String movieCd;
+
+    @Column(name = "rating_count", nullable = false)
+    private long ratingCount; // 별점 개수
+
+    @Column(name = "half_point_sum", nullable = false)
+    private long halfPointSum; // 별점 합계 (0.5점 = 1)
+
+    @Column(name = "bucket_05", nullable = false) private long bucket05;
+    @Column(name = "bucket_10", nullable = false) private long bucket10;
+    @Column(name = "bucket_15", nullable = false) private long bucket15;
+    @Column(name = "bucket_20", nullable = false) private long bucket20;
+    @Column(name = "bucket_25", nullable = false) private long bucket25;
+    @Column(name = "bucket_30", nullable = false) private long bucket30;
+    @Column(name = "bucket_35", nullable = false) private long bucket35;
+    @Column(name = "bucket_40", nullable = false) private long bucket40;
+    @Column(name = "bucket_45", nullable = false) private long bucket45;
+    @Column(name = "bucket_50", nullable = false) private long bucket50;
+
+    private LocalDateTime updatedAt;
+
+    /**
+     * 점수 → 구간 번호 (0.5 → 1, 5.0 → 10)
+     */
+    public static int bucketOf(double score) {
+        int bucket = (int) Math.round(score * 2);
+        return Math.max(1, Math.min(BUCKET_COUNT, bucket));
+    }
+
+    /**
+     * 평균 별점 (소수점 첫째자리, 별점이 없으면 null)
+     */
+    public Double getAverage() {
+        if (ratingCount <= 0) {
+            return null;
+        }
+        double average = halfPointSum / 2.0 / ratingCount;
+        return Math.round(average * 10.0) / 10.0;
+    }
+
+    public long[] getBuckets() {
+        return new long[] {bucket05, bucket10, bucket15, bucket20, bucket25,
+                bucket30, bucket35, bucket40, bucket45, bucket50};
+    }
+
+    /**
+     * 별점 분포 (0.5~5.0, 0.5 단위, 누락 구간은 0)
+     */
+    public Map<Double, Long> getDistribution() {
+        return toDistribution(getBuckets());
+    }
+
+    public static Map<Double, Long> toDistribution(long[] buckets) {
+        Map<Double, Long> distribution = new LinkedHashMap<>();
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            distribution.put((i + 1) / 2.0, buckets != null ? buckets[i] : 0L);
+        }
+        return distribution;
+    }
+}
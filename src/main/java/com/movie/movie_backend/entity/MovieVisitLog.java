@@ -9,6 +9,9 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @NoArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_movie_visit_log_visited_at", columnList = "visitedAt") // 보존 기간 정리용
+})
 public class MovieVisitLog {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
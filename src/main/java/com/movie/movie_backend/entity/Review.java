@@ -7,7 +7,9 @@ import java.util.List;
 
 @Entity
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+        @Index(name = "idx_reviews_movie_status_created", columnList = "movie_detail_id, status, createdAt, id") // 최신순 키셋 페이지네이션용
+})
 public class Review {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id; // 리뷰 고유 ID
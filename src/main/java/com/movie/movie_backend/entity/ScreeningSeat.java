@@ -3,6 +3,7 @@ package com.movie.movie_backend.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import com.movie.movie_backend.constant.ScreeningSeatStatus;
+import java.time.LocalDateTime;
 
 @Entity
 @Getter
@@ -29,4 +30,10 @@ public class ScreeningSeat {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "reservation_id")
     private Reservation reservation;
+
+    @Column(name = "hold_token", length = 64)
+    private String holdToken; // 임시 홀드 소유자 토큰 (LOCKED일 때만)
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil; // 임시 홀드 만료 시각 (LOCKED일 때만)
 } 
\ No newline at end of file
@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import java.util.List;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_tag_name", columnNames = "name")) // 이름당 한 행 (일괄 저장 업서트 기준)
 @Getter @Setter @NoArgsConstructor
 public class Tag {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
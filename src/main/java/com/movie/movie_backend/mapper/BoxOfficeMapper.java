@@ -8,6 +8,7 @@ import com.movie.movie_backend.entity.Tag;
 import com.movie.movie_backend.constant.MovieStatus;
 import com.movie.movie_backend.entity.MovieList;
 import com.movie.movie_backend.repository.PRDMovieListRepository;
+import com.movie.movie_backend.service.BoxOfficeSnapshotService;
 import com.movie.movie_backend.service.TmdbPosterService;
 import org.springframework.stereotype.Component;
 
@@ -137,14 +138,8 @@ public class BoxOfficeMapper {
      * 박스오피스 순위를 기반으로 한 예매율 추정
      */
     private String formatReservationRate(int rank) {
-        // 박스오피스 순위를 기반으로 한 예매율 추정
-        if (rank <= 3) {
-            return String.format("%.1f%%", 25.0 - (rank - 1) * 4.0);
-        } else if (rank <= 10) {
-            return String.format("%.1f%%", 12.0 - (rank - 4) * 1.2);
-        } else {
-            return "1.0%";
-        }
+        // 박스오피스 순위를 기반으로 한 예매율 추정 (스냅샷과 같은 공식 사용)
+        return String.format("%.1f%%", BoxOfficeSnapshotService.estimateReservationRate(rank));
     }
 
     /**
@@ -2,9 +2,11 @@ package com.movie.movie_backend.mapper;
 
 import com.movie.movie_backend.entity.MovieDetail;
 import com.movie.movie_backend.entity.MovieList;
+import com.movie.movie_backend.entity.User;
 import com.movie.movie_backend.dto.MovieDetailDto;
 import com.movie.movie_backend.repository.PRDMovieListRepository;
-import com.movie.movie_backend.repository.BoxOfficeRepository;
+import com.movie.movie_backend.repository.REVLikeRepository;
+import com.movie.movie_backend.service.BoxOfficeSnapshotService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -12,7 +14,13 @@ import com.fasterxml.jackson.core.type.TypeReference;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Component
@@ -20,10 +28,75 @@ import java.util.stream.Collectors;
 public class MovieDetailMapper {
 
     private final PRDMovieListRepository movieListRepository;
-    private final BoxOfficeRepository boxOfficeRepository;
+    private final BoxOfficeSnapshotService boxOfficeSnapshotService;
+    private final REVLikeRepository likeRepository;
     private final ObjectMapper objectMapper;
 
+    /**
+     * 단건 변환 (MovieList는 직접 조회, 박스오피스는 스냅샷에서 조회)
+     */
     public MovieDetailDto toDto(MovieDetail movieDetail, int likeCount, boolean likedByMe) {
+        MovieList movieList = null;
+        try {
+            movieList = movieListRepository.findById(movieDetail.getMovieCd()).orElse(null);
+        } catch (Exception e) {
+            // 로그는 남기되 에러는 발생시키지 않음
+        }
+        return toDto(movieDetail, likeCount, likedByMe, movieList, boxOfficeSnapshotService.get(movieDetail.getMovieCd()));
+    }
+
+    /**
+     * 목록 변환 (N+1 제거)
+     * MovieList, 찜 개수, 내 찜 여부를 각각 쿼리 1번으로 미리 조회하고 박스오피스는 스냅샷에서 읽는다.
+     * 감독/배우/스틸컷/태그는 엔티티의 @BatchSize로 묶어서 로딩된다.
+     * movie_list에만 있는 영화(id 없는 임시 MovieDetail)도 처리한다.
+     */
+    public List<MovieDetailDto> toDtoList(List<MovieDetail> movieDetails, User currentUser) {
+        if (movieDetails == null || movieDetails.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<String> movieCds = movieDetails.stream()
+                .map(MovieDetail::getMovieCd)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        List<Long> movieIds = movieDetails.stream()
+                .map(MovieDetail::getId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+
+        Map<String, MovieList> movieLists = new HashMap<>();
+        if (!movieCds.isEmpty()) {
+            movieListRepository.findByMovieCdIn(movieCds)
+                    .forEach(movieList -> movieLists.put(movieList.getMovieCd(), movieList));
+        }
+        BoxOfficeSnapshotService.Snapshot boxOffices = boxOfficeSnapshotService.current();
+
+        Map<Long, Integer> likeCounts = new HashMap<>();
+        Set<Long> likedMovieIds = new HashSet<>();
+        if (!movieIds.isEmpty()) {
+            for (Object[] row : likeRepository.countByMovieDetailIds(movieIds)) {
+                likeCounts.put((Long) row[0], ((Number) row[1]).intValue());
+            }
+            if (currentUser != null) {
+                likedMovieIds.addAll(likeRepository.findLikedMovieIds(currentUser.getId(), movieIds));
+            }
+        }
+
+        return movieDetails.stream()
+                .map(md -> toDto(
+                        md,
+                        md.getId() != null ? likeCounts.getOrDefault(md.getId(), 0) : 0,
+                        md.getId() != null && likedMovieIds.contains(md.getId()),
+                        movieLists.get(md.getMovieCd()),
+                        boxOffices.get(md.getMovieCd())))
+                .collect(Collectors.toList());
+    }
+
+    private MovieDetailDto toDto(MovieDetail movieDetail, int likeCount, boolean likedByMe,
+                                 MovieList movieList, BoxOfficeSnapshotService.Entry boxOffice) {
+        int reservationRank = boxOffice != null ? boxOffice.getRank() : 0;
         MovieDetailDto dto = new MovieDetailDto();
         dto.setMovieDetailId(movieDetail.getId());
         dto.setMovieCd(movieDetail.getMovieCd());
@@ -39,10 +112,10 @@ public class MovieDetailMapper {
         dto.setWatchGradeNm(movieDetail.getWatchGradeNm());
         dto.setCompanyNm(movieDetail.getCompanyNm());
         dto.setDescription(movieDetail.getDescription());
-        dto.setReservationRank(getReservationRank(movieDetail.getMovieCd()));
-        dto.setReservationRate(calculateReservationRate(getReservationRank(movieDetail.getMovieCd())));
+        dto.setReservationRank(reservationRank);
+        dto.setReservationRate(boxOffice != null ? boxOffice.getReservationRate() : 0.0);
         dto.setDaysSinceRelease(calculateDaysSinceRelease(movieDetail.getOpenDt()));
-        dto.setTotalAudience(getTotalAudience(movieDetail.getMovieCd()));
+        dto.setTotalAudience(boxOffice != null ? (int) boxOffice.getAudiAcc() : 0);
         
         // MovieList에서 포스터 URL과 TMDB ID 가져오기
         String posterUrl = null;
@@ -52,7 +125,6 @@ public class MovieDetailMapper {
         Double tmdbPopularity = null;
         
         try {
-            MovieList movieList = movieListRepository.findById(movieDetail.getMovieCd()).orElse(null);
             if (movieList != null) {
                 posterUrl = movieList.getPosterUrl();
                 status = movieList.getStatus() != null ? movieList.getStatus().name() : null;
@@ -146,12 +218,6 @@ public class MovieDetailMapper {
         return dto;
     }
 
-    // public List<MovieDetailDto> toDtoList(List<MovieDetail> movieDetails) {
-    //     return movieDetails.stream()
-    //             .map(this::toDto)
-    //             .collect(Collectors.toList());
-    // }
-
     // ===== 왓챠피디아 스타일 정보 계산 메서드들 =====
 
     /**
@@ -162,54 +228,4 @@ public class MovieDetailMapper {
         LocalDate today = LocalDate.now();
         return (int) ChronoUnit.DAYS.between(openDt, today);
     }
-
-    /**
-     * 박스오피스에서 예매 순위 가져오기
-     */
-    private int getReservationRank(String movieCd) {
-        try {
-            // 최신 박스오피스에서 해당 영화의 순위 찾기
-            var latestBoxOffice = boxOfficeRepository.findLatestBoxOfficeTop10("DAILY");
-            for (var boxOffice : latestBoxOffice) {
-                if (boxOffice.getMovieCd().equals(movieCd)) {
-                    return boxOffice.getRank();
-                }
-            }
-        } catch (Exception e) {
-            // 에러 발생 시 기본값 반환
-        }
-        return 0; // 박스오피스에 없으면 0
-    }
-
-    /**
-     * 예매율 계산 (순위 기반 추정)
-     */
-    private double calculateReservationRate(int rank) {
-        if (rank <= 0) return 0.0;
-        if (rank <= 3) {
-            return 25.0 - (rank - 1) * 4.0;
-        } else if (rank <= 10) {
-            return 12.0 - (rank - 4) * 1.2;
-        } else {
-            return 1.0;
-        }
-    }
-
-    /**
-     * 박스오피스에서 누적 관객수 가져오기
-     */
-    private int getTotalAudience(String movieCd) {
-        try {
-            // 최신 박스오피스에서 해당 영화의 누적 관객수 찾기
-            var latestBoxOffice = boxOfficeRepository.findLatestBoxOfficeTop10("DAILY");
-            for (var boxOffice : latestBoxOffice) {
-                if (boxOffice.getMovieCd().equals(movieCd)) {
-                    return (int) boxOffice.getAudiAcc();
-                }
-            }
-        } catch (Exception e) {
-            // 에러 발생 시 기본값 반환
-        }
-        return 0; // 박스오피스에 없으면 0
-    }
 } 
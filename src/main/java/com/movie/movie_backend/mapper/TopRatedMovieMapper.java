@@ -4,7 +4,7 @@ import com.movie.movie_backend.entity.MovieDetail;
 import com.movie.movie_backend.entity.MovieList;
 import com.movie.movie_backend.dto.TopRatedMovieDto;
 import com.movie.movie_backend.repository.PRDMovieListRepository;
-import com.movie.movie_backend.repository.BoxOfficeRepository;
+import com.movie.movie_backend.service.BoxOfficeSnapshotService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -18,7 +18,7 @@ import java.util.stream.Collectors;
 public class TopRatedMovieMapper {
 
     private final PRDMovieListRepository movieListRepository;
-    private final BoxOfficeRepository boxOfficeRepository;
+    private final BoxOfficeSnapshotService boxOfficeSnapshotService;
 
     public TopRatedMovieDto toDto(MovieDetail movieDetail) {
         // MovieList에서 포스터 URL과 기본 정보 가져오기
@@ -48,9 +48,10 @@ public class TopRatedMovieMapper {
 
         // 왓챠피디아 스타일 정보 계산
         int calculatedDaysSinceRelease = calculateDaysSinceRelease(movieDetail.getOpenDt());
-        int reservationRank = getReservationRank(movieDetail.getMovieCd());
-        double reservationRate = calculateReservationRate(reservationRank);
-        int totalAudience = getTotalAudience(movieDetail.getMovieCd());
+        BoxOfficeSnapshotService.Entry boxOffice = boxOfficeSnapshotService.get(movieDetail.getMovieCd());
+        int reservationRank = boxOffice != null ? boxOffice.getRank() : 0;
+        double reservationRate = boxOffice != null ? boxOffice.getReservationRate() : 0.0;
+        int totalAudience = boxOffice != null ? (int) boxOffice.getAudiAcc() : 0;
 
         return TopRatedMovieDto.builder()
                 .movieCd(movieDetail.getMovieCd())
@@ -90,54 +91,4 @@ public class TopRatedMovieMapper {
         LocalDate today = LocalDate.now();
         return (int) ChronoUnit.DAYS.between(openDt, today);
     }
-
-    /**
-     * 박스오피스에서 예매 순위 가져오기
-     */
-    private int getReservationRank(String movieCd) {
-        try {
-            // 최신 박스오피스에서 해당 영화의 순위 찾기
-            var latestBoxOffice = boxOfficeRepository.findLatestBoxOfficeTop10("DAILY");
-            for (var boxOffice : latestBoxOffice) {
-                if (boxOffice.getMovieCd().equals(movieCd)) {
-                    return boxOffice.getRank();
-                }
-            }
-        } catch (Exception e) {
-            // 에러 발생 시 기본값 반환
-        }
-        return 0; // 박스오피스에 없으면 0
-    }
-
-    /**
-     * 예매율 계산 (순위 기반 추정)
-     */
-    private double calculateReservationRate(int rank) {
-        if (rank <= 0) return 0.0;
-        if (rank <= 3) {
-            return 25.0 - (rank - 1) * 4.0;
-        } else if (rank <= 10) {
-            return 12.0 - (rank - 4) * 1.2;
-        } else {
-            return 1.0;
-        }
-    }
-
-    /**
-     * 박스오피스에서 누적 관객수 가져오기
-     */
-    private int getTotalAudience(String movieCd) {
-        try {
-            // 최신 박스오피스에서 해당 영화의 누적 관객수 찾기
-            var latestBoxOffice = boxOfficeRepository.findLatestBoxOfficeTop10("DAILY");
-            for (var boxOffice : latestBoxOffice) {
-                if (boxOffice.getMovieCd().equals(movieCd)) {
-                    return (int) boxOffice.getAudiAcc();
-                }
-            }
-        } catch (Exception e) {
-            // 에러 발생 시 기본값 반환
-        }
-        return 0; // 박스오피스에 없으면 0
-    }
 } 
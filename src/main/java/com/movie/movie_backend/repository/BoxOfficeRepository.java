@@ -19,6 +19,10 @@ public interface BoxOfficeRepository extends JpaRepository<BoxOffice, Long> {
     @Query("SELECT b FROM BoxOffice b LEFT JOIN FETCH b.movieDetail md WHERE b.targetDate = (SELECT MAX(b2.targetDate) FROM BoxOffice b2 WHERE b2.rankType = :rankType) AND b.rankType = :rankType ORDER BY b.rank ASC")
     List<BoxOffice> findLatestBoxOfficeTop10(@Param("rankType") String rankType);
     
+    // 최신 박스오피스 스냅샷용 (movieCd, rank, audiAcc, targetDate) - 엔티티/조인 없이 필요한 컬럼만
+    @Query("SELECT b.movieCd, b.rank, b.audiAcc, b.targetDate FROM BoxOffice b WHERE b.targetDate = (SELECT MAX(b2.targetDate) FROM BoxOffice b2 WHERE b2.rankType = :rankType) AND b.rankType = :rankType ORDER BY b.rank ASC")
+    List<Object[]> findLatestSnapshotRows(@Param("rankType") String rankType);
+    
     // 특정 날짜의 박스오피스 TOP-10 조회 (JOIN FETCH로 movieDetail 함께 가져오기)
     @Query("SELECT b FROM BoxOffice b LEFT JOIN FETCH b.movieDetail md WHERE b.targetDate = :targetDate AND b.rankType = :rankType ORDER BY b.rank ASC")
     List<BoxOffice> findByTargetDateAndRankTypeOrderByRankAscWithMovieDetail(@Param("targetDate") LocalDate targetDate, @Param("rankType") String rankType);
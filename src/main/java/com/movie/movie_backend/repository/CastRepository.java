@@ -36,4 +36,15 @@ public interface CastRepository extends JpaRepository<Cast, Long> {
     
     // 특정 영화와 배우로 Cast 조회
     Cast findByMovieDetailAndActor(MovieDetail movieDetail, Actor actor);
+    
+    // 검색 인덱스 구축용 (movieCd, 배우명)
+    @Query("SELECT c.movieDetail.movieCd, a.name FROM Cast c JOIN c.actor a ORDER BY c.orderInCredits")
+    List<Object[]> findSearchIndexRows();
+    
+    @Query("SELECT c.movieDetail.movieCd, a.name FROM Cast c JOIN c.actor a WHERE c.movieDetail.movieCd = :movieCd ORDER BY c.orderInCredits")
+    List<Object[]> findSearchIndexRowsByMovieCd(@Param("movieCd") String movieCd);
+
+    // 추천 특성 벡터용 (movieDetailId, actorId)
+    @Query("SELECT c.movieDetail.id, c.actor.id FROM Cast c WHERE c.roleType = :roleType AND c.actor IS NOT NULL")
+    List<Object[]> findMovieActorIdPairs(@Param("roleType") RoleType roleType);
 } 
@@ -20,9 +20,27 @@ public interface MovieDetailRepository extends JpaRepository<MovieDetail, Long>
     @Query("SELECT md FROM MovieDetail md WHERE md.movieCd = :movieCd")
     MovieDetail findByMovieCd(@Param("movieCd") String movieCd);
 
+    // 여러 영화코드로 한 번에 조회
+    List<MovieDetail> findByMovieCdIn(List<String> movieCds);
+
     // 장르 포함 검색
     List<MovieDetail> findByGenreNmContaining(String genreNm);
 
+    // 비슷한 장르 영화 키셋 페이지 - 평점 있는 영화 (평균 평점, id 내림차순으로 커서 다음부터)
+    @Query(value = "SELECT * FROM movie_detail WHERE genre_nm REGEXP :genrePattern AND movie_cd <> :movieCd " +
+                   "AND average_rating IS NOT NULL " +
+                   "AND (average_rating < :rating OR (average_rating = :rating AND movie_detail_id < :id)) " +
+                   "ORDER BY average_rating DESC, movie_detail_id DESC LIMIT :limit", nativeQuery = true)
+    List<MovieDetail> findSimilarGenreRatedAfter(@Param("genrePattern") String genrePattern, @Param("movieCd") String movieCd,
+                                                 @Param("rating") double rating, @Param("id") long id, @Param("limit") int limit);
+
+    // 비슷한 장르 영화 키셋 페이지 - 평점 없는 영화 (평점 있는 영화 뒤, id 내림차순으로 커서 다음부터)
+    @Query(value = "SELECT * FROM movie_detail WHERE genre_nm REGEXP :genrePattern AND movie_cd <> :movieCd " +
+                   "AND average_rating IS NULL AND movie_detail_id < :id " +
+                   "ORDER BY movie_detail_id DESC LIMIT :limit", nativeQuery = true)
+    List<MovieDetail> findSimilarGenreUnratedAfter(@Param("genrePattern") String genrePattern, @Param("movieCd") String movieCd,
+                                                   @Param("id") long id, @Param("limit") int limit);
+
     // 관객수 기준 상위 20개 영화
     List<MovieDetail> findTop20ByOrderByTotalAudienceDesc();
 } 
\ No newline at end of file
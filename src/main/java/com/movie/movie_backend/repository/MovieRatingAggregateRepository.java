@@ -0,0 +1,66 @@
+package com.movie.movie_backend.repository;
+
+import com.movie.movie_backend.entity.MovieRatingAggregate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface MovieRatingAggregateRepository extends JpaRepository<MovieRatingAggregate, Long> {
+
+    Optional<MovieRatingAggregate> findByMovieCd(String movieCd);
+
+    List<MovieRatingAggregate> findByMovieCdIn(Collection<String> movieCds);
+
+    // 현재 개수/합계 (영속성 컨텍스트를 거치지 않고 DB 값 조회)
+    @Query("SELECT a.ratingCount, a.halfPointSum FROM MovieRatingAggregate a WHERE a.movieDetailId = :movieDetailId")
+    List<Object[]> findTotals(@Param("movieDetailId") Long movieDetailId);
+
+    // 집계 증분 반영 (행이 없으면 생성, 있으면 현재 값에 더함 - 읽고 쓰는 구간 없이 원자적으로 갱신)
+    @Modifying
+    @Query(value = "INSERT INTO movie_rating_aggregate (movie_detail_id, movie_cd, rating_count, half_point_sum, " +
+            "bucket_05, bucket_10, bucket_15, bucket_20, bucket_25, bucket_30, bucket_35, bucket_40, bucket_45, bucket_50, updated_at) " +
+            "VALUES (:movieDetailId, :movieCd, :countDelta, :sumDelta, " +
+            ":d1, :d2, :d3, :d4, :d5, :d6, :d7, :d8, :d9, :d10, :now) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "rating_count = rating_count + VALUES(rating_count), " +
+            "half_point_sum = half_point_sum + VALUES(half_point_sum), " +
+            "bucket_05 = bucket_05 + VALUES(bucket_05), bucket_10 = bucket_10 + VALUES(bucket_10), " +
+            "bucket_15 = bucket_15 + VALUES(bucket_15), bucket_20 = bucket_20 + VALUES(bucket_20), " +
+            "bucket_25 = bucket_25 + VALUES(bucket_25), bucket_30 = bucket_30 + VALUES(bucket_30), " +
+            "bucket_35 = bucket_35 + VALUES(bucket_35), bucket_40 = bucket_40 + VALUES(bucket_40), " +
+            "bucket_45 = bucket_45 + VALUES(bucket_45), bucket_50 = bucket_50 + VALUES(bucket_50), " +
+            "updated_at = VALUES(updated_at)",
+            nativeQuery = true)
+    int applyDelta(@Param("movieDetailId") Long movieDetailId, @Param("movieCd") String movieCd,
+                   @Param("countDelta") long countDelta, @Param("sumDelta") long sumDelta,
+                   @Param("d1") long d1, @Param("d2") long d2, @Param("d3") long d3, @Param("d4") long d4,
+                   @Param("d5") long d5, @Param("d6") long d6, @Param("d7") long d7, @Param("d8") long d8,
+                   @Param("d9") long d9, @Param("d10") long d10, @Param("now") LocalDateTime now);
+
+    // 집계 값으로 movie_detail의 평균/개수 컬럼 갱신 (영화 하나)
+    @Modifying
+    @Query(value = "UPDATE movie_detail md JOIN movie_rating_aggregate a ON a.movie_detail_id = md.movie_detail_id " +
+            "SET md.average_rating = CASE WHEN a.rating_count > 0 THEN ROUND(a.half_point_sum / 2 / a.rating_count, 1) ELSE NULL END, " +
+            "md.rating_count = a.rating_count, md.rating_updated_at = :now " +
+            "WHERE md.movie_detail_id = :movieDetailId",
+            nativeQuery = true)
+    int syncMovieDetail(@Param("movieDetailId") Long movieDetailId, @Param("now") LocalDateTime now);
+
+    // 집계 값과 어긋난 movie_detail의 평균/개수 컬럼 일괄 보정
+    @Modifying
+    @Query(value = "UPDATE movie_detail md JOIN movie_rating_aggregate a ON a.movie_detail_id = md.movie_detail_id " +
+            "SET md.average_rating = CASE WHEN a.rating_count > 0 THEN ROUND(a.half_point_sum / 2 / a.rating_count, 1) ELSE NULL END, " +
+            "md.rating_count = a.rating_count, md.rating_updated_at = :now " +
+            "WHERE md.rating_count IS NULL OR md.rating_count <> a.rating_count " +
+            "OR NOT (md.average_rating <=> CASE WHEN a.rating_count > 0 THEN ROUND(a.half_point_sum / 2 / a.rating_count, 1) ELSE NULL END)",
+            nativeQuery = true)
+    int syncAllMovieDetails(@Param("now") LocalDateTime now);
+}
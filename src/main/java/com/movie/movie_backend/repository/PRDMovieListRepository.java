@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -106,6 +107,33 @@ public interface PRDMovieListRepository extends JpaRepository<MovieList, String>
      */
     List<MovieList> findByMovieCdIn(List<String> movieCds);
     
+    /**
+     * 검색 인덱스 구축용 (movieCd, 제목, 영문제목, 장르, 국가, TMDB 인기도, 개봉일)
+     */
+    @Query("SELECT m.movieCd, m.movieNm, m.movieNmEn, m.genreNm, m.nationNm, m.tmdbPopularity, m.openDt FROM MovieList m")
+    List<Object[]> findSearchIndexRows();
+    
+    @Query("SELECT m.movieCd, m.movieNm, m.movieNmEn, m.genreNm, m.nationNm, m.tmdbPopularity, m.openDt FROM MovieList m WHERE m.movieCd = :movieCd")
+    List<Object[]> findSearchIndexRowsByMovieCd(@Param("movieCd") String movieCd);
+    
+    /**
+     * MovieDetail이 아직 없는 영화 코드 (TMDB 상세정보 보완 대상)
+     */
+    @Query("SELECT m.movieCd FROM MovieList m WHERE NOT EXISTS (SELECT 1 FROM MovieDetail d WHERE d.movieCd = m.movieCd)")
+    List<String> findMovieCdsWithoutDetail();
+    
+    /**
+     * 필터/정렬 카탈로그 인덱스 구축용
+     * (movieCd, 제목, 영문제목, 개봉일, 장르, 국가, 관람등급, 포스터, 상태, kmdbId, tmdbId, TMDB 인기도)
+     */
+    @Query("SELECT m.movieCd, m.movieNm, m.movieNmEn, m.openDt, m.genreNm, m.nationNm, m.watchGradeNm, m.posterUrl, " +
+           "m.status, m.kmdbId, m.tmdbId, m.tmdbPopularity FROM MovieList m")
+    List<Object[]> findCatalogRows();
+    
+    @Query("SELECT m.movieCd, m.movieNm, m.movieNmEn, m.openDt, m.genreNm, m.nationNm, m.watchGradeNm, m.posterUrl, " +
+           "m.status, m.kmdbId, m.tmdbId, m.tmdbPopularity FROM MovieList m WHERE m.movieCd IN :movieCds")
+    List<Object[]> findCatalogRowsByMovieCdIn(@Param("movieCds") Collection<String> movieCds);
+    
     /**
      * kmdbId가 있는 영화 목록 조회
      */
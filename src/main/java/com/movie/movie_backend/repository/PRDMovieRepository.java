@@ -20,6 +20,7 @@ public interface PRDMovieRepository extends JpaRepository<MovieDetail, Long> {
     List<MovieDetail> findAllWithTags();
 
     Optional<MovieDetail> findByMovieCd(String movieCd);
+    
     boolean existsByMovieCd(String movieCd);
     Optional<MovieDetail> findByMovieNmContaining(String movieNm);
     List<MovieDetail> findByMovieNmContainingIgnoreCase(String movieNm);
@@ -55,6 +56,32 @@ public interface PRDMovieRepository extends JpaRepository<MovieDetail, Long> {
             "OR (a.name IS NOT NULL AND REPLACE(a.name, ' ', '') LIKE CONCAT('%', :keyword, '%'))",
             nativeQuery = true)
     List<MovieDetail> searchIgnoreSpace(@Param("keyword") String keyword);
+
+    // 검색 인덱스 구축용 (movieCd, 제목, 영문제목, 장르, 감독명, 개봉일)
+    @Query("SELECT m.movieCd, m.movieNm, m.movieNmEn, m.genreNm, d.name, m.openDt FROM MovieDetail m LEFT JOIN m.director d")
+    List<Object[]> findSearchIndexRows();
+
+    @Query("SELECT m.movieCd, m.movieNm, m.movieNmEn, m.genreNm, d.name, m.openDt FROM MovieDetail m LEFT JOIN m.director d WHERE m.movieCd = :movieCd")
+    List<Object[]> findSearchIndexRowsByMovieCd(@Param("movieCd") String movieCd);
+
+    // 통합 검색 엔진 구축용 (id, movieCd, 제목, 영문제목, 장르, 감독명, 포스터, TMDB 인기도)
+    @Query("SELECT m.id, m.movieCd, m.movieNm, m.movieNmEn, m.genreNm, d.name, ml.posterUrl, ml.tmdbPopularity " +
+           "FROM MovieDetail m LEFT JOIN m.director d LEFT JOIN m.movieList ml")
+    List<Object[]> findSearchEngineRows();
+
+    @Query("SELECT m.id, m.movieCd, m.movieNm, m.movieNmEn, m.genreNm, d.name, ml.posterUrl, ml.tmdbPopularity " +
+           "FROM MovieDetail m LEFT JOIN m.director d LEFT JOIN m.movieList ml WHERE m.movieCd = :movieCd")
+    List<Object[]> findSearchEngineRowsByMovieCd(@Param("movieCd") String movieCd);
+
+    // 통합 검색 엔진 구축용 (movieCd, 태그명)
+    @Query("SELECT m.movieCd, t.name FROM MovieDetail m JOIN m.tags t")
+    List<Object[]> findTagRows();
+
+    @Query("SELECT m.movieCd, t.name FROM MovieDetail m JOIN m.tags t WHERE m.movieCd = :movieCd")
+    List<Object[]> findTagRowsByMovieCd(@Param("movieCd") String movieCd);
+
+    // 영화 코드 목록으로 조회 (검색 결과 페이지 조회용)
+    List<MovieDetail> findByMovieCdIn(List<String> movieCds);
     
     // 상품 관련 쿼리 메소드 추가 가능
     
@@ -80,4 +107,9 @@ public interface PRDMovieRepository extends JpaRepository<MovieDetail, Long> {
     // 기존: Page<MovieDetail> findByStatus(MovieStatus status, Pageable pageable);
     @Query("SELECT m FROM MovieDetail m JOIN m.movieList ml WHERE ml.status = :status")
     Page<MovieDetail> findByMovieListStatus(@Param("status") MovieStatus status, Pageable pageable);
+
+    // 추천 특성 벡터용 (id, movieCd, movieNm, genreNm, openDt, averageRating, directorId, posterUrl)
+    @Query("SELECT m.id, m.movieCd, m.movieNm, m.genreNm, m.openDt, m.averageRating, d.id, ml.posterUrl " +
+           "FROM MovieDetail m LEFT JOIN m.director d LEFT JOIN m.movieList ml ORDER BY m.id")
+    List<Object[]> findRecommendationFeatureRows();
 } 
@@ -32,4 +32,8 @@ public interface PRDTagRepository extends JpaRepository<Tag, Long> {
     // 실제 사용되는 장르 태그만 조회 (동적)
     @Query("SELECT DISTINCT t FROM Tag t JOIN t.movieDetails md WHERE md IS NOT NULL ORDER BY t.name")
     List<Tag> findGenreTags();
+
+    // 추천 특성 벡터용 (movieDetailId, tagId, tagName)
+    @Query("SELECT md.id, t.id, t.name FROM MovieDetail md JOIN md.tags t")
+    List<Object[]> findMovieTagRows();
 } 
@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Collection;
 
 @Repository
 public interface REVLikeRepository extends JpaRepository<Like, Long> {
@@ -28,4 +29,19 @@ public interface REVLikeRepository extends JpaRepository<Like, Long> {
     // 유저가 찜한 영화의 MovieDetail ID 리스트 조회
     @Query("SELECT l.movieDetail.id FROM Like l WHERE l.user.id = :userId")
     List<Long> findMovieIdsByUserId(@Param("userId") Long userId);
-} 
+    
+    // 여러 영화의 찜 개수 한 번에 조회 (movieDetailId, count)
+    @Query("SELECT l.movieDetail.id, COUNT(l) FROM Like l WHERE l.movieDetail.id IN :movieIds GROUP BY l.movieDetail.id")
+    List<Object[]> countByMovieDetailIds(@Param("movieIds") List<Long> movieIds);
+    
+    // 여러 영화 중 사용자가 찜한 영화 ID 조회
+    @Query("SELECT l.movieDetail.id FROM Like l WHERE l.user.id = :userId AND l.movieDetail.id IN :movieIds")
+    List<Long> findLikedMovieIds(@Param("userId") Long userId, @Param("movieIds") List<Long> movieIds);
+
+    // 협업 필터링 상호작용 (userId, movieId, createdAt)
+    @Query("SELECT l.user.id, l.movieDetail.id, l.createdAt FROM Like l")
+    List<Object[]> findInteractionRows();
+
+    @Query("SELECT l.user.id, l.movieDetail.id, l.createdAt FROM Like l WHERE l.user.id IN :userIds")
+    List<Object[]> findInteractionRowsByUserIds(@Param("userIds") Collection<Long> userIds);
+}
@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Collection;
 import java.util.Optional;
 
 @Repository
@@ -42,4 +43,21 @@ public interface REVRatingRepository extends JpaRepository<Rating, Long> {
            "WHERE md.movieCd IN :movieCds " +
            "GROUP BY md.movieCd")
     List<Object[]> getAverageRatingsForMovies(@Param("movieCds") List<String> movieCds);
-} 
+
+    // 영화별/0.5점 구간별 별점 개수 (별점 집계 보정용: movieDetailId, movieCd, 반 점 단위 점수, 개수)
+    @Query("SELECT r.movieDetail.id, r.movieDetail.movieCd, ROUND(r.score * 2, 0), COUNT(r) " +
+           "FROM Rating r " +
+           "GROUP BY r.movieDetail.id, r.movieDetail.movieCd, ROUND(r.score * 2, 0)")
+    List<Object[]> countByMovieAndHalfPoint();
+
+    // 사용자가 minScore 이상 준 영화의 MovieDetail ID 리스트
+    @Query("SELECT r.movieDetail.id FROM Rating r WHERE r.user.id = :userId AND r.score >= :minScore")
+    List<Long> findMovieIdsByUserIdAndMinScore(@Param("userId") Long userId, @Param("minScore") double minScore);
+
+    // 협업 필터링 상호작용 (userId, movieId, score, createdAt)
+    @Query("SELECT r.user.id, r.movieDetail.id, r.score, r.createdAt FROM Rating r")
+    List<Object[]> findInteractionRows();
+
+    @Query("SELECT r.user.id, r.movieDetail.id, r.score, r.createdAt FROM Rating r WHERE r.user.id IN :userIds")
+    List<Object[]> findInteractionRowsByUserIds(@Param("userIds") Collection<Long> userIds);
+}
@@ -1,10 +1,13 @@
 package com.movie.movie_backend.repository;
 
 import com.movie.movie_backend.entity.Review;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -40,6 +43,23 @@ public interface REVReviewRepository extends JpaRepository<Review, Long> {
     // 영화별 리뷰 조회 (최신순, movieId로, 삭제되지 않은 것만)
     List<Review> findByMovieDetailIdAndStatusOrderByCreatedAtDesc(Long movieId, Review.ReviewStatus status);
 
+    // 영화별 리뷰 키셋 페이지 (최신순, createdAt/id 내림차순, 첫 페이지) - LIMIT은 pageable 크기
+    @Query("SELECT r FROM Review r WHERE r.movieDetail.id = :movieId AND r.status = :status " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Review> findKeysetPageByMovie(@Param("movieId") Long movieId, @Param("status") Review.ReviewStatus status,
+                                       Pageable pageable);
+
+    // 영화별 리뷰 키셋 페이지 - 커서(createdAt, id) 다음 행부터
+    @Query("SELECT r FROM Review r WHERE r.movieDetail.id = :movieId AND r.status = :status " +
+           "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Review> findKeysetPageByMovieAfter(@Param("movieId") Long movieId, @Param("status") Review.ReviewStatus status,
+                                            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                            Pageable pageable);
+
+    // 영화별 리뷰 페이지 (최신순, DB에서 LIMIT/OFFSET)
+    Page<Review> findByMovieDetailIdAndStatus(Long movieId, Review.ReviewStatus status, Pageable pageable);
+
     // 사용자가 리뷰를 쓴 영화의 MovieDetail ID 리스트 조회
     @Query("SELECT r.movieDetail.id FROM Review r WHERE r.user.id = :userId AND r.status = :status")
     List<Long> findMovieIdsByUserId(@Param("userId") Long userId, @Param("status") Review.ReviewStatus status);
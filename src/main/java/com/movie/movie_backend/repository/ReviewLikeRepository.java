@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Collection;
 
 public interface ReviewLikeRepository extends JpaRepository<ReviewLike, Long> {
     int countByReviewId(Long reviewId);
@@ -24,4 +25,11 @@ public interface ReviewLikeRepository extends JpaRepository<ReviewLike, Long> {
 
     // 특정 리뷰를 좋아요한 모든 ReviewLike 엔티티 조회
     List<ReviewLike> findByReviewId(Long reviewId);
-} 
\ No newline at end of file
+
+    // 협업 필터링 상호작용: 좋아요한 리뷰의 영화 (userId, movieId, createdAt)
+    @Query("SELECT rl.user.id, r.movieDetail.id, rl.createdAt FROM ReviewLike rl JOIN rl.review r")
+    List<Object[]> findInteractionRows();
+
+    @Query("SELECT rl.user.id, r.movieDetail.id, rl.createdAt FROM ReviewLike rl JOIN rl.review r WHERE rl.user.id IN :userIds")
+    List<Object[]> findInteractionRowsByUserIds(@Param("userIds") Collection<Long> userIds);
+}
@@ -1,10 +1,16 @@
 package com.movie.movie_backend.repository;
 
+import com.movie.movie_backend.constant.ScreeningSeatStatus;
 import com.movie.movie_backend.entity.ScreeningSeat;
 import com.movie.movie_backend.entity.Reservation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +20,69 @@ public interface ScreeningSeatRepository extends JpaRepository<ScreeningSeat, Lo
     Optional<ScreeningSeat> findByScreeningIdAndSeatId(Long screeningId, Long seatId);
     List<ScreeningSeat> findByReservation(Reservation reservation);
     List<ScreeningSeat> findByStatus(com.movie.movie_backend.constant.ScreeningSeatStatus status);
-} 
\ No newline at end of file
+
+    // 좌석 배치도 캐시용 (screeningSeatId, seatId, seatNumber, status) - Seat 지연 로딩 없이 한 번에
+    @Query("SELECT ss.id, s.id, s.seatNumber, ss.status FROM ScreeningSeat ss LEFT JOIN ss.seat s " +
+           "WHERE ss.screening.id = :screeningId ORDER BY ss.id")
+    List<Object[]> findSeatMapRows(@Param("screeningId") Long screeningId);
+
+    // 조건부 임시 홀드 (AVAILABLE이거나 홀드가 만료된 좌석만 LOCKED로 변경, 변경된 행 수 반환)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ScreeningSeat ss SET ss.status = :locked, ss.holdToken = :holdToken, ss.lockedUntil = :lockedUntil " +
+           "WHERE ss.screening.id = :screeningId AND ss.seat.id IN :seatIds " +
+           "AND (ss.status = :available OR (ss.status = :locked AND ss.lockedUntil <= :now))")
+    int holdSeats(@Param("screeningId") Long screeningId,
+                  @Param("seatIds") Collection<Long> seatIds,
+                  @Param("holdToken") String holdToken,
+                  @Param("lockedUntil") LocalDateTime lockedUntil,
+                  @Param("now") LocalDateTime now,
+                  @Param("available") ScreeningSeatStatus available,
+                  @Param("locked") ScreeningSeatStatus locked);
+
+    // 특정 홀드 토큰으로 잡은 좌석만 해제 (홀드 취소, 부분 획득 보상용)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ScreeningSeat ss SET ss.status = :available, ss.holdToken = null, ss.lockedUntil = null " +
+           "WHERE ss.screening.id = :screeningId AND ss.seat.id IN :seatIds AND ss.status = :locked AND ss.holdToken = :holdToken")
+    int releaseHeldSeats(@Param("screeningId") Long screeningId,
+                         @Param("seatIds") Collection<Long> seatIds,
+                         @Param("holdToken") String holdToken,
+                         @Param("available") ScreeningSeatStatus available,
+                         @Param("locked") ScreeningSeatStatus locked);
+
+    // 조건부 예매 확정 (AVAILABLE 좌석이거나 같은 홀드 토큰으로 잡은 LOCKED 좌석만 RESERVED로 변경, 남이 잡은 좌석은 제외)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ScreeningSeat ss SET ss.status = :reserved, ss.reservation = :reservation, ss.holdToken = null, ss.lockedUntil = null " +
+           "WHERE ss.screening.id = :screeningId AND ss.seat.id IN :seatIds " +
+           "AND (ss.status = :available OR (ss.status = :locked AND ss.holdToken = :holdToken))")
+    int reserveSeats(@Param("screeningId") Long screeningId,
+                     @Param("seatIds") Collection<Long> seatIds,
+                     @Param("holdToken") String holdToken,
+                     @Param("reservation") Reservation reservation,
+                     @Param("available") ScreeningSeatStatus available,
+                     @Param("locked") ScreeningSeatStatus locked,
+                     @Param("reserved") ScreeningSeatStatus reserved);
+
+    // 만료된 홀드 해제 (홀드 토큰 묶음 단위, 만료 전에 예매/취소된 좌석은 조건에서 빠짐)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ScreeningSeat ss SET ss.status = :available, ss.holdToken = null, ss.lockedUntil = null " +
+           "WHERE ss.screening.id = :screeningId AND ss.holdToken IN :holdTokens AND ss.status = :locked AND ss.lockedUntil <= :now")
+    int releaseExpiredHolds(@Param("screeningId") Long screeningId,
+                            @Param("holdTokens") Collection<String> holdTokens,
+                            @Param("now") LocalDateTime now,
+                            @Param("available") ScreeningSeatStatus available,
+                            @Param("locked") ScreeningSeatStatus locked);
+
+    // 만료된 홀드 전체 해제 (다른 서버가 잡은 홀드, 재기동 전 홀드 보정용, 만료 시각 없는 예전 홀드 포함)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ScreeningSeat ss SET ss.status = :available, ss.holdToken = null, ss.lockedUntil = null " +
+           "WHERE ss.status = :locked AND (ss.lockedUntil IS NULL OR ss.lockedUntil <= :now)")
+    int releaseAllExpiredHolds(@Param("now") LocalDateTime now,
+                               @Param("available") ScreeningSeatStatus available,
+                               @Param("locked") ScreeningSeatStatus locked);
+
+    // 상영별 홀드 현황 (홀드 좌석 수, 홀드 수, 가장 빠른 만료 시각)
+    @Query("SELECT COUNT(ss), COUNT(DISTINCT ss.holdToken), MIN(ss.lockedUntil) FROM ScreeningSeat ss " +
+           "WHERE ss.screening.id = :screeningId AND ss.status = :locked")
+    List<Object[]> findHoldStats(@Param("screeningId") Long screeningId,
+                                 @Param("locked") ScreeningSeatStatus locked);
+}
@@ -2,6 +2,16 @@ package com.movie.movie_backend.repository;
 
 import com.movie.movie_backend.entity.SearchLog;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface SearchLogRepository extends JpaRepository<SearchLog, Long> {
-} 
\ No newline at end of file
+
+    // 인기검색어 윈도우 복원용: 검색어·분별 횟수 (keyword, epochMinute, count)
+    @Query(value = "SELECT keyword, TIMESTAMPDIFF(MINUTE, '1970-01-01 00:00:00', searched_at) AS minute_no, COUNT(*) " +
+            "FROM search_log WHERE searched_at >= :since GROUP BY keyword, minute_no", nativeQuery = true)
+    List<Object[]> countByKeywordAndMinuteSince(@Param("since") LocalDateTime since);
+}
@@ -2,7 +2,10 @@ package com.movie.movie_backend.repository;
 
 import com.movie.movie_backend.entity.Stillcut;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -13,4 +16,8 @@ public interface StillcutRepository extends JpaRepository<Stillcut, Long> {
     
     // 정렬된 스틸컷 조회
     List<Stillcut> findByMovieDetailIdOrderByOrderInMovieAsc(Long movieDetailId);
-} 
\ No newline at end of file
+
+    // 여러 영화의 스틸컷 (movieDetailId, imageUrl) - 영화별 첫 번째가 대표 이미지
+    @Query("SELECT s.movieDetail.id, s.imageUrl FROM Stillcut s WHERE s.movieDetail.id IN :movieIds ORDER BY s.id")
+    List<Object[]> findImageUrlsByMovieIds(@Param("movieIds") Collection<Long> movieIds);
+} 
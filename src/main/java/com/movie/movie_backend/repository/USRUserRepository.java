@@ -63,4 +63,8 @@ public interface USRUserRepository extends JpaRepository<User, Long> {
 
     // 닉네임으로 유저 단일 조회 (유일)
     Optional<User> findOneByNickname(String nickname);
+
+    // 통합 검색 인덱스 구축용 (id, loginId, nickname)
+    @Query("SELECT u.id, u.loginId, u.nickname FROM User u")
+    List<Object[]> findSearchIndexRows();
 }
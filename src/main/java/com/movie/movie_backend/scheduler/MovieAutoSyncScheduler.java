@@ -1,7 +1,9 @@
 package com.movie.movie_backend.scheduler;
 
 import com.movie.movie_backend.service.BoxOfficeService;
+import com.movie.movie_backend.service.IngestionPipeline;
 import com.movie.movie_backend.service.KobisApiService;
+import com.movie.movie_backend.service.SyncStateService;
 import com.movie.movie_backend.service.TmdbPosterBatchService;
 import com.movie.movie_backend.service.TmdbStillcutService;
 import lombok.RequiredArgsConstructor;
@@ -11,11 +13,8 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import com.movie.movie_backend.entity.MovieList;
+import java.util.concurrent.CompletableFuture;
 import com.movie.movie_backend.repository.PRDMovieListRepository;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import java.util.ArrayList;
 
 @Slf4j
 @Component
@@ -27,6 +26,7 @@ public class MovieAutoSyncScheduler {
     private final TmdbPosterBatchService tmdbPosterBatchService;
     private final TmdbStillcutService tmdbStillcutService;
     private final PRDMovieListRepository prdMovieListRepository;
+    private final SyncStateService syncStateService;
 
     @Value("${kobis.api.key:}")
     private String kobisApiKey;
@@ -72,17 +72,17 @@ public class MovieAutoSyncScheduler {
         }
         
         try {
-            log.info("1. TMDB 포스터 URL 업데이트 시작...");
-            tmdbPosterBatchService.updatePosterUrlsForAllMovies();
-            log.info("1. TMDB 포스터 URL 업데이트 완료");
-            
-            log.info("2. TMDB 스틸컷 업데이트 시작...");
-            tmdbStillcutService.updateStillcutsForAllMovies();
-            log.info("2. TMDB 스틸컷 업데이트 완료");
-            
-            log.info("3. TMDB 줄거리 보완 시작...");
-            kobisApiService.fillMissingMovieDetailsFromTmdb();
-            log.info("3. TMDB 줄거리 보완 완료");
+            // 세 작업을 동시에 실행 (TMDB 호출 한도는 IngestionPipeline에서 함께 나눠 씀)
+            List<CompletableFuture<IngestionPipeline.JobResult>> jobs = List.of(
+                    tmdbPosterBatchService.updatePosterUrlsAsync(),
+                    tmdbStillcutService.updateStillcutsAsync(),
+                    kobisApiService.fillMissingMovieDetailsFromTmdbAsync());
+            CompletableFuture.allOf(jobs.toArray(new CompletableFuture[0])).join();
+            for (CompletableFuture<IngestionPipeline.JobResult> job : jobs) {
+                IngestionPipeline.JobResult result = job.join();
+                log.info("{} 완료: 성공 {}건, 실패 {}건 ({}ms)",
+                        result.job(), result.succeeded(), result.failed(), result.elapsedMillis());
+            }
             
             log.info("=== TMDB 포스터/스틸컷/줄거리 자동 보완 완료 ===");
         } catch (Exception e) {
@@ -111,64 +111,23 @@ public class MovieAutoSyncScheduler {
         }
         
         try {
-            log.info("1. 관람등급이 누락된 영화 검색 시작...");
-            
-            // 모든 영화를 가져와서 관람등급이 null이거나 빈 문자열인 영화들 필터링
-            List<MovieList> allMovies = new ArrayList<>();
-            int page = 0, size = 1000;
-            Page<MovieList> moviePage;
-            do {
-                moviePage = prdMovieListRepository.findAll(PageRequest.of(page++, size));
-                allMovies.addAll(moviePage.getContent());
-            } while (moviePage.hasNext());
-
-            List<MovieList> moviesWithoutGrade = allMovies.stream()
-                .filter(movie -> movie.getWatchGradeNm() == null || movie.getWatchGradeNm().isEmpty())
-                .collect(java.util.stream.Collectors.toList());
-            
-            if (moviesWithoutGrade.isEmpty()) {
-                log.info("관람등급이 누락된 영화가 없습니다.");
-                return;
-            }
-            
-            log.info("관람등급이 누락된 영화 {}개 발견", moviesWithoutGrade.size());
-            
-            int successCount = 0;
-            int failCount = 0;
-            int skipCount = 0;
-            
-            for (MovieList movie : moviesWithoutGrade) {
-                try {
-                    log.info("관람등급 보완 시도: {} ({})", movie.getMovieNm(), movie.getMovieCd());
-                    
-                    // KOBIS API에서 관람등급 정보 가져오기
-                    KobisApiService.NationAndGrade nationAndGrade = kobisApiService.fetchNationAndGrade(movie.getMovieCd());
-                    
-                    if (nationAndGrade != null && nationAndGrade.watchGradeNm != null && !nationAndGrade.watchGradeNm.isEmpty()) {
-                        // 관람등급 업데이트
-                        movie.setWatchGradeNm(nationAndGrade.watchGradeNm);
-                        prdMovieListRepository.save(movie);
-                        
-                        successCount++;
-                        log.info("관람등급 보완 성공: {} ({}) -> {}", 
-                            movie.getMovieNm(), movie.getMovieCd(), nationAndGrade.watchGradeNm);
-                    } else {
-                        skipCount++;
-                        log.warn("관람등급 정보 없음: {} ({})", movie.getMovieNm(), movie.getMovieCd());
-                    }
-                    
-                    // API 호출 제한을 위한 딜레이
-                    Thread.sleep(100);
-                    
-                } catch (Exception e) {
-                    failCount++;
-                    log.error("관람등급 보완 실패: {} ({}) - {}", 
-                        movie.getMovieNm(), movie.getMovieCd(), e.getMessage());
+            // 관람등급이 없는 영화만 페이지 단위로 조회해서 처리 (중단되면 다음 실행에서 이어서, 등급을 못 찾은 영화는 잠시 건너뜀)
+            IngestionPipeline.JobResult result = syncStateService.run(SyncStateService.Job.KOBIS_WATCH_GRADE, target -> {
+                KobisApiService.NationAndGrade nationAndGrade = kobisApiService.fetchNationAndGrade(target.movieCd());
+                if (nationAndGrade == null || nationAndGrade.watchGradeNm == null || nationAndGrade.watchGradeNm.isEmpty()) {
+                    log.warn("관람등급 정보 없음: {} ({})", target.movieNm(), target.movieCd());
+                    return false;
                 }
-            }
+                prdMovieListRepository.findById(target.movieCd()).ifPresent(movie -> {
+                    movie.setWatchGradeNm(nationAndGrade.watchGradeNm);
+                    prdMovieListRepository.save(movie);
+                });
+                log.info("관람등급 보완 성공: {} ({}) -> {}", target.movieNm(), target.movieCd(), nationAndGrade.watchGradeNm);
+                return true;
+            }).join();
             
             log.info("=== KMDb 관람등급 자동 보완 완료 ===");
-            log.info("처리 결과: 성공 {}개, 실패 {}개, 스킵 {}개", successCount, failCount, skipCount);
+            log.info("처리 결과: 성공 {}개, 실패 {}개 ({}ms)", result.succeeded(), result.failed(), result.elapsedMillis());
             
         } catch (Exception e) {
             log.error("KMDb 관람등급 자동 보완 실패", e);
@@ -20,8 +20,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.http.ResponseEntity;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
@@ -57,9 +55,10 @@ public class AdminMovieService {
     private final TmdbPosterService tmdbPosterService;
     private final DataMigrationService dataMigrationService;
     private final TagDataService tagDataService;
-    private final RestTemplate restTemplate;
+    private final IngestionPipeline ingestionPipeline;
     private final ObjectMapper objectMapper;
     private final PRDMovieListRepository movieListRepository;
+    private final MovieSearchIndexService movieSearchIndexService;
     
     @Value("${tmdb.api.key}")
     private String tmdbApiKey;
@@ -185,6 +184,9 @@ public class AdminMovieService {
             }
         }
         
+        // 검색 인덱스 갱신 (커밋 후 반영)
+        movieSearchIndexService.reindex(savedMovie.getMovieCd());
+        
         return convertToDto(savedMovie);
     }
 
@@ -271,6 +273,9 @@ public class AdminMovieService {
         MovieDetail updatedMovie = movieRepository.save(movie);
         log.info("영화 정보 수정 완료: {} ({})", updatedMovie.getMovieNm(), movieCd);
         
+        // 검색 인덱스 갱신 (커밋 후 반영)
+        movieSearchIndexService.reindex(movieCd);
+        
         return convertToDto(updatedMovie);
     }
 
@@ -897,9 +902,9 @@ public class AdminMovieService {
             String url = String.format("https://api.themoviedb.org/3/search/movie?api_key=%s&query=%s&language=ko-KR%s", 
                 tmdbApiKey, query, year != null ? "&year=" + year : "");
             
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-            if (response.getStatusCode().is2xxSuccessful()) {
-                JsonNode rootNode = objectMapper.readTree(response.getBody());
+            String response = ingestionPipeline.get(IngestionPipeline.Upstream.TMDB, url);
+            if (response != null) {
+                JsonNode rootNode = objectMapper.readTree(response);
                 JsonNode results = rootNode.get("results");
                 
                 if (results != null && results.size() > 0) {
@@ -0,0 +1,164 @@
+package com.movie.movie_backend.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그성 테이블 비동기 배치 저장 공통 로직
+ * - 요청 스레드는 offer()로 큐에 넣기만 하고 DB 쓰기를 기다리지 않음
+ * - 큐는 크기 제한이 있는 lock-free 큐, 가득 차면 버리고 drop 카운터만 올림 (요청을 막지 않음)
+ * - 백그라운드 스레드가 batchSize 이상 쌓이거나 flushIntervalMillis가 지나면 JDBC batch insert
+ * 하위 클래스는 INSERT 문과 파라미터 바인딩만 정의한다.
+ */
+@Slf4j
+public abstract class AsyncJdbcBatchWriter<T> {
+
+    private static final long POLL_INTERVAL_MS = 100;
+
+    private final String name;
+    private final JdbcTemplate jdbcTemplate;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+
+    private final ConcurrentLinkedQueue<T> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueSize = new AtomicInteger();
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder flushNanos = new LongAdder();
+    private final long startedAtMillis = System.currentTimeMillis();
+    private volatile long lastFlushAtMillis = System.currentTimeMillis();
+
+    private final ScheduledExecutorService flusher;
+
+    protected AsyncJdbcBatchWriter(String name, JdbcTemplate jdbcTemplate, int queueCapacity, int batchSize,
+                                   long flushIntervalMillis) {
+        this.name = name;
+        this.jdbcTemplate = jdbcTemplate;
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name + "-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * INSERT 문 (파라미터 순서는 bind와 일치)
+     */
+    protected abstract String insertSql();
+
+    protected abstract void bind(PreparedStatement ps, T item) throws SQLException;
+
+    @PostConstruct
+    public void start() {
+        flusher.scheduleWithFixedDelay(this::flushIfDue, POLL_INTERVAL_MS, POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 큐에 추가 (가득 차면 버리고 false)
+     */
+    protected boolean offer(T item) {
+        if (queueSize.incrementAndGet() > queueCapacity) {
+            queueSize.decrementAndGet();
+            dropped.increment();
+            return false;
+        }
+        queue.offer(item);
+        enqueued.increment();
+        return true;
+    }
+
+    /**
+     * 처리량/적체 지표
+     */
+    public Map<String, Object> getStats() {
+        long elapsedMillis = Math.max(1, System.currentTimeMillis() - startedAtMillis);
+        long batchCount = batches.sum();
+        long writtenCount = written.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("queued", queueSize.get());
+        stats.put("queueCapacity", queueCapacity);
+        stats.put("enqueued", enqueued.sum());
+        stats.put("dropped", dropped.sum());
+        stats.put("written", writtenCount);
+        stats.put("failed", failed.sum());
+        stats.put("batches", batchCount);
+        stats.put("avgBatchMillis", batchCount > 0 ? flushNanos.sum() / batchCount / 1_000_000.0 : 0.0);
+        stats.put("writtenPerSecond", writtenCount * 1000.0 / elapsedMillis);
+        return stats;
+    }
+
+    private void flushIfDue() {
+        try {
+            while (queueSize.get() >= batchSize) {
+                flushBatch();
+            }
+            if (queueSize.get() > 0 && System.currentTimeMillis() - lastFlushAtMillis >= flushIntervalMillis) {
+                flushBatch();
+            }
+        } catch (Exception e) {
+            // 스케줄이 멈추지 않도록 여기서 삼킴
+            log.warn("{} flush 실패: {}", name, e.getMessage());
+        }
+    }
+
+    private void flushBatch() {
+        List<T> batch = new ArrayList<>(Math.min(batchSize, Math.max(queueSize.get(), 1)));
+        T item;
+        while (batch.size() < batchSize && (item = queue.poll()) != null) {
+            batch.add(item);
+        }
+        queueSize.addAndGet(-batch.size());
+        lastFlushAtMillis = System.currentTimeMillis();
+        if (batch.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            jdbcTemplate.batchUpdate(insertSql(), batch, batch.size(), this::bind);
+            written.add(batch.size());
+        } catch (Exception e) {
+            failed.add(batch.size());
+            log.warn("{} {}건 저장 실패: {}", name, batch.size(), e.getMessage());
+        } finally {
+            batches.increment();
+            flushNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 종료 전 남은 로그 저장
+        while (queueSize.get() > 0) {
+            flushBatch();
+        }
+    }
+}
@@ -75,6 +75,15 @@ public class BookingService {
     @Autowired
     private PaymentRepository paymentRepository;
 
+    @Autowired
+    private SeatHoldService seatHoldService;
+
+    @Autowired
+    private SeatHoldExpiryService seatHoldExpiryService;
+
+    @Autowired
+    private SeatMapCacheService seatMapCacheService;
+
     // 아임포트 API 키/시크릿 (환경변수나 설정파일에서 주입 권장)
     @Value("${iamport.api.key:YOUR_API_KEY}")
     private String iamportApiKey;
@@ -145,17 +154,19 @@ public class BookingService {
                 .collect(Collectors.toList());
     }
 
-    // 특정 상영의 좌석 정보 조회
+    // 특정 상영의 좌석 정보 조회 (상영별 좌석 배치도 캐시에서 조회)
     public List<ScreeningSeatDto> getSeatsByScreening(Long screeningId) {
-        List<ScreeningSeat> seats = screeningSeatRepository.findByScreeningId(screeningId);
-        return seats.stream()
-                .map(ScreeningSeatDto::fromEntity)
-                .collect(Collectors.toList());
+        return seatMapCacheService.getSeats(screeningId);
     }
 
-    // 예매 처리
+    // 특정 상영의 좌석 상태 변경 구독 (SSE)
+    public org.springframework.web.servlet.mvc.method.annotation.SseEmitter subscribeSeats(Long screeningId) {
+        return seatMapCacheService.subscribe(screeningId);
+    }
+
+    // 예매 처리 (holdToken: 결제 전 좌석 홀드에서 받은 토큰, 이 토큰으로 잡은 좌석과 빈 좌석만 확정 가능)
     @Transactional
-    public boolean createBooking(String movieId, Long screeningId, List<Long> seatIds, Integer totalPrice) {
+    public boolean createBooking(String movieId, Long screeningId, List<Long> seatIds, Integer totalPrice, String holdToken) {
         try {
             // 1. 입력값 검증
             if (seatIds == null || seatIds.isEmpty() || seatIds.size() > 2) {
@@ -175,24 +186,7 @@ public class BookingService {
                 return false;
             }
 
-            // 3. 좌석 상태 확인 및 예약 가능 여부 체크
-            List<ScreeningSeat> seatsToReserve = new java.util.ArrayList<>();
-            for (Long seatId : seatIds) {
-                Optional<ScreeningSeat> screeningSeatOpt = screeningSeatRepository.findByScreeningIdAndSeatId(screeningId, seatId);
-                if (screeningSeatOpt.isEmpty()) {
-                    log.warn("ScreeningSeat not found: screeningId=" + screeningId + ", seatId=" + seatId);
-                    return false;
-                }
-                ScreeningSeat screeningSeat = screeningSeatOpt.get();
-                if (screeningSeat.getStatus() != ScreeningSeatStatus.AVAILABLE &&
-                    screeningSeat.getStatus() != ScreeningSeatStatus.LOCKED) {
-                    log.warn("Seat not available: screeningId=" + screeningId + ", seatId=" + seatId + ", status=" + screeningSeat.getStatus());
-                    return false;
-                }
-                seatsToReserve.add(screeningSeat);
-            }
-
-            // 4. Reservation 생성 및 저장
+            // 3. Reservation 생성 및 저장
             Reservation reservation = new Reservation();
             reservation.setUser(currentUser.get());
             reservation.setScreening(screening.get());
@@ -201,14 +195,13 @@ public class BookingService {
             reservation.setReservedAt(java.time.LocalDateTime.now());
             Reservation savedReservation = reservationRepository.save(reservation);
 
-            // 5. 좌석 상태 RESERVED로 변경 및 Reservation 연결
-            for (ScreeningSeat seat : seatsToReserve) {
-                seat.setStatus(ScreeningSeatStatus.RESERVED);
-                seat.setReservation(savedReservation);
-                screeningSeatRepository.save(seat);
+            // 4. 좌석 상태 RESERVED로 변경 및 Reservation 연결 (조건부 UPDATE 한 번, 실패 시 예약까지 롤백)
+            if (!seatHoldService.reserve(screeningId, seatIds, holdToken, savedReservation)) {
+                log.warn("Seat not available: screeningId=" + screeningId + ", seatIds=" + seatIds);
+                return false;
             }
 
-            // 6. 성공 반환
+            // 5. 성공 반환
             return true;
         } catch (Exception e) {
             log.error("Booking failed", e);
@@ -217,53 +210,29 @@ public class BookingService {
     }
 
     // 결제 전 임시 좌석 홀드(LOCKED) 처리
+    // @return 홀드 토큰 (예매 확정/홀드 취소 때 다시 보내야 함), 실패 시 null
     @Transactional
-    public boolean lockSeatsForPayment(Long screeningId, List<Long> seatIds) {
+    public String lockSeatsForPayment(Long screeningId, List<Long> seatIds) {
         try {
-            List<ScreeningSeat> seatsToLock = new java.util.ArrayList<>();
-            for (Long seatId : seatIds) {
-                Optional<ScreeningSeat> screeningSeatOpt = screeningSeatRepository.findByScreeningIdAndSeatId(screeningId, seatId);
-                if (screeningSeatOpt.isEmpty()) {
-                    log.warn("ScreeningSeat not found: screeningId=" + screeningId + ", seatId=" + seatId);
-                    return false;
-                }
-                ScreeningSeat screeningSeat = screeningSeatOpt.get();
-                if (screeningSeat.getStatus() != ScreeningSeatStatus.AVAILABLE) {
-                    log.warn("Seat not available for lock: screeningId=" + screeningId + ", seatId=" + seatId + ", status=" + screeningSeat.getStatus());
-                    return false;
-                }
-                seatsToLock.add(screeningSeat);
+            // 모두 AVAILABLE일 때만 LOCKED로 변경 (전부 아니면 전무)
+            String holdToken = seatHoldService.hold(screeningId, seatIds);
+            if (holdToken == null) {
+                log.warn("Seat not available for lock: screeningId=" + screeningId + ", seatIds=" + seatIds);
             }
-            // 모두 AVAILABLE이면 LOCKED로 변경
-            for (ScreeningSeat seat : seatsToLock) {
-                seat.setStatus(ScreeningSeatStatus.LOCKED);
-                screeningSeatRepository.save(seat);
-            }
-            return true;
+            return holdToken;
         } catch (Exception e) {
             log.error("Locking seats for payment failed", e);
-            return false;
+            return null;
         }
     }
 
-    // 좌석 홀드 취소 (LOCKED -> AVAILABLE)
+    // 좌석 홀드 취소 (LOCKED -> AVAILABLE, 같은 홀드 토큰으로 잡은 좌석만)
     @Transactional
-    public boolean unlockSeats(Long screeningId, List<Long> seatIds) {
+    public boolean unlockSeats(Long screeningId, List<Long> seatIds, String holdToken) {
         try {
-            for (Long seatId : seatIds) {
-                Optional<ScreeningSeat> screeningSeatOpt = screeningSeatRepository.findByScreeningIdAndSeatId(screeningId, seatId);
-                if (screeningSeatOpt.isEmpty()) {
-                    log.warn("ScreeningSeat not found: screeningId=" + screeningId + ", seatId=" + seatId);
-                    return false;
-                }
-                ScreeningSeat screeningSeat = screeningSeatOpt.get();
-                if (screeningSeat.getStatus() == ScreeningSeatStatus.LOCKED) {
-                    screeningSeat.setStatus(ScreeningSeatStatus.AVAILABLE);
-                    screeningSeatRepository.save(screeningSeat);
-                } else {
-                    log.warn("Seat is not LOCKED: screeningId=" + screeningId + ", seatId=" + seatId + ", status=" + screeningSeat.getStatus());
-                    return false;
-                }
+            if (!seatHoldService.release(screeningId, seatIds, holdToken)) {
+                log.warn("Seat is not LOCKED: screeningId=" + screeningId + ", seatIds=" + seatIds);
+                return false;
             }
             return true;
         } catch (Exception e) {
@@ -272,23 +241,21 @@ public class BookingService {
         }
     }
 
+    // 상영별 좌석 홀드 지표 조회
+    public java.util.Map<String, Object> getSeatHoldMetrics(Long screeningId) {
+        return seatHoldService.getHoldMetrics(screeningId);
+    }
+
     // 아임포트 설정 코드 조회
     public String getIamportImpCode() {
         return iamportImpCode;
     }
 
-    // 오래된 LOCKED 좌석 정리 (모든 LOCKED 상태인 좌석을 AVAILABLE로 변경)
+    // 오래된 LOCKED 좌석 정리 (만료 시각이 지난 홀드만 AVAILABLE로 변경, 결제 중인 홀드는 유지)
     @Transactional
     public int cleanupOldLockedSeats() {
         try {
-            List<ScreeningSeat> lockedSeats = screeningSeatRepository.findByStatus(ScreeningSeatStatus.LOCKED);
-            
-            int cleanedCount = 0;
-            for (ScreeningSeat seat : lockedSeats) {
-                seat.setStatus(ScreeningSeatStatus.AVAILABLE);
-                screeningSeatRepository.save(seat);
-                cleanedCount++;
-            }
+            int cleanedCount = seatHoldExpiryService.releaseExpiredHolds();
             
             log.info("Cleaned up {} LOCKED seats", cleanedCount);
             return cleanedCount;
@@ -463,6 +430,9 @@ public class BookingService {
                             seat.getSeat() != null ? seat.getSeat().getId() : "null", seat.getId(), seat.getStatus(), reservationId);
                         seat.setStatus(ScreeningSeatStatus.AVAILABLE);
                         screeningSeatRepository.save(seat);
+                        if (seat.getScreening() != null) {
+                            seatMapCacheService.refreshAfterCommit(seat.getScreening().getId());
+                        }
                     }
                 } else {
                     log.warn("[검증] Reservation not found by id: {}", reservationId);
@@ -480,6 +450,7 @@ public class BookingService {
                         screeningSeatRepository.save(seat);
                     }
                 }
+                seatMapCacheService.refreshAllAfterCommit();
             }
             // === ===
             return true;
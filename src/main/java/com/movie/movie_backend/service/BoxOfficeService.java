@@ -6,20 +6,18 @@ import com.movie.movie_backend.dto.BoxOfficeDto;
 import com.movie.movie_backend.mapper.BoxOfficeMapper;
 import com.movie.movie_backend.repository.BoxOfficeRepository;
 import com.movie.movie_backend.repository.PRDMovieRepository;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Optional;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.ArrayList;
 import org.springframework.data.domain.Page;
@@ -32,11 +30,12 @@ public class BoxOfficeService {
 
     private final BoxOfficeRepository boxOfficeRepository;
     private final PRDMovieRepository movieRepository;
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final IngestionPipeline ingestionPipeline;
+    private final KobisListStreamReader kobisListStreamReader;
     private final KobisApiService kobisApiService;
     private final BoxOfficeMapper boxOfficeMapper;
     private final TmdbPosterService tmdbPosterService;
+    private final BoxOfficeSnapshotService boxOfficeSnapshotService;
 
     @Value("${kobis.api.key}")
     private String apiKey;
@@ -45,6 +44,7 @@ public class BoxOfficeService {
     private static final String DAILY_BOX_OFFICE_URL = BASE_URL + "/boxoffice/searchDailyBoxOfficeList.json";
     private static final String WEEKLY_BOX_OFFICE_URL = BASE_URL + "/boxoffice/searchWeeklyBoxOfficeList.json";
     private static final String WEEKEND_BOX_OFFICE_URL = BASE_URL + "/boxoffice/searchWeekendBoxOfficeList.json";
+    private static final int INGEST_CHUNK_SIZE = 5; // 목록 항목을 이만큼 읽을 때마다 상세정보 일괄 저장
 
     /**
      * 일일 박스오피스 TOP-10 가져오기
@@ -55,61 +55,12 @@ public class BoxOfficeService {
             LocalDate yesterday = LocalDate.now().minusDays(1);
             String targetDate = yesterday.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
             String url = String.format("%s?key=%s&targetDt=%s", DAILY_BOX_OFFICE_URL, apiKey, targetDate);
-            String response = restTemplate.getForObject(url, String.class);
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode boxOfficeResult = root.get("boxOfficeResult");
-            if (boxOfficeResult != null && boxOfficeResult.get("dailyBoxOfficeList") != null) {
-                JsonNode dailyBoxOfficeList = boxOfficeResult.get("dailyBoxOfficeList");
-                
-                // 먼저 모든 MovieDetail을 저장
-                for (JsonNode movie : dailyBoxOfficeList) {
-                    String movieCd = movie.get("movieCd").asText();
-                    if (movieRepository.findByMovieCd(movieCd).isEmpty()) {
-                        try {
-                            log.info("MovieDetail 저장 시작: {}", movieCd);
-                            kobisApiService.fetchAndSaveMovieDetail(movieCd);
-                            log.info("MovieDetail 저장 완료: {}", movieCd);
-                        } catch (Exception e) {
-                            log.warn("MovieDetail 저장 실패: {}", movieCd, e);
-                        }
-                    }
-                }
-                
-                // 그 다음 BoxOffice 저장 (상위 10개만, 중복 체크 포함)
-                int count = 0;
-                int skipped = 0;
-                int oldMovieSkipped = 0;
-                for (JsonNode movie : dailyBoxOfficeList) {
-                    if (count >= 10) break; // 상위 10개만 저장
-                    
-                    String movieCd = movie.get("movieCd").asText();
-                    String movieNm = movie.get("movieNm").asText();
-                    
-                    // 중복 체크
-                    if (boxOfficeRepository.existsByMovieCdAndTargetDateAndRankType(movieCd, yesterday, "DAILY")) {
-                        log.info("이미 존재하는 일일 박스오피스 데이터 스킵: {} ({}위)", movieCd, movie.get("rank").asInt());
-                        skipped++;
-                        continue;
-                    }
-                    
-                    // 최근 영화인지 확인 (5년 이내 개봉)
-                    if (!isRecentMovie(movie)) {
-                        log.info("오래된 영화 제외: {} ({}위) - 개봉일이 5년 이상됨", movieNm, movie.get("rank").asInt());
-                        oldMovieSkipped++;
-                        continue;
-                    }
-                    
-                    BoxOffice boxOffice = parseBoxOfficeData(movie, yesterday, "DAILY");
-                    if (boxOffice != null) {
-                        boxOfficeRepository.save(boxOffice);
-                        count++;
-                        log.info("BoxOffice 저장 완료: {} - movieDetail: {} ({}번째)", 
-                                boxOffice.getMovieCd(), 
-                                boxOffice.getMovieDetail() != null ? boxOffice.getMovieDetail().getMovieCd() : "null",
-                                count);
-                    }
-                }
-                log.info("일일 박스오피스 데이터 처리 완료: 저장 {}개, 스킵 {}개, 오래된 영화 제외 {}개 (상위 10개)", count, skipped, oldMovieSkipped);
+            String response = ingestionPipeline.get(IngestionPipeline.Upstream.KOBIS, url);
+            int[] result = new int[3];
+            if (kobisListStreamReader.readBoxOfficeList(response, "dailyBoxOfficeList", INGEST_CHUNK_SIZE,
+                    chunk -> saveTop10(chunk, yesterday, "DAILY", "일일", result)) >= 0) {
+                log.info("일일 박스오피스 데이터 처리 완료: 저장 {}개, 스킵 {}개, 오래된 영화 제외 {}개 (상위 10개)", result[0], result[1], result[2]);
+                boxOfficeSnapshotService.refreshAfterCommit();
             }
         } catch (Exception e) {
             log.error("일일 박스오피스 데이터 가져오기 실패", e);
@@ -125,78 +76,86 @@ public class BoxOfficeService {
             LocalDate lastWeek = LocalDate.now().minusWeeks(1);
             String targetDate = lastWeek.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
             String url = String.format("%s?key=%s&targetDt=%s&weekGb=0", WEEKLY_BOX_OFFICE_URL, apiKey, targetDate);
-            String response = restTemplate.getForObject(url, String.class);
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode boxOfficeResult = root.get("boxOfficeResult");
-            if (boxOfficeResult != null && boxOfficeResult.get("weeklyBoxOfficeList") != null) {
-                JsonNode weeklyBoxOfficeList = boxOfficeResult.get("weeklyBoxOfficeList");
-                
-                // 먼저 모든 MovieDetail을 저장
-                for (JsonNode movie : weeklyBoxOfficeList) {
-                    String movieCd = movie.get("movieCd").asText();
-                    if (movieRepository.findByMovieCd(movieCd).isEmpty()) {
-                        try {
-                            log.info("MovieDetail 저장 시작: {}", movieCd);
-                            kobisApiService.fetchAndSaveMovieDetail(movieCd);
-                            log.info("MovieDetail 저장 완료: {}", movieCd);
-                        } catch (Exception e) {
-                            log.warn("MovieDetail 저장 실패: {}", movieCd, e);
-                        }
-                    }
-                }
-                
-                // 그 다음 BoxOffice 저장 (상위 10개만, 중복 체크 포함)
-                int count = 0;
-                int skipped = 0;
-                int oldMovieSkipped = 0;
-                for (JsonNode movie : weeklyBoxOfficeList) {
-                    if (count >= 10) break; // 상위 10개만 저장
-                    
-                    String movieCd = movie.get("movieCd").asText();
-                    String movieNm = movie.get("movieNm").asText();
-                    
-                    // 중복 체크
-                    if (boxOfficeRepository.existsByMovieCdAndTargetDateAndRankType(movieCd, lastWeek, "WEEKLY")) {
-                        log.info("이미 존재하는 주간 박스오피스 데이터 스킵: {} ({}위)", movieCd, movie.get("rank").asInt());
-                        skipped++;
-                        continue;
-                    }
-                    
-                    // 최근 영화인지 확인 (5년 이내 개봉)
-                    if (!isRecentMovie(movie)) {
-                        log.info("오래된 영화 제외: {} ({}위) - 개봉일이 5년 이상됨", movieNm, movie.get("rank").asInt());
-                        oldMovieSkipped++;
-                        continue;
-                    }
-                    
-                    BoxOffice boxOffice = parseBoxOfficeData(movie, lastWeek, "WEEKLY");
-                    if (boxOffice != null) {
-                        boxOfficeRepository.save(boxOffice);
-                        count++;
-                        log.info("BoxOffice 저장 완료: {} - movieDetail: {} ({}번째)", 
-                                boxOffice.getMovieCd(), 
-                                boxOffice.getMovieDetail() != null ? boxOffice.getMovieDetail().getMovieCd() : "null",
-                                count);
-                    }
-                }
-                log.info("주간 박스오피스 데이터 처리 완료: 저장 {}개, 스킵 {}개, 오래된 영화 제외 {}개 (상위 10개)", count, skipped, oldMovieSkipped);
+            String response = ingestionPipeline.get(IngestionPipeline.Upstream.KOBIS, url);
+            int[] result = new int[3];
+            if (kobisListStreamReader.readBoxOfficeList(response, "weeklyBoxOfficeList", INGEST_CHUNK_SIZE,
+                    chunk -> saveTop10(chunk, lastWeek, "WEEKLY", "주간", result)) >= 0) {
+                log.info("주간 박스오피스 데이터 처리 완료: 저장 {}개, 스킵 {}개, 오래된 영화 제외 {}개 (상위 10개)", result[0], result[1], result[2]);
             }
         } catch (Exception e) {
             log.error("주간 박스오피스 데이터 가져오기 실패", e);
         }
     }
 
+    /**
+     * 박스오피스 목록 한 묶음 저장 (파서가 순위 순서대로 묶음마다 호출)
+     * 묶음의 없는 MovieDetail은 한 번에 일괄 저장한 뒤, 상위 10개가 찰 때까지 중복 체크해서 BoxOffice 저장
+     * @param result {저장, 중복 스킵, 오래된 영화 제외} 개수 - 묶음마다 누적
+     */
+    private void saveTop10(List<KobisListStreamReader.BoxOfficeItem> boxOfficeList, LocalDate targetDate,
+                           String rankType, String label, int[] result) {
+        if (result[0] >= 10) {
+            return; // 상위 10개를 이미 저장했으면 뒤 묶음은 상세정보도 가져오지 않음
+        }
+        // 먼저 없는 MovieDetail을 모아서 한 번에 저장
+        List<String> movieCds = boxOfficeList.stream().map(KobisListStreamReader.BoxOfficeItem::movieCd).distinct().toList();
+        Set<String> existing = movieRepository.findByMovieCdIn(movieCds).stream()
+                .map(MovieDetail::getMovieCd)
+                .collect(Collectors.toSet());
+        List<String> missing = movieCds.stream().filter(movieCd -> !existing.contains(movieCd)).toList();
+        if (!missing.isEmpty()) {
+            try {
+                log.info("MovieDetail 일괄 저장 시작: {}개", missing.size());
+                int saved = kobisApiService.fetchAndSaveMovieDetails(missing);
+                log.info("MovieDetail 일괄 저장 완료: {}/{}개", saved, missing.size());
+            } catch (Exception e) {
+                log.warn("MovieDetail 일괄 저장 실패: {}", missing, e);
+            }
+        }
+
+        // 그 다음 BoxOffice 저장 (상위 10개만, 중복 체크 포함)
+        int count = result[0];
+        int skipped = result[1];
+        int oldMovieSkipped = result[2];
+        for (KobisListStreamReader.BoxOfficeItem movie : boxOfficeList) {
+            if (count >= 10) break; // 상위 10개만 저장
+
+            // 중복 체크
+            if (boxOfficeRepository.existsByMovieCdAndTargetDateAndRankType(movie.movieCd(), targetDate, rankType)) {
+                log.info("이미 존재하는 {} 박스오피스 데이터 스킵: {} ({}위)", label, movie.movieCd(), movie.rank());
+                skipped++;
+                continue;
+            }
+
+            // 최근 영화인지 확인 (5년 이내 개봉)
+            if (!isRecentMovie(movie)) {
+                log.info("오래된 영화 제외: {} ({}위) - 개봉일이 5년 이상됨", movie.movieNm(), movie.rank());
+                oldMovieSkipped++;
+                continue;
+            }
+
+            BoxOffice boxOffice = parseBoxOfficeData(movie, targetDate, rankType);
+            if (boxOffice != null) {
+                boxOfficeRepository.save(boxOffice);
+                count++;
+                log.info("BoxOffice 저장 완료: {} - movieDetail: {} ({}번째)",
+                        boxOffice.getMovieCd(),
+                        boxOffice.getMovieDetail() != null ? boxOffice.getMovieDetail().getMovieCd() : "null",
+                        count);
+            }
+        }
+        result[0] = count;
+        result[1] = skipped;
+        result[2] = oldMovieSkipped;
+    }
+
     /**
      * 박스오피스 데이터 파싱
      */
-    private BoxOffice parseBoxOfficeData(JsonNode movie, LocalDate targetDate, String rankType) {
+    private BoxOffice parseBoxOfficeData(KobisListStreamReader.BoxOfficeItem movie, LocalDate targetDate, String rankType) {
         try {
-            String movieCd = movie.get("movieCd").asText();
-            String movieNm = movie.get("movieNm").asText();
-            int rank = movie.get("rank").asInt();
-            long salesAmt = Long.parseLong(movie.get("salesAmt").asText());
-            long audiCnt = Long.parseLong(movie.get("audiCnt").asText());
-            long audiAcc = Long.parseLong(movie.get("audiAcc").asText());
+            String movieCd = movie.movieCd();
+            String movieNm = movie.movieNm();
             
             // MovieDetail 찾기 또는 생성
             MovieDetail movieDetail = movieRepository.findByMovieCd(movieCd).orElse(null);
@@ -220,10 +179,10 @@ public class BoxOfficeService {
             BoxOffice boxOffice = BoxOffice.builder()
                     .movieCd(movieCd)
                     .movieNm(movieNm)
-                    .rank(rank)
-                    .salesAmt(salesAmt)
-                    .audiCnt(audiCnt)
-                    .audiAcc(audiAcc)
+                    .rank(movie.rank())
+                    .salesAmt(movie.salesAmt())
+                    .audiCnt(movie.audiCnt())
+                    .audiAcc(movie.audiAcc())
                     .targetDate(targetDate)
                     .rankType(rankType)
                     .movieDetail(movieDetail)
@@ -241,37 +200,14 @@ public class BoxOfficeService {
     }
 
     /**
-     * 최근 영화인지 확인 (5년 이내 개봉)
+     * 최근 영화인지 확인 (5년 이내 개봉, 개봉일이 없거나 형식이 다르면 포함 - 나중에 상세정보에서 확인)
      */
-    private boolean isRecentMovie(JsonNode movie) {
-        try {
-            String openDt = movie.has("openDt") ? movie.get("openDt").asText() : "";
-            if (openDt.isEmpty()) {
-                // 개봉일이 없으면 포함 (나중에 상세정보에서 확인)
-                return true;
-            }
-            
-            LocalDate openDate = null;
-            try {
-                // yyyy-MM-dd 형식으로 파싱 시도
-                openDate = LocalDate.parse(openDt, DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-            } catch (Exception e1) {
-                try {
-                    // yyyyMMdd 형식으로 파싱 시도
-                    openDate = LocalDate.parse(openDt, DateTimeFormatter.ofPattern("yyyyMMdd"));
-                } catch (Exception e2) {
-                    log.warn("날짜 파싱 실패: {} - yyyy-MM-dd와 yyyyMMdd 모두 실패", openDt);
-                    return true; // 파싱 실패 시 포함
-                }
-            }
-            
-            LocalDate fiveYearsAgo = LocalDate.now().minusYears(5);
-            return !openDate.isBefore(fiveYearsAgo);
-            
-        } catch (Exception e) {
-            log.warn("영화 개봉일 확인 실패: {}", movie.get("movieNm"), e);
-            return true; // 에러 시 포함
+    private boolean isRecentMovie(KobisListStreamReader.BoxOfficeItem movie) {
+        if (movie.openDt() == null) {
+            return true;
         }
+        LocalDate fiveYearsAgo = LocalDate.now().minusYears(5);
+        return !movie.openDt().isBefore(fiveYearsAgo);
     }
 
     // ===== DTO 변환 메서드들 (왓챠피디아 스타일) =====
@@ -411,6 +347,7 @@ public class BoxOfficeService {
             }
         }
         
+        boxOfficeSnapshotService.refreshAfterCommit();
         log.info("박스오피스 데이터 정리 및 순위 재정렬 완료");
     }
 
@@ -0,0 +1,149 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.repository.BoxOfficeRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 최신 일일 박스오피스 스냅샷 (movieCd → 순위, 누적관객수, 예매율)
+ * - 매퍼들이 영화마다 박스오피스 쿼리를 다시 날리지 않도록 메모리에서 O(1) 조회
+ * - 데이터는 fetchDailyBoxOffice / 순위 재정렬 후에만 바뀌므로 그때 통째로 교체
+ * - 스냅샷은 불변 객체라 읽는 쪽은 락 없이 사용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoxOfficeSnapshotService {
+
+    private static final String RANK_TYPE_DAILY = "DAILY";
+
+    private final BoxOfficeRepository boxOfficeRepository;
+
+    private final AtomicLong versionSeq = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    /**
+     * 영화 하나의 박스오피스 정보
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+        private final int rank;
+        private final long audiAcc;
+        private final double reservationRate;
+    }
+
+    /**
+     * 특정 시점의 박스오피스 스냅샷 (불변)
+     */
+    @Getter
+    public static class Snapshot {
+        private final long version;
+        private final LocalDate targetDate;
+        private final Map<String, Entry> entries;
+
+        private Snapshot(long version, LocalDate targetDate, Map<String, Entry> entries) {
+            this.version = version;
+            this.targetDate = targetDate;
+            this.entries = Collections.unmodifiableMap(entries);
+        }
+
+        public Entry get(String movieCd) {
+            return movieCd != null ? entries.get(movieCd) : null;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    /**
+     * DB에서 최신 일일 박스오피스를 읽어 스냅샷 교체
+     */
+    public Snapshot refresh() {
+        try {
+            Map<String, Entry> entries = new HashMap<>();
+            LocalDate targetDate = null;
+            for (Object[] row : boxOfficeRepository.findLatestSnapshotRows(RANK_TYPE_DAILY)) {
+                String movieCd = (String) row[0];
+                int rank = ((Number) row[1]).intValue();
+                long audiAcc = ((Number) row[2]).longValue();
+                targetDate = (LocalDate) row[3];
+                // 같은 영화가 중복 저장된 경우 높은 순위(먼저 나온 행)를 사용
+                entries.putIfAbsent(movieCd, new Entry(rank, audiAcc, estimateReservationRate(rank)));
+            }
+            Snapshot next = new Snapshot(versionSeq.incrementAndGet(), targetDate, entries);
+            snapshot = next;
+            log.info("박스오피스 스냅샷 갱신: version={}, targetDate={}, {}개", next.getVersion(), targetDate, entries.size());
+            return next;
+        } catch (Exception e) {
+            log.warn("박스오피스 스냅샷 갱신 실패 (기존 스냅샷 유지): {}", e.getMessage());
+            return snapshot;
+        }
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후에, 아니면 즉시 스냅샷 교체
+     */
+    public void refreshAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refresh();
+                }
+            });
+        } else {
+            refresh();
+        }
+    }
+
+    /**
+     * 현재 스냅샷 (아직 로딩 전이면 한 번 로딩)
+     */
+    public Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = refresh();
+                }
+            }
+        }
+        return current != null ? current : new Snapshot(0, null, new HashMap<>());
+    }
+
+    public Entry get(String movieCd) {
+        return current().get(movieCd);
+    }
+
+    /**
+     * 예매율 계산 (순위 기반 추정)
+     */
+    public static double estimateReservationRate(int rank) {
+        if (rank <= 0) return 0.0;
+        if (rank <= 3) {
+            return 25.0 - (rank - 1) * 4.0;
+        } else if (rank <= 10) {
+            return 12.0 - (rank - 4) * 1.2;
+        } else {
+            return 1.0;
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.constant.RoleType;
+import com.movie.movie_backend.entity.MovieDetail;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * 파싱된 영화 묶음을 JDBC 배치로 한 번에 저장 (감독/배우/태그 → movie_detail → casts/movie_detail_tag)
+ * - IDENTITY 키라서 Hibernate 배치가 안 되는 엔티티 저장 대신, 이름별 id는 묶음마다 IN 쿼리 한 번으로 찾고
+ *   없는 이름만 name 유니크 키(V36)로 배치 INSERT ... ON DUPLICATE KEY UPDATE 후 다시 IN 쿼리로 id를 읽음
+ *   (동시에 도는 다른 배치가 같은 이름을 먼저 넣어도 중복 행 없이 그 id를 씀)
+ * - movie_detail은 movie_cd 유니크 키로 INSERT ... ON DUPLICATE KEY UPDATE (평점/예매 집계 컬럼은 건드리지 않음)
+ * - 출연진은 영화별로 통째로 교체, 태그는 없는 연결만 추가
+ * 새 인물의 사진 조회(외부 API)는 트랜잭션 밖에서 먼저 하고, DB 쓰기는 한 트랜잭션으로 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkIngestionWriter {
+
+    private static final int IN_CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final MovieSearchIndexService movieSearchIndexService;
+
+    /**
+     * 출연 정보 (배우 이름, 배역, 주연/조연) - 크레딧 순서는 목록 순서
+     */
+    public record ParsedCast(String actorName, String characterName, RoleType roleType) {
+    }
+
+    /**
+     * 저장할 영화 하나 (detail의 id/director/casts/tags 필드는 쓰지 않음)
+     */
+    public record ParsedMovie(MovieDetail detail, String directorName, List<ParsedCast> casts, List<String> tags) {
+    }
+
+    public Map<String, Long> write(List<ParsedMovie> movies) {
+        return write(movies, null, null);
+    }
+
+    /**
+     * 영화 묶음 저장
+     * @param directorPhotoLookup 새로 추가되는 감독의 사진 URL 조회 (기존 감독은 호출하지 않음, null이면 사진 없이 추가)
+     * @param actorPhotoLookup 새로 추가되는 배우의 사진 URL 조회 (기존 배우는 호출하지 않음, null이면 사진 없이 추가)
+     * @return movieCd → movie_detail_id
+     */
+    public Map<String, Long> write(List<ParsedMovie> movies,
+                                   Function<String, String> directorPhotoLookup,
+                                   Function<String, String> actorPhotoLookup) {
+        if (movies.isEmpty()) {
+            return Map.of();
+        }
+        long startTime = System.currentTimeMillis();
+        Set<String> directorNames = new LinkedHashSet<>();
+        Set<String> actorNames = new LinkedHashSet<>();
+        Set<String> tagNames = new LinkedHashSet<>();
+        for (ParsedMovie movie : movies) {
+            addName(directorNames, movie.directorName());
+            for (ParsedCast cast : nullToEmpty(movie.casts())) {
+                addName(actorNames, cast.actorName());
+            }
+            for (String tag : nullToEmpty(movie.tags())) {
+                addName(tagNames, tag);
+            }
+        }
+
+        // 없는 인물만 사진 조회 (외부 API라 트랜잭션 밖에서)
+        Map<String, String> directorPhotos = lookupMissing("director", directorNames, directorPhotoLookup);
+        Map<String, String> actorPhotos = lookupMissing("actor", actorNames, actorPhotoLookup);
+
+        Map<String, Long> detailIds = transactionTemplate.execute(status -> {
+            entityManager.flush(); // 같은 트랜잭션에서 JPA로 바꾼 내용(지운 상세정보 등)을 먼저 반영
+            Map<String, Long> directorIds = upsertNames("director", directorNames, directorPhotos);
+            Map<String, Long> actorIds = upsertNames("actor", actorNames, actorPhotos);
+            Map<String, Long> tagIds = upsertNames("tag", tagNames, null);
+            Map<String, Long> ids = upsertMovieDetails(movies, directorIds);
+            replaceCasts(movies, ids, actorIds);
+            addTags(movies, ids, tagIds);
+            for (ParsedMovie movie : movies) {
+                movieSearchIndexService.reindex(movie.detail().getMovieCd()); // 커밋 후 반영
+            }
+            return ids;
+        });
+        log.info("영화 일괄 저장 완료: 영화 {}건, 감독 {}명, 배우 {}명, 태그 {}개 ({}ms)",
+                movies.size(), directorNames.size(), actorNames.size(), tagNames.size(),
+                System.currentTimeMillis() - startTime);
+        return detailIds;
+    }
+
+    private Map<String, String> lookupMissing(String table, Set<String> names, Function<String, String> lookup) {
+        Map<String, String> photos = new ConcurrentHashMap<>();
+        if (names.isEmpty() || lookup == null) {
+            return photos;
+        }
+        Map<String, Long> existing = findIdsByName(table, names);
+        List<String> missing = names.stream().filter(name -> !existing.containsKey(name)).toList();
+        if (missing.isEmpty()) {
+            return photos;
+        }
+        // 동시에 조회 (호출 한도는 lookup 안의 IngestionPipeline.get이 지킴)
+        // 파이프라인 작업 안에서도 불리므로 작업 슬롯(세마포어)을 쓰지 않는 가상 스레드로 실행
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String name : missing) {
+                executor.execute(() -> {
+                    String photoUrl = lookup.apply(name);
+                    if (photoUrl != null) {
+                        photos.put(name, photoUrl);
+                    }
+                });
+            }
+        }
+        return photos;
+    }
+
+    /**
+     * 이름 → id (없는 이름은 배치 업서트, photos가 null이면 photo_url 컬럼 없는 테이블)
+     * 조회와 INSERT 사이에 다른 배치가 같은 이름을 넣었으면 유니크 키에 걸려 기존 행을 그대로 두고(사진만 비어 있으면 채움),
+     * 재조회로 그 행의 id를 읽음
+     */
+    private Map<String, Long> upsertNames(String table, Set<String> names, Map<String, String> photos) {
+        if (names.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, Long> ids = findIdsByName(table, names);
+        List<String> missing = names.stream().filter(name -> !ids.containsKey(name)).toList();
+        if (missing.isEmpty()) {
+            return ids;
+        }
+        if (photos != null) {
+            jdbcTemplate.batchUpdate("INSERT INTO " + table + " (name, photo_url) VALUES (?, ?) " +
+                    "ON DUPLICATE KEY UPDATE photo_url = COALESCE(photo_url, VALUES(photo_url))", missing, missing.size(),
+                    (ps, name) -> {
+                        ps.setString(1, name);
+                        ps.setString(2, photos.get(name));
+                    });
+        } else {
+            jdbcTemplate.batchUpdate("INSERT INTO " + table + " (name) VALUES (?) ON DUPLICATE KEY UPDATE name = name",
+                    missing, missing.size(),
+                    (ps, name) -> ps.setString(1, name));
+        }
+        ids.putAll(findIdsByName(table, missing));
+        return ids;
+    }
+
+    private Map<String, Long> findIdsByName(String table, Collection<String> names) {
+        Map<String, Long> ids = new HashMap<>();
+        for (List<String> chunk : chunks(names)) {
+            jdbcTemplate.query("SELECT id, name FROM " + table + " WHERE name IN (" + placeholders(chunk.size()) + ")",
+                    rs -> {
+                        ids.put(rs.getString("name"), rs.getLong("id"));
+                    }, chunk.toArray());
+        }
+        return ids;
+    }
+
+    private Map<String, Long> upsertMovieDetails(List<ParsedMovie> movies, Map<String, Long> directorIds) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO movie_detail (movie_cd, movie_nm, movie_nm_en, prdt_year, show_tm, open_dt, prdt_stat_nm, " +
+                "type_nm, genre_nm, nation_nm, watch_grade_nm, company_nm, description, audits, director_id, " +
+                "reservation_rank, reservation_rate, days_since_release, total_audience, average_rating) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0, 0, 0, 0) " +
+                "ON DUPLICATE KEY UPDATE movie_nm = VALUES(movie_nm), movie_nm_en = VALUES(movie_nm_en), " +
+                "prdt_year = COALESCE(VALUES(prdt_year), prdt_year), show_tm = VALUES(show_tm), " +
+                "open_dt = COALESCE(VALUES(open_dt), open_dt), prdt_stat_nm = COALESCE(VALUES(prdt_stat_nm), prdt_stat_nm), " +
+                "type_nm = COALESCE(VALUES(type_nm), type_nm), genre_nm = VALUES(genre_nm), nation_nm = VALUES(nation_nm), " +
+                "watch_grade_nm = VALUES(watch_grade_nm), company_nm = VALUES(company_nm), description = VALUES(description), " +
+                "audits = COALESCE(VALUES(audits), audits), director_id = COALESCE(VALUES(director_id), director_id)",
+                movies, movies.size(), (ps, movie) -> {
+                    MovieDetail detail = movie.detail();
+                    ps.setString(1, detail.getMovieCd());
+                    ps.setString(2, detail.getMovieNm());
+                    ps.setString(3, detail.getMovieNmEn());
+                    ps.setString(4, detail.getPrdtYear());
+                    ps.setInt(5, detail.getShowTm());
+                    ps.setDate(6, detail.getOpenDt() != null ? Date.valueOf(detail.getOpenDt()) : null);
+                    ps.setString(7, detail.getPrdtStatNm());
+                    ps.setString(8, detail.getTypeNm());
+                    ps.setString(9, detail.getGenreNm());
+                    ps.setString(10, detail.getNationNm());
+                    ps.setString(11, detail.getWatchGradeNm());
+                    ps.setString(12, detail.getCompanyNm());
+                    ps.setString(13, detail.getDescription());
+                    ps.setString(14, detail.getAudits());
+                    Long directorId = movie.directorName() != null ? directorIds.get(movie.directorName().trim()) : null;
+                    if (directorId != null) {
+                        ps.setLong(15, directorId);
+                    } else {
+                        ps.setNull(15, Types.BIGINT);
+                    }
+                });
+
+        Map<String, Long> ids = new HashMap<>();
+        List<String> movieCds = movies.stream().map(movie -> movie.detail().getMovieCd()).toList();
+        for (List<String> chunk : chunks(movieCds)) {
+            jdbcTemplate.query("SELECT movie_detail_id, movie_cd FROM movie_detail WHERE movie_cd IN (" +
+                    placeholders(chunk.size()) + ")",
+                    rs -> {
+                        ids.put(rs.getString("movie_cd"), rs.getLong("movie_detail_id"));
+                    }, chunk.toArray());
+        }
+        return ids;
+    }
+
+    private void replaceCasts(List<ParsedMovie> movies, Map<String, Long> detailIds, Map<String, Long> actorIds) {
+        List<Long> replaced = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+        for (ParsedMovie movie : movies) {
+            Long detailId = detailIds.get(movie.detail().getMovieCd());
+            List<ParsedCast> casts = nullToEmpty(movie.casts());
+            if (detailId == null || casts.isEmpty()) {
+                continue; // 출연진 정보가 없으면 기존 출연진 유지
+            }
+            replaced.add(detailId);
+            int order = 1;
+            for (ParsedCast cast : casts) {
+                Long actorId = cast.actorName() != null ? actorIds.get(cast.actorName().trim()) : null;
+                if (actorId == null) {
+                    continue;
+                }
+                rows.add(new Object[] {detailId, actorId,
+                        cast.roleType() != null ? cast.roleType().name() : null, cast.characterName(), order++});
+            }
+        }
+        for (List<Long> chunk : chunks(replaced)) {
+            jdbcTemplate.update("DELETE FROM casts WHERE movie_detail_id IN (" + placeholders(chunk.size()) + ")",
+                    chunk.toArray());
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO casts (movie_detail_id, actor_id, role_type, character_name, " +
+                    "order_in_credits) VALUES (?, ?, ?, ?, ?)", rows);
+        }
+    }
+
+    private void addTags(List<ParsedMovie> movies, Map<String, Long> detailIds, Map<String, Long> tagIds) {
+        List<Object[]> rows = new ArrayList<>();
+        for (ParsedMovie movie : movies) {
+            Long detailId = detailIds.get(movie.detail().getMovieCd());
+            if (detailId == null) {
+                continue;
+            }
+            for (String tag : new LinkedHashSet<>(nullToEmpty(movie.tags()))) {
+                Long tagId = tag != null ? tagIds.get(tag.trim()) : null;
+                if (tagId != null) {
+                    rows.add(new Object[] {detailId, tagId, detailId, tagId});
+                }
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO movie_detail_tag (movie_detail_id, tag_id) SELECT ?, ? FROM DUAL " +
+                    "WHERE NOT EXISTS (SELECT 1 FROM movie_detail_tag WHERE movie_detail_id = ? AND tag_id = ?)", rows);
+        }
+    }
+
+    private static void addName(Set<String> names, String name) {
+        if (name != null && !name.isBlank()) {
+            names.add(name.trim());
+        }
+    }
+
+    private static <T> List<T> nullToEmpty(List<T> list) {
+        return list != null ? list : Collections.emptyList();
+    }
+
+    static <T> List<List<T>> chunks(Collection<T> values) {
+        List<T> list = new ArrayList<>(values);
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < list.size(); from += IN_CHUNK_SIZE) {
+            chunks.add(list.subList(from, Math.min(list.size(), from + IN_CHUNK_SIZE)));
+        }
+        return chunks;
+    }
+
+    static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
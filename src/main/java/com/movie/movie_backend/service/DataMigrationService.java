@@ -97,30 +97,14 @@ public class DataMigrationService {
 
     /**
      * KOBIS API에서 영화 상세정보를 가져와서 DB에 동기화
+     * (KOBIS 호출은 동시에, 저장은 묶음 단위 JDBC 배치로)
      */
-    @Transactional
     public void syncMovieDetailsFromKobis(List<String> movieCodes) {
         log.info("KOBIS API에서 영화 상세정보 동기화 시작: {}개 영화", movieCodes.size());
         
-        int successCount = 0;
-        int failCount = 0;
-        
-        for (String movieCode : movieCodes) {
-            try {
-                MovieDetail movieDetail = kobisApiService.fetchAndSaveMovieDetail(movieCode);
-                log.info("영화 상세정보 동기화 성공: {} - {}", movieCode, movieDetail.getMovieNm());
-                successCount++;
-                
-                // API 호출 제한 고려 (초당 10회 제한)
-                Thread.sleep(200);
-                
-            } catch (Exception e) {
-                log.error("영화 상세정보 동기화 실패: {}", movieCode, e);
-                failCount++;
-            }
-        }
+        int successCount = kobisApiService.fetchAndSaveMovieDetails(movieCodes);
         
-        log.info("KOBIS API 상세정보 동기화 완료: 성공={}, 실패={}", successCount, failCount);
+        log.info("KOBIS API 상세정보 동기화 완료: 성공={}, 실패={}", successCount, movieCodes.size() - successCount);
     }
 
     /**
@@ -212,10 +196,10 @@ public class DataMigrationService {
 
     /**
      * 누락된 MovieDetail 채워넣기
+     * (KOBIS 호출은 동시에, 저장은 묶음 단위 JDBC 배치로)
      */
-    @Transactional
     public void fillMissingMovieDetails() {
-        List<String> missingMovieCds = findMovieListWithoutDetail();
+        List<String> missingMovieCds = movieListRepository.findMovieCdsWithoutDetail();
         
         if (missingMovieCds.isEmpty()) {
             log.info("누락된 MovieDetail이 없습니다.");
@@ -224,41 +208,9 @@ public class DataMigrationService {
         
         log.info("누락된 MovieDetail {}개 채워넣기 시작", missingMovieCds.size());
         
-        int successCount = 0;
-        int failCount = 0;
-        
-        for (String movieCd : missingMovieCds) {
-            try {
-                MovieList movieList = movieListRepository.findById(movieCd).orElse(null);
-                if (movieList == null) {
-                    log.warn("MovieList를 찾을 수 없음: {}", movieCd);
-                    failCount++;
-                    continue;
-                }
-                
-                log.info("누락된 MovieDetail 채워넣기 시도: {} ({})", movieList.getMovieNm(), movieCd);
-                
-                // KOBIS API로 MovieDetail 가져오기
-                MovieDetail movieDetail = kobisApiService.fetchAndSaveMovieDetail(movieCd);
-                
-                if (movieDetail != null) {
-                    successCount++;
-                    log.info("MovieDetail 채워넣기 성공: {} ({})", movieList.getMovieNm(), movieCd);
-                } else {
-                    failCount++;
-                    log.warn("MovieDetail 채워넣기 실패: {} ({})", movieList.getMovieNm(), movieCd);
-                }
-                
-                // API 호출 제한을 위한 딜레이
-                Thread.sleep(100);
-                
-            } catch (Exception e) {
-                failCount++;
-                log.error("MovieDetail 채워넣기 실패: {} - {}", movieCd, e.getMessage());
-            }
-        }
+        int successCount = kobisApiService.fetchAndSaveMovieDetails(missingMovieCds);
         
-        log.info("누락된 MovieDetail 채워넣기 완료: 성공={}, 실패={}", successCount, failCount);
+        log.info("누락된 MovieDetail 채워넣기 완료: 성공={}, 실패={}", successCount, missingMovieCds.size() - successCount);
     }
 
     /**
@@ -0,0 +1,316 @@
+package com.movie.movie_backend.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * 외부 API(TMDB/KOBIS/KMDb/네이버) 동기화 작업 공통 실행기
+ * - 외부 API별 토큰 버킷으로 초당 호출 수 제한 (여러 작업이 동시에 돌아도 합쳐서 한도 안에서 호출)
+ * - 작업 항목은 가상 스레드에서 실행하되 동시에 실행되는 항목 수는 max-concurrency로 제한
+ * - 429/5xx/네트워크 오류는 지수 백오프 + 지터로 재시도 (Retry-After가 있으면 그 이상 대기)
+ * - GET 응답은 UpstreamResponseCache를 거침 (TTL 안이면 호출 안 함, 지나면 조건부 요청, 200으로 온 오류 응답은 캐시 안 함)
+ * 작업(submit)은 CompletableFuture를 돌려주므로 여러 작업을 동시에 실행하고 한꺼번에 기다릴 수 있다.
+ */
+@Slf4j
+@Service
+public class IngestionPipeline {
+
+    public enum Upstream { TMDB, KOBIS, KMDB, NAVER }
+
+    private static final int ERROR_PREFIX_LENGTH = 64;
+
+    /**
+     * 작업 하나의 결과
+     */
+    public record JobResult(String job, int total, int succeeded, int failed, long elapsedMillis) {
+    }
+
+    private final WebClient webClient;
+    private final UpstreamResponseCache responseCache;
+    private final Map<Upstream, TokenBucket> limiters = new EnumMap<>(Upstream.class);
+    private final Map<Upstream, LongAdder[]> counters = new EnumMap<>(Upstream.class); // 요청, 재시도, 실패
+    private final Semaphore workers;
+    private final int maxConcurrency;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long maxBackoffMillis;
+    private final Duration timeout;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicInteger runningJobs = new AtomicInteger();
+
+    public IngestionPipeline(WebClient.Builder webClientBuilder,
+                             UpstreamResponseCache responseCache,
+                             @Value("${ingest.tmdb.rate-per-second:40}") double tmdbRate,
+                             @Value("${ingest.kobis.rate-per-second:10}") double kobisRate,
+                             @Value("${ingest.kmdb.rate-per-second:10}") double kmdbRate,
+                             @Value("${ingest.naver.rate-per-second:10}") double naverRate,
+                             @Value("${ingest.max-concurrency:16}") int maxConcurrency,
+                             @Value("${ingest.max-attempts:4}") int maxAttempts,
+                             @Value("${ingest.backoff-ms:500}") long backoffMillis,
+                             @Value("${ingest.max-backoff-ms:10000}") long maxBackoffMillis,
+                             @Value("${ingest.timeout-ms:15000}") long timeoutMillis) {
+        this.webClient = webClientBuilder
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(4 * 1024 * 1024)) // credits 포함 응답 대비
+                .build();
+        this.responseCache = responseCache;
+        limiters.put(Upstream.TMDB, new TokenBucket(tmdbRate, Math.max(1, (int) tmdbRate)));
+        limiters.put(Upstream.KOBIS, new TokenBucket(kobisRate, Math.max(1, (int) kobisRate)));
+        limiters.put(Upstream.KMDB, new TokenBucket(kmdbRate, Math.max(1, (int) kmdbRate)));
+        limiters.put(Upstream.NAVER, new TokenBucket(naverRate, Math.max(1, (int) naverRate)));
+        for (Upstream upstream : Upstream.values()) {
+            counters.put(upstream, new LongAdder[] {new LongAdder(), new LongAdder(), new LongAdder()});
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.workers = new Semaphore(maxConcurrency, true);
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.timeout = Duration.ofMillis(timeoutMillis);
+    }
+
+    /**
+     * 외부 API GET (응답 캐시 + 호출 한도 대기 + 재시도 포함, 블로킹)
+     * @return 응답 본문, 404면 null
+     */
+    public String get(Upstream upstream, String url) {
+        return get(upstream, url, Map.of());
+    }
+
+    /**
+     * 요청 헤더가 필요한 외부 API GET (헤더는 캐시 키에 들어가지 않음)
+     */
+    public String get(Upstream upstream, String url, Map<String, String> headers) {
+        return responseCache.get(url, (etag, lastModified) -> fetch(upstream, url, headers, etag, lastModified),
+                body -> isCacheable(upstream, body));
+    }
+
+    /**
+     * 200으로 오는 오류 응답은 캐시하지 않음
+     * - KOBIS: 한도 초과/키 오류도 200 + {"faultInfo": {...}}
+     * - TMDB: 오류 본문은 {"success": false, "status_code": ..., "status_message": ...}
+     * 두 경우 모두 최상위 첫 필드라 앞부분만 확인
+     */
+    static boolean isCacheable(Upstream upstream, String body) {
+        String head = body.length() > ERROR_PREFIX_LENGTH ? body.substring(0, ERROR_PREFIX_LENGTH) : body;
+        return switch (upstream) {
+            case KOBIS -> !head.contains("\"faultInfo\"");
+            case TMDB -> !head.contains("\"status_code\"");
+            default -> true;
+        };
+    }
+
+    private UpstreamResponseCache.Response fetch(Upstream upstream, String url, Map<String, String> headers,
+                                                 String etag, String lastModified) {
+        TokenBucket limiter = limiters.get(upstream);
+        LongAdder[] counter = counters.get(upstream);
+        for (int attempt = 1; ; attempt++) {
+            long retryAfterMillis = 0;
+            try {
+                limiter.acquire();
+                counter[0].increment();
+                ResponseEntity<String> response = webClient.get()
+                        .uri(URI.create(url))
+                        .headers(httpHeaders -> {
+                            headers.forEach(httpHeaders::set);
+                            if (etag != null) {
+                                httpHeaders.setIfNoneMatch(etag);
+                            } else if (lastModified != null) {
+                                httpHeaders.set(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+                            }
+                        })
+                        .retrieve()
+                        .toEntity(String.class)
+                        .block(timeout);
+                if (response == null) {
+                    return new UpstreamResponseCache.Response(false, null, null, null);
+                }
+                return new UpstreamResponseCache.Response(response.getStatusCode().value() == 304, response.getBody(),
+                        response.getHeaders().getETag(), response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED));
+            } catch (WebClientResponseException e) {
+                if (e.getStatusCode().value() == 404) {
+                    return new UpstreamResponseCache.Response(false, null, null, null);
+                }
+                if (!isRetryable(e.getStatusCode()) || attempt >= maxAttempts) {
+                    counter[2].increment();
+                    throw e;
+                }
+                retryAfterMillis = retryAfterMillis(e.getHeaders().getFirst("Retry-After"));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("외부 API 호출 대기 중 중단됨", e);
+            } catch (RuntimeException e) {
+                // 연결 실패, 타임아웃
+                if (attempt >= maxAttempts) {
+                    counter[2].increment();
+                    throw e;
+                }
+            }
+            counter[1].increment();
+            long sleepMillis = Math.max(retryAfterMillis, backoff(attempt, backoffMillis, maxBackoffMillis));
+            log.debug("외부 API 재시도 {}/{}: {} {}ms 후", attempt, maxAttempts, upstream, sleepMillis);
+            try {
+                Thread.sleep(sleepMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("외부 API 재시도 대기 중 중단됨", e);
+            }
+        }
+    }
+
+    /**
+     * 항목마다 task를 가상 스레드에서 실행 (동시 실행 수는 파이프라인 전체에서 max-concurrency 이하)
+     * task가 true면 성공, false나 예외면 실패로 센다.
+     */
+    public <T> CompletableFuture<JobResult> submit(String job, Collection<T> items, Predicate<T> task) {
+        long startTime = System.currentTimeMillis();
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        runningJobs.incrementAndGet();
+        log.info("수집 작업 시작: {} ({}건)", job, items.size());
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(items.size());
+        for (T item : items) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    workers.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failed.incrementAndGet();
+                    return;
+                }
+                try {
+                    if (task.test(item)) {
+                        succeeded.incrementAndGet();
+                    } else {
+                        failed.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    failed.incrementAndGet();
+                    log.warn("수집 작업 항목 실패: {} - {}", job, e.getMessage());
+                } finally {
+                    workers.release();
+                }
+            }, executor));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .handle((ignored, error) -> {
+                    runningJobs.decrementAndGet();
+                    JobResult result = new JobResult(job, items.size(), succeeded.get(), failed.get(),
+                            System.currentTimeMillis() - startTime);
+                    log.info("수집 작업 완료: {} - 성공 {}건, 실패 {}건 ({}ms)",
+                            job, result.succeeded(), result.failed(), result.elapsedMillis());
+                    return result;
+                });
+    }
+
+    /**
+     * 외부 API별 호출/재시도/실패 수, 실행 중 작업 수
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("runningJobs", runningJobs.get());
+        stats.put("maxConcurrency", maxConcurrency);
+        stats.put("activeWorkers", maxConcurrency - workers.availablePermits());
+        stats.put("cache", responseCache.getStats());
+        for (Upstream upstream : Upstream.values()) {
+            LongAdder[] counter = counters.get(upstream);
+            stats.put(upstream.name().toLowerCase(), Map.of(
+                    "ratePerSecond", limiters.get(upstream).ratePerSecond,
+                    "requests", counter[0].sum(),
+                    "retries", counter[1].sum(),
+                    "failures", counter[2].sum()));
+        }
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static boolean isRetryable(HttpStatusCode status) {
+        return status.value() == 429 || status.is5xxServerError();
+    }
+
+    private static long retryAfterMillis(String retryAfter) {
+        if (retryAfter == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(retryAfter.trim()) * 1000;
+        } catch (NumberFormatException e) {
+            return 0; // HTTP-date 형식은 무시하고 백오프만 적용
+        }
+    }
+
+    /**
+     * attempt번째 실패 후 대기 시간: base * 2^(attempt-1)의 절반 + 나머지 절반 안에서 무작위 (최대 max)
+     */
+    static long backoff(int attempt, long baseMillis, long maxMillis) {
+        long ceiling = Math.min(maxMillis, baseMillis << Math.min(attempt - 1, 20));
+        long half = ceiling / 2;
+        return half + ThreadLocalRandom.current().nextLong(ceiling - half + 1);
+    }
+
+    /**
+     * 토큰 버킷 (초당 ratePerSecond개 충전, 최대 capacity개)
+     * 토큰이 없으면 미리 예약하고(음수 허용) 충전될 때까지 잠들어서, 대기 중인 호출도 순서대로 한도 안에서 나감
+     */
+    static final class TokenBucket {
+        private final double ratePerSecond;
+        private final double capacity;
+        private final double nanosPerToken;
+        private double tokens;
+        private long lastRefillNanos;
+
+        TokenBucket(double ratePerSecond, int capacity) {
+            this.ratePerSecond = ratePerSecond;
+            this.capacity = capacity;
+            this.nanosPerToken = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+            this.tokens = capacity;
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        void acquire() throws InterruptedException {
+            long waitNanos = reserve(System.nanoTime());
+            if (waitNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+        }
+
+        /**
+         * 토큰 하나 예약, 사용 가능해질 때까지 기다려야 하는 시간(ns)
+         */
+        synchronized long reserve(long nowNanos) {
+            tokens = Math.min(capacity, tokens + (nowNanos - lastRefillNanos) / nanosPerToken);
+            lastRefillNanos = nowNanos;
+            tokens -= 1;
+            return tokens >= 0 ? 0 : (long) (-tokens * nanosPerToken);
+        }
+    }
+}
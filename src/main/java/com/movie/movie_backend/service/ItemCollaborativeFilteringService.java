@@ -0,0 +1,562 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.dto.RecommendationDto;
+import com.movie.movie_backend.repository.REVLikeRepository;
+import com.movie.movie_backend.repository.REVRatingRepository;
+import com.movie.movie_backend.repository.ReviewLikeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 아이템 기반 협업 필터링 ("나와 취향이 비슷한 사용자들이 좋아한 영화")
+ * - 상호작용: 평점(3.0 이상, 점수/5), 찜(1.0), 리뷰 좋아요(해당 영화에 0.5), 사용자·영화별 최댓값
+ * - 사용자×영화 희소 행렬을 행마다 int[]/float[]로 보관하고, 영화별로 코사인 유사도 상위 N개 이웃만 유지
+ * - 찜/평점/리뷰 좋아요가 바뀐 사용자만 모아 두었다가 주기적으로 그 사용자 행과 영향받는 영화의 이웃만 다시 계산,
+ *   하루 한 번 전체 재구축
+ * - 모델은 불변 스냅샷으로 통째로 교체 (조회 중 잠금 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ItemCollaborativeFilteringService {
+
+    static final double MIN_POSITIVE_RATING = 3.0;
+    static final float LIKE_WEIGHT = 1.0f;
+    static final float REVIEW_LIKE_WEIGHT = 0.5f;
+    static final float POSITIVE_WEIGHT = 0.8f; // 평가 정답 기준: 찜 또는 평점 4.0 이상
+    static final int MAX_ITEMS_PER_USER = 500;
+    static final float SHRINK = 5.0f; // 함께 본 사용자가 적은 쌍의 유사도를 낮춤
+    static final String REASON = "취향이 비슷한 사용자들이 좋아함";
+    private static final int QUERY_CHUNK_SIZE = 1000;
+
+    private final REVRatingRepository ratingRepository;
+    private final REVLikeRepository likeRepository;
+    private final ReviewLikeRepository reviewLikeRepository;
+    private final RecommendationFeatureService recommendationFeatureService;
+
+    @Value("${recommendation.cf.neighbours:50}")
+    private int neighbourCount = 50;
+
+    private volatile Model model = Model.EMPTY;
+    private volatile long lastBuildMillis;
+    private final Set<Long> dirtyUsers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 협업 필터링 모델 스냅샷
+     */
+    static final class Model {
+        static final Model EMPTY = new Model(0, new long[0], Map.of(), Map.of(),
+                new int[0][], new float[0][], new int[0][], new float[0][]);
+
+        final long version;
+        final long[] movieIds; // 아이템 인덱스 → 영화 ID
+        final Map<Long, Integer> itemIndex;
+        final Map<Long, Integer> userIndex;
+        final int[][] userItems; // 사용자 행: 아이템 인덱스 오름차순
+        final float[][] userWeights;
+        final int[][] neighbourItems; // 아이템별 이웃: 유사도 내림차순
+        final float[][] neighbourSims;
+
+        Model(long version, long[] movieIds, Map<Long, Integer> itemIndex, Map<Long, Integer> userIndex,
+              int[][] userItems, float[][] userWeights, int[][] neighbourItems, float[][] neighbourSims) {
+            this.version = version;
+            this.movieIds = movieIds;
+            this.itemIndex = itemIndex;
+            this.userIndex = userIndex;
+            this.userItems = userItems;
+            this.userWeights = userWeights;
+            this.neighbourItems = neighbourItems;
+            this.neighbourSims = neighbourSims;
+        }
+
+        long interactionCount() {
+            long count = 0;
+            for (int[] row : userItems) {
+                count += row.length;
+            }
+            return count;
+        }
+    }
+
+    /**
+     * 점수 상위 영화 (movieIds/scores 같은 순서, 점수 내림차순)
+     */
+    record Scored(long[] movieIds, float[] scores) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 매일 새벽 전체 재구축 (증분 갱신으로 쌓인 오차 정리)
+     */
+    @Scheduled(cron = "${recommendation.cf.rebuild-cron:0 0 5 * * *}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * 상호작용이 바뀐 사용자만 증분 반영
+     */
+    @Scheduled(fixedDelayString = "${recommendation.cf.update-interval-ms:60000}", initialDelay = 60000)
+    public synchronized void applyPendingChanges() {
+        if (dirtyUsers.isEmpty()) {
+            return;
+        }
+        List<Long> userIds = new ArrayList<>(dirtyUsers);
+        dirtyUsers.removeAll(userIds);
+        long startTime = System.currentTimeMillis();
+        try {
+            Map<Long, Map<Long, Float>> changed = new HashMap<>();
+            userIds.forEach(userId -> changed.put(userId, new HashMap<>())); // 상호작용이 모두 없어진 사용자도 반영
+            for (int from = 0; from < userIds.size(); from += QUERY_CHUNK_SIZE) {
+                List<Long> chunk = userIds.subList(from, Math.min(from + QUERY_CHUNK_SIZE, userIds.size()));
+                changed.putAll(loadInteractions(chunk, null));
+            }
+            model = update(model, changed, neighbourCount);
+            log.debug("협업 필터링 증분 갱신: 사용자 {}명, {}ms", userIds.size(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            dirtyUsers.addAll(userIds);
+            log.warn("협업 필터링 증분 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 전체 상호작용으로 모델 재구축
+     */
+    public synchronized void rebuild() {
+        long startTime = System.currentTimeMillis();
+        dirtyUsers.clear(); // 불러오는 중 바뀐 사용자는 다시 표시되어 다음 증분 갱신에서 반영
+        try {
+            Model built = update(Model.EMPTY, loadInteractions(null, null), neighbourCount);
+            model = new Model(model.version + 1, built.movieIds, built.itemIndex, built.userIndex,
+                    built.userItems, built.userWeights, built.neighbourItems, built.neighbourSims);
+            lastBuildMillis = System.currentTimeMillis() - startTime;
+            log.info("협업 필터링 모델 구축 완료: 사용자 {}명, 영화 {}편, 상호작용 {}건, {}ms",
+                    built.userItems.length, built.movieIds.length, built.interactionCount(), lastBuildMillis);
+        } catch (Exception e) {
+            log.error("협업 필터링 모델 구축 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 찜/평점/리뷰 좋아요가 바뀐 사용자 표시 (커밋 후, 다음 증분 갱신에서 반영)
+     */
+    public void markUserDirty(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dirtyUsers.add(userId);
+                }
+            });
+        } else {
+            dirtyUsers.add(userId);
+        }
+    }
+
+    /**
+     * 사용자 협업 필터링 추천 상위 limit개 (이미 평가/찜한 영화 제외)
+     */
+    public List<RecommendationDto> recommend(Long userId, int limit) {
+        Model current = model;
+        Integer u = userId != null ? current.userIndex.get(userId) : null;
+        if (u == null || limit <= 0) {
+            return new ArrayList<>();
+        }
+        long[] excluded = ratingRepository.findMovieIdsByUserIdAndMinScore(userId, 0.0).stream()
+                .mapToLong(Long::longValue).sorted().toArray();
+        Scored scored = score(current, current.userItems[u], current.userWeights[u], excluded, limit);
+        int[] scores = new int[scored.scores().length];
+        for (int r = 0; r < scores.length; r++) {
+            scores[r] = Math.round(scored.scores()[r] * 100);
+        }
+        return recommendationFeatureService.describe(scored.movieIds(), scores, REASON);
+    }
+
+    /**
+     * 오프라인 precision@K 평가
+     * - 정답 상호작용(찜/평점 4.0 이상)이 3개 이상인 사용자마다 가장 최근 20%(최소 1개)를 숨기고 나머지로 모델을 학습
+     * - 학습 모델의 상위 K개 중 숨긴 영화 비율(precision), 숨긴 영화 중 맞춘 비율(recall), 인기순 기준선과 비교
+     */
+    public Map<String, Object> evaluate(int k, int maxUsers) {
+        long startTime = System.currentTimeMillis();
+        Map<Long, Map<Long, Long>> times = new HashMap<>();
+        Map<Long, Map<Long, Float>> all = loadInteractions(null, times);
+
+        Map<Long, Map<Long, Float>> train = new HashMap<>();
+        Map<Long, Set<Long>> holdout = new LinkedHashMap<>();
+        List<Long> userIds = new ArrayList<>(all.keySet());
+        userIds.sort(null);
+        for (Long userId : userIds) {
+            Map<Long, Float> row = new HashMap<>(all.get(userId));
+            List<Long> positives = new ArrayList<>();
+            row.forEach((movieId, weight) -> {
+                if (weight >= POSITIVE_WEIGHT) {
+                    positives.add(movieId);
+                }
+            });
+            if (positives.size() >= 3 && holdout.size() < maxUsers) {
+                Map<Long, Long> userTimes = times.getOrDefault(userId, Map.of());
+                positives.sort(Comparator.comparingLong((Long movieId) -> userTimes.getOrDefault(movieId, 0L))
+                        .thenComparing(Comparator.naturalOrder()));
+                Set<Long> hidden = new HashSet<>(
+                        positives.subList(positives.size() - Math.max(1, positives.size() / 5), positives.size()));
+                hidden.forEach(row::remove);
+                holdout.put(userId, hidden);
+            }
+            train.put(userId, row);
+        }
+
+        Model trained = update(Model.EMPTY, train, neighbourCount);
+        long trainMillis = System.currentTimeMillis() - startTime;
+
+        // 인기순 기준선: 학습 데이터에서 상호작용이 많은 순
+        Map<Long, Integer> popularity = new HashMap<>();
+        train.values().forEach(row -> row.keySet().forEach(movieId -> popularity.merge(movieId, 1, Integer::sum)));
+        List<Long> popular = new ArrayList<>(popularity.keySet());
+        popular.sort(Comparator.comparingInt((Long movieId) -> popularity.get(movieId)).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+
+        double precisionSum = 0;
+        double recallSum = 0;
+        int hitUsers = 0;
+        double popularityPrecisionSum = 0;
+        for (Map.Entry<Long, Set<Long>> entry : holdout.entrySet()) {
+            Integer u = trained.userIndex.get(entry.getKey());
+            Set<Long> hidden = entry.getValue();
+            int hits = 0;
+            if (u != null) {
+                for (long movieId : score(trained, trained.userItems[u], trained.userWeights[u], new long[0], k).movieIds()) {
+                    if (hidden.contains(movieId)) {
+                        hits++;
+                    }
+                }
+            }
+            precisionSum += (double) hits / k;
+            recallSum += (double) hits / hidden.size();
+            if (hits > 0) {
+                hitUsers++;
+            }
+
+            Map<Long, Float> seen = train.get(entry.getKey());
+            int popularHits = 0;
+            int taken = 0;
+            for (int p = 0; p < popular.size() && taken < k; p++) {
+                Long movieId = popular.get(p);
+                if (seen.containsKey(movieId)) {
+                    continue;
+                }
+                taken++;
+                if (hidden.contains(movieId)) {
+                    popularHits++;
+                }
+            }
+            popularityPrecisionSum += (double) popularHits / k;
+        }
+
+        int evaluated = holdout.size();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("k", k);
+        result.put("evaluatedUsers", evaluated);
+        result.put("precisionAtK", evaluated > 0 ? precisionSum / evaluated : 0.0);
+        result.put("recallAtK", evaluated > 0 ? recallSum / evaluated : 0.0);
+        result.put("hitRateAtK", evaluated > 0 ? (double) hitUsers / evaluated : 0.0);
+        result.put("popularityPrecisionAtK", evaluated > 0 ? popularityPrecisionSum / evaluated : 0.0);
+        result.put("users", trained.userItems.length);
+        result.put("movies", trained.movieIds.length);
+        result.put("interactions", trained.interactionCount());
+        result.put("trainMillis", trainMillis);
+        result.put("totalMillis", System.currentTimeMillis() - startTime);
+        return result;
+    }
+
+    public Map<String, Object> getStats() {
+        Model current = model;
+        long neighbourTotal = 0;
+        for (int[] neighbours : current.neighbourItems) {
+            neighbourTotal += neighbours.length;
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("version", current.version);
+        stats.put("users", current.userItems.length);
+        stats.put("movies", current.movieIds.length);
+        stats.put("interactions", current.interactionCount());
+        stats.put("avgNeighbours", current.movieIds.length > 0 ? (double) neighbourTotal / current.movieIds.length : 0.0);
+        stats.put("pendingUsers", dirtyUsers.size());
+        stats.put("lastBuildMillis", lastBuildMillis);
+        return stats;
+    }
+
+    /**
+     * 상호작용 로드 (userIds가 null이면 전체), times가 있으면 사용자·영화별 최근 상호작용 시각(epoch ms)도 채움
+     */
+    private Map<Long, Map<Long, Float>> loadInteractions(Collection<Long> userIds, Map<Long, Map<Long, Long>> times) {
+        Map<Long, Map<Long, Float>> users = new HashMap<>();
+        List<Object[]> ratings = userIds == null ? ratingRepository.findInteractionRows()
+                : ratingRepository.findInteractionRowsByUserIds(userIds);
+        for (Object[] row : ratings) {
+            double score = ((Number) row[2]).doubleValue();
+            if (score >= MIN_POSITIVE_RATING) {
+                merge(users, times, row[0], row[1], (float) (score / 5.0), row[3]);
+            }
+        }
+        List<Object[]> likes = userIds == null ? likeRepository.findInteractionRows()
+                : likeRepository.findInteractionRowsByUserIds(userIds);
+        for (Object[] row : likes) {
+            merge(users, times, row[0], row[1], LIKE_WEIGHT, row[2]);
+        }
+        List<Object[]> reviewLikes = userIds == null ? reviewLikeRepository.findInteractionRows()
+                : reviewLikeRepository.findInteractionRowsByUserIds(userIds);
+        for (Object[] row : reviewLikes) {
+            merge(users, times, row[0], row[1], REVIEW_LIKE_WEIGHT, row[2]);
+        }
+        return users;
+    }
+
+    private static void merge(Map<Long, Map<Long, Float>> users, Map<Long, Map<Long, Long>> times,
+                              Object userId, Object movieId, float weight, Object createdAt) {
+        if (userId == null || movieId == null) {
+            return;
+        }
+        users.computeIfAbsent((Long) userId, id -> new HashMap<>()).merge((Long) movieId, weight, Math::max);
+        if (times != null && createdAt instanceof LocalDateTime time) {
+            long epochMillis = time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            times.computeIfAbsent((Long) userId, id -> new HashMap<>()).merge((Long) movieId, epochMillis, Math::max);
+        }
+    }
+
+    /**
+     * base 모델에 바뀐 사용자 행을 반영한 새 모델 (base는 그대로)
+     * 바뀐 사용자의 이전/현재 영화와 그 영화를 함께 본 영화의 이웃만 다시 계산한다.
+     */
+    static Model update(Model base, Map<Long, Map<Long, Float>> changedUsers, int neighbourCount) {
+        Map<Long, Integer> itemIndex = new HashMap<>(base.itemIndex);
+        long[] movieIds = base.movieIds;
+        int itemCount = movieIds.length;
+        for (Map<Long, Float> row : changedUsers.values()) {
+            for (Long movieId : row.keySet()) {
+                if (!itemIndex.containsKey(movieId)) {
+                    if (itemCount == movieIds.length) {
+                        movieIds = Arrays.copyOf(movieIds, Math.max(16, itemCount * 2));
+                    }
+                    movieIds[itemCount] = movieId;
+                    itemIndex.put(movieId, itemCount++);
+                }
+            }
+        }
+        movieIds = Arrays.copyOf(movieIds, itemCount);
+
+        Map<Long, Integer> userIndex = new HashMap<>(base.userIndex);
+        int userCount = base.userItems.length;
+        int[][] userItems = Arrays.copyOf(base.userItems, userCount + changedUsers.size());
+        float[][] userWeights = Arrays.copyOf(base.userWeights, userCount + changedUsers.size());
+        BitSet dirty = new BitSet(itemCount);
+        for (Map.Entry<Long, Map<Long, Float>> entry : changedUsers.entrySet()) {
+            Integer u = userIndex.get(entry.getKey());
+            if (u == null) {
+                u = userCount++;
+                userIndex.put(entry.getKey(), u);
+            } else {
+                for (int item : userItems[u]) {
+                    dirty.set(item);
+                }
+            }
+            List<Map.Entry<Long, Float>> interactions = new ArrayList<>(entry.getValue().entrySet());
+            if (interactions.size() > MAX_ITEMS_PER_USER) {
+                interactions.sort(Map.Entry.<Long, Float>comparingByValue().reversed());
+                interactions = interactions.subList(0, MAX_ITEMS_PER_USER);
+            }
+            long[] packed = new long[interactions.size()]; // 아이템 인덱스 << 32 | 가중치 비트 → 정렬
+            for (int k = 0; k < packed.length; k++) {
+                Map.Entry<Long, Float> interaction = interactions.get(k);
+                packed[k] = ((long) itemIndex.get(interaction.getKey()) << 32)
+                        | (Float.floatToIntBits(interaction.getValue()) & 0xFFFFFFFFL);
+            }
+            Arrays.sort(packed);
+            int[] items = new int[packed.length];
+            float[] weights = new float[packed.length];
+            for (int k = 0; k < packed.length; k++) {
+                items[k] = (int) (packed[k] >>> 32);
+                weights[k] = Float.intBitsToFloat((int) packed[k]);
+                dirty.set(items[k]);
+            }
+            userItems[u] = items;
+            userWeights[u] = weights;
+        }
+        userItems = Arrays.copyOf(userItems, userCount);
+        userWeights = Arrays.copyOf(userWeights, userCount);
+
+        // 영화별 사용자 열 (전치) + 노름
+        int[] columnSizes = new int[itemCount];
+        for (int[] row : userItems) {
+            for (int item : row) {
+                columnSizes[item]++;
+            }
+        }
+        int[][] itemUsers = new int[itemCount][];
+        float[][] itemUserWeights = new float[itemCount][];
+        for (int i = 0; i < itemCount; i++) {
+            itemUsers[i] = new int[columnSizes[i]];
+            itemUserWeights[i] = new float[columnSizes[i]];
+        }
+        int[] fill = new int[itemCount];
+        float[] norms = new float[itemCount];
+        for (int u = 0; u < userCount; u++) {
+            int[] items = userItems[u];
+            float[] weights = userWeights[u];
+            for (int k = 0; k < items.length; k++) {
+                int i = items[k];
+                itemUsers[i][fill[i]] = u;
+                itemUserWeights[i][fill[i]++] = weights[k];
+                norms[i] += weights[k] * weights[k];
+            }
+        }
+        for (int i = 0; i < itemCount; i++) {
+            norms[i] = (float) Math.sqrt(norms[i]);
+        }
+
+        // 이웃을 다시 계산할 영화: 바뀐 영화 + 그 영화와 함께 본 영화
+        BitSet affected = (BitSet) dirty.clone();
+        for (int i = dirty.nextSetBit(0); i >= 0; i = dirty.nextSetBit(i + 1)) {
+            for (int u : itemUsers[i]) {
+                for (int j : userItems[u]) {
+                    affected.set(j);
+                }
+            }
+        }
+
+        int[][] neighbourItems = Arrays.copyOf(base.neighbourItems, itemCount);
+        float[][] neighbourSims = Arrays.copyOf(base.neighbourSims, itemCount);
+        float[] dot = new float[itemCount];
+        int[] touched = new int[itemCount];
+        for (int i = affected.nextSetBit(0); i >= 0; i = affected.nextSetBit(i + 1)) {
+            int touchedCount = 0;
+            for (int a = 0; a < itemUsers[i].length; a++) {
+                int u = itemUsers[i][a];
+                float w = itemUserWeights[i][a];
+                int[] items = userItems[u];
+                float[] weights = userWeights[u];
+                for (int b = 0; b < items.length; b++) {
+                    int j = items[b];
+                    if (j == i) {
+                        continue;
+                    }
+                    if (dot[j] == 0f) {
+                        touched[touchedCount++] = j;
+                    }
+                    dot[j] += w * weights[b];
+                }
+            }
+            long[] heap = new long[Math.min(neighbourCount, touchedCount)];
+            int heapSize = 0;
+            for (int t = 0; t < touchedCount; t++) {
+                int j = touched[t];
+                float sim = dot[j] / (norms[i] * norms[j] + SHRINK);
+                dot[j] = 0f;
+                heapSize = offer(heap, heapSize, sim, j);
+            }
+            long[] ranked = Arrays.copyOf(heap, heapSize);
+            Arrays.sort(ranked);
+            int[] neighbours = new int[heapSize];
+            float[] sims = new float[heapSize];
+            for (int r = 0; r < heapSize; r++) {
+                long key = ranked[heapSize - 1 - r];
+                neighbours[r] = Integer.MAX_VALUE - (int) (key & 0xFFFFFFFFL);
+                sims[r] = Float.intBitsToFloat((int) (key >>> 32));
+            }
+            neighbourItems[i] = neighbours;
+            neighbourSims[i] = sims;
+        }
+        return new Model(base.version + 1, movieIds, itemIndex, userIndex,
+                userItems, userWeights, neighbourItems, neighbourSims);
+    }
+
+    /**
+     * 사용자 행(seed)의 이웃 유사도 가중합으로 상위 limit개 (seed와 excludedMovieIds(정렬됨)는 제외)
+     */
+    static Scored score(Model m, int[] seedItems, float[] seedWeights, long[] excludedMovieIds, int limit) {
+        int itemCount = m.movieIds.length;
+        float[] scores = new float[itemCount];
+        int[] touched = new int[itemCount];
+        int touchedCount = 0;
+        for (int s = 0; s < seedItems.length; s++) {
+            int[] neighbours = m.neighbourItems[seedItems[s]];
+            float[] sims = m.neighbourSims[seedItems[s]];
+            for (int n = 0; n < neighbours.length; n++) {
+                int j = neighbours[n];
+                if (scores[j] == 0f) {
+                    touched[touchedCount++] = j;
+                }
+                scores[j] += seedWeights[s] * sims[n];
+            }
+        }
+        long[] heap = new long[Math.max(0, Math.min(limit, touchedCount))];
+        int heapSize = 0;
+        for (int t = 0; t < touchedCount; t++) {
+            int j = touched[t];
+            if (Arrays.binarySearch(seedItems, j) >= 0
+                    || Arrays.binarySearch(excludedMovieIds, m.movieIds[j]) >= 0) {
+                continue;
+            }
+            heapSize = offer(heap, heapSize, scores[j], j);
+        }
+        long[] ranked = Arrays.copyOf(heap, heapSize);
+        Arrays.sort(ranked);
+        long[] movieIds = new long[heapSize];
+        float[] rankedScores = new float[heapSize];
+        for (int r = 0; r < heapSize; r++) {
+            long key = ranked[heapSize - 1 - r];
+            movieIds[r] = m.movieIds[Integer.MAX_VALUE - (int) (key & 0xFFFFFFFFL)];
+            rankedScores[r] = Float.intBitsToFloat((int) (key >>> 32));
+        }
+        return new Scored(movieIds, rankedScores);
+    }
+
+    /**
+     * 최소 힙에 (점수, 인덱스) 추가 (양수 float 비트는 정수 비교 순서가 같음, 동점이면 앞 인덱스 우선)
+     */
+    private static int offer(long[] heap, int heapSize, float score, int index) {
+        if (heap.length == 0 || !(score > 0f)) {
+            return heapSize;
+        }
+        long key = ((long) Float.floatToIntBits(score) << 32) | (Integer.MAX_VALUE - index);
+        if (heapSize < heap.length) {
+            heap[heapSize] = key;
+            RecommendationFeatureService.siftUp(heap, heapSize);
+            return heapSize + 1;
+        }
+        if (key > heap[0]) {
+            heap[0] = key;
+            RecommendationFeatureService.siftDown(heap, heapSize);
+        }
+        return heapSize;
+    }
+}
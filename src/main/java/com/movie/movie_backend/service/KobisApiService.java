@@ -2,16 +2,10 @@ package com.movie.movie_backend.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.movie.movie_backend.entity.Director;
 import com.movie.movie_backend.entity.MovieDetail;
 import com.movie.movie_backend.entity.MovieList;
-import com.movie.movie_backend.entity.Actor;
-import com.movie.movie_backend.entity.Cast;
-import com.movie.movie_backend.repository.PRDDirectorRepository;
 import com.movie.movie_backend.repository.PRDMovieRepository;
 import com.movie.movie_backend.repository.PRDMovieListRepository;
-import com.movie.movie_backend.repository.PRDActorRepository;
-import com.movie.movie_backend.repository.CastRepository;
 import com.movie.movie_backend.dto.MovieListDto;
 import com.movie.movie_backend.constant.MovieStatus;
 import com.movie.movie_backend.constant.RoleType;
@@ -19,15 +13,17 @@ import com.movie.movie_backend.util.MovieTitleUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.time.LocalDate;
 
 @Slf4j
@@ -35,13 +31,11 @@ import java.time.LocalDate;
 @RequiredArgsConstructor
 public class KobisApiService {
 
-    private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
     private final PRDMovieRepository movieRepository;
     private final PRDMovieListRepository prdMovieListRepository;
-    private final PRDDirectorRepository directorRepository;
-    private final PRDActorRepository actorRepository;
-    private final CastRepository castRepository;
+    private final IngestionPipeline ingestionPipeline;
+    private final BulkIngestionWriter bulkIngestionWriter;
 
     @Value("${tmdb.api.key}")
     private String tmdbApiKey;
@@ -50,87 +44,46 @@ public class KobisApiService {
     private String kobisApiKey;
 
     private static final String MOVIE_INFO_URL = "http://www.kobis.or.kr/kobisopenapi/webservice/rest/movie/searchMovieInfo.json";
+    private static final int DETAIL_BATCH_SIZE = 200; // 일괄 저장 한 번에 넣는 영화 수
 
     /**
      * MovieList에 있는 영화들의 한글제목/영문제목으로 TMDB에서 검색하여 MovieDetail 보완
      */
     public void fillMissingMovieDetailsFromTmdb() {
         try {
-            log.info("=== TMDB로 MovieDetail 보완 시작 ===");
-            
-            // MovieList에서 MovieDetail이 없는 영화들 찾기
-            List<MovieList> allMovieLists = getAllMovieListsChunked();
-            List<String> missingMovieCds = new ArrayList<>();
-            
-            for (MovieList movieList : allMovieLists) {
-                if (!movieRepository.existsByMovieCd(movieList.getMovieCd())) {
-                    missingMovieCds.add(movieList.getMovieCd());
-                }
-            }
-            
-            log.info("MovieDetail이 누락된 영화 {}개 발견", missingMovieCds.size());
-            
-            int successCount = 0;
-            int failCount = 0;
-            int attemptCount = 0;
-            int maxAttempts = 3; // 최대 3번으로 제한
-            
-            for (String movieCd : missingMovieCds) {
-                if (attemptCount >= maxAttempts) {
-                    log.info("TMDB MovieDetail 보완 시도 횟수 제한에 도달했습니다. (최대 {}회)", maxAttempts);
-                    break;
-                }
-                
-                try {
-                    MovieList movieList = prdMovieListRepository.findById(movieCd).orElse(null);
-                    if (movieList == null) {
-                        failCount++;
-                        continue;
-                    }
-                    
-                    log.info("TMDB로 MovieDetail 보완 시도: {} ({}) - 시도 {}/{}", 
-                        movieList.getMovieNm(), movieCd, attemptCount + 1, maxAttempts);
-                    
-                    // TMDB에서 영화 검색
-                    MovieDetail movieDetail = searchAndSaveMovieDetailFromTmdb(movieList);
-                    
-                    if (movieDetail != null) {
-                        successCount++;
-                        log.info("TMDB MovieDetail 보완 성공: {} ({})", movieList.getMovieNm(), movieCd);
-                    } else {
-                        failCount++;
-                        log.warn("TMDB MovieDetail 보완 실패: {} ({})", movieList.getMovieNm(), movieCd);
-                    }
-                    
-                    attemptCount++;
-                    
-                    // API 호출 제한을 위한 딜레이
-                    Thread.sleep(200);
-                    
-                } catch (Exception e) {
-                    failCount++;
-                    attemptCount++;
-                    log.error("TMDB MovieDetail 보완 실패: {} - {}", movieCd, e.getMessage());
-                }
-            }
-            
-            log.info("=== TMDB로 MovieDetail 보완 완료 ===");
-            log.info("성공: {}개, 실패: {}개, 시도 횟수: {}/{}", successCount, failCount, attemptCount, maxAttempts);
-            
+            fillMissingMovieDetailsFromTmdbAsync().join();
         } catch (Exception e) {
             log.error("TMDB로 MovieDetail 보완 실패", e);
         }
     }
 
-    private List<MovieList> getAllMovieListsChunked() {
-        List<MovieList> allMovieLists = new ArrayList<>();
-        int page = 0, size = 1000;
-        Page<MovieList> moviePage;
-        do {
-            moviePage = prdMovieListRepository.findAll(PageRequest.of(page++, size));
-            allMovieLists.addAll(moviePage.getContent());
-        } while (moviePage.hasNext());
-        return allMovieLists;
+    /**
+     * MovieDetail이 없는 영화를 TMDB 상세정보로 보완 (IngestionPipeline에서 동시 실행, TMDB 호출 한도 공유)
+     */
+    public CompletableFuture<IngestionPipeline.JobResult> fillMissingMovieDetailsFromTmdbAsync() {
+        log.info("=== TMDB로 MovieDetail 보완 시작 ===");
+        List<String> missingMovieCds = prdMovieListRepository.findMovieCdsWithoutDetail();
+        log.info("MovieDetail이 누락된 영화 {}개 발견", missingMovieCds.size());
+
+        int maxAttempts = 3; // 최대 3번으로 제한
+        if (missingMovieCds.size() > maxAttempts) {
+            log.info("TMDB MovieDetail 보완 시도 횟수 제한: {}개 중 {}개만 시도", missingMovieCds.size(), maxAttempts);
+            missingMovieCds = missingMovieCds.subList(0, maxAttempts);
+        }
+
+        return ingestionPipeline.submit("tmdb-movie-detail", missingMovieCds, movieCd -> {
+            MovieList movieList = prdMovieListRepository.findById(movieCd).orElse(null);
+            if (movieList == null) {
+                return false;
+            }
+            MovieDetail movieDetail = searchAndSaveMovieDetailFromTmdb(movieList);
+            if (movieDetail == null) {
+                log.warn("TMDB MovieDetail 보완 실패: {} ({})", movieList.getMovieNm(), movieCd);
+                return false;
+            }
+            log.info("TMDB MovieDetail 보완 성공: {} ({})", movieList.getMovieNm(), movieCd);
+            return true;
+        });
     }
 
     /**
@@ -151,13 +104,13 @@ public class KobisApiService {
             String url = String.format("https://api.themoviedb.org/3/search/movie?api_key=%s&query=%s&language=ko-KR&page=1", 
                 tmdbApiKey, encodedTitle);
             
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-            if (!response.getStatusCode().is2xxSuccessful()) {
-                log.error("TMDB 검색 API 호출 실패: status={}", response.getStatusCode());
+            String response = ingestionPipeline.get(IngestionPipeline.Upstream.TMDB, url);
+            if (response == null) {
+                log.error("TMDB 검색 API 호출 실패: 응답 없음");
                 return null;
             }
             
-            JsonNode rootNode = objectMapper.readTree(response.getBody());
+            JsonNode rootNode = objectMapper.readTree(response);
             JsonNode results = rootNode.get("results");
             
             if (results == null || results.size() == 0) {
@@ -176,13 +129,13 @@ public class KobisApiService {
             String detailUrl = String.format("https://api.themoviedb.org/3/movie/%s?api_key=%s&language=ko-KR&append_to_response=credits", 
                 tmdbId, tmdbApiKey);
             
-            ResponseEntity<String> detailResponse = restTemplate.getForEntity(detailUrl, String.class);
-            if (!detailResponse.getStatusCode().is2xxSuccessful()) {
-                log.error("TMDB 상세정보 API 호출 실패: status={}", detailResponse.getStatusCode());
+            String detailResponse = ingestionPipeline.get(IngestionPipeline.Upstream.TMDB, detailUrl);
+            if (detailResponse == null) {
+                log.error("TMDB 상세정보 API 호출 실패: TMDB ID={} 없음", tmdbId);
                 return null;
             }
             
-            JsonNode detailNode = objectMapper.readTree(detailResponse.getBody());
+            JsonNode detailNode = objectMapper.readTree(detailResponse);
             
             // 기본 정보 추출
             String overview = detailNode.has("overview") ? detailNode.get("overview").asText() : "";
@@ -249,15 +202,13 @@ public class KobisApiService {
 //                .status(movieList.getStatus())
                 .build();
             
-            // 감독 정보 저장
-            if (!directorName.isEmpty()) {
-                Director director = saveDirectorByName(directorName);
-                movieDetail.setDirector(director);
+            // MovieDetail 저장 (감독은 이름으로 찾고 없으면 추가)
+            MovieDetail savedMovieDetail = saveParsedMovie(new BulkIngestionWriter.ParsedMovie(
+                movieDetail, directorName.isEmpty() ? null : directorName, List.of(), List.of()));
+            if (savedMovieDetail == null) {
+                return null;
             }
             
-            // MovieDetail 저장
-            MovieDetail savedMovieDetail = movieRepository.save(movieDetail);
-            
             log.info("TMDB MovieDetail 저장 완료: {} ({}) - TMDB ID: {}", 
                 savedMovieDetail.getMovieNm(), movieList.getMovieCd(), tmdbId);
             
@@ -277,27 +228,6 @@ public class KobisApiService {
         }
     }
 
-    /**
-     * 감독 이름으로 감독 정보 저장
-     */
-    private Director saveDirectorByName(String directorName) {
-        // 기존 감독이 있는지 확인
-        Optional<Director> existingDirector = directorRepository.findByName(directorName);
-        
-        if (existingDirector.isPresent()) {
-            return existingDirector.get();
-        }
-
-        // 새 감독 생성 (TMDB에서 이미지 URL 조회)
-        String photoUrl = fetchDirectorImageUrlFromTmdb(directorName);
-        Director director = Director.builder()
-                .name(directorName)
-                .photoUrl(photoUrl)
-                .build();
-        
-        return directorRepository.save(director);
-    }
-
     /**
      * TMDB에서 감독 이미지 URL 가져오기
      */
@@ -341,9 +271,9 @@ public class KobisApiService {
             String url = String.format("https://api.themoviedb.org/3/search/person?api_key=%s&query=%s&language=ko-KR", 
                 tmdbApiKey, encodedName);
             
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-            if (response.getStatusCode().is2xxSuccessful()) {
-                JsonNode rootNode = objectMapper.readTree(response.getBody());
+            String response = ingestionPipeline.get(IngestionPipeline.Upstream.TMDB, url);
+            if (response != null) {
+                JsonNode rootNode = objectMapper.readTree(response);
                 JsonNode results = rootNode.get("results");
                 
                 if (results != null && results.size() > 0) {
@@ -385,15 +315,15 @@ public class KobisApiService {
             
             // KOBIS API 호출
             String url = String.format("%s?key=%s&movieCd=%s", MOVIE_INFO_URL, kobisApiKey, movieCd);
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+            String response = ingestionPipeline.get(IngestionPipeline.Upstream.KOBIS, url);
             
-            if (!response.getStatusCode().is2xxSuccessful()) {
-                log.error("KOBIS API 호출 실패: status={}, movieCd={}", response.getStatusCode(), movieCd);
+            if (response == null) {
+                log.error("KOBIS API 호출 실패: movieCd={}", movieCd);
                 return null;
             }
             
             // API 응답 로깅 (디버깅용)
-            String responseBody = response.getBody();
+            String responseBody = response;
             log.debug("KOBIS API 응답: {}", responseBody);
             
             // plot 필드 확인을 위한 응답 로깅 추가
@@ -431,164 +361,11 @@ public class KobisApiService {
             // KOBIS API 응답 전체 로깅 (plot 필드 확인용)
             log.info("KOBIS movieInfo 전체 응답: {}", movieInfo.toString());
             
-            // 상세 정보 추출
-            String description = "";
-            if (movieInfo.has("plot") && !movieInfo.get("plot").isNull()) {
-                description = movieInfo.get("plot").asText();
-                log.info("KOBIS plot 필드 발견: 영화={}, plot 길이={}, plot 내용={}", 
-                    movieList.getMovieNm(), description.length(), 
-                    description.length() > 100 ? description.substring(0, 100) + "..." : description);
-            } else {
-                log.warn("KOBIS plot 필드 없음: 영화={}, movieCd={}", movieList.getMovieNm(), movieCd);
-                // plot 필드가 없으면 다른 필드들도 확인
-                log.info("KOBIS movieInfo에서 사용 가능한 필드들: {}", movieInfo.fieldNames());
-                
-                // KOBIS에서 줄거리가 없으면 TMDB에서 가져오기 시도
-                log.info("KOBIS에서 줄거리가 없으므로 TMDB에서 줄거리 가져오기 시도: {}", movieList.getMovieNm());
-                try {
-                    String tmdbOverview = getTmdbOverview(movieList.getMovieNm(), movieList.getOpenDt());
-                    if (tmdbOverview != null && !tmdbOverview.trim().isEmpty()) {
-                        description = tmdbOverview;
-                        log.info("TMDB에서 줄거리 가져오기 성공: 영화={}, 줄거리 길이={}", 
-                            movieList.getMovieNm(), description.length());
-                    } else {
-                        log.warn("TMDB에서도 줄거리를 찾을 수 없음: {}", movieList.getMovieNm());
-                    }
-                } catch (Exception e) {
-                    log.warn("TMDB 줄거리 가져오기 실패: {} - {}", movieList.getMovieNm(), e.getMessage());
-                }
-            }
-            
-            int showTm = 0;
-            if (movieInfo.has("showTm") && !movieInfo.get("showTm").isNull()) {
-                showTm = movieInfo.get("showTm").asInt();
-            }
-            
-            String companyNm = "";
-            if (movieInfo.has("companys") && movieInfo.get("companys").isArray()) {
-                JsonNode companys = movieInfo.get("companys");
-                for (JsonNode company : companys) {
-                    if ("제작사".equals(company.get("companyPartNm").asText())) {
-                        companyNm = company.get("companyNm").asText();
-                        break;
-                    }
-                }
-            }
-            
-            // 관람등급 파싱 (audits[0].watchGradeNm)
-            String watchGradeNm = movieList.getWatchGradeNm();
-            if (movieInfo.has("audits") && movieInfo.get("audits").isArray()) {
-                JsonNode audits = movieInfo.get("audits");
-                if (audits.size() > 0 && audits.get(0).has("watchGradeNm")) {
-                    String kobisGrade = audits.get(0).get("watchGradeNm").asText();
-                    if (kobisGrade != null && !kobisGrade.isBlank()) {
-                        watchGradeNm = kobisGrade;
-                    }
-                }
+            MovieDetail savedMovieDetail = saveParsedMovie(parseKobisMovieInfo(movieCd, movieList, movieInfo));
+            if (savedMovieDetail != null) {
+                log.info("KOBIS MovieDetail 저장 완료: {} ({}) - 영문제목: {}, 장르: {}",
+                    savedMovieDetail.getMovieNm(), movieCd, savedMovieDetail.getMovieNmEn(), savedMovieDetail.getGenreNm());
             }
-            // 청소년관람불가 영화는 저장하지 않음 (공식 KOBIS 문서 기준)
-            if ("청소년관람불가".equals(watchGradeNm)) {
-                log.info("청소년관람불가 영화 필터링: {} {}", movieCd, movieList.getMovieNm());
-                return null;
-            }
-            
-            // 감독 정보
-            Director director = null;
-            if (movieInfo.has("directors") && movieInfo.get("directors").isArray()) {
-                JsonNode directors = movieInfo.get("directors");
-                if (directors.size() > 0) {
-                    String directorName = directors.get(0).get("peopleNm").asText();
-                    director = saveDirectorByName(directorName);
-                }
-            }
-            
-            // 배우 정보 (Actor, Cast)
-            List<Actor> actors = new ArrayList<>();
-            if (movieInfo.has("actors") && movieInfo.get("actors").isArray()) {
-                JsonNode actorsNode = movieInfo.get("actors");
-                log.info("KOBIS에서 배우 정보 {}개 발견: 영화={}", actorsNode.size(), movieList.getMovieNm());
-                
-                for (int i = 0; i < actorsNode.size() && i < 10; i++) { // 최대 10명까지만
-                    JsonNode actorNode = actorsNode.get(i);
-                    String actorName = actorNode.get("peopleNm").asText();
-                    String characterName = actorNode.has("cast") ? actorNode.get("cast").asText() : "";
-                    
-                    // Actor 저장 또는 조회
-                    Actor actor = saveActorByName(actorName);
-                    if (actor != null) {
-                        actors.add(actor);
-                        log.debug("배우 추가: {} - 캐릭터: {}", actorName, characterName);
-                    }
-                }
-            }
-            
-            // TMDB에서 영어 제목과 장르 정보 보완
-            String movieNmEn = movieList.getMovieNmEn();
-            String genreNm = movieList.getGenreNm();
-            
-            // KOBIS에 영어 제목이 없거나 장르 정보가 부족하면 TMDB에서 보완
-            if ((movieNmEn == null || movieNmEn.isEmpty() || genreNm == null || genreNm.isEmpty()) 
-                && movieList.getOpenDt() != null) {
-                
-                try {
-                    // TMDB에서 영화 검색하여 영어 제목과 장르 정보 가져오기
-                    String tmdbInfo = getTmdbMovieInfo(movieList.getMovieNm(), movieList.getOpenDt());
-                    if (tmdbInfo != null) {
-                        String[] tmdbData = tmdbInfo.split("\\|");
-                        if (tmdbData.length >= 2) {
-                            if (movieNmEn == null || movieNmEn.isEmpty()) {
-                                movieNmEn = tmdbData[0]; // 영어 제목
-                            }
-                            if (genreNm == null || genreNm.isEmpty()) {
-                                genreNm = tmdbData[1]; // 장르
-                            }
-                        }
-                    }
-                } catch (Exception e) {
-                    log.warn("TMDB 정보 보완 실패: {} - {}", movieList.getMovieNm(), e.getMessage());
-                }
-            }
-            
-            // MovieDetail 엔티티 생성
-            MovieDetail movieDetail = MovieDetail.builder()
-                .movieCd(movieCd)
-                .movieNm(movieList.getMovieNm())
-                .movieNmEn(movieNmEn != null ? movieNmEn : "")
-                .description(description)
-                .openDt(movieList.getOpenDt())
-                .showTm(showTm)
-                .genreNm(genreNm != null ? genreNm : "")
-                .nationNm(movieList.getNationNm())
-                .watchGradeNm(watchGradeNm)
-                .companyNm(companyNm)
-                .totalAudience(0)
-                .reservationRate(0.0)
-                .averageRating(0.0)
-//                .status(movieList.getStatus())
-                .build();
-            
-            if (director != null) {
-                movieDetail.setDirector(director);
-            }
-            
-            // 저장
-            MovieDetail savedMovieDetail = movieRepository.save(movieDetail);
-            log.info("KOBIS MovieDetail 저장 완료: {} ({}) - 영문제목: {}, 장르: {}", 
-                savedMovieDetail.getMovieNm(), movieCd, movieNmEn, genreNm);
-            
-            // description 저장 확인 로깅 추가
-            log.info("KOBIS description 저장 확인: 영화={}, description 길이={}, description 내용={}", 
-                savedMovieDetail.getMovieNm(), 
-                savedMovieDetail.getDescription() != null ? savedMovieDetail.getDescription().length() : 0,
-                savedMovieDetail.getDescription() != null && savedMovieDetail.getDescription().length() > 100 
-                    ? savedMovieDetail.getDescription().substring(0, 100) + "..." 
-                    : savedMovieDetail.getDescription());
-            
-            // Cast 정보 저장
-            if (!actors.isEmpty()) {
-                saveCastInfo(savedMovieDetail, actors, movieInfo);
-            }
-            
             return savedMovieDetail;
             
         } catch (Exception e) {
@@ -645,9 +422,9 @@ public class KobisApiService {
             String url = String.format("https://api.themoviedb.org/3/search/movie?api_key=%s&query=%s&language=ko-KR%s", 
                 tmdbApiKey, query, year != null ? "&year=" + year : "");
             
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-            if (response.getStatusCode().is2xxSuccessful()) {
-                JsonNode rootNode = objectMapper.readTree(response.getBody());
+            String response = ingestionPipeline.get(IngestionPipeline.Upstream.TMDB, url);
+            if (response != null) {
+                JsonNode rootNode = objectMapper.readTree(response);
                 JsonNode results = rootNode.get("results");
                 
                 if (results != null && results.size() > 0) {
@@ -701,16 +478,16 @@ public class KobisApiService {
             
             log.info("KOBIS API 호출 URL: {}", url);
             
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-            if (!response.getStatusCode().is2xxSuccessful()) {
-                log.error("KOBIS 개봉예정작 API 호출 실패: status={}", response.getStatusCode());
+            String response = ingestionPipeline.get(IngestionPipeline.Upstream.KOBIS, url);
+            if (response == null) {
+                log.error("KOBIS 개봉예정작 API 호출 실패: 응답 없음");
                 return comingSoonMovies;
             }
             
             // API 응답 로깅 (디버깅용)
-            log.debug("KOBIS API 응답: {}", response.getBody());
+            log.debug("KOBIS API 응답: {}", response);
             
-            JsonNode rootNode = objectMapper.readTree(response.getBody());
+            JsonNode rootNode = objectMapper.readTree(response);
             
             // KOBIS API 응답 구조 확인
             if (rootNode.has("faultInfo")) {
@@ -828,13 +605,13 @@ public class KobisApiService {
                 String url = String.format("https://api.themoviedb.org/3/movie/upcoming?api_key=%s&language=ko-KR&page=%d", 
                     tmdbApiKey, page);
                 
-                ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-                if (!response.getStatusCode().is2xxSuccessful()) {
-                    log.error("TMDB 개봉예정작 API 호출 실패: status={}, page={}", response.getStatusCode(), page);
+                String response = ingestionPipeline.get(IngestionPipeline.Upstream.TMDB, url);
+                if (response == null) {
+                    log.error("TMDB 개봉예정작 API 호출 실패: page={}", page);
                     break;
                 }
                 
-                JsonNode rootNode = objectMapper.readTree(response.getBody());
+                JsonNode rootNode = objectMapper.readTree(response);
                 JsonNode results = rootNode.get("results");
                 
                 if (results == null || results.size() == 0) {
@@ -1025,13 +802,13 @@ public class KobisApiService {
             String url = String.format("http://www.kobis.or.kr/kobisopenapi/webservice/rest/movie/searchMovieList.json?key=%s&movieNm=%s", 
                 kobisApiKey, encodedTitle);
             
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-            if (!response.getStatusCode().is2xxSuccessful()) {
-                log.warn("KOBIS 영화명 검색 API 호출 실패: status={}", response.getStatusCode());
+            String response = ingestionPipeline.get(IngestionPipeline.Upstream.KOBIS, url);
+            if (response == null) {
+                log.warn("KOBIS 영화명 검색 API 호출 실패: 응답 없음");
                 return null;
             }
             
-            JsonNode rootNode = objectMapper.readTree(response.getBody());
+            JsonNode rootNode = objectMapper.readTree(response);
             JsonNode movieListResult = rootNode.get("movieListResult");
             
             if (movieListResult == null || movieListResult.get("movieList") == null) {
@@ -1077,14 +854,14 @@ public class KobisApiService {
             
             // KOBIS API 호출
             String url = String.format("%s?key=%s&movieCd=%s", MOVIE_INFO_URL, kobisApiKey, movieCd);
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+            String response = ingestionPipeline.get(IngestionPipeline.Upstream.KOBIS, url);
             
-            if (!response.getStatusCode().is2xxSuccessful()) {
-                log.error("KOBIS API 호출 실패: status={}, movieCd={}", response.getStatusCode(), movieCd);
+            if (response == null) {
+                log.error("KOBIS API 호출 실패: movieCd={}", movieCd);
                 return null;
             }
             
-            JsonNode rootNode = objectMapper.readTree(response.getBody());
+            JsonNode rootNode = objectMapper.readTree(response);
             JsonNode movieInfoResult = rootNode.get("movieInfoResult");
             
             if (movieInfoResult == null) {
@@ -1102,214 +879,199 @@ public class KobisApiService {
             // KOBIS API 응답 전체 로깅 (plot 필드 확인용)
             log.info("KOBIS movieInfo 전체 응답: {}", movieInfo.toString());
             
-            // 상세 정보 추출
-            String description = "";
-            if (movieInfo.has("plot") && !movieInfo.get("plot").isNull()) {
-                description = movieInfo.get("plot").asText();
-                log.info("KOBIS plot 필드 발견: 영화={}, plot 길이={}, plot 내용={}", 
-                    movieList.getMovieNm(), description.length(), 
-                    description.length() > 100 ? description.substring(0, 100) + "..." : description);
-            } else {
-                log.warn("KOBIS plot 필드 없음: 영화={}, movieCd={}", movieList.getMovieNm(), movieCd);
-                // plot 필드가 없으면 다른 필드들도 확인
-                log.info("KOBIS movieInfo에서 사용 가능한 필드들: {}", movieInfo.fieldNames());
-                
-                // KOBIS에서 줄거리가 없으면 TMDB에서 가져오기 시도
-                log.info("KOBIS에서 줄거리가 없으므로 TMDB에서 줄거리 가져오기 시도: {}", movieList.getMovieNm());
-                try {
-                    String tmdbOverview = getTmdbOverview(movieList.getMovieNm(), movieList.getOpenDt());
-                    if (tmdbOverview != null && !tmdbOverview.trim().isEmpty()) {
-                        description = tmdbOverview;
-                        log.info("TMDB에서 줄거리 가져오기 성공: 영화={}, 줄거리 길이={}", 
-                            movieList.getMovieNm(), description.length());
-                    } else {
-                        log.warn("TMDB에서도 줄거리를 찾을 수 없음: {}", movieList.getMovieNm());
-                    }
-                } catch (Exception e) {
-                    log.warn("TMDB 줄거리 가져오기 실패: {} - {}", movieList.getMovieNm(), e.getMessage());
-                }
-            }
-            
-            int showTm = 0;
-            if (movieInfo.has("showTm") && !movieInfo.get("showTm").isNull()) {
-                showTm = movieInfo.get("showTm").asInt();
+            MovieDetail savedMovieDetail = saveParsedMovie(parseKobisMovieInfo(movieCd, movieList, movieInfo));
+            if (savedMovieDetail != null) {
+                log.info("KOBIS MovieDetail 저장 완료: {} ({})", savedMovieDetail.getMovieNm(), movieCd);
             }
+            return savedMovieDetail;
             
-            String companyNm = "";
-            if (movieInfo.has("companys") && movieInfo.get("companys").isArray()) {
-                JsonNode companys = movieInfo.get("companys");
-                for (JsonNode company : companys) {
-                    if ("제작사".equals(company.get("companyPartNm").asText())) {
-                        companyNm = company.get("companyNm").asText();
-                        break;
-                    }
+        } catch (Exception e) {
+            log.error("KOBIS 상세정보 직접 가져오기 실패: {} - {}", movieCd, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * KOBIS movieInfo 응답을 저장용 구조로 변환 (청소년관람불가면 null)
+     * 줄거리/영문제목/장르가 비어 있으면 TMDB에서 보완
+     */
+    private BulkIngestionWriter.ParsedMovie parseKobisMovieInfo(String movieCd, MovieList movieList, JsonNode movieInfo) {
+        // KOBIS API 응답 전체 로깅 (plot 필드 확인용)
+        log.debug("KOBIS movieInfo 전체 응답: {}", movieInfo);
+        
+        // 상세 정보 추출
+        String description = "";
+        if (movieInfo.has("plot") && !movieInfo.get("plot").isNull()) {
+            description = movieInfo.get("plot").asText();
+        } else {
+            // KOBIS에서 줄거리가 없으면 TMDB에서 가져오기 시도
+            log.info("KOBIS에서 줄거리가 없으므로 TMDB에서 줄거리 가져오기 시도: {}", movieList.getMovieNm());
+            try {
+                String tmdbOverview = getTmdbOverview(movieList.getMovieNm(), movieList.getOpenDt());
+                if (tmdbOverview != null && !tmdbOverview.trim().isEmpty()) {
+                    description = tmdbOverview;
+                } else {
+                    log.warn("TMDB에서도 줄거리를 찾을 수 없음: {}", movieList.getMovieNm());
                 }
+            } catch (Exception e) {
+                log.warn("TMDB 줄거리 가져오기 실패: {} - {}", movieList.getMovieNm(), e.getMessage());
             }
-            
-            // 관람등급 파싱 (audits[0].watchGradeNm)
-            String watchGradeNm = movieList.getWatchGradeNm();
-            if (movieInfo.has("audits") && movieInfo.get("audits").isArray()) {
-                JsonNode audits = movieInfo.get("audits");
-                if (audits.size() > 0 && audits.get(0).has("watchGradeNm")) {
-                    String kobisGrade = audits.get(0).get("watchGradeNm").asText();
-                    if (kobisGrade != null && !kobisGrade.isBlank()) {
-                        watchGradeNm = kobisGrade;
-                    }
+        }
+        
+        int showTm = 0;
+        if (movieInfo.has("showTm") && !movieInfo.get("showTm").isNull()) {
+            showTm = movieInfo.get("showTm").asInt();
+        }
+        
+        String companyNm = "";
+        if (movieInfo.has("companys") && movieInfo.get("companys").isArray()) {
+            for (JsonNode company : movieInfo.get("companys")) {
+                if ("제작사".equals(company.path("companyPartNm").asText())) {
+                    companyNm = company.path("companyNm").asText();
+                    break;
                 }
             }
-            // 청소년관람불가 영화는 저장하지 않음 (공식 KOBIS 문서 기준)
-            if ("청소년관람불가".equals(watchGradeNm)) {
-                log.info("청소년관람불가 영화 필터링: {} {}", movieCd, movieList.getMovieNm());
-                return null;
-            }
-            
-            // 감독 정보
-            Director director = null;
-            if (movieInfo.has("directors") && movieInfo.get("directors").isArray()) {
-                JsonNode directors = movieInfo.get("directors");
-                if (directors.size() > 0) {
-                    String directorName = directors.get(0).get("peopleNm").asText();
-                    director = saveDirectorByName(directorName);
+        }
+        
+        // 관람등급 파싱 (audits[0].watchGradeNm)
+        String watchGradeNm = movieList.getWatchGradeNm();
+        if (movieInfo.has("audits") && movieInfo.get("audits").isArray()) {
+            JsonNode audits = movieInfo.get("audits");
+            if (audits.size() > 0 && audits.get(0).has("watchGradeNm")) {
+                String kobisGrade = audits.get(0).get("watchGradeNm").asText();
+                if (kobisGrade != null && !kobisGrade.isBlank()) {
+                    watchGradeNm = kobisGrade;
                 }
             }
-            
-            // 배우 정보 (Actor, Cast)
-            List<Actor> actors = new ArrayList<>();
-            if (movieInfo.has("actors") && movieInfo.get("actors").isArray()) {
-                JsonNode actorsNode = movieInfo.get("actors");
-                log.info("KOBIS에서 배우 정보 {}개 발견: 영화={}", actorsNode.size(), movieList.getMovieNm());
-                
-                for (int i = 0; i < actorsNode.size() && i < 10; i++) { // 최대 10명까지만
-                    JsonNode actorNode = actorsNode.get(i);
-                    String actorName = actorNode.get("peopleNm").asText();
-                    String characterName = actorNode.has("cast") ? actorNode.get("cast").asText() : "";
-                    
-                    // Actor 저장 또는 조회
-                    Actor actor = saveActorByName(actorName);
-                    if (actor != null) {
-                        actors.add(actor);
-                        log.debug("배우 추가: {} - 캐릭터: {}", actorName, characterName);
-                    }
+        }
+        // 청소년관람불가 영화는 저장하지 않음 (공식 KOBIS 문서 기준)
+        if ("청소년관람불가".equals(watchGradeNm)) {
+            log.info("청소년관람불가 영화 필터링: {} {}", movieCd, movieList.getMovieNm());
+            return null;
+        }
+        
+        // 감독 정보
+        String directorName = null;
+        if (movieInfo.has("directors") && movieInfo.get("directors").isArray() && movieInfo.get("directors").size() > 0) {
+            directorName = movieInfo.get("directors").get(0).path("peopleNm").asText(null);
+        }
+        
+        // 배우 정보 (최대 10명, 상위 3명은 주연, 나머지는 조연)
+        List<BulkIngestionWriter.ParsedCast> casts = new ArrayList<>();
+        if (movieInfo.has("actors") && movieInfo.get("actors").isArray()) {
+            JsonNode actorsNode = movieInfo.get("actors");
+            for (int i = 0; i < actorsNode.size() && i < 10; i++) {
+                JsonNode actorNode = actorsNode.get(i);
+                String actorName = actorNode.path("peopleNm").asText("");
+                if (actorName.isBlank()) {
+                    continue;
                 }
+                String characterName = actorNode.has("cast") ? actorNode.get("cast").asText() : "";
+                RoleType roleType = (casts.size() < 3) ? RoleType.LEAD : RoleType.SUPPORTING;
+                casts.add(new BulkIngestionWriter.ParsedCast(actorName, characterName, roleType));
             }
-            
-            // TMDB에서 영어 제목과 장르 정보 보완
-            String movieNmEn = movieList.getMovieNmEn();
-            String genreNm = movieList.getGenreNm();
-            
-            // KOBIS에 영어 제목이 없거나 장르 정보가 부족하면 TMDB에서 보완
-            if ((movieNmEn == null || movieNmEn.isEmpty() || genreNm == null || genreNm.isEmpty()) 
-                && movieList.getOpenDt() != null) {
-                
-                try {
-                    // TMDB에서 영화 검색하여 영어 제목과 장르 정보 가져오기
-                    String tmdbInfo = getTmdbMovieInfo(movieList.getMovieNm(), movieList.getOpenDt());
-                    if (tmdbInfo != null) {
-                        String[] tmdbData = tmdbInfo.split("\\|");
-                        if (tmdbData.length >= 2) {
-                            if (movieNmEn == null || movieNmEn.isEmpty()) {
-                                movieNmEn = tmdbData[0]; // 영어 제목
-                            }
-                            if (genreNm == null || genreNm.isEmpty()) {
-                                genreNm = tmdbData[1]; // 장르
-                            }
+        }
+        
+        // TMDB에서 영어 제목과 장르 정보 보완
+        String movieNmEn = movieList.getMovieNmEn();
+        String genreNm = movieList.getGenreNm();
+        
+        // KOBIS에 영어 제목이 없거나 장르 정보가 부족하면 TMDB에서 보완
+        if ((movieNmEn == null || movieNmEn.isEmpty() || genreNm == null || genreNm.isEmpty()) 
+            && movieList.getOpenDt() != null) {
+            try {
+                String tmdbInfo = getTmdbMovieInfo(movieList.getMovieNm(), movieList.getOpenDt());
+                if (tmdbInfo != null) {
+                    String[] tmdbData = tmdbInfo.split("\\|");
+                    if (tmdbData.length >= 2) {
+                        if (movieNmEn == null || movieNmEn.isEmpty()) {
+                            movieNmEn = tmdbData[0]; // 영어 제목
+                        }
+                        if (genreNm == null || genreNm.isEmpty()) {
+                            genreNm = tmdbData[1]; // 장르
                         }
                     }
-                } catch (Exception e) {
-                    log.warn("TMDB 정보 보완 실패: {} - {}", movieList.getMovieNm(), e.getMessage());
                 }
+            } catch (Exception e) {
+                log.warn("TMDB 정보 보완 실패: {} - {}", movieList.getMovieNm(), e.getMessage());
             }
-            
-            // MovieDetail 엔티티 생성
-            MovieDetail movieDetail = MovieDetail.builder()
-                .movieCd(movieCd)
-                .movieNm(movieList.getMovieNm())
-                .movieNmEn(movieNmEn != null ? movieNmEn : "")
-                .description(description)
-                .openDt(movieList.getOpenDt())
-                .showTm(showTm)
-                .genreNm(genreNm != null ? genreNm : "")
-                .nationNm(movieList.getNationNm())
-                .watchGradeNm(watchGradeNm)
-                .companyNm(companyNm)
-                .totalAudience(0)
-                .reservationRate(0.0)
-                .averageRating(0.0)
-//                .status(movieList.getStatus())
-                .build();
-            
-            if (director != null) {
-                movieDetail.setDirector(director);
-            }
-            
-            // 저장
-            MovieDetail savedMovieDetail = movieRepository.save(movieDetail);
-            log.info("KOBIS MovieDetail 저장 완료: {} ({})", savedMovieDetail.getMovieNm(), movieCd);
-            
-            // description 저장 확인 로깅 추가
-            log.info("KOBIS description 저장 확인: 영화={}, description 길이={}, description 내용={}", 
-                savedMovieDetail.getMovieNm(), 
-                savedMovieDetail.getDescription() != null ? savedMovieDetail.getDescription().length() : 0,
-                savedMovieDetail.getDescription() != null && savedMovieDetail.getDescription().length() > 100 
-                    ? savedMovieDetail.getDescription().substring(0, 100) + "..." 
-                    : savedMovieDetail.getDescription());
-            
-            // Cast 정보 저장
-            if (!actors.isEmpty()) {
-                saveCastInfo(savedMovieDetail, actors, movieInfo);
-            }
-            
-            return savedMovieDetail;
-            
-        } catch (Exception e) {
-            log.error("KOBIS 상세정보 직접 가져오기 실패: {} - {}", movieCd, e.getMessage());
-            return null;
         }
+        
+        MovieDetail movieDetail = MovieDetail.builder()
+            .movieCd(movieCd)
+            .movieNm(movieList.getMovieNm())
+            .movieNmEn(movieNmEn != null ? movieNmEn : "")
+            .description(description)
+            .openDt(movieList.getOpenDt())
+            .showTm(showTm)
+            .genreNm(genreNm != null ? genreNm : "")
+            .nationNm(movieList.getNationNm())
+            .watchGradeNm(watchGradeNm)
+            .companyNm(companyNm)
+            .build();
+        return new BulkIngestionWriter.ParsedMovie(movieDetail, directorName, casts, List.of());
     }
 
-    private void saveCastInfo(MovieDetail movieDetail, List<Actor> actors, JsonNode movieInfo) {
-        JsonNode actorsNode = movieInfo.get("actors");
-        
-        for (int i = 0; i < actors.size() && i < actorsNode.size(); i++) {
-            Actor actor = actors.get(i);
-            JsonNode actorNode = actorsNode.get(i);
-            String characterName = actorNode.has("cast") ? actorNode.get("cast").asText() : "";
-            
-            // 주연/조연 구분: 상위 3명은 주연, 나머지는 조연
-            RoleType roleType = (i < 3) ? RoleType.LEAD : RoleType.SUPPORTING;
-            
-            Cast cast = Cast.builder()
-                .movieDetail(movieDetail)
-                .actor(actor)
-                .characterName(characterName)
-                .orderInCredits(i + 1)
-                .roleType(roleType)
-                .build();
-            
-            castRepository.save(cast);
-            log.debug("Cast 저장: 영화={}, 배우={}, 역할={}, 캐릭터={}", 
-                movieDetail.getMovieNm(), actor.getName(), roleType, characterName);
+    /**
+     * 영화 하나 저장 (BulkIngestionWriter 사용, 새 감독/배우는 TMDB에서 사진 조회)
+     */
+    private MovieDetail saveParsedMovie(BulkIngestionWriter.ParsedMovie parsedMovie) {
+        if (parsedMovie == null) {
+            return null;
         }
-        
-        log.info("KOBIS Cast 정보 저장 완료: 영화={}, 배우 수={}", movieDetail.getMovieNm(), actors.size());
+        bulkIngestionWriter.write(List.of(parsedMovie), this::fetchDirectorImageUrlFromTmdb, this::fetchActorImageUrlFromTmdb);
+        return movieRepository.findByMovieCd(parsedMovie.detail().getMovieCd()).orElse(null);
     }
 
-    private Actor saveActorByName(String actorName) {
-        // 기존 배우가 있는지 확인
-        Optional<Actor> existingActor = actorRepository.findByName(actorName);
-        
-        if (existingActor.isPresent()) {
-            return existingActor.get();
+    /**
+     * 여러 영화의 KOBIS 상세정보를 한꺼번에 가져와 저장
+     * KOBIS 호출은 IngestionPipeline에서 동시에(호출 한도 안에서) 하고, 저장은 DETAIL_BATCH_SIZE편씩 BulkIngestionWriter로 일괄 처리
+     * @return 저장된 영화 수
+     */
+    public int fetchAndSaveMovieDetails(List<String> movieCds) {
+        int savedCount = 0;
+        for (int from = 0; from < movieCds.size(); from += DETAIL_BATCH_SIZE) {
+            List<String> chunk = movieCds.subList(from, Math.min(movieCds.size(), from + DETAIL_BATCH_SIZE));
+            Map<String, MovieList> movieLists = new HashMap<>();
+            for (MovieList movieList : prdMovieListRepository.findAllById(chunk)) {
+                movieLists.put(movieList.getMovieCd(), movieList);
+            }
+            
+            List<BulkIngestionWriter.ParsedMovie> parsedMovies = Collections.synchronizedList(new ArrayList<>());
+            ingestionPipeline.submit("kobis-movie-detail", chunk, movieCd -> {
+                MovieList movieList = movieLists.get(movieCd);
+                if (movieList == null || movieCd.startsWith("TMDB_")) {
+                    return false;
+                }
+                String url = String.format("%s?key=%s&movieCd=%s", MOVIE_INFO_URL, kobisApiKey, movieCd);
+                String response = ingestionPipeline.get(IngestionPipeline.Upstream.KOBIS, url);
+                if (response == null) {
+                    return false;
+                }
+                JsonNode movieInfo;
+                try {
+                    movieInfo = objectMapper.readTree(response).path("movieInfoResult").get("movieInfo");
+                } catch (Exception e) {
+                    log.warn("KOBIS 상세정보 파싱 실패: movieCd={}, {}", movieCd, e.getMessage());
+                    return false;
+                }
+                if (movieInfo == null) {
+                    log.warn("KOBIS API 응답에 movieInfo가 없음: movieCd={}", movieCd);
+                    return false;
+                }
+                BulkIngestionWriter.ParsedMovie parsedMovie = parseKobisMovieInfo(movieCd, movieList, movieInfo);
+                if (parsedMovie == null) {
+                    return false;
+                }
+                parsedMovies.add(parsedMovie);
+                return true;
+            }).join();
+            
+            savedCount += bulkIngestionWriter.write(parsedMovies,
+                    this::fetchDirectorImageUrlFromTmdb, this::fetchActorImageUrlFromTmdb).size();
         }
-
-        // 새 배우 생성 (TMDB에서 이미지 URL 조회)
-        String photoUrl = fetchActorImageUrlFromTmdb(actorName);
-        Actor actor = Actor.builder()
-                .name(actorName)
-                .photoUrl(photoUrl)
-                .build();
-        
-        return actorRepository.save(actor);
+        log.info("KOBIS 상세정보 일괄 저장 완료: 요청 {}건, 저장 {}건", movieCds.size(), savedCount);
+        return savedCount;
     }
 
     private String fetchActorImageUrlFromTmdb(String actorName) {
@@ -1352,9 +1114,9 @@ public class KobisApiService {
             String url = String.format("https://api.themoviedb.org/3/search/person?api_key=%s&query=%s&language=ko-KR", 
                 tmdbApiKey, encodedName);
             
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-            if (response.getStatusCode().is2xxSuccessful()) {
-                JsonNode rootNode = objectMapper.readTree(response.getBody());
+            String response = ingestionPipeline.get(IngestionPipeline.Upstream.TMDB, url);
+            if (response != null) {
+                JsonNode rootNode = objectMapper.readTree(response);
                 JsonNode results = rootNode.get("results");
                 
                 if (results != null && results.size() > 0) {
@@ -1417,9 +1179,9 @@ public class KobisApiService {
             String url = String.format("https://api.themoviedb.org/3/search/movie?api_key=%s&query=%s&language=ko-KR%s", 
                 tmdbApiKey, query, year != null ? "&year=" + year : "");
             
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-            if (response.getStatusCode().is2xxSuccessful()) {
-                JsonNode rootNode = objectMapper.readTree(response.getBody());
+            String response = ingestionPipeline.get(IngestionPipeline.Upstream.TMDB, url);
+            if (response != null) {
+                JsonNode rootNode = objectMapper.readTree(response);
                 JsonNode results = rootNode.get("results");
                 
                 if (results != null && results.size() > 0) {
@@ -1453,8 +1215,11 @@ public class KobisApiService {
     public NationAndGrade fetchNationAndGrade(String movieCd) {
         try {
             String url = String.format("http://www.kobis.or.kr/kobisopenapi/webservice/rest/movie/searchMovieInfo.json?key=%s&movieCd=%s", kobisApiKey, movieCd);
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-            JsonNode rootNode = objectMapper.readTree(response.getBody());
+            String response = ingestionPipeline.get(IngestionPipeline.Upstream.KOBIS, url);
+            if (response == null) {
+                return null;
+            }
+            JsonNode rootNode = objectMapper.readTree(response);
             JsonNode movieInfo = rootNode.path("movieInfoResult").path("movieInfo");
             String nationNm = "";
             if (movieInfo.has("nations") && movieInfo.get("nations").isArray() && movieInfo.get("nations").size() > 0) {
@@ -0,0 +1,197 @@
+package com.movie.movie_backend.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.movie.movie_backend.dto.MovieListDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * KOBIS 목록 응답(영화목록/박스오피스) 스트리밍 파서
+ * - JsonNode 트리를 만들지 않고 JsonParser 토큰을 따라가며 목록 항목을 하나씩 변환해서 넘겨줌
+ * - 항목 안의 중첩 배열/객체(directors, companys 등)는 읽지 않고 건너뜀
+ * - chunkSize를 받는 메서드는 항목을 그만큼 모일 때마다 넘겨줌 (호출하는 쪽은 목록 전체를 모으지 않고 묶음마다 저장)
+ */
+@Slf4j
+@Component
+public class KobisListStreamReader {
+
+    private static final DateTimeFormatter KOBIS_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter ISO_DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    /**
+     * 박스오피스 목록 항목 (boxOfficeResult.dailyBoxOfficeList / weeklyBoxOfficeList)
+     */
+    public record BoxOfficeItem(String movieCd, String movieNm, int rank, long salesAmt, long audiCnt, long audiAcc,
+                                LocalDate openDt) {
+    }
+
+    private final JsonFactory jsonFactory;
+
+    public KobisListStreamReader(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * movieListResult.movieList 항목을 MovieListDto로 변환해서 순서대로 전달 (posterUrl은 비어 있음)
+     * @return 목록 항목 수, movieList가 없으면 -1
+     */
+    public int readMovieList(String json, Consumer<MovieListDto> consumer) throws IOException {
+        return readList(json, "movieListResult", "movieList", fields -> {
+            String movieCd = fields.get("movieCd");
+            String movieNm = fields.get("movieNm");
+            if (movieCd == null || movieNm == null) {
+                log.warn("영화목록 항목에 movieCd/movieNm 없음: {}", fields);
+                return;
+            }
+            consumer.accept(MovieListDto.builder()
+                    .movieCd(movieCd)
+                    .movieNm(movieNm)
+                    .movieNmEn(fields.getOrDefault("movieNmEn", ""))
+                    .openDt(parseDate(fields.get("openDt")))
+                    .genreNm(fields.getOrDefault("genreNm", ""))
+                    .nationNm(fields.getOrDefault("nationNm", ""))
+                    .watchGradeNm(fields.getOrDefault("watchGradeNm", ""))
+                    .build());
+        });
+    }
+
+    /**
+     * boxOfficeResult.{listField} 항목을 순위 순서대로 전달
+     * @return 목록 항목 수, 목록이 없으면 -1
+     */
+    public int readBoxOfficeList(String json, String listField, Consumer<BoxOfficeItem> consumer) throws IOException {
+        return readList(json, "boxOfficeResult", listField, fields -> {
+            try {
+                consumer.accept(new BoxOfficeItem(
+                        fields.get("movieCd"),
+                        fields.get("movieNm"),
+                        Integer.parseInt(fields.get("rank")),
+                        Long.parseLong(fields.get("salesAmt")),
+                        Long.parseLong(fields.get("audiCnt")),
+                        Long.parseLong(fields.get("audiAcc")),
+                        parseDate(fields.get("openDt"))));
+            } catch (NumberFormatException e) {
+                log.warn("박스오피스 항목 파싱 실패: {}", fields);
+            }
+        });
+    }
+
+    /**
+     * readMovieList를 chunkSize개씩 묶어서 전달 (마지막 묶음은 더 작을 수 있음)
+     */
+    public int readMovieList(String json, int chunkSize, Consumer<List<MovieListDto>> chunkConsumer) throws IOException {
+        return readInChunks(chunkSize, chunkConsumer, consumer -> readMovieList(json, consumer));
+    }
+
+    /**
+     * readBoxOfficeList를 chunkSize개씩 묶어서 순위 순서대로 전달 (마지막 묶음은 더 작을 수 있음)
+     */
+    public int readBoxOfficeList(String json, String listField, int chunkSize,
+                                 Consumer<List<BoxOfficeItem>> chunkConsumer) throws IOException {
+        return readInChunks(chunkSize, chunkConsumer, consumer -> readBoxOfficeList(json, listField, consumer));
+    }
+
+    @FunctionalInterface
+    private interface ItemReader<T> {
+        int read(Consumer<T> consumer) throws IOException;
+    }
+
+    private static <T> int readInChunks(int chunkSize, Consumer<List<T>> chunkConsumer, ItemReader<T> reader)
+            throws IOException {
+        List<T> chunk = new ArrayList<>(chunkSize);
+        int count = reader.read(item -> {
+            chunk.add(item);
+            if (chunk.size() >= chunkSize) {
+                chunkConsumer.accept(List.copyOf(chunk));
+                chunk.clear();
+            }
+        });
+        if (!chunk.isEmpty()) {
+            chunkConsumer.accept(List.copyOf(chunk));
+        }
+        return count;
+    }
+
+    /**
+     * 최상위 객체의 resultField 객체 안 listField 배열을 따라가며, 항목마다 스칼라 필드만 모아서 전달
+     * (필드 맵은 항목마다 재사용하므로 consumer 밖으로 넘기지 않음)
+     */
+    private int readList(String json, String resultField, String listField, Consumer<Map<String, String>> itemConsumer)
+            throws IOException {
+        if (json == null) {
+            return -1;
+        }
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT
+                    || !moveToField(parser, resultField) || parser.nextToken() != JsonToken.START_OBJECT
+                    || !moveToField(parser, listField) || parser.nextToken() != JsonToken.START_ARRAY) {
+                return -1;
+            }
+            int count = 0;
+            Map<String, String> fields = new HashMap<>();
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                if (token != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    continue;
+                }
+                fields.clear();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    if (value.isScalarValue()) {
+                        if (value != JsonToken.VALUE_NULL) {
+                            fields.put(name, parser.getText());
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                count++;
+                itemConsumer.accept(fields);
+            }
+            return count;
+        }
+    }
+
+    /**
+     * 현재 객체 안에서 name 필드까지 이동 (앞의 다른 필드 값은 건너뜀), 없으면 false
+     */
+    private static boolean moveToField(JsonParser parser, String name) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            if (name.equals(parser.currentName())) {
+                return true;
+            }
+            parser.nextToken();
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    /**
+     * KOBIS 날짜 (영화목록은 yyyyMMdd, 박스오피스는 yyyy-MM-dd), 비었거나 형식이 다르면 null
+     */
+    static LocalDate parseDate(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value, value.indexOf('-') > 0 ? ISO_DATE : KOBIS_DATE);
+        } catch (Exception e) {
+            log.warn("날짜 파싱 실패: {}", value);
+            return null;
+        }
+    }
+}
@@ -21,8 +21,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.http.ResponseEntity;
 import com.movie.movie_backend.util.MovieTitleUtil;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -42,7 +40,8 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class KobisPopularMovieService {
 
-    private final RestTemplate restTemplate;
+    private final IngestionPipeline ingestionPipeline;
+    private final KobisListStreamReader kobisListStreamReader;
     private final ObjectMapper objectMapper;
     private final KobisApiService kobisApiService;
     private final TmdbPopularMovieService tmdbPopularMovieService;
@@ -53,6 +52,7 @@ public class KobisPopularMovieService {
     private final CastRepository castRepository;
     private final PRDMovieListRepository movieListRepository;
     private final MovieListMapper movieListMapper;
+    private final MovieSearchIndexService movieSearchIndexService;
 
     @Value("${kobis.api.key}")
     private String kobisApiKey;
@@ -61,6 +61,7 @@ public class KobisPopularMovieService {
     private static final String DAILY_BOX_OFFICE_URL = BASE_URL + "/boxoffice/searchDailyBoxOfficeList.json";
     private static final String WEEKLY_BOX_OFFICE_URL = BASE_URL + "/boxoffice/searchWeeklyBoxOfficeList.json";
     private static final String MOVIE_LIST_URL = BASE_URL + "/movie/searchMovieList.json";
+    private static final int MOVIE_LIST_CHUNK_SIZE = 20; // 영화목록 항목을 이만큼 읽을 때마다 MovieList 저장
 
     /**
      * KOBIS 박스오피스 TOP-100 영화를 MovieListDto로 가져오기
@@ -83,7 +84,7 @@ public class KobisPopularMovieService {
                 
                 log.info("KOBIS 주간 박스오피스 API 호출: week={}, date={}, 현재 수집된 영화: {}개", 
                     week, dateStr, popularMovies.size());
-                String response = restTemplate.getForObject(url, String.class);
+                String response = ingestionPipeline.get(IngestionPipeline.Upstream.KOBIS, url);
                 JsonNode root = objectMapper.readTree(response);
                 JsonNode boxOfficeResult = root.get("boxOfficeResult");
                 
@@ -144,7 +145,7 @@ public class KobisPopularMovieService {
                     
                     log.info("KOBIS 일일 박스오피스 API 호출: day={}, date={}, 현재 수집된 영화: {}개", 
                         day, dateStr, popularMovies.size());
-                    String response = restTemplate.getForObject(url, String.class);
+                    String response = ingestionPipeline.get(IngestionPipeline.Upstream.KOBIS, url);
                     JsonNode root = objectMapper.readTree(response);
                     JsonNode boxOfficeResult = root.get("boxOfficeResult");
                     
@@ -289,9 +290,9 @@ public class KobisPopularMovieService {
             String url = String.format("https://api.themoviedb.org/3/search/movie?api_key=%s&query=%s&language=ko-KR%s", 
                 tmdbPopularMovieService.getTmdbApiKey(), query, year != null ? "&year=" + year : "");
             
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-            if (response.getStatusCode().is2xxSuccessful()) {
-                JsonNode rootNode = objectMapper.readTree(response.getBody());
+            String response = ingestionPipeline.get(IngestionPipeline.Upstream.TMDB, url);
+            if (response != null) {
+                JsonNode rootNode = objectMapper.readTree(response);
                 JsonNode results = rootNode.get("results");
                 
                 if (results != null && results.size() > 0) {
@@ -378,7 +379,7 @@ public class KobisPopularMovieService {
             String searchUrl = String.format("https://api.themoviedb.org/3/search/movie?api_key=%s&query=%s&language=ko-KR",
                     tmdbPopularMovieService.getTmdbApiKey(), movieNm);
             
-            String response = restTemplate.getForObject(searchUrl, String.class);
+            String response = ingestionPipeline.get(IngestionPipeline.Upstream.TMDB, searchUrl);
             JsonNode root = objectMapper.readTree(response);
             JsonNode results = root.get("results");
             
@@ -434,7 +435,7 @@ public class KobisPopularMovieService {
             String creditsUrl = String.format("https://api.themoviedb.org/3/movie/%s/credits?api_key=%s",
                     tmdbId, tmdbPopularMovieService.getTmdbApiKey());
             
-            String response = restTemplate.getForObject(creditsUrl, String.class);
+            String response = ingestionPipeline.get(IngestionPipeline.Upstream.TMDB, creditsUrl);
             JsonNode root = objectMapper.readTree(response);
             
             // 감독 정보 저장
@@ -459,6 +460,9 @@ public class KobisPopularMovieService {
                 saveTmdbActors(cast, savedMovieDetail);
             }
             
+            // 검색 인덱스 갱신 (감독, 배우)
+            movieSearchIndexService.reindex(savedMovieDetail.getMovieCd());
+            
             return savedMovieDetail;
             
         } catch (Exception e) {
@@ -612,7 +616,7 @@ public class KobisPopularMovieService {
             String detailUrl = String.format("%s/movie/searchMovieInfo.json?key=%s&movieCd=%s",
                     BASE_URL, kobisApiKey, movieCd);
             
-            String response = restTemplate.getForObject(detailUrl, String.class);
+            String response = ingestionPipeline.get(IngestionPipeline.Upstream.KOBIS, detailUrl);
             JsonNode root = objectMapper.readTree(response);
             JsonNode movieInfo = root.get("movieInfoResult").get("movieInfo");
             
@@ -649,7 +653,7 @@ public class KobisPopularMovieService {
             String url = "https://api.themoviedb.org/3/search/person?api_key=" + 
                     tmdbPopularMovieService.getTmdbApiKey() + "&query=" + query;
             
-            String response = restTemplate.getForObject(url, String.class);
+            String response = ingestionPipeline.get(IngestionPipeline.Upstream.TMDB, url);
             JsonNode root = objectMapper.readTree(response);
             JsonNode results = root.get("results");
             
@@ -799,28 +803,9 @@ public class KobisPopularMovieService {
                 String url = String.format("%s?key=%s&openStartDt=%s&openEndDt=%s&itemPerPage=%d", 
                     MOVIE_LIST_URL, kobisApiKey, yearStr, yearStr, maxPerYear);
                 log.info("KOBIS 영화목록 API 호출 (연도 {}): {}", year, url);
-                String response = restTemplate.getForObject(url, String.class);
+                String response = ingestionPipeline.get(IngestionPipeline.Upstream.KOBIS, url);
                 if (response != null) {
-                    JsonNode root = objectMapper.readTree(response);
-                    JsonNode movieListResult = root.get("movieListResult");
-                    if (movieListResult != null && movieListResult.get("movieList") != null) {
-                        JsonNode movieList = movieListResult.get("movieList");
-                        for (JsonNode movie : movieList) {
-                            if (movies.size() >= maxPerYear) break;
-                            String movieCd = movie.get("movieCd").asText();
-                            if (!addedMovieCds.contains(movieCd)) {
-                                MovieListDto movieDto = convertMovieListToDto(movie);
-                                if (movieDto != null) {
-                                    movies.add(movieDto);
-                                    addedMovieCds.add(movieCd);
-                                    if (!movieListRepository.existsByMovieCd(movieCd)) {
-                                        MovieList entity = movieListMapper.toEntity(movieDto);
-                                        movieListRepository.save(entity);
-                                    }
-                                }
-                            }
-                        }
-                    }
+                    collectMovieListPage(response, movies, addedMovieCds, maxPerYear, false);
                 }
                 Thread.sleep(200); // API 호출 제한
             } catch (Exception e) {
@@ -843,34 +828,10 @@ public class KobisPopularMovieService {
                 MOVIE_LIST_URL, kobisApiKey, encodedGenre, maxCount);
             
             log.info("KOBIS 영화목록 API 호출 (장르 {}): {}", genre, url);
-            String response = restTemplate.getForObject(url, String.class);
+            String response = ingestionPipeline.get(IngestionPipeline.Upstream.KOBIS, url);
             
             if (response != null) {
-                JsonNode root = objectMapper.readTree(response);
-                JsonNode movieListResult = root.get("movieListResult");
-                
-                if (movieListResult != null && movieListResult.get("movieList") != null) {
-                    JsonNode movieList = movieListResult.get("movieList");
-                    
-                    for (JsonNode movie : movieList) {
-                        if (movies.size() >= maxCount) break;
-                        
-                        String movieCd = movie.get("movieCd").asText();
-                        if (!addedMovieCds.contains(movieCd)) {
-                            MovieListDto movieDto = convertMovieListToDto(movie);
-                            if (movieDto != null) {
-                                movies.add(movieDto);
-                                addedMovieCds.add(movieCd);
-                                
-                                // MovieList에 저장
-                                if (!movieListRepository.existsByMovieCd(movieCd)) {
-                                    MovieList entity = movieListMapper.toEntity(movieDto);
-                                    movieListRepository.save(entity);
-                                }
-                            }
-                        }
-                    }
-                }
+                collectMovieListPage(response, movies, addedMovieCds, maxCount, false);
             }
             
         } catch (Exception e) {
@@ -893,34 +854,10 @@ public class KobisPopularMovieService {
                 MOVIE_LIST_URL, kobisApiKey, encodedCountry, maxCount);
             
             log.info("KOBIS 영화목록 API 호출 (국가 {}): {}", country, url);
-            String response = restTemplate.getForObject(url, String.class);
+            String response = ingestionPipeline.get(IngestionPipeline.Upstream.KOBIS, url);
             
             if (response != null) {
-                JsonNode root = objectMapper.readTree(response);
-                JsonNode movieListResult = root.get("movieListResult");
-                
-                if (movieListResult != null && movieListResult.get("movieList") != null) {
-                    JsonNode movieList = movieListResult.get("movieList");
-                    
-                    for (JsonNode movie : movieList) {
-                        if (movies.size() >= maxCount) break;
-                        
-                        String movieCd = movie.get("movieCd").asText();
-                        if (!addedMovieCds.contains(movieCd)) {
-                            MovieListDto movieDto = convertMovieListToDto(movie);
-                            if (movieDto != null) {
-                                movies.add(movieDto);
-                                addedMovieCds.add(movieCd);
-                                
-                                // MovieList에 저장
-                                if (!movieListRepository.existsByMovieCd(movieCd)) {
-                                    MovieList entity = movieListMapper.toEntity(movieDto);
-                                    movieListRepository.save(entity);
-                                }
-                            }
-                        }
-                    }
-                }
+                collectMovieListPage(response, movies, addedMovieCds, maxCount, false);
             }
             
         } catch (Exception e) {
@@ -932,41 +869,50 @@ public class KobisPopularMovieService {
     }
     
     /**
-     * KOBIS 영화목록 API 응답을 MovieListDto로 변환
+     * KOBIS 영화목록 API 응답 한 페이지를 스트리밍으로 읽어서 새 영화만 movies에 추가
+     * - JsonNode 트리 없이 항목이 읽히는 대로 MovieListDto로 변환 (포스터는 추가할 영화만 TMDB에서 조회)
+     * - 새로 추가할 영화는 MOVIE_LIST_CHUNK_SIZE개씩 읽힐 때마다 MovieList에 바로 저장 (페이지 전체를 모으지 않음)
+     * @return 응답의 영화목록 항목 수, movieList가 없으면 -1
      */
-    private MovieListDto convertMovieListToDto(JsonNode movie) {
-        try {
-            String movieCd = movie.get("movieCd").asText();
-            String movieNm = movie.get("movieNm").asText();
-            String movieNmEn = movie.has("movieNmEn") ? movie.get("movieNmEn").asText() : "";
-            String openDt = movie.has("openDt") ? movie.get("openDt").asText() : "";
-            String genreNm = movie.has("genreNm") ? movie.get("genreNm").asText() : "";
-            String nationNm = movie.has("nationNm") ? movie.get("nationNm").asText() : "";
-            String watchGradeNm = movie.has("watchGradeNm") ? movie.get("watchGradeNm").asText() : "";
-            // 날짜 파싱
-            LocalDate openDate = null;
-            if (!openDt.isEmpty()) {
-                try {
-                    openDate = LocalDate.parse(openDt, DateTimeFormatter.ofPattern("yyyyMMdd"));
-                } catch (Exception e) {
-                    log.warn("날짜 파싱 실패: {}", openDt);
+    private int collectMovieListPage(String response, List<MovieListDto> movies, Set<String> addedMovieCds,
+                                     int limit, boolean skipAdult) throws java.io.IOException {
+        return kobisListStreamReader.readMovieList(response, MOVIE_LIST_CHUNK_SIZE, chunk -> {
+            List<MovieListDto> newMovies = new ArrayList<>();
+            for (MovieListDto movie : chunk) {
+                if (movies.size() + newMovies.size() >= limit || addedMovieCds.contains(movie.getMovieCd())) {
+                    continue;
+                }
+                // 청소년관람불가 영화는 건너뜀
+                if (skipAdult && "청소년관람불가".equals(movie.getWatchGradeNm())) {
+                    continue;
                 }
+                movie.setPosterUrl(getPosterUrl(movie.getMovieNm(), movie.getOpenDt()));
+                newMovies.add(movie);
+                addedMovieCds.add(movie.getMovieCd());
             }
-            // TMDB에서 포스터 URL 가져오기
-            String posterUrl = getPosterUrl(movieNm, openDate);
-            return MovieListDto.builder()
-                    .movieCd(movieCd)
-                    .movieNm(movieNm)
-                    .movieNmEn(movieNmEn)
-                    .openDt(openDate)
-                    .genreNm(genreNm)
-                    .nationNm(nationNm)
-                    .posterUrl(posterUrl)
-                    .watchGradeNm(watchGradeNm)
-                    .build();
-        } catch (Exception e) {
-            log.warn("영화목록 API 응답 변환 실패", e);
-            return null;
+            saveNewMovieLists(newMovies);
+            movies.addAll(newMovies);
+        });
+    }
+
+    /**
+     * MovieList에 없는 영화만 저장 (존재 여부는 IN 쿼리 한 번으로 확인)
+     */
+    private void saveNewMovieLists(List<MovieListDto> movies) {
+        if (movies.isEmpty()) {
+            return;
+        }
+        Set<String> existing = movieListRepository.findByMovieCdIn(movies.stream().map(MovieListDto::getMovieCd).toList())
+                .stream()
+                .map(MovieList::getMovieCd)
+                .collect(java.util.stream.Collectors.toSet());
+        List<MovieList> entities = movies.stream()
+                .filter(movie -> !existing.contains(movie.getMovieCd()))
+                .map(movieListMapper::toEntity)
+                .toList();
+        if (!entities.isEmpty()) {
+            movieListRepository.saveAll(entities);
+            log.debug("MovieList 저장: {}개", entities.size());
         }
     }
 
@@ -996,50 +942,24 @@ public class KobisPopularMovieService {
                     MOVIE_LIST_URL, kobisApiKey, startDateStr, endDateStr, page);
                 
                 log.info("KOBIS 영화목록 API 호출 (매출액순, 페이지 {}): {}", page, url);
-                String response = restTemplate.getForObject(url, String.class);
+                String response = ingestionPipeline.get(IngestionPipeline.Upstream.KOBIS, url);
                 
                 if (response == null) {
                     log.error("KOBIS API 응답이 null입니다. page={}", page);
                     break;
                 }
                 
-                JsonNode root = objectMapper.readTree(response);
-                JsonNode movieListResult = root.get("movieListResult");
-                
-                if (movieListResult == null || movieListResult.get("movieList") == null) {
+                int before = popularMovies.size();
+                int pageSize = collectMovieListPage(response, popularMovies, addedMovieCds, limit, true);
+                if (pageSize < 0) {
                     log.warn("KOBIS API 응답에 movieList가 없습니다. page={}", page);
                     break;
                 }
+                log.info("KOBIS API 응답에서 영화 {}개 발견 (페이지 {}, 매출액순)", pageSize, page);
+                log.info("페이지 {}에서 {}개 영화 추가 (총 {}개)", page, popularMovies.size() - before, popularMovies.size());
                 
-                JsonNode movieList = movieListResult.get("movieList");
-                log.info("KOBIS API 응답에서 영화 {}개 발견 (페이지 {}, 매출액순)", movieList.size(), page);
-                
-                int pageMovieCount = 0;
-                for (JsonNode movie : movieList) {
-                    if (popularMovies.size() >= limit) break;
-                    String movieCd = movie.get("movieCd").asText();
-                    if (!addedMovieCds.contains(movieCd)) {
-                        MovieListDto movieDto = convertMovieListToDto(movie);
-                        if (movieDto != null) {
-                            // 청소년관람불가 영화는 건너뜀
-                            if ("청소년관람불가".equals(movieDto.getWatchGradeNm())) continue;
-                            popularMovies.add(movieDto);
-                            addedMovieCds.add(movieCd);
-                            pageMovieCount++;
-                            // MovieList에 저장
-                            if (!movieListRepository.existsByMovieCd(movieCd)) {
-                                MovieList entity = movieListMapper.toEntity(movieDto);
-                                movieListRepository.save(entity);
-                                log.debug("인기 영화 저장: {} ({}) - 매출액순", movieDto.getMovieNm(), movieCd);
-                            }
-                        }
-                    }
-                }
-                
-                log.info("페이지 {}에서 {}개 영화 추가 (총 {}개)", page, pageMovieCount, popularMovies.size());
-                
-                if (movieList.size() < 100) {
-                    log.info("마지막 페이지 도달 ({}개 영화)", movieList.size());
+                if (pageSize < 100) {
+                    log.info("마지막 페이지 도달 ({}개 영화)", pageSize);
                     break;
                 }
                 
@@ -1071,42 +991,21 @@ public class KobisPopularMovieService {
                 String url = String.format("%s?key=%s&openStartDt=%s&openEndDt=%s&itemPerPage=100&curPage=%d&salesAmt=desc",
                     MOVIE_LIST_URL, kobisApiKey, yearStr, yearStr, page);
                 log.info("KOBIS 영화목록 API 호출 ({}년, 매출액순, 페이지 {}): {}", year, page, url);
-                String response = restTemplate.getForObject(url, String.class);
+                String response = ingestionPipeline.get(IngestionPipeline.Upstream.KOBIS, url);
                 if (response == null) {
                     log.error("KOBIS API 응답이 null입니다. page={}", page);
                     break;
                 }
-                JsonNode root = objectMapper.readTree(response);
-                JsonNode movieListResult = root.get("movieListResult");
-                if (movieListResult == null || movieListResult.get("movieList") == null) {
+                int before = popularMovies.size();
+                int pageSize = collectMovieListPage(response, popularMovies, addedMovieCds, limit, true);
+                if (pageSize < 0) {
                     log.warn("KOBIS API 응답에 movieList가 없습니다. page={}", page);
                     break;
                 }
-                JsonNode movieList = movieListResult.get("movieList");
-                log.info("KOBIS API 응답에서 영화 {}개 발견 ({}년, 페이지 {}, 매출액순)", movieList.size(), year, page);
-                int pageMovieCount = 0;
-                for (JsonNode movie : movieList) {
-                    if (popularMovies.size() >= limit) break;
-                    String movieCd = movie.get("movieCd").asText();
-                    if (!addedMovieCds.contains(movieCd)) {
-                        MovieListDto movieDto = convertMovieListToDto(movie);
-                        if (movieDto != null) {
-                            // 청소년관람불가 영화는 건너뜀
-                            if ("청소년관람불가".equals(movieDto.getWatchGradeNm())) continue;
-                            popularMovies.add(movieDto);
-                            addedMovieCds.add(movieCd);
-                            pageMovieCount++;
-                            if (!movieListRepository.existsByMovieCd(movieCd)) {
-                                MovieList entity = movieListMapper.toEntity(movieDto);
-                                movieListRepository.save(entity);
-                                log.debug("{}년 인기 영화 저장: {} ({}) - 매출액순", year, movieDto.getMovieNm(), movieCd);
-                            }
-                        }
-                    }
-                }
-                log.info("{}년, 페이지 {}에서 {}개 영화 추가 (총 {}개)", year, page, pageMovieCount, popularMovies.size());
-                if (movieList.size() < 100) {
-                    log.info("{}년 마지막 페이지 도달 ({}개 영화)", year, movieList.size());
+                log.info("KOBIS API 응답에서 영화 {}개 발견 ({}년, 페이지 {}, 매출액순)", pageSize, year, page);
+                log.info("{}년, 페이지 {}에서 {}개 영화 추가 (총 {}개)", year, page, popularMovies.size() - before, popularMovies.size());
+                if (pageSize < 100) {
+                    log.info("{}년 마지막 페이지 도달 ({}개 영화)", year, pageSize);
                     break;
                 }
                 page++;
@@ -1145,54 +1044,39 @@ public class KobisPopularMovieService {
                     MOVIE_LIST_URL, kobisApiKey, startDateStr, endDateStr, page);
                 
                 log.info("KOBIS 영화목록 API 호출 (개봉일순, 페이지 {}): {}", page, url);
-                String response = restTemplate.getForObject(url, String.class);
+                String response = ingestionPipeline.get(IngestionPipeline.Upstream.KOBIS, url);
                 
                 if (response == null) {
                     log.error("KOBIS API 응답이 null입니다. page={}", page);
                     break;
                 }
                 
-                JsonNode root = objectMapper.readTree(response);
-                JsonNode movieListResult = root.get("movieListResult");
-                
-                if (movieListResult == null || movieListResult.get("movieList") == null) {
+                int before = recentMovies.size();
+                int pageSize = collectMovieListPage(response, recentMovies, addedMovieCds, limit, true);
+                if (pageSize < 0) {
                     log.warn("KOBIS API 응답에 movieList가 없습니다. page={}", page);
                     break;
                 }
+                log.info("KOBIS API 응답에서 영화 {}개 발견 (페이지 {}, 개봉일순)", pageSize, page);
                 
-                JsonNode movieList = movieListResult.get("movieList");
-                log.info("KOBIS API 응답에서 영화 {}개 발견 (페이지 {}, 개봉일순)", movieList.size(), page);
-                
-                int pageMovieCount = 0;
-                for (JsonNode movie : movieList) {
-                    if (recentMovies.size() >= limit) break;
-                    String movieCd = movie.get("movieCd").asText();
-                    if (!addedMovieCds.contains(movieCd)) {
-                        MovieListDto movieDto = convertMovieListToDto(movie);
-                        if (movieDto != null) {
-                            // 청소년관람불가 영화는 건너뜀
-                            if ("청소년관람불가".equals(movieDto.getWatchGradeNm())) continue;
-                            recentMovies.add(movieDto);
-                            addedMovieCds.add(movieCd);
-                            pageMovieCount++;
-                            // MovieList에 저장
-                            if (!movieListRepository.existsByMovieCd(movieCd)) {
-                                MovieList entity = movieListMapper.toEntity(movieDto);
-                                movieListRepository.save(entity);
-                                log.debug("최신 영화 저장: {} ({}) - 개봉일순", movieDto.getMovieNm(), movieCd);
-                            }
-                            // 영화 저장 루프 내에 아래 코드 추가
-                            if (!movieRepository.existsByMovieCd(movieCd)) {
-                                kobisApiService.fetchAndSaveMovieDetail(movieCd);
-                            }
-                        }
+                // 이번 페이지에서 추가한 영화 중 MovieDetail이 없는 것만 일괄 저장
+                List<String> pageMovieCds = recentMovies.subList(before, recentMovies.size()).stream()
+                        .map(MovieListDto::getMovieCd)
+                        .toList();
+                if (!pageMovieCds.isEmpty()) {
+                    Set<String> existingDetails = movieRepository.findByMovieCdIn(pageMovieCds).stream()
+                            .map(MovieDetail::getMovieCd)
+                            .collect(java.util.stream.Collectors.toSet());
+                    List<String> missing = pageMovieCds.stream().filter(movieCd -> !existingDetails.contains(movieCd)).toList();
+                    if (!missing.isEmpty()) {
+                        kobisApiService.fetchAndSaveMovieDetails(missing);
                     }
                 }
                 
-                log.info("페이지 {}에서 {}개 영화 추가 (총 {}개)", page, pageMovieCount, recentMovies.size());
+                log.info("페이지 {}에서 {}개 영화 추가 (총 {}개)", page, pageMovieCds.size(), recentMovies.size());
                 
-                if (movieList.size() < 100) {
-                    log.info("마지막 페이지 도달 ({}개 영화)", movieList.size());
+                if (pageSize < 100) {
+                    log.info("마지막 페이지 도달 ({}개 영화)", pageSize);
                     break;
                 }
                 
@@ -0,0 +1,156 @@
+package com.movie.movie_backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 로그 테이블(search_log, recommendation_log, movie_visit_log) 보존 기간 정리
+ * - 한 번의 큰 DELETE 대신 시각 인덱스 순서로 chunk-size건씩 나눠 지우고(청크마다 짧은 트랜잭션), 청크 사이에 쉬어서 부하 제한
+ * - 한 번 실행에 max-run-minutes를 넘기면 멈추고 다음 실행에서 이어서 지움 (status = PARTIAL)
+ * - 테이블별 진행 상황은 log_retention_progress에 청크마다 기록
+ */
+@Slf4j
+@Service
+public class LogRetentionService {
+
+    static final String STATUS_RUNNING = "RUNNING";
+    static final String STATUS_DONE = "DONE";
+    static final String STATUS_PARTIAL = "PARTIAL";
+    static final String STATUS_FAILED = "FAILED";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<Target> targets;
+    private final int chunkSize;
+    private final long pauseMillis;
+    private final long maxRunMillis;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * 정리 대상 테이블 (테이블명, 시각 컬럼, 보존 일수)
+     */
+    record Target(String table, String timeColumn, int retentionDays) {
+    }
+
+    public LogRetentionService(JdbcTemplate jdbcTemplate,
+                               @Value("${log.retention.search-log-days:30}") int searchLogDays,
+                               @Value("${log.retention.recommendation-log-days:90}") int recommendationLogDays,
+                               @Value("${log.retention.movie-visit-log-days:180}") int movieVisitLogDays,
+                               @Value("${log.retention.chunk-size:5000}") int chunkSize,
+                               @Value("${log.retention.pause-ms:200}") long pauseMillis,
+                               @Value("${log.retention.max-run-minutes:30}") long maxRunMinutes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.targets = List.of(
+                new Target("search_log", "searched_at", searchLogDays),
+                new Target("recommendation_log", "recommended_at", recommendationLogDays),
+                new Target("movie_visit_log", "visited_at", movieVisitLogDays));
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+        this.maxRunMillis = maxRunMinutes * 60_000;
+    }
+
+    // 매일 새벽 3시에 실행
+    @Scheduled(cron = "${log.retention.cron:0 0 3 * * *}")
+    public void purgeExpiredLogs() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("로그 보존 기간 정리가 이미 실행 중");
+            return;
+        }
+        try {
+            long deadline = System.currentTimeMillis() + maxRunMillis;
+            for (Target target : targets) {
+                purge(target, deadline);
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 테이블별 진행 상황
+     */
+    public List<Map<String, Object>> getProgress() {
+        return new ArrayList<>(jdbcTemplate.queryForList(
+                "SELECT table_name, retention_days, cutoff, status, run_deleted_rows, total_deleted_rows, " +
+                "run_started_at, run_finished_at, updated_at, last_error FROM log_retention_progress ORDER BY table_name"));
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    private void purge(Target target, long deadline) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime cutoff = startedAt.minusDays(target.retentionDays());
+        String deleteSql = "DELETE FROM " + target.table() + " WHERE " + target.timeColumn() + " < ? " +
+                "ORDER BY " + target.timeColumn() + " LIMIT " + chunkSize;
+        long deleted = 0;
+        try {
+            start(target, cutoff, startedAt);
+            while (true) {
+                int affected = jdbcTemplate.update(deleteSql, Timestamp.valueOf(cutoff));
+                deleted += affected;
+                if (affected < chunkSize) {
+                    finish(target, STATUS_DONE, affected, deleted, null);
+                    break;
+                }
+                if (System.currentTimeMillis() >= deadline) {
+                    finish(target, STATUS_PARTIAL, affected, deleted, null);
+                    log.info("로그 정리 시간 초과, 다음 실행에서 이어서 진행: table={}, 이번 실행 {}건", target.table(), deleted);
+                    return;
+                }
+                progress(target, affected, deleted);
+                Thread.sleep(pauseMillis);
+            }
+            log.info("로그 보존 기간 정리 완료: table={}, 기준={}, {}건 삭제", target.table(), cutoff, deleted);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            finish(target, STATUS_PARTIAL, 0, deleted, "interrupted");
+        } catch (Exception e) {
+            log.error("로그 보존 기간 정리 실패: table={}, {}", target.table(), e.getMessage());
+            finish(target, STATUS_FAILED, 0, deleted, e.getMessage());
+        }
+    }
+
+    private void start(Target target, LocalDateTime cutoff, LocalDateTime startedAt) {
+        jdbcTemplate.update(
+                "INSERT INTO log_retention_progress (table_name, retention_days, cutoff, status, run_deleted_rows, " +
+                "total_deleted_rows, run_started_at, run_finished_at, updated_at, last_error) " +
+                "VALUES (?, ?, ?, ?, 0, 0, ?, NULL, ?, NULL) " +
+                "ON DUPLICATE KEY UPDATE retention_days = VALUES(retention_days), cutoff = VALUES(cutoff), " +
+                "status = VALUES(status), run_deleted_rows = 0, run_started_at = VALUES(run_started_at), " +
+                "run_finished_at = NULL, updated_at = VALUES(updated_at), last_error = NULL",
+                target.table(), target.retentionDays(), Timestamp.valueOf(cutoff), STATUS_RUNNING,
+                Timestamp.valueOf(startedAt), Timestamp.valueOf(startedAt));
+    }
+
+    private void progress(Target target, int chunkDeleted, long runDeleted) {
+        jdbcTemplate.update(
+                "UPDATE log_retention_progress SET run_deleted_rows = ?, total_deleted_rows = total_deleted_rows + ?, " +
+                "updated_at = ? WHERE table_name = ?",
+                runDeleted, chunkDeleted, Timestamp.valueOf(LocalDateTime.now()), target.table());
+    }
+
+    private void finish(Target target, String status, int chunkDeleted, long runDeleted, String error) {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            jdbcTemplate.update(
+                    "UPDATE log_retention_progress SET status = ?, run_deleted_rows = ?, " +
+                    "total_deleted_rows = total_deleted_rows + ?, run_finished_at = ?, updated_at = ?, last_error = ? " +
+                    "WHERE table_name = ?",
+                    status, runDeleted, chunkDeleted, Timestamp.valueOf(now), Timestamp.valueOf(now),
+                    error != null && error.length() > 500 ? error.substring(0, 500) : error, target.table());
+        } catch (Exception e) {
+            log.warn("로그 정리 진행 상황 기록 실패: table={}, {}", target.table(), e.getMessage());
+        }
+    }
+}
@@ -20,6 +20,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.Collections;
 import org.springframework.data.domain.Page;
@@ -190,15 +191,7 @@ public class McpChatbotService {
         try {
             List<MovieDetail> popularMovies = movieDetailRepository.findTop20ByOrderByTotalAudienceDesc();
             popularMovies = popularMovies.stream().distinct().limit(5).collect(Collectors.toList());
-            for (MovieDetail detail : popularMovies) {
-                MovieList movieList = movieListRepository.findById(detail.getMovieCd()).orElse(null);
-                MovieDetailDto dto = movieDetailMapper.toDto(detail, 0, false);
-                if (movieList != null) {
-                    dto.setPosterUrl(movieList.getPosterUrl());
-                    dto.setStatus(movieList.getStatus() != null ? movieList.getStatus().name() : null);
-                }
-                movies.add(dto);
-            }
+            movies.addAll(movieDetailMapper.toDtoList(popularMovies, null));
             // 최종 중복 제거 (movieCd 기준)
             movies = movies.stream()
                 .collect(Collectors.toMap(
@@ -223,15 +216,7 @@ public class McpChatbotService {
         try {
             List<MovieDetail> romanceMovies = movieDetailRepository.findByGenreNmContaining("로맨스");
             romanceMovies = romanceMovies.stream().distinct().limit(5).collect(Collectors.toList());
-            for (MovieDetail detail : romanceMovies) {
-                MovieList movieList = movieListRepository.findById(detail.getMovieCd()).orElse(null);
-                MovieDetailDto dto = movieDetailMapper.toDto(detail, 0, false);
-                if (movieList != null) {
-                    dto.setPosterUrl(movieList.getPosterUrl());
-                    dto.setStatus(movieList.getStatus() != null ? movieList.getStatus().name() : null);
-                }
-                movies.add(dto);
-            }
+            movies.addAll(movieDetailMapper.toDtoList(romanceMovies, null));
             // 최종 중복 제거 (movieCd 기준)
             movies = movies.stream()
                 .collect(Collectors.toMap(
@@ -256,15 +241,7 @@ public class McpChatbotService {
         try {
             List<MovieDetail> actionMovies = movieDetailRepository.findByGenreNmContaining("액션");
             actionMovies = actionMovies.stream().distinct().limit(5).collect(Collectors.toList());
-            for (MovieDetail detail : actionMovies) {
-                MovieList movieList = movieListRepository.findById(detail.getMovieCd()).orElse(null);
-                MovieDetailDto dto = movieDetailMapper.toDto(detail, 0, false);
-                if (movieList != null) {
-                    dto.setPosterUrl(movieList.getPosterUrl());
-                    dto.setStatus(movieList.getStatus() != null ? movieList.getStatus().name() : null);
-                }
-                movies.add(dto);
-            }
+            movies.addAll(movieDetailMapper.toDtoList(actionMovies, null));
             // 최종 중복 제거 (movieCd 기준)
             movies = movies.stream()
                 .collect(Collectors.toMap(
@@ -295,16 +272,7 @@ public class McpChatbotService {
             healingMovies = healingMovies.stream().distinct().limit(5).collect(Collectors.toList());
             System.out.println("DB에서 가져온 힐링 영화 수: " + healingMovies.size());
 
-            for (MovieDetail detail : healingMovies) {
-                MovieList movieList = movieListRepository.findById(detail.getMovieCd()).orElse(null);
-                MovieDetailDto dto = movieDetailMapper.toDto(detail, 0, false);
-                if (movieList != null) {
-                    dto.setPosterUrl(movieList.getPosterUrl());
-                    dto.setStatus(movieList.getStatus() != null ? movieList.getStatus().name() : null);
-                }
-                movies.add(dto);
-                System.out.println("힐링 영화 추가: " + detail.getMovieNm() + " (" + detail.getMovieCd() + ")");
-            }
+            movies.addAll(movieDetailMapper.toDtoList(healingMovies, null));
             // 최종 중복 제거 (movieCd 기준)
             movies = movies.stream()
                 .collect(Collectors.toMap(
@@ -495,15 +463,7 @@ public class McpChatbotService {
             thriller = thriller.stream().distinct().limit(10).collect(Collectors.toList());
             Collections.shuffle(thriller);
             thriller = thriller.stream().limit(5).collect(Collectors.toList());
-            for (MovieDetail detail : thriller) {
-                MovieList movieList = movieListRepository.findById(detail.getMovieCd()).orElse(null);
-                MovieDetailDto dto = movieDetailMapper.toDto(detail, 0, false);
-                if (movieList != null) {
-                    dto.setPosterUrl(movieList.getPosterUrl());
-                    dto.setStatus(movieList.getStatus() != null ? movieList.getStatus().name() : null);
-                }
-                movies.add(dto);
-            }
+            movies.addAll(movieDetailMapper.toDtoList(thriller, null));
             // 최종 중복 제거 (movieCd 기준)
             movies = movies.stream()
                 .collect(Collectors.toMap(
@@ -545,16 +505,7 @@ public class McpChatbotService {
             Collections.shuffle(nowPlaying);
             nowPlaying = nowPlaying.stream().limit(5).collect(Collectors.toList());
             
-            for (MovieList movieList : nowPlaying) {
-                MovieDetail detail = movieDetailRepository.findByMovieCd(movieList.getMovieCd());
-                if (detail != null) {
-                    MovieDetailDto dto = movieDetailMapper.toDto(detail, 0, false);
-                    dto.setPosterUrl(movieList.getPosterUrl());
-                    dto.setStatus(movieList.getStatus() != null ? movieList.getStatus().name() : null);
-                    movies.add(dto);
-                    System.out.println("상영중인 영화 추가: " + movieList.getMovieNm() + " (상태: " + movieList.getStatus() + ")");
-                }
-            }
+            movies.addAll(movieDetailMapper.toDtoList(findDetailsInOrder(nowPlaying), null));
             
             // 최종 중복 제거 (movieCd 기준)
             movies = movies.stream()
@@ -592,16 +543,7 @@ public class McpChatbotService {
             Collections.shuffle(comingSoon);
             comingSoon = comingSoon.stream().limit(5).collect(Collectors.toList());
             
-            for (MovieList movieList : comingSoon) {
-                MovieDetail detail = movieDetailRepository.findByMovieCd(movieList.getMovieCd());
-                if (detail != null) {
-                    MovieDetailDto dto = movieDetailMapper.toDto(detail, 0, false);
-                    dto.setPosterUrl(movieList.getPosterUrl());
-                    dto.setStatus(movieList.getStatus() != null ? movieList.getStatus().name() : null);
-                    movies.add(dto);
-                    System.out.println("개봉예정 영화 추가: " + movieList.getMovieNm() + " (상태: " + movieList.getStatus() + ")");
-                }
-            }
+            movies.addAll(movieDetailMapper.toDtoList(findDetailsInOrder(comingSoon), null));
             
             // 최종 중복 제거 (movieCd 기준)
             movies = movies.stream()
@@ -625,15 +567,12 @@ public class McpChatbotService {
                     .limit(5)
                     .collect(Collectors.toList());
                 
-                for (MovieDetail detail : futureMovies) {
-                    MovieList movieList = movieListRepository.findById(detail.getMovieCd()).orElse(null);
-                    MovieDetailDto dto = movieDetailMapper.toDto(detail, 0, false);
-                    if (movieList != null) {
-                        dto.setPosterUrl(movieList.getPosterUrl());
+                for (MovieDetailDto dto : movieDetailMapper.toDtoList(futureMovies, null)) {
+                    if (dto.getStatus() != null) {
                         dto.setStatus("COMING_SOON"); // 강제로 COMING_SOON 상태 설정
                     }
                     movies.add(dto);
-                    System.out.println("미래 개봉 영화 추가: " + detail.getMovieNm() + " (개봉일: " + detail.getOpenDt() + ")");
+                    System.out.println("미래 개봉 영화 추가: " + dto.getMovieNm() + " (개봉일: " + dto.getOpenDt() + ")");
                 }
                 
                 // 그래도 없으면 인기 영화로 대체
@@ -656,15 +595,7 @@ public class McpChatbotService {
             popular = popular.stream().distinct().limit(20).collect(Collectors.toList());
             Collections.shuffle(popular);
             popular = popular.stream().limit(5).collect(Collectors.toList());
-            for (MovieDetail detail : popular) {
-                MovieList movieList = movieListRepository.findById(detail.getMovieCd()).orElse(null);
-                MovieDetailDto dto = movieDetailMapper.toDto(detail, 0, false);
-                if (movieList != null) {
-                    dto.setPosterUrl(movieList.getPosterUrl());
-                    dto.setStatus(movieList.getStatus() != null ? movieList.getStatus().name() : null);
-                }
-                movies.add(dto);
-            }
+            movies.addAll(movieDetailMapper.toDtoList(popular, null));
             // 최종 중복 제거 (movieCd 기준)
             movies = movies.stream()
                 .collect(Collectors.toMap(
@@ -687,15 +618,7 @@ public class McpChatbotService {
         try {
             List<MovieDetail> comedy = movieDetailRepository.findByGenreNmContaining("코미디");
             comedy = comedy.stream().distinct().limit(5).collect(Collectors.toList());
-            for (MovieDetail detail : comedy) {
-                MovieList movieList = movieListRepository.findById(detail.getMovieCd()).orElse(null);
-                MovieDetailDto dto = movieDetailMapper.toDto(detail, 0, false);
-                if (movieList != null) {
-                    dto.setPosterUrl(movieList.getPosterUrl());
-                    dto.setStatus(movieList.getStatus() != null ? movieList.getStatus().name() : null);
-                }
-                movies.add(dto);
-            }
+            movies.addAll(movieDetailMapper.toDtoList(comedy, null));
             // 최종 중복 제거 (movieCd 기준)
             movies = movies.stream()
                 .collect(Collectors.toMap(
@@ -719,15 +642,7 @@ public class McpChatbotService {
             List<MovieDetail> horror = movieDetailRepository.findByGenreNmContaining("공포");
             horror.addAll(movieDetailRepository.findByGenreNmContaining("호러"));
             horror = horror.stream().distinct().limit(5).collect(Collectors.toList());
-            for (MovieDetail detail : horror) {
-                MovieList movieList = movieListRepository.findById(detail.getMovieCd()).orElse(null);
-                MovieDetailDto dto = movieDetailMapper.toDto(detail, 0, false);
-                if (movieList != null) {
-                    dto.setPosterUrl(movieList.getPosterUrl());
-                    dto.setStatus(movieList.getStatus() != null ? movieList.getStatus().name() : null);
-                }
-                movies.add(dto);
-            }
+            movies.addAll(movieDetailMapper.toDtoList(horror, null));
             // 최종 중복 제거 (movieCd 기준)
             movies = movies.stream()
                 .collect(Collectors.toMap(
@@ -754,4 +669,20 @@ public class McpChatbotService {
         } while (moviePage.hasNext());
         return allMovieLists;
     }
+
+    /**
+     * MovieList 순서를 유지하면서 MovieDetail을 한 번에 조회 (상세정보 없는 영화는 제외)
+     */
+    private List<MovieDetail> findDetailsInOrder(List<MovieList> movieLists) {
+        List<String> movieCds = movieLists.stream().map(MovieList::getMovieCd).collect(Collectors.toList());
+        if (movieCds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<String, MovieDetail> detailMap = movieDetailRepository.findByMovieCdIn(movieCds).stream()
+            .collect(Collectors.toMap(MovieDetail::getMovieCd, detail -> detail, (existing, replacement) -> existing));
+        return movieCds.stream()
+            .map(detailMap::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
 }
\ No newline at end of file
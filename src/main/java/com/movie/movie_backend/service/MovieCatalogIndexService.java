@@ -0,0 +1,544 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.constant.MovieStatus;
+import com.movie.movie_backend.dto.MovieListDto;
+import com.movie.movie_backend.repository.PRDMovieListRepository;
+import com.movie.movie_backend.util.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 영화 필터/정렬용 인메모리 카탈로그 (/api/movies/filter)
+ * - movie_list 전체를 슬롯 배열로 들고, 장르별 BitSet과 포스터 있는 영화 BitSet을 미리 만들어 둠
+ * - 인기도/개봉일/제목 순서의 정렬 순열(슬롯 번호 배열)을 미리 만들어 두므로 요청 시 정렬 없음
+ * - 필터는 BitSet 교집합, 페이지는 순열 배열을 잘라서 만듦
+ * - MovieList가 바뀌면(MovieListChangeListener) 바뀐 영화만 다시 읽어 새 스냅샷으로 교체, 매일 새벽 전체 재구축
+ * - 첫 구축은 백그라운드에서 한 번만 돌리고, 끝나기 전 요청은 CatalogNotReadyException (컨트롤러에서 503)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MovieCatalogIndexService {
+
+    public static final String SORT_POPULARITY = "tmdb_popularity";
+    public static final String SORT_OPEN_DT = "openDt";
+    public static final String SORT_NAME = "name";
+    public static final String SORT_RANDOM = "random";
+
+    private final PRDMovieListRepository movieListRepository;
+
+    private final Set<String> dirtyMovieCds = ConcurrentHashMap.newKeySet();
+    private volatile Catalog catalog = Catalog.build(List.of());
+    private volatile boolean ready = false;
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "movie-catalog-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 필터 결과 한 페이지
+     */
+    public record CatalogPage(List<MovieListDto> content, int total) {
+    }
+
+    /**
+     * 커서 기반 필터 결과 (nextCursor를 다음 요청에 그대로 전달)
+     */
+    public record CatalogCursorPage(List<MovieListDto> content, int total, boolean hasNext, String nextCursor) {
+    }
+
+    /**
+     * 첫 구축이 끝나기 전(또는 실패한 뒤) 들어온 요청
+     */
+    public static class CatalogNotReadyException extends RuntimeException {
+        public CatalogNotReadyException() {
+            super("영화 카탈로그를 준비 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        requestRebuild();
+    }
+
+    /**
+     * 백그라운드 전체 재구축 예약 (이미 예약/진행 중이면 무시)
+     */
+    void requestRebuild() {
+        if (!rebuildQueued.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuild();
+                } finally {
+                    rebuildQueued.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            rebuildQueued.set(false);
+            log.warn("영화 카탈로그 재구축 예약 실패: {}", e.getMessage());
+        }
+    }
+
+    boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 전체 재구축 (리스너를 거치지 않은 변경 보정용)
+     */
+    @Scheduled(cron = "${movie.catalog.rebuild-cron:0 30 4 * * *}")
+    public synchronized void rebuild() {
+        long startTime = System.currentTimeMillis();
+        try {
+            dirtyMovieCds.clear(); // 이후 변경분은 applyPendingChanges에서 다시 반영
+            Catalog built = Catalog.build(movieListRepository.findCatalogRows());
+            catalog = built;
+            ready = true;
+            log.info("영화 카탈로그 인덱스 구축 완료: 영화 {}개, 목록 노출 {}개, 장르 {}개 ({}ms)",
+                    built.slots.size(), built.byPopularity.length, built.genres.size(),
+                    System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("영화 카탈로그 인덱스 구축 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 바뀐 영화만 다시 읽어 반영
+     */
+    @Scheduled(fixedDelayString = "${movie.catalog.update-interval-ms:5000}")
+    public synchronized void applyPendingChanges() {
+        if (!ready || dirtyMovieCds.isEmpty()) {
+            return;
+        }
+        List<String> movieCds = new ArrayList<>(dirtyMovieCds);
+        dirtyMovieCds.removeAll(movieCds);
+        try {
+            catalog = catalog.apply(movieCds, movieListRepository.findCatalogRowsByMovieCdIn(movieCds));
+            log.debug("영화 카탈로그 인덱스 갱신: {}개", movieCds.size());
+        } catch (Exception e) {
+            dirtyMovieCds.addAll(movieCds);
+            log.warn("영화 카탈로그 인덱스 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * MovieList 변경 표시
+     * flush 시점(커밋 전)에 한 번, 커밋 후에 한 번 더 표시해서 커밋된 값을 확실히 다시 읽게 함
+     */
+    public void markDirty(String movieCd) {
+        if (movieCd == null) {
+            return;
+        }
+        dirtyMovieCds.add(movieCd);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dirtyMovieCds.add(movieCd);
+                }
+            });
+        }
+    }
+
+    /**
+     * 포스터 있는 영화 중 장르(하나라도 일치)/제목 검색어로 거르고 정렬해서 한 페이지
+     */
+    public CatalogPage filter(Collection<String> genres, String search, String sort, int page, int size) {
+        ensureReady();
+        return catalog.filter(genres, search, sort, page, size);
+    }
+
+    /**
+     * filter의 커서 버전 (random 정렬은 지원하지 않음 - 인기도 순으로 처리)
+     * @throws IllegalArgumentException 형식이 맞지 않거나 정렬 기준이 다른 커서
+     */
+    public CatalogCursorPage filterAfter(Collection<String> genres, String search, String sort, String cursor, int size) {
+        ensureReady();
+        return catalog.filterAfter(genres, search, sort, cursor, size);
+    }
+
+    /**
+     * 요청 스레드에서는 재구축하지 않음 - 아직 준비 전이면 백그라운드 구축만 예약하고 거절
+     */
+    private void ensureReady() {
+        if (!ready) {
+            requestRebuild();
+            throw new CatalogNotReadyException();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * 불변 카탈로그 스냅샷
+     */
+    static final class Catalog {
+        final MovieListDto[] movies;          // 슬롯 → 영화 (삭제된 슬롯은 null)
+        final String[] lowerNames;            // 슬롯 → 소문자 제목 (검색용)
+        final double[] popularity;            // 슬롯 → TMDB 인기도 (없으면 NaN)
+        final Map<String, Integer> slots;     // movieCd → 슬롯
+        final Map<String, BitSet> genres;     // 장르 → 슬롯 집합
+        final BitSet posters;                 // 포스터 있는 영화 (목록 노출 대상)
+        final int[] byPopularity;             // 노출 대상 슬롯, 인기도 내림차순
+        final int[] byOpenDt;                 // 노출 대상 슬롯, 개봉일 내림차순
+        final int[] byName;                   // 노출 대상 슬롯, 제목 오름차순
+
+        private Catalog(MovieListDto[] movies, String[] lowerNames, double[] popularity, Map<String, Integer> slots,
+                        Map<String, BitSet> genres, BitSet posters, int[] byPopularity, int[] byOpenDt, int[] byName) {
+            this.movies = movies;
+            this.lowerNames = lowerNames;
+            this.popularity = popularity;
+            this.slots = slots;
+            this.genres = genres;
+            this.posters = posters;
+            this.byPopularity = byPopularity;
+            this.byOpenDt = byOpenDt;
+            this.byName = byName;
+        }
+
+        /**
+         * findCatalogRows 결과로 전체 구축
+         */
+        static Catalog build(List<Object[]> rows) {
+            int n = rows.size();
+            Catalog c = new Catalog(new MovieListDto[n], new String[n], new double[n], new HashMap<>(n * 2),
+                    new HashMap<>(), new BitSet(n), null, null, null);
+            for (Object[] row : rows) {
+                c.put(c.slots.size(), row);
+            }
+            int[] eligible = c.posters.stream().toArray();
+            return new Catalog(c.movies, c.lowerNames, c.popularity, c.slots, c.genres, c.posters,
+                    c.sorted(eligible, SORT_POPULARITY), c.sorted(eligible, SORT_OPEN_DT), c.sorted(eligible, SORT_NAME));
+        }
+
+        /**
+         * 바뀐 영화만 반영한 새 스냅샷 (rows에 없는 movieCd는 삭제된 것으로 봄)
+         * 정렬 순열은 바뀐 슬롯만 빼고, 다시 정렬한 바뀐 슬롯을 병합 (O(n + k log k))
+         */
+        Catalog apply(Collection<String> movieCds, List<Object[]> rows) {
+            Map<String, Object[]> rowByCd = new HashMap<>();
+            for (Object[] row : rows) {
+                rowByCd.put((String) row[0], row);
+            }
+            int newSlots = 0;
+            for (String movieCd : movieCds) {
+                if (!slots.containsKey(movieCd) && rowByCd.containsKey(movieCd)) {
+                    newSlots++;
+                }
+            }
+            int capacity = movies.length + newSlots;
+            Map<String, BitSet> genreCopy = new HashMap<>();
+            genres.forEach((genre, bits) -> genreCopy.put(genre, (BitSet) bits.clone()));
+            Catalog next = new Catalog(Arrays.copyOf(movies, capacity), Arrays.copyOf(lowerNames, capacity),
+                    Arrays.copyOf(popularity, capacity), new HashMap<>(slots), genreCopy, (BitSet) posters.clone(),
+                    null, null, null);
+
+            BitSet changed = new BitSet(capacity);
+            int nextSlot = movies.length;
+            for (String movieCd : movieCds) {
+                Integer slot = next.slots.get(movieCd);
+                Object[] row = rowByCd.get(movieCd);
+                if (slot != null) {
+                    next.clear(slot);
+                    changed.set(slot);
+                    if (row == null) {
+                        next.slots.remove(movieCd);
+                        continue;
+                    }
+                } else if (row == null) {
+                    continue;
+                } else {
+                    slot = nextSlot++;
+                    changed.set(slot);
+                }
+                next.put(slot, row);
+            }
+            next.genres.values().removeIf(BitSet::isEmpty);
+
+            BitSet added = (BitSet) changed.clone();
+            added.and(next.posters);
+            int[] addedSlots = added.stream().toArray();
+            return new Catalog(next.movies, next.lowerNames, next.popularity, next.slots, next.genres, next.posters,
+                    next.merge(byPopularity, changed, next.sorted(addedSlots, SORT_POPULARITY), SORT_POPULARITY),
+                    next.merge(byOpenDt, changed, next.sorted(addedSlots, SORT_OPEN_DT), SORT_OPEN_DT),
+                    next.merge(byName, changed, next.sorted(addedSlots, SORT_NAME), SORT_NAME));
+        }
+
+        CatalogPage filter(Collection<String> genreNames, String search, String sort, int page, int size) {
+            BitSet candidates = candidates(genreNames, search);
+            int from = Math.max(0, page) * size;
+            List<MovieListDto> content = new ArrayList<>(size);
+            if (SORT_RANDOM.equals(sort)) {
+                int[] shuffled = (candidates != null ? candidates : posters).stream().toArray();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = shuffled.length - 1; i > 0; i--) {
+                    int j = random.nextInt(i + 1);
+                    int tmp = shuffled[i];
+                    shuffled[i] = shuffled[j];
+                    shuffled[j] = tmp;
+                }
+                for (int i = from; i < Math.min(from + size, shuffled.length); i++) {
+                    content.add(movies[shuffled[i]]);
+                }
+                return new CatalogPage(content, shuffled.length);
+            }
+
+            int[] order = permutation(sort);
+            if (candidates == null) {
+                for (int i = from; i < Math.min(from + size, order.length); i++) {
+                    content.add(movies[order[i]]);
+                }
+                return new CatalogPage(content, order.length);
+            }
+            int total = candidates.cardinality();
+            int seen = 0;
+            for (int i = 0; i < order.length && content.size() < size && seen < total; i++) {
+                if (candidates.get(order[i]) && seen++ >= from) {
+                    content.add(movies[order[i]]);
+                }
+            }
+            return new CatalogPage(content, total);
+        }
+
+        /**
+         * 커서(마지막으로 내려준 영화의 정렬 키, movieCd) 다음부터 size개
+         * 정렬 순열에서 커서 위치를 이진 탐색으로 찾으므로 몇 번째 페이지든 첫 페이지와 같은 비용
+         */
+        CatalogCursorPage filterAfter(Collection<String> genreNames, String search, String sort, String cursor, int size) {
+            String orderBy = SORT_OPEN_DT.equals(sort) || SORT_NAME.equals(sort) ? sort : SORT_POPULARITY;
+            int[] permutation = permutation(orderBy);
+            int start = 0;
+            if (cursor != null && !cursor.isBlank()) {
+                String[] key = KeysetCursor.decode(cursor, 3);
+                if (!orderBy.equals(key[0]) || key[2] == null) {
+                    throw new IllegalArgumentException("잘못된 커서입니다.");
+                }
+                Object sortKey = parseSortKey(key[1], orderBy);
+                int lo = 0;
+                int hi = permutation.length;
+                while (lo < hi) { // 커서보다 뒤에 오는 첫 위치
+                    int mid = (lo + hi) >>> 1;
+                    if (compareKeys(sortKey(permutation[mid], orderBy), movies[permutation[mid]].getMovieCd(),
+                            sortKey, key[2], orderBy) <= 0) {
+                        lo = mid + 1;
+                    } else {
+                        hi = mid;
+                    }
+                }
+                start = lo;
+            }
+
+            BitSet candidates = candidates(genreNames, search);
+            List<MovieListDto> content = new ArrayList<>(size);
+            int last = -1;
+            boolean hasNext = false;
+            for (int i = start; i < permutation.length; i++) {
+                int slot = permutation[i];
+                if (candidates != null && !candidates.get(slot)) {
+                    continue;
+                }
+                if (content.size() == size) {
+                    hasNext = true;
+                    break;
+                }
+                content.add(movies[slot]);
+                last = slot;
+            }
+            String nextCursor = hasNext
+                    ? KeysetCursor.encode(orderBy, sortKey(last, orderBy), movies[last].getMovieCd())
+                    : null;
+            int total = candidates != null ? candidates.cardinality() : permutation.length;
+            return new CatalogCursorPage(content, total, hasNext, nextCursor);
+        }
+
+        /**
+         * 장르(하나라도 일치)/제목 검색어 조건에 맞는 슬롯 (조건이 없으면 null = 노출 대상 전체)
+         */
+        private BitSet candidates(Collection<String> genreNames, String search) {
+            BitSet candidates = null;
+            if (genreNames != null && !genreNames.isEmpty()) {
+                candidates = new BitSet(movies.length);
+                for (String genre : genreNames) {
+                    BitSet bits = genres.get(genre.trim());
+                    if (bits != null) {
+                        candidates.or(bits);
+                    }
+                }
+                candidates.and(posters);
+            }
+            if (search != null && !search.isBlank()) {
+                String keyword = search.trim().toLowerCase(Locale.ROOT);
+                BitSet matched = new BitSet(movies.length);
+                BitSet scope = candidates != null ? candidates : posters;
+                for (int slot = scope.nextSetBit(0); slot >= 0; slot = scope.nextSetBit(slot + 1)) {
+                    if (lowerNames[slot] != null && lowerNames[slot].contains(keyword)) {
+                        matched.set(slot);
+                    }
+                }
+                candidates = matched;
+            }
+            return candidates;
+        }
+
+        private int[] permutation(String sort) {
+            return SORT_OPEN_DT.equals(sort) ? byOpenDt : SORT_NAME.equals(sort) ? byName : byPopularity;
+        }
+
+        private void put(int slot, Object[] row) {
+            // (movieCd, 제목, 영문제목, 개봉일, 장르, 국가, 관람등급, 포스터, 상태, kmdbId, tmdbId, TMDB 인기도)
+            String movieCd = (String) row[0];
+            MovieListDto movie = MovieListDto.builder()
+                    .movieCd(movieCd)
+                    .movieNm((String) row[1])
+                    .movieNmEn((String) row[2])
+                    .openDt((LocalDate) row[3])
+                    .genreNm((String) row[4])
+                    .nationNm((String) row[5])
+                    .watchGradeNm((String) row[6])
+                    .posterUrl((String) row[7])
+                    .status((MovieStatus) row[8])
+                    .kmdbId((String) row[9])
+                    .tmdbId((Integer) row[10])
+                    .build();
+            movies[slot] = movie;
+            lowerNames[slot] = movie.getMovieNm() != null ? movie.getMovieNm().toLowerCase(Locale.ROOT) : null;
+            popularity[slot] = row[11] != null ? (Double) row[11] : Double.NaN;
+            slots.put(movieCd, slot);
+            for (String genre : splitGenres(movie.getGenreNm())) {
+                genres.computeIfAbsent(genre, g -> new BitSet()).set(slot);
+            }
+            String posterUrl = movie.getPosterUrl();
+            if (posterUrl != null && !posterUrl.trim().isEmpty() && !posterUrl.equals("null")) {
+                posters.set(slot);
+            }
+        }
+
+        private void clear(int slot) {
+            MovieListDto old = movies[slot];
+            if (old != null) {
+                for (String genre : splitGenres(old.getGenreNm())) {
+                    BitSet bits = genres.get(genre);
+                    if (bits != null) {
+                        bits.clear(slot);
+                    }
+                }
+            }
+            posters.clear(slot);
+            movies[slot] = null;
+            lowerNames[slot] = null;
+            popularity[slot] = Double.NaN;
+        }
+
+        private static List<String> splitGenres(String genreNm) {
+            List<String> result = new ArrayList<>();
+            if (genreNm != null) {
+                for (String genre : genreNm.split(",")) {
+                    if (!genre.isBlank()) {
+                        result.add(genre.trim());
+                    }
+                }
+            }
+            return result;
+        }
+
+        /**
+         * 기존 순열에서 바뀐 슬롯을 빼고, 정렬된 추가 슬롯과 병합
+         */
+        private int[] merge(int[] base, BitSet changed, int[] additions, String sort) {
+            int[] result = new int[base.length + additions.length];
+            int size = 0;
+            int a = 0;
+            for (int slot : base) {
+                if (changed.get(slot)) {
+                    continue;
+                }
+                while (a < additions.length && compare(additions[a], slot, sort) < 0) {
+                    result[size++] = additions[a++];
+                }
+                result[size++] = slot;
+            }
+            while (a < additions.length) {
+                result[size++] = additions[a++];
+            }
+            return size == result.length ? result : Arrays.copyOf(result, size);
+        }
+
+        private int[] sorted(int[] slotArray, String sort) {
+            Integer[] boxed = Arrays.stream(slotArray).boxed().toArray(Integer[]::new);
+            Arrays.sort(boxed, (x, y) -> compare(x, y, sort));
+            return Arrays.stream(boxed).mapToInt(Integer::intValue).toArray();
+        }
+
+        /**
+         * 정렬 기준 (값이 없는 영화는 뒤로, 같으면 movieCd 오름차순)
+         */
+        private int compare(int x, int y, String sort) {
+            return compareKeys(sortKey(x, sort), movies[x].getMovieCd(), sortKey(y, sort), movies[y].getMovieCd(), sort);
+        }
+
+        private Object sortKey(int slot, String sort) {
+            return switch (sort) {
+                case SORT_OPEN_DT -> movies[slot].getOpenDt();
+                case SORT_NAME -> movies[slot].getMovieNm();
+                default -> Double.isNaN(popularity[slot]) ? null : popularity[slot];
+            };
+        }
+
+        private static Object parseSortKey(String value, String sort) {
+            try {
+                return value == null ? null : switch (sort) {
+                    case SORT_OPEN_DT -> LocalDate.parse(value);
+                    case SORT_NAME -> value;
+                    default -> Double.valueOf(value);
+                };
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.", e);
+            }
+        }
+
+        /**
+         * 인기도/개봉일은 내림차순, 제목은 오름차순
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static int compareKeys(Object kx, String cdx, Object ky, String cdy, String sort) {
+            int result;
+            if (kx == null || ky == null) {
+                result = kx == ky ? 0 : kx == null ? 1 : -1;
+            } else {
+                result = SORT_NAME.equals(sort) ? ((Comparable) kx).compareTo(ky) : ((Comparable) ky).compareTo(kx);
+            }
+            return result != 0 ? result : cdx.compareTo(cdy);
+        }
+    }
+}
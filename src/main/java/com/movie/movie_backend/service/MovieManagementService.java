@@ -36,6 +36,8 @@ public class MovieManagementService {
     private final USRUserRepository userRepository;
     private final FileUploadService fileUploadService;
     private final CastRepository castRepository;
+    private final MovieSearchIndexService movieSearchIndexService;
+    private final RatingAggregateService ratingAggregateService;
 
     /**
      * 영화 등록
@@ -205,6 +207,9 @@ public class MovieManagementService {
         log.info("저장된 태그: {}", savedMovie.getTags().stream().map(Tag::getName).collect(java.util.stream.Collectors.joining(", ")));
         log.info("=== 영화 등록 완료 ===");
         
+        // 검색 인덱스 갱신 (커밋 후 반영)
+        movieSearchIndexService.reindex(savedMovie.getMovieCd());
+        
         return savedMovie;
     }
 
@@ -235,6 +240,9 @@ public class MovieManagementService {
         MovieDetail updatedMovie = movieRepository.save(existingMovie);
         log.info("영화 수정 완료: {} (ID: {})", updatedMovie.getMovieNm(), updatedMovie.getMovieCd());
         
+        // 검색 인덱스 갱신 (커밋 후 반영)
+        movieSearchIndexService.reindex(movieCd);
+        
         return updatedMovie;
     }
 
@@ -266,6 +274,7 @@ public class MovieManagementService {
                 .filter(rating -> rating.getMovieDetail().getMovieCd().equals(movieCd))
                 .toList();
         ratingRepository.deleteAll(ratings);
+        ratingAggregateService.delete(movie.getId());
         
         // 리뷰 데이터 삭제
         List<Review> reviews = reviewRepository.findAll().stream()
@@ -285,6 +294,9 @@ public class MovieManagementService {
             movieListRepository.delete(movieList);
         }
         
+        // 검색 인덱스에서 제거 (커밋 후 반영)
+        movieSearchIndexService.reindex(movieCd);
+        
         log.info("영화 삭제 완료: {}", movieCd);
     }
 
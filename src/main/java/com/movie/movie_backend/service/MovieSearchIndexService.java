@@ -0,0 +1,460 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.repository.CastRepository;
+import com.movie.movie_backend.repository.PRDMovieListRepository;
+import com.movie.movie_backend.repository.PRDMovieRepository;
+import com.movie.movie_backend.util.HangulUtil;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 영화 통합 검색용 인메모리 역색인
+ * - 제목, 영문제목, 장르, 국가, 감독명, 배우명을 띄어쓰기 무시 n-gram(1~2글자)으로 색인
+ * - 자모 분해 키("기생ㅊ")와 초성 키("ㄱㅅㅊ")를 함께 색인
+ * - 영화 하나가 바뀌면 해당 영화만 재색인 (전체 재구축은 기동 시 1회)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MovieSearchIndexService {
+
+    // 필드별 가중치
+    private static final int WEIGHT_TITLE = 100;
+    private static final int WEIGHT_TITLE_EN = 80;
+    private static final int WEIGHT_DIRECTOR = 60;
+    private static final int WEIGHT_ACTOR = 50;
+    private static final int WEIGHT_GENRE = 30;
+    private static final int WEIGHT_NATION = 20;
+
+    // 여러 필드가 동시에 매칭될 때 필드당 가산점
+    private static final int MULTI_FIELD_BONUS = 5;
+
+    private static final String JAMO_PREFIX = "j:";
+    private static final String CHOSEONG_PREFIX = "c:";
+
+    private static final Comparator<Hit> HIT_ORDER = Comparator
+            .comparingInt((Hit h) -> h.score).reversed()
+            .thenComparing((Hit h) -> h.movie.popularity, Comparator.reverseOrder())
+            .thenComparing((Hit h) -> h.movie.hasDetail, Comparator.reverseOrder())
+            .thenComparing((Hit h) -> h.movie.openDt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing((Hit h) -> h.movie.movieCd);
+
+    private final PRDMovieRepository movieRepository;
+    private final PRDMovieListRepository movieListRepository;
+    private final CastRepository castRepository;
+    private final SearchService searchService;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<String, Integer> docIds = new HashMap<>();       // movieCd → docId
+    private List<IndexedMovie> docs = new ArrayList<>();         // docId → 영화 (삭제 시 null)
+    private Map<String, BitSet> postings = new HashMap<>();      // n-gram → docId 집합
+    private volatile boolean ready = false;
+
+    /**
+     * 서버 기동 시 전체 색인 구축
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuildAll();
+    }
+
+    /**
+     * 전체 색인 재구축 (projection 쿼리 3회)
+     */
+    public void rebuildAll() {
+        long startTime = System.currentTimeMillis();
+        try {
+            Map<String, MovieDocument> documents = new HashMap<>();
+            movieListRepository.findSearchIndexRows().forEach(row -> applyMovieListRow(documents, row));
+            movieRepository.findSearchIndexRows().forEach(row -> applyMovieDetailRow(documents, row));
+            castRepository.findSearchIndexRows().forEach(row -> applyCastRow(documents, row));
+
+            Map<String, Integer> newDocIds = new HashMap<>(documents.size() * 2);
+            List<IndexedMovie> newDocs = new ArrayList<>(documents.size());
+            Map<String, BitSet> newPostings = new HashMap<>();
+            for (MovieDocument document : documents.values()) {
+                int docId = newDocs.size();
+                IndexedMovie movie = document.build();
+                newDocIds.put(movie.movieCd, docId);
+                newDocs.add(movie);
+                addPostings(newPostings, movie, docId);
+            }
+
+            lock.writeLock().lock();
+            try {
+                docIds = newDocIds;
+                docs = newDocs;
+                postings = newPostings;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("영화 검색 인덱스 구축 완료: 영화 {}개, 토큰 {}개 ({}ms)",
+                    newDocs.size(), newPostings.size(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("영화 검색 인덱스 구축 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 영화 한 편 재색인 (통합 검색 색인(SearchService)에는 변경 표시만 하고 주기 작업에서 반영)
+     * 트랜잭션 안에서 호출되면 커밋 이후에 반영한다 (롤백된 데이터가 색인되지 않도록).
+     */
+    public void reindex(String movieCd) {
+        if (movieCd == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reindexNow(movieCd);
+                    searchService.markDirty(movieCd);
+                }
+            });
+        } else {
+            reindexNow(movieCd);
+            searchService.markDirty(movieCd);
+        }
+    }
+
+    private void reindexNow(String movieCd) {
+        try {
+            Map<String, MovieDocument> documents = new HashMap<>();
+            movieListRepository.findSearchIndexRowsByMovieCd(movieCd).forEach(row -> applyMovieListRow(documents, row));
+            movieRepository.findSearchIndexRowsByMovieCd(movieCd).forEach(row -> applyMovieDetailRow(documents, row));
+            castRepository.findSearchIndexRowsByMovieCd(movieCd).forEach(row -> applyCastRow(documents, row));
+            MovieDocument document = documents.get(movieCd);
+
+            lock.writeLock().lock();
+            try {
+                Integer docId = docIds.get(movieCd);
+                if (docId != null) {
+                    removePostings(postings, docs.get(docId), docId);
+                    docs.set(docId, null);
+                }
+                if (document != null) {
+                    if (docId == null) {
+                        docId = docs.size();
+                        docs.add(null);
+                        docIds.put(movieCd, docId);
+                    }
+                    IndexedMovie movie = document.build();
+                    docs.set(docId, movie);
+                    addPostings(postings, movie, docId);
+                } else if (docId != null) {
+                    docIds.remove(movieCd);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.debug("영화 검색 인덱스 갱신: {}", movieCd);
+        } catch (Exception e) {
+            log.warn("영화 검색 인덱스 갱신 실패: {} - {}", movieCd, e.getMessage());
+        }
+    }
+
+    /**
+     * 색인 구축 완료 여부 (구축 전에는 DB 검색으로 대체)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 띄어쓰기 무시 통합 검색 (랭킹 + 페이지네이션)
+     */
+    public SearchPage search(String keyword, int page, int size) {
+        List<Hit> hits = rank(keyword);
+        int total = hits.size();
+        int from = Math.min(Math.max(page, 0) * Math.max(size, 0), total);
+        int to = Math.min(from + Math.max(size, 0), total);
+
+        List<String> movieCds = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            movieCds.add(hits.get(i).movie.movieCd);
+        }
+        int detailCount = 0;
+        for (Hit hit : hits) {
+            if (hit.movie.hasDetail) {
+                detailCount++;
+            }
+        }
+        return new SearchPage(movieCds, total, detailCount, total - detailCount);
+    }
+
+    /**
+     * 띄어쓰기 무시 통합 검색 (랭킹 순 전체 movieCd)
+     */
+    public List<String> searchAll(String keyword) {
+        List<Hit> hits = rank(keyword);
+        List<String> movieCds = new ArrayList<>(hits.size());
+        for (Hit hit : hits) {
+            movieCds.add(hit.movie.movieCd);
+        }
+        return movieCds;
+    }
+
+    private List<Hit> rank(String keyword) {
+        String query = HangulUtil.normalize(keyword);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+        boolean choseongQuery = HangulUtil.isChoseongOnly(query);
+        String key = choseongQuery ? query : HangulUtil.toJamo(query);
+
+        List<Hit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            BitSet candidates = candidates(choseongQuery ? CHOSEONG_PREFIX : JAMO_PREFIX, key);
+            for (int docId = candidates.nextSetBit(0); docId >= 0; docId = candidates.nextSetBit(docId + 1)) {
+                IndexedMovie movie = docs.get(docId);
+                if (movie == null) {
+                    continue;
+                }
+                int score = movie.score(query, key, choseongQuery);
+                if (score > 0) {
+                    hits.add(new Hit(movie, score));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        hits.sort(HIT_ORDER);
+        return hits;
+    }
+
+    /**
+     * 검색어의 모든 n-gram을 포함하는 문서 집합 (최종 판정은 부분 문자열 비교로 한다)
+     */
+    private BitSet candidates(String prefix, String key) {
+        BitSet result = null;
+        for (String gram : grams(key, false)) {
+            BitSet posting = postings.get(prefix + gram);
+            if (posting == null) {
+                return new BitSet();
+            }
+            if (result == null) {
+                result = (BitSet) posting.clone();
+            } else {
+                result.and(posting);
+            }
+        }
+        return result != null ? result : new BitSet();
+    }
+
+    private static void addPostings(Map<String, BitSet> postings, IndexedMovie movie, int docId) {
+        for (String token : movie.tokens()) {
+            postings.computeIfAbsent(token, k -> new BitSet()).set(docId);
+        }
+    }
+
+    private static void removePostings(Map<String, BitSet> postings, IndexedMovie movie, int docId) {
+        if (movie == null) {
+            return;
+        }
+        for (String token : movie.tokens()) {
+            BitSet posting = postings.get(token);
+            if (posting != null) {
+                posting.clear(docId);
+                if (posting.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+
+    /**
+     * 1글자 + 2글자 n-gram (검색어는 1글자일 때만 unigram 사용)
+     */
+    private static Set<String> grams(String text, boolean includeUnigrams) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (text.length() == 1) {
+            grams.add(text);
+            return grams;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (includeUnigrams) {
+                grams.add(text.substring(i, i + 1));
+            }
+            if (i + 1 < text.length()) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    // ===== DB projection → 색인 문서 =====
+
+    private static MovieDocument document(Map<String, MovieDocument> documents, Object movieCd) {
+        return documents.computeIfAbsent((String) movieCd, MovieDocument::new);
+    }
+
+    // (movieCd, movieNm, movieNmEn, genreNm, nationNm, tmdbPopularity, openDt)
+    private static void applyMovieListRow(Map<String, MovieDocument> documents, Object[] row) {
+        MovieDocument document = document(documents, row[0]);
+        document.add(WEIGHT_TITLE, (String) row[1]);
+        document.add(WEIGHT_TITLE_EN, (String) row[2]);
+        document.add(WEIGHT_GENRE, (String) row[3]);
+        document.add(WEIGHT_NATION, (String) row[4]);
+        document.popularity = row[5] != null ? (Double) row[5] : 0.0;
+        document.openDt = (LocalDate) row[6];
+    }
+
+    // (movieCd, movieNm, movieNmEn, genreNm, directorName, openDt)
+    private static void applyMovieDetailRow(Map<String, MovieDocument> documents, Object[] row) {
+        MovieDocument document = document(documents, row[0]);
+        document.hasDetail = true;
+        document.add(WEIGHT_TITLE, (String) row[1]);
+        document.add(WEIGHT_TITLE_EN, (String) row[2]);
+        document.add(WEIGHT_GENRE, (String) row[3]);
+        document.add(WEIGHT_DIRECTOR, (String) row[4]);
+        if (document.openDt == null) {
+            document.openDt = (LocalDate) row[5];
+        }
+    }
+
+    // (movieCd, actorName)
+    private static void applyCastRow(Map<String, MovieDocument> documents, Object[] row) {
+        document(documents, row[0]).add(WEIGHT_ACTOR, (String) row[1]);
+    }
+
+    /**
+     * 색인 전 영화 정보 (필드 중복 제거용)
+     */
+    private static class MovieDocument {
+        private final String movieCd;
+        private final Map<String, IndexedField> fields = new HashMap<>();
+        private boolean hasDetail;
+        private double popularity;
+        private LocalDate openDt;
+
+        MovieDocument(String movieCd) {
+            this.movieCd = movieCd;
+        }
+
+        void add(int weight, String value) {
+            String text = HangulUtil.normalize(value);
+            if (text.isEmpty() || "null".equals(text)) {
+                return;
+            }
+            fields.merge(text, new IndexedField(weight, text), (a, b) -> a.weight >= b.weight ? a : b);
+        }
+
+        IndexedMovie build() {
+            return new IndexedMovie(movieCd, hasDetail, popularity, openDt, List.copyOf(fields.values()));
+        }
+    }
+
+    private static class IndexedField {
+        private final int weight;
+        private final String text;      // 공백 제거 + 소문자
+        private final String jamo;      // 자모 분해
+        private final String choseong;  // 초성
+
+        IndexedField(int weight, String text) {
+            this.weight = weight;
+            this.text = text;
+            this.jamo = HangulUtil.toJamo(text);
+            this.choseong = HangulUtil.toChoseong(text);
+        }
+
+        /**
+         * 완전 일치 > 접두 일치 > 부분 일치 > 입력 중(자모) 일치 순으로 점수 부여
+         */
+        int score(String query, String key, boolean choseongQuery) {
+            if (choseongQuery) {
+                if (choseong.equals(key)) return weight * 3 / 2;
+                if (choseong.startsWith(key)) return weight;
+                return choseong.contains(key) ? weight * 3 / 4 : 0;
+            }
+            if (text.equals(query)) return weight * 2;
+            if (text.startsWith(query)) return weight * 3 / 2;
+            if (text.contains(query)) return weight;
+            if (jamo.startsWith(key)) return weight * 3 / 4;
+            return jamo.contains(key) ? weight / 2 : 0;
+        }
+    }
+
+    private static class IndexedMovie {
+        private final String movieCd;
+        private final boolean hasDetail;
+        private final double popularity;
+        private final LocalDate openDt;
+        private final List<IndexedField> fields;
+
+        IndexedMovie(String movieCd, boolean hasDetail, double popularity, LocalDate openDt, List<IndexedField> fields) {
+            this.movieCd = movieCd;
+            this.hasDetail = hasDetail;
+            this.popularity = popularity;
+            this.openDt = openDt;
+            this.fields = fields;
+        }
+
+        Set<String> tokens() {
+            Set<String> tokens = new LinkedHashSet<>();
+            for (IndexedField field : fields) {
+                for (String gram : grams(field.jamo, true)) {
+                    tokens.add(JAMO_PREFIX + gram);
+                }
+                for (String gram : grams(field.choseong, true)) {
+                    tokens.add(CHOSEONG_PREFIX + gram);
+                }
+            }
+            return tokens;
+        }
+
+        int score(String query, String key, boolean choseongQuery) {
+            int best = 0;
+            int matched = 0;
+            for (IndexedField field : fields) {
+                int score = field.score(query, key, choseongQuery);
+                if (score > 0) {
+                    matched++;
+                    best = Math.max(best, score);
+                }
+            }
+            return best == 0 ? 0 : best + (matched - 1) * MULTI_FIELD_BONUS;
+        }
+    }
+
+    private static class Hit {
+        private final IndexedMovie movie;
+        private final int score;
+
+        Hit(IndexedMovie movie, int score) {
+            this.movie = movie;
+            this.score = score;
+        }
+    }
+
+    /**
+     * 검색 결과 한 페이지 (movieCd는 랭킹 순)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class SearchPage {
+        private final List<String> movieCds;
+        private final int total;
+        private final int detailCount;   // movie_detail이 있는 영화 수
+        private final int listOnlyCount; // movie_list에만 있는 영화 수
+    }
+}
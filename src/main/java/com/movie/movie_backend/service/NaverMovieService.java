@@ -7,7 +7,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -17,7 +16,7 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class NaverMovieService {
 
-    private final RestTemplate restTemplate;
+    private final IngestionPipeline ingestionPipeline;
     private final ObjectMapper objectMapper;
 
     @Value("${naver.api.client-id}")
@@ -39,13 +38,11 @@ public class NaverMovieService {
             String url = String.format("%s?query=%s&display=1", NAVER_SEARCH_URL, encodedTitle);
             
             // 네이버 API 헤더 설정
-            org.springframework.http.HttpHeaders headers = new org.springframework.http.HttpHeaders();
-            headers.set("X-Naver-Client-Id", naverClientId);
-            headers.set("X-Naver-Client-Secret", naverClientSecret);
+            Map<String, String> headers = Map.of(
+                    "X-Naver-Client-Id", naverClientId,
+                    "X-Naver-Client-Secret", naverClientSecret);
             
-            org.springframework.http.HttpEntity<String> entity = new org.springframework.http.HttpEntity<>(headers);
-            
-            String response = restTemplate.exchange(url, org.springframework.http.HttpMethod.GET, entity, String.class).getBody();
+            String response = ingestionPipeline.get(IngestionPipeline.Upstream.NAVER, url, headers);
             JsonNode root = objectMapper.readTree(response);
             
             if (root.has("items") && root.get("items").isArray() && root.get("items").size() > 0) {
@@ -10,6 +10,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.ArrayList;
@@ -25,6 +27,7 @@ public class PRDMovieListService {
 
     private final PRDMovieListRepository movieListRepository;
     private final MovieListMapper movieListMapper;
+    private final MovieSearchIndexService movieSearchIndexService;
 
     /**
      * 영화 목록 저장 (중복 체크)
@@ -83,13 +86,28 @@ public class PRDMovieListService {
     }
 
     /**
-     * 띄어쓰기 무시 통합 검색 (제목, 장르, 국가)
+     * 띄어쓰기 무시 통합 검색 (제목, 영문제목, 장르, 국가, 감독, 배우)
+     * 검색 인덱스가 준비되어 있으면 인덱스 랭킹 순으로, 아니면 DB 검색으로 대체
      */
     public List<MovieListDto> searchMoviesIgnoreSpace(String keyword) {
         if (keyword == null || keyword.trim().isEmpty()) {
             return List.of();
         }
         
+        if (movieSearchIndexService.isReady()) {
+            List<String> movieCds = movieSearchIndexService.searchAll(keyword);
+            if (movieCds.isEmpty()) {
+                return List.of();
+            }
+            Map<String, MovieList> movieListMap = movieListRepository.findByMovieCdIn(movieCds).stream()
+                    .collect(Collectors.toMap(MovieList::getMovieCd, movie -> movie, (a, b) -> a));
+            return movieCds.stream()
+                    .map(movieListMap::get)
+                    .filter(Objects::nonNull)
+                    .map(movieListMapper::toDto)
+                    .collect(Collectors.toList());
+        }
+        
         String noSpace = keyword.replaceAll("\\s+", "");
         List<MovieList> results = new ArrayList<>();
         
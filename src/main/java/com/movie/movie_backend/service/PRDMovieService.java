@@ -8,13 +8,17 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.ArrayList;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PRDMovieService {
     private final PRDMovieRepository movieRepository;
+    private final MovieSearchIndexService movieSearchIndexService;
 
     public MovieDetail registerMovieDetail(MovieDetail movieDetail) {
         return movieRepository.save(movieDetail);
@@ -66,9 +70,20 @@ public class PRDMovieService {
 
     /**
      * 띄어쓰기 무시 통합 검색 (제목, 감독, 배우, 장르)
+     * 검색 인덱스가 준비되어 있으면 인덱스 랭킹 순으로, 아니면 DB 검색으로 대체
      */
     public List<MovieDetail> searchMoviesIgnoreSpace(String keyword) {
         if (keyword == null) return List.of();
+        if (movieSearchIndexService.isReady()) {
+            List<String> movieCds = movieSearchIndexService.searchAll(keyword);
+            if (movieCds.isEmpty()) return List.of();
+            Map<String, MovieDetail> movieDetailMap = movieRepository.findByMovieCdIn(movieCds).stream()
+                    .collect(Collectors.toMap(MovieDetail::getMovieCd, movie -> movie, (a, b) -> a));
+            return movieCds.stream()
+                    .map(movieDetailMap::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+        }
         String noSpace = keyword.replaceAll("\\s+", "");
         return movieRepository.searchIgnoreSpace(noSpace);
     }
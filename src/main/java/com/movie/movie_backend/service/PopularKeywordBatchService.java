@@ -2,16 +2,16 @@ package com.movie.movie_backend.service;
 
 import com.movie.movie_backend.entity.PopularKeyword;
 import com.movie.movie_backend.repository.PopularKeywordRepository;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.cache.annotation.CacheEvict;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -20,57 +20,47 @@ import java.util.List;
 public class PopularKeywordBatchService {
 
     private final PopularKeywordRepository popularKeywordRepository;
+    private final PopularKeywordService popularKeywordService;
+    private final StringRedisTemplate redisTemplate;
 
-    @PersistenceContext
-    private EntityManager em;
+    private static final String SNAPSHOT_LOCK_PREFIX = PopularKeywordService.KEY_PREFIX + "snapshot-lock:";
 
-    // 테스트용: 1분, 실제 운영시: 7일로 변경
-    private static final int AGGREGATION_MINUTES = 1440; // 24시간 = 1440분
-
-    // 3분마다 실행 (매 3분마다)
+    /**
+     * 전체 서버 합산 인기검색어 상위 10개를 popular_keywords에 스냅샷으로 저장 (3분마다)
+     * 실시간 조회는 PopularKeywordService에서 하고, 이 테이블은 재시작/다른 서버용 기록
+     * - 회차마다 Redis 락을 잡은 한 서버만 저장, Redis 합산을 못 쓰는 서버(이 서버 집계만 가진 서버)는 저장하지 않음
+     */
     @Scheduled(cron = "0 */3 * * * *")
     @Transactional
-    @CacheEvict(value = "popularKeywords", allEntries = true)
     public void aggregatePopularKeywords() {
-        log.info("인기검색어 슬라이딩 윈도우 집계 배치 시작 ({}분 = {}시간)", AGGREGATION_MINUTES, AGGREGATION_MINUTES / 60);
-        
-        LocalDateTime windowStart = LocalDateTime.now().minusMinutes(AGGREGATION_MINUTES);
-        LocalDateTime now = LocalDateTime.now();
-        
-        log.info("집계 기간: {} ~ {}", windowStart, now);
-
-        // 슬라이딩 윈도우로 최근 N분간의 검색어만 집계
-        List<Object[]> results = em.createNativeQuery(
-            "SELECT keyword, COUNT(*) as cnt " +
-            "FROM search_log " +
-            "WHERE searched_at >= :windowStart " +
-            "GROUP BY keyword " +
-            "ORDER BY cnt DESC " +
-            "LIMIT 10"
-        )
-        .setParameter("windowStart", windowStart)
-        .getResultList();
-
-        log.info("집계된 검색어 개수: {}개", results.size());
-
-        // 기존 popular_keyword 전체 삭제 (슬라이딩 윈도우 방식)
-        popularKeywordRepository.deleteAll();
-        log.info("기존 인기검색어 삭제 완료");
+        popularKeywordService.refresh();
+        if (!popularKeywordService.isGlobal()) {
+            log.warn("인기검색어 전체 합산 불가(Redis), 스냅샷 저장 건너뜀");
+            return;
+        }
+        String lockKey = SNAPSHOT_LOCK_PREFIX + LocalDateTime.now().withSecond(0).withNano(0);
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, "1", Duration.ofMinutes(2)))) {
+                return; // 이번 회차는 다른 서버가 저장
+            }
+        } catch (RuntimeException e) {
+            log.warn("인기검색어 스냅샷 락 실패, 스냅샷 저장 건너뜀: {}", e.getMessage());
+            return;
+        }
+        List<PopularKeywordService.KeywordCount> top = popularKeywordService.getTopKeywords();
+        LocalDateTime aggregatedAt = popularKeywordService.getAggregatedAt();
 
-        // 새로 저장
-        int savedCount = 0;
-        for (Object[] row : results) {
-            String keyword = (String) row[0];
-            int count = ((Number) row[1]).intValue();
+        List<PopularKeyword> snapshot = new ArrayList<>(top.size());
+        for (PopularKeywordService.KeywordCount keywordCount : top) {
             PopularKeyword pk = new PopularKeyword();
-            pk.setKeyword(keyword);
-            pk.setSearchCount(count);
-            pk.setAggregatedAt(now);
-            popularKeywordRepository.save(pk);
-            savedCount++;
-            log.debug("인기검색어 저장: {} ({}회)", keyword, count);
+            pk.setKeyword(keywordCount.getKeyword());
+            pk.setSearchCount((int) Math.min(Integer.MAX_VALUE, keywordCount.getCount()));
+            pk.setAggregatedAt(aggregatedAt);
+            snapshot.add(pk);
         }
-        
-        log.info("인기검색어 슬라이딩 윈도우 집계 배치 완료: {}개 저장", savedCount);
+
+        popularKeywordRepository.deleteAllInBatch();
+        popularKeywordRepository.saveAll(snapshot);
+        log.info("인기검색어 스냅샷 저장 완료: {}개", snapshot.size());
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,375 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.repository.SearchLogRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 실시간 인기검색어 (최근 24시간 슬라이딩 윈도우, 메모리 집계 + Redis로 서버 간 합산)
+ * - 검색 1건마다 현재 분(minute) 버킷의 Space-Saving 요약에 반영 (버킷당 상위 BUCKET_CAPACITY개 검색어만 유지)
+ * - 분이 바뀌면 직전 버킷을 Redis 분 버킷(ZINCRBY)에 더하고, 분마다 한 서버가 24시간 분 버킷을 ZUNIONSTORE로 합쳐 전체 윈도우를 만듦
+ * - 상위 10개는 몇 초마다 전체 윈도우 + 이 서버의 현재 분 버킷으로 스냅샷을 만들어 두므로 조회는 바로 반환
+ *   (다른 서버의 최근 1~2분은 다음 합산 때 반영)
+ * - Redis 호출은 스케줄러 스레드에서만 하고, Redis 장애 시에는 이 서버가 집계한 윈도우로 응답
+ * - 서버 시작 시 최근 24시간 search_log를 분 단위로 한 번만 읽어 로컬 윈도우를 채움 (Redis가 비어 있으면 Redis에도 채움)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PopularKeywordService {
+
+    static final int WINDOW_MINUTES = 1440; // 24시간
+    static final int BUCKET_CAPACITY = 1000;
+    static final int TOP_SIZE = 10;
+    static final int GLOBAL_READ_SIZE = TOP_SIZE * 5; // 전체 윈도우에서 읽는 후보 수 (현재 분 버킷과 합친 뒤 상위 10개)
+
+    // 해시 태그로 한 슬롯에 모아서 클러스터에서도 ZUNIONSTORE 가능
+    static final String KEY_PREFIX = "{popular-keywords}:";
+    static final String WINDOW_KEY = KEY_PREFIX + "window";
+    private static final String SEEDED_KEY = KEY_PREFIX + "seeded";
+    private static final Duration BUCKET_TTL = Duration.ofMinutes(WINDOW_MINUTES + 60);
+
+    private final SearchLogRepository searchLogRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    private final Object lock = new Object();
+    private final Map<Long, Map<String, Long>> buckets = new HashMap<>(); // 분 → 검색어별 횟수 (윈도우에 합산된 버킷)
+    private final Map<String, Long> windowCounts = new HashMap<>();
+    private SpaceSaving current = new SpaceSaving(BUCKET_CAPACITY);
+    private long currentMinute = epochMinute(LocalDateTime.now());
+    private boolean dirty;
+    private final List<Map.Entry<Long, Map<String, Long>>> unpublished = new ArrayList<>(); // Redis에 아직 안 보낸 분 버킷
+    private long lastWindowMinute; // 마지막으로 전체 윈도우 합산을 시도한 분 (스케줄러 스레드 전용)
+    private volatile boolean global;
+
+    private volatile List<KeywordCount> topKeywords = Collections.emptyList();
+    private volatile LocalDateTime aggregatedAt = LocalDateTime.now();
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class KeywordCount {
+        private final String keyword;
+        private final long count;
+    }
+
+    /**
+     * Space-Saving 상위 빈도 요약 (카운터가 가득 차면 가장 작은 카운터를 새 검색어가 이어받음)
+     */
+    static final class SpaceSaving {
+        private final int capacity;
+        private final Map<String, long[]> counters = new HashMap<>(); // {횟수, 과대추정 오차}
+
+        SpaceSaving(int capacity) {
+            this.capacity = capacity;
+        }
+
+        void offer(String keyword, long increment) {
+            long[] counter = counters.get(keyword);
+            if (counter != null) {
+                counter[0] += increment;
+                return;
+            }
+            if (counters.size() < capacity) {
+                counters.put(keyword, new long[] {increment, 0});
+                return;
+            }
+            String minKeyword = null;
+            long minCount = Long.MAX_VALUE;
+            for (Map.Entry<String, long[]> entry : counters.entrySet()) {
+                if (entry.getValue()[0] < minCount) {
+                    minCount = entry.getValue()[0];
+                    minKeyword = entry.getKey();
+                }
+            }
+            counters.remove(minKeyword);
+            counters.put(keyword, new long[] {minCount + increment, minCount});
+        }
+
+        Map<String, Long> toCounts() {
+            Map<String, Long> counts = new HashMap<>(counters.size() * 2);
+            counters.forEach((keyword, counter) -> counts.put(keyword, counter[0]));
+            return counts;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        long startTime = System.currentTimeMillis();
+        try {
+            LocalDateTime since = LocalDateTime.now().minusMinutes(WINDOW_MINUTES);
+            List<Object[]> rows = searchLogRepository.countByKeywordAndMinuteSince(since);
+            synchronized (lock) {
+                // search_log는 전체 서버 기록이므로 현재 분까지 모두 윈도우 버킷에 넣음 (current에 넣으면 Redis에 중복으로 더해짐)
+                for (Object[] row : rows) {
+                    String keyword = (String) row[0];
+                    long minute = ((Number) row[1]).longValue();
+                    long count = ((Number) row[2]).longValue();
+                    Map<String, Long> bucket = buckets.computeIfAbsent(minute, m -> new HashMap<>());
+                    bucket.merge(keyword, count, Long::sum);
+                    windowCounts.merge(keyword, count, Long::sum);
+                }
+                dirty = true;
+            }
+            seedRedis();
+            refresh();
+            log.info("인기검색어 윈도우 복원 완료: {}행, 검색어 {}개, {}ms",
+                    rows.size(), windowCounts.size(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.warn("인기검색어 윈도우 복원 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 검색 1건 반영 (검색 결과가 있는 검색어만)
+     */
+    public void record(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return;
+        }
+        String normalized = keyword.trim();
+        if (normalized.length() > 100) {
+            normalized = normalized.substring(0, 100);
+        }
+        synchronized (lock) {
+            rotate(epochMinute(LocalDateTime.now()));
+            current.offer(normalized, 1);
+            dirty = true;
+        }
+    }
+
+    /**
+     * 현재 인기검색어 상위 10개 (스냅샷)
+     */
+    public List<KeywordCount> getTopKeywords() {
+        return topKeywords;
+    }
+
+    public LocalDateTime getAggregatedAt() {
+        return aggregatedAt;
+    }
+
+    /**
+     * 버킷 회전 + 상위 10개 스냅샷 갱신
+     * 닫힌 분 버킷을 Redis에 보내고 전체 윈도우를 읽어서 계산, Redis를 못 쓰면 이 서버 윈도우로 계산 (변경이 있을 때만)
+     */
+    @Scheduled(fixedDelayString = "${search.popular-keywords.refresh-ms:2000}")
+    public void refresh() {
+        long nowMinute = epochMinute(LocalDateTime.now());
+        List<Map.Entry<Long, Map<String, Long>>> closed;
+        Map<String, Long> currentCounts;
+        boolean changed;
+        synchronized (lock) {
+            changed = rotate(nowMinute) | dirty;
+            dirty = false;
+            closed = new ArrayList<>(unpublished);
+            unpublished.clear();
+            currentCounts = current.toCounts();
+        }
+
+        List<KeywordCount> top = readGlobalTop(closed, currentCounts, nowMinute);
+        if (top != null) {
+            global = true;
+        } else {
+            if (!changed && !global) {
+                return;
+            }
+            global = false;
+            synchronized (lock) {
+                top = localTop();
+            }
+        }
+        topKeywords = Collections.unmodifiableList(top);
+        aggregatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 스냅샷이 전체 서버 합산 기준인지 (false면 이 서버 집계만 반영)
+     */
+    public boolean isGlobal() {
+        return global;
+    }
+
+    /**
+     * 닫힌 분 버킷을 Redis에 더하고, 분이 바뀌었으면 한 서버만 전체 윈도우를 다시 합산한 뒤 전체 상위 후보 + 현재 분 버킷으로 상위 10개 계산
+     * 버킷 전송이 실패하면 다시 보내지 않음 (부분 반영된 버킷을 중복으로 더하지 않도록, 로컬 윈도우에는 남아 있음)
+     * @return Redis를 못 쓰면 null
+     */
+    private List<KeywordCount> readGlobalTop(List<Map.Entry<Long, Map<String, Long>>> closed,
+                                             Map<String, Long> currentCounts, long nowMinute) {
+        try {
+            publish(closed);
+            if (nowMinute != lastWindowMinute) {
+                lastWindowMinute = nowMinute;
+                if (Boolean.TRUE.equals(redisTemplate.opsForValue()
+                        .setIfAbsent(KEY_PREFIX + "window-lock:" + nowMinute, "1", Duration.ofMinutes(2)))) {
+                    rebuildWindow(nowMinute);
+                }
+            }
+            Set<ZSetOperations.TypedTuple<String>> window =
+                    redisTemplate.opsForZSet().reverseRangeWithScores(WINDOW_KEY, 0, GLOBAL_READ_SIZE - 1);
+            Map<String, Long> counts = new HashMap<>(currentCounts);
+            if (window != null) {
+                for (ZSetOperations.TypedTuple<String> tuple : window) {
+                    if (tuple.getValue() != null && tuple.getScore() != null) {
+                        counts.merge(tuple.getValue(), tuple.getScore().longValue(), Long::sum);
+                    }
+                }
+            }
+            PriorityQueue<KeywordCount> heap = newHeap();
+            counts.forEach((keyword, count) -> offer(heap, keyword, count));
+            return sorted(heap);
+        } catch (RuntimeException e) {
+            log.warn("인기검색어 Redis 합산 실패, 이 서버 집계로 응답: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 분 버킷별 검색어 횟수를 Redis 분 버킷에 더함 (파이프라인 한 번)
+     */
+    private void publish(List<Map.Entry<Long, Map<String, Long>>> closed) {
+        if (closed.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (Map.Entry<Long, Map<String, Long>> bucket : closed) {
+                    String key = minuteKey(bucket.getKey());
+                    bucket.getValue().forEach((keyword, count) -> ops.opsForZSet().incrementScore(key, keyword, count));
+                    ops.expire(key, BUCKET_TTL);
+                }
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 최근 24시간 분 버킷을 ZUNIONSTORE로 합쳐 전체 윈도우 갱신 (지난 버킷은 합산 범위에서 빠지고 TTL로 삭제됨)
+     */
+    private void rebuildWindow(long nowMinute) {
+        List<String> keys = new ArrayList<>(WINDOW_MINUTES - 1);
+        for (long minute = nowMinute - WINDOW_MINUTES + 1; minute < nowMinute; minute++) {
+            keys.add(minuteKey(minute));
+        }
+        redisTemplate.opsForZSet().unionAndStore(minuteKey(nowMinute - WINDOW_MINUTES), keys, WINDOW_KEY);
+    }
+
+    /**
+     * Redis에 인기검색어가 한 번도 채워진 적 없으면 search_log에서 복원한 버킷을 올림 (여러 서버 중 한 번만)
+     */
+    private void seedRedis() {
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(SEEDED_KEY, "1"))) {
+                return;
+            }
+            List<Map.Entry<Long, Map<String, Long>>> restored = new ArrayList<>();
+            synchronized (lock) {
+                buckets.forEach((minute, bucket) -> restored.add(Map.entry(minute, new HashMap<>(bucket))));
+            }
+            publish(restored);
+            rebuildWindow(epochMinute(LocalDateTime.now()));
+            log.info("인기검색어 Redis 윈도우 초기화: 분 버킷 {}개", restored.size());
+        } catch (RuntimeException e) {
+            log.warn("인기검색어 Redis 윈도우 초기화 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 이 서버가 집계한 윈도우 기준 상위 10개 (lock 안에서 호출)
+     */
+    private List<KeywordCount> localTop() {
+        PriorityQueue<KeywordCount> heap = newHeap();
+        Map<String, Long> pending = current.toCounts();
+        for (Map.Entry<String, Long> entry : windowCounts.entrySet()) {
+            Long inCurrent = pending.remove(entry.getKey());
+            offer(heap, entry.getKey(), entry.getValue() + (inCurrent != null ? inCurrent : 0));
+        }
+        pending.forEach((keyword, count) -> offer(heap, keyword, count));
+        return sorted(heap);
+    }
+
+    private static PriorityQueue<KeywordCount> newHeap() {
+        return new PriorityQueue<>(TOP_SIZE + 1,
+                (a, b) -> a.getCount() != b.getCount() ? Long.compare(a.getCount(), b.getCount())
+                        : b.getKeyword().compareTo(a.getKeyword()));
+    }
+
+    private static List<KeywordCount> sorted(PriorityQueue<KeywordCount> heap) {
+        List<KeywordCount> top = new ArrayList<>(heap);
+        top.sort((a, b) -> a.getCount() != b.getCount() ? Long.compare(b.getCount(), a.getCount())
+                : a.getKeyword().compareTo(b.getKeyword()));
+        return top;
+    }
+
+    static String minuteKey(long minute) {
+        return KEY_PREFIX + "minute:" + minute;
+    }
+
+    private static void offer(PriorityQueue<KeywordCount> heap, String keyword, long count) {
+        heap.offer(new KeywordCount(keyword, count));
+        if (heap.size() > TOP_SIZE) {
+            heap.poll();
+        }
+    }
+
+    /**
+     * 분이 바뀌었으면 현재 버킷을 윈도우에 합산하고 만료 버킷 제거 (lock 안에서 호출)
+     */
+    private boolean rotate(long nowMinute) {
+        if (nowMinute <= currentMinute) {
+            return false;
+        }
+        Map<String, Long> closed = current.toCounts();
+        if (!closed.isEmpty()) {
+            buckets.merge(currentMinute, closed, (a, b) -> {
+                b.forEach((keyword, count) -> a.merge(keyword, count, Long::sum));
+                return a;
+            });
+            closed.forEach((keyword, count) -> windowCounts.merge(keyword, count, Long::sum));
+            unpublished.add(Map.entry(currentMinute, closed));
+        }
+        current = new SpaceSaving(BUCKET_CAPACITY);
+        currentMinute = nowMinute;
+
+        long expireBefore = nowMinute - WINDOW_MINUTES;
+        buckets.entrySet().removeIf(entry -> {
+            if (entry.getKey() >= expireBefore) {
+                return false;
+            }
+            entry.getValue().forEach((keyword, count) ->
+                    windowCounts.computeIfPresent(keyword, (k, total) -> total - count > 0 ? total - count : null));
+            return true;
+        });
+        return true;
+    }
+
+    /**
+     * search_log 복원 쿼리(TIMESTAMPDIFF(MINUTE, '1970-01-01', searched_at))와 같은 기준의 분 번호
+     */
+    static long epochMinute(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+}
@@ -11,8 +11,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 
@@ -31,11 +29,13 @@ public class REVRatingService {
     private final PRDMovieRepository movieRepository;
     private final USRUserRepository userRepository;
     private final PersonalizedRecommendationService recommendationService;
+    private final RatingAggregateService ratingAggregateService;
+    private final RatingCacheService ratingCacheService;
+    private final RecommendationFeatureService recommendationFeatureService;
 
     /**
      * 사용자가 영화에 별점 등록/수정
      */
-    @CacheEvict(value = {"averageRatings", "topRatedMovies"}, allEntries = true)
     public RatingDto saveRating(String userEmail, String movieCd, Double score) {
         log.info("별점 저장 요청: user={}, movie={}, score={}", userEmail, movieCd, score);
         
@@ -51,9 +51,11 @@ public class REVRatingService {
         Optional<Rating> existingRating = ratingRepository.findByUserAndMovieDetail(user, movie);
         
         Rating rating;
+        Double oldScore = null;
         if (existingRating.isPresent()) {
             // 기존 별점 수정
             rating = existingRating.get();
+            oldScore = rating.getScore();
             rating.setScore(score);
             rating.setCreatedAt(LocalDateTime.now());
             log.info("기존 별점 수정: {}", rating.getId());
@@ -69,8 +71,11 @@ public class REVRatingService {
         
         Rating savedRating = ratingRepository.save(rating);
         
-        // MovieDetail의 평점 캐시 업데이트
-        updateMovieRatingCache(movieCd);
+        // 별점 집계 증분 반영 (MovieDetail 평점 캐시 포함) 후 이 영화 캐시만 무효화
+        Double oldAverage = movie.getAverageRating();
+        Double newAverage = ratingAggregateService.applyChange(movie, oldScore, score);
+        ratingCacheService.evictAfterCommit(movieCd, oldAverage, newAverage);
+        recommendationFeatureService.updateAverageRating(movie.getId(), newAverage);
         
         // 추천 캐시 무효화
         recommendationService.evictUserRecommendations(user.getId());
@@ -81,7 +86,6 @@ public class REVRatingService {
     /**
      * 사용자의 별점 삭제
      */
-    @CacheEvict(value = {"averageRatings", "topRatedMovies"}, allEntries = true)
     public void deleteRating(String userEmail, String movieCd) {
         log.info("별점 삭제 요청: user={}, movie={}", userEmail, movieCd);
         
@@ -100,8 +104,11 @@ public class REVRatingService {
             ratingRepository.delete(existingRating.get());
             log.info("별점 삭제 완료: {}", existingRating.get().getId());
             
-            // MovieDetail의 평점 캐시 업데이트
-            updateMovieRatingCache(movieCd);
+            // 별점 집계 증분 반영 (MovieDetail 평점 캐시 포함) 후 이 영화 캐시만 무효화
+            Double oldAverage = movie.getAverageRating();
+            Double newAverage = ratingAggregateService.applyChange(movie, existingRating.get().getScore(), null);
+            ratingCacheService.evictAfterCommit(movieCd, oldAverage, newAverage);
+            recommendationFeatureService.updateAverageRating(movie.getId(), newAverage);
             
             // 추천 캐시 무효화
             recommendationService.evictUserRecommendations(user.getId());
@@ -167,11 +174,11 @@ public class REVRatingService {
     }
 
     /**
-     * 영화별 평점 개수 조회 (기존 메서드)
+     * 영화별 평점 개수 조회 (별점 집계에서 조회)
      */
     @Transactional(readOnly = true)
     public long getRatingCountByMovieDetail(String movieCd) {
-        return ratingRepository.countByMovieDetailMovieCd(movieCd);
+        return ratingAggregateService.get(movieCd).getRatingCount();
     }
 
     private List<Rating> getAllRatingsChunked() {
@@ -185,63 +192,20 @@ public class REVRatingService {
         return allRatings;
     }
     
-    /**
-     * MovieDetail의 평점 캐시 업데이트
-     */
-    private void updateMovieRatingCache(String movieCd) {
-        try {
-            MovieDetail movie = movieRepository.findByMovieCd(movieCd).orElse(null);
-            if (movie != null) {
-                Double averageRating = getAverageRating(movieCd);
-                Integer ratingCount = (int) getRatingCountByMovieDetail(movieCd);
-                
-                movie.setAverageRating(averageRating);
-                movie.setRatingCount(ratingCount);
-                movie.setRatingUpdatedAt(LocalDateTime.now());
-                
-                movieRepository.save(movie);
-                
-                log.debug("영화 {}의 평점 캐시 업데이트: 평점={}, 개수={}", 
-                        movie.getMovieNm(), averageRating, ratingCount);
-            }
-        } catch (Exception e) {
-            log.warn("영화 {}의 평점 캐시 업데이트 실패: {}", movieCd, e.getMessage());
-        }
-    }
-    
     /**
      * 영화의 평균 평점 조회
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = "averageRatings", key = "#movieCd", unless="#result == null")
     public Double getAverageRating(String movieCd) {
-        List<Rating> ratings = ratingRepository.findByMovieDetailMovieCd(movieCd);
-        if (ratings.isEmpty()) {
-            return null;
-        }
-        double average = ratings.stream()
-                .mapToDouble(Rating::getScore)
-                .average()
-                .orElse(0.0);
-        return Math.round(average * 10.0) / 10.0; // 소수점 첫째자리까지
+        return ratingCacheService.getAverage(movieCd); // 소수점 첫째자리까지
     }
     
     /**
      * 영화의 별점 분포 조회 (0.5~5.0, 0.5 단위, 누락 구간은 0)
      */
+    @Transactional(readOnly = true)
     public Map<Double, Long> getRatingDistribution(String movieCd) {
-        List<Rating> ratings = ratingRepository.findByMovieDetailMovieCd(movieCd);
-        Map<Double, Long> distribution = new java.util.LinkedHashMap<>();
-        // 0.5~5.0, 0.5 단위로 초기화
-        for (double score = 0.5; score <= 5.0; score += 0.5) {
-            distribution.put(Math.round(score * 10.0) / 10.0, 0L);
-        }
-        // 집계
-        for (Rating rating : ratings) {
-            double score = Math.round(rating.getScore() * 10.0) / 10.0;
-            distribution.put(score, distribution.getOrDefault(score, 0L) + 1);
-        }
-        return distribution;
+        return ratingAggregateService.get(movieCd).getDistribution();
     }
     
     /**
@@ -260,33 +224,16 @@ public class REVRatingService {
     }
     
     /**
-     * 여러 영화의 평균 평점을 한 번에 조회 (배치 조회 + 캐싱)
+     * 여러 영화의 평균 평점을 한 번에 조회 (영화별 캐시 + 누락분만 배치 조회)
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = "averageRatings", key = "#movieCds.hashCode()", unless="#result.isEmpty()")
     public Map<String, Double> getAverageRatingsForMovies(List<String> movieCds) {
         if (movieCds == null || movieCds.isEmpty()) {
             return new java.util.HashMap<>();
         }
         
         log.debug("배치 평점 조회 시작: {}개 영화", movieCds.size());
-        
-        List<Object[]> results = ratingRepository.getAverageRatingsForMovies(movieCds);
-        Map<String, Double> averageRatings = new java.util.HashMap<>();
-        
-        for (Object[] result : results) {
-            String movieCd = (String) result[0];
-            Double avgRating = (Double) result[1];
-            
-            if (avgRating != null) {
-                // 소수점 첫째자리까지 반올림
-                double roundedRating = Math.round(avgRating * 10.0) / 10.0;
-                averageRatings.put(movieCd, roundedRating);
-            } else {
-                averageRatings.put(movieCd, null);
-            }
-        }
-        
+        Map<String, Double> averageRatings = ratingCacheService.getAverages(movieCds);
         log.debug("배치 평점 조회 완료: {}개 영화의 평점 조회됨", averageRatings.size());
         return averageRatings;
     }
@@ -14,8 +14,10 @@ import org.springframework.transaction.annotation.Transactional;
 import com.movie.movie_backend.dto.ReviewRequestDto;
 import com.movie.movie_backend.dto.ReviewResponseDto;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import com.movie.movie_backend.dto.CursorPageDto;
+import com.movie.movie_backend.util.KeysetCursor;
 import com.movie.movie_backend.entity.ReviewLike;
 import com.movie.movie_backend.entity.Comment;
 import com.movie.movie_backend.repository.ReviewLikeRepository;
@@ -40,6 +42,7 @@ public class REVReviewService {
     private final ReviewLikeRepository reviewLikeRepository;
     private final REVCommentRepository commentRepository;
     private final PersonalizedRecommendationService recommendationService;
+    private final ItemCollaborativeFilteringService itemCollaborativeFilteringService;
     private final ForbiddenWordService forbiddenWordService;
 
     /**
@@ -336,12 +339,39 @@ public class REVReviewService {
 
     // [DTO 기반] 영화별 리뷰 목록(정렬/페이징)
     public Page<ReviewResponseDto> getReviewsByMovieDto(Long movieId, String sort, int page, int size) {
-        List<Review> reviews = reviewRepository.findByMovieDetailIdAndStatusOrderByCreatedAtDesc(movieId, Review.ReviewStatus.ACTIVE); // 정렬/페이징은 임시
-        int start = page * size;
-        int end = Math.min(start + size, reviews.size());
-        List<ReviewResponseDto> dtoList = reviews.subList(start, end).stream()
-                .map(r -> toResponseDto(r, false)).toList();
-        return new PageImpl<>(dtoList, PageRequest.of(page, size), reviews.size());
+        // 최신순, 해당 페이지만 DB에서 조회 (깊은 페이지는 getReviewsByMovieCursor 사용)
+        Page<Review> reviews = reviewRepository.findByMovieDetailIdAndStatus(movieId, Review.ReviewStatus.ACTIVE,
+                PageRequest.of(page, size, Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"))));
+        return reviews.map(r -> toResponseDto(r, false));
+    }
+
+    // [DTO 기반] 영화별 리뷰 목록 (최신순, 커서 기반 - 몇 번째 페이지든 첫 페이지와 같은 비용)
+    public CursorPageDto<ReviewResponseDto> getReviewsByMovieCursor(Long movieId, String cursor, int size) {
+        PageRequest limit = PageRequest.of(0, size + 1); // 한 건 더 읽어서 다음 페이지 여부 판단
+        List<Review> reviews;
+        if (cursor == null || cursor.isBlank()) {
+            reviews = reviewRepository.findKeysetPageByMovie(movieId, Review.ReviewStatus.ACTIVE, limit);
+        } else {
+            String[] key = KeysetCursor.decode(cursor, 2);
+            LocalDateTime createdAt;
+            Long id;
+            try {
+                createdAt = LocalDateTime.parse(key[0]);
+                id = Long.valueOf(key[1]);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.", e);
+            }
+            reviews = reviewRepository.findKeysetPageByMovieAfter(movieId, Review.ReviewStatus.ACTIVE, createdAt, id, limit);
+        }
+        boolean hasNext = reviews.size() > size;
+        List<Review> page = hasNext ? reviews.subList(0, size) : reviews;
+        Review last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return CursorPageDto.<ReviewResponseDto>builder()
+                .content(page.stream().map(r -> toResponseDto(r, false)).toList())
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? KeysetCursor.encode(last.getCreatedAt(), last.getId()) : null)
+                .build();
     }
 
     // [DTO 기반] 리뷰 상세(댓글 포함)
@@ -373,6 +403,7 @@ public class REVReviewService {
             
             ReviewLike savedLike = reviewLikeRepository.save(reviewLike);
             System.out.println("리뷰 좋아요 추가 완료: 좋아요ID=" + savedLike.getId());
+            itemCollaborativeFilteringService.markUserDirty(userId);
         } else {
             System.out.println("이미 좋아요를 눌렀으므로 추가하지 않음");
         }
@@ -391,6 +422,7 @@ public class REVReviewService {
         if (exists) {
             reviewLikeRepository.deleteByReviewIdAndUserId(reviewId, userId);
             System.out.println("리뷰 좋아요 취소 완료");
+            itemCollaborativeFilteringService.markUserDirty(userId);
         } else {
             System.out.println("좋아요가 존재하지 않으므로 취소하지 않음");
         }
@@ -0,0 +1,197 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.entity.MovieDetail;
+import com.movie.movie_backend.entity.MovieRatingAggregate;
+import com.movie.movie_backend.repository.MovieRatingAggregateRepository;
+import com.movie.movie_backend.repository.REVRatingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 영화별 별점 집계 관리
+ * - 별점 등록/수정/삭제 때 변경분(개수, 합계, 구간 2개)만 UPSERT 한 번으로 더해서 O(1)로 갱신
+ * - 평균/개수/분포 조회는 집계 행 하나만 읽고 rating 테이블은 스캔하지 않는다
+ * - movie_detail.average_rating/rating_count도 같은 트랜잭션에서 집계 값으로 맞춤
+ * - 직접 SQL 수정 등으로 어긋난 집계는 주기적으로 rating 테이블 GROUP BY 결과와 비교해 보정
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RatingAggregateService {
+
+    private final MovieRatingAggregateRepository aggregateRepository;
+    private final REVRatingRepository ratingRepository;
+
+    /**
+     * 별점 변경분 반영 (등록: oldScore == null, 삭제: newScore == null)
+     * @return 반영 후 평균 별점 (별점이 없으면 null)
+     */
+    @Transactional
+    public Double applyChange(MovieDetail movie, Double oldScore, Double newScore) {
+        long[] bucketDeltas = new long[MovieRatingAggregate.BUCKET_COUNT];
+        if (oldScore != null) {
+            bucketDeltas[MovieRatingAggregate.bucketOf(oldScore) - 1]--;
+        }
+        if (newScore != null) {
+            bucketDeltas[MovieRatingAggregate.bucketOf(newScore) - 1]++;
+        }
+        if (Arrays.stream(bucketDeltas).allMatch(delta -> delta == 0)) {
+            return movie.getAverageRating(); // 같은 구간 안에서의 수정은 집계가 바뀌지 않음
+        }
+        applyDelta(movie.getId(), movie.getMovieCd(), bucketDeltas);
+
+        List<Object[]> totals = aggregateRepository.findTotals(movie.getId());
+        if (totals.isEmpty()) {
+            return null;
+        }
+        MovieRatingAggregate aggregate = new MovieRatingAggregate();
+        aggregate.setRatingCount(((Number) totals.get(0)[0]).longValue());
+        aggregate.setHalfPointSum(((Number) totals.get(0)[1]).longValue());
+        return aggregate.getAverage();
+    }
+
+    /**
+     * 영화 별점 집계 (없으면 빈 집계)
+     */
+    @Transactional(readOnly = true)
+    public MovieRatingAggregate get(String movieCd) {
+        return aggregateRepository.findByMovieCd(movieCd).orElseGet(() -> {
+            MovieRatingAggregate empty = new MovieRatingAggregate();
+            empty.setMovieCd(movieCd);
+            return empty;
+        });
+    }
+
+    /**
+     * 여러 영화 별점 집계 (별점이 없는 영화는 결과에 없음)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, MovieRatingAggregate> getAll(Collection<String> movieCds) {
+        if (movieCds == null || movieCds.isEmpty()) {
+            return new HashMap<>();
+        }
+        return aggregateRepository.findByMovieCdIn(movieCds).stream()
+                .collect(Collectors.toMap(MovieRatingAggregate::getMovieCd, aggregate -> aggregate, (a, b) -> a));
+    }
+
+    /**
+     * 영화 삭제 시 집계 삭제
+     */
+    @Transactional
+    public void delete(Long movieDetailId) {
+        aggregateRepository.deleteById(movieDetailId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void reconcileOnStartup() {
+        try {
+            reconcileInternal();
+        } catch (Exception e) {
+            log.warn("별점 집계 보정 실패 (시작 시): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * rating 테이블 기준으로 집계 보정
+     * 같은 트랜잭션 스냅샷에서 읽은 기대값과 저장값의 차이를 증분으로 더하므로
+     * 보정 중에 들어온 별점 변경분을 덮어쓰지 않는다.
+     * @return 보정한 영화 수
+     */
+    @Scheduled(cron = "${rating.aggregate.reconcile-cron:0 30 4 * * *}")
+    @Transactional
+    public int reconcile() {
+        return reconcileInternal();
+    }
+
+    private int reconcileInternal() {
+        Map<Long, long[]> expected = new HashMap<>();
+        Map<Long, String> movieCds = new HashMap<>();
+        for (Object[] row : ratingRepository.countByMovieAndHalfPoint()) {
+            Long movieDetailId = (Long) row[0];
+            if (movieDetailId == null || row[2] == null) {
+                continue;
+            }
+            int bucket = MovieRatingAggregate.bucketOf(((Number) row[2]).doubleValue() / 2.0);
+            expected.computeIfAbsent(movieDetailId, id -> new long[MovieRatingAggregate.BUCKET_COUNT])[bucket - 1]
+                    += ((Number) row[3]).longValue();
+            movieCds.put(movieDetailId, (String) row[1]);
+        }
+
+        List<MovieRatingAggregate> stored = aggregateRepository.findAll();
+        Map<Long, MovieRatingAggregate> storedById = new HashMap<>();
+        for (MovieRatingAggregate aggregate : stored) {
+            storedById.put(aggregate.getMovieDetailId(), aggregate);
+            movieCds.putIfAbsent(aggregate.getMovieDetailId(), aggregate.getMovieCd());
+        }
+
+        Set<Long> movieDetailIds = new HashSet<>(expected.keySet());
+        movieDetailIds.addAll(storedById.keySet());
+
+        LocalDateTime now = LocalDateTime.now();
+        int fixed = 0;
+        for (Long movieDetailId : movieDetailIds) {
+            long[] want = expected.getOrDefault(movieDetailId, new long[MovieRatingAggregate.BUCKET_COUNT]);
+            MovieRatingAggregate aggregate = storedById.get(movieDetailId);
+            long[] have = aggregate != null ? aggregate.getBuckets() : new long[MovieRatingAggregate.BUCKET_COUNT];
+            long[] bucketDeltas = new long[MovieRatingAggregate.BUCKET_COUNT];
+            for (int i = 0; i < bucketDeltas.length; i++) {
+                bucketDeltas[i] = want[i] - have[i];
+            }
+            boolean bucketsMatch = Arrays.stream(bucketDeltas).allMatch(delta -> delta == 0);
+            boolean totalsMatch = aggregate == null
+                    || (aggregate.getRatingCount() == count(have) && aggregate.getHalfPointSum() == halfPointSum(have));
+            if (bucketsMatch && totalsMatch) {
+                continue;
+            }
+            // 개수/합계가 구간 합과 어긋난 경우 구간 기준으로 맞춤
+            long countDelta = count(want) - (aggregate != null ? aggregate.getRatingCount() : 0);
+            long sumDelta = halfPointSum(want) - (aggregate != null ? aggregate.getHalfPointSum() : 0);
+            upsert(movieDetailId, movieCds.get(movieDetailId), countDelta, sumDelta, bucketDeltas, now);
+            fixed++;
+        }
+        int synced = aggregateRepository.syncAllMovieDetails(now);
+        if (fixed > 0 || synced > 0) {
+            log.info("별점 집계 보정 완료: 집계 {}건, movie_detail {}건", fixed, synced);
+        }
+        return fixed;
+    }
+
+    private void applyDelta(Long movieDetailId, String movieCd, long[] bucketDeltas) {
+        LocalDateTime now = LocalDateTime.now();
+        upsert(movieDetailId, movieCd, count(bucketDeltas), halfPointSum(bucketDeltas), bucketDeltas, now);
+        aggregateRepository.syncMovieDetail(movieDetailId, now);
+    }
+
+    private void upsert(Long movieDetailId, String movieCd, long countDelta, long sumDelta, long[] d, LocalDateTime now) {
+        aggregateRepository.applyDelta(movieDetailId, movieCd, countDelta, sumDelta,
+                d[0], d[1], d[2], d[3], d[4], d[5], d[6], d[7], d[8], d[9], now);
+    }
+
+    private static long count(long[] buckets) {
+        return Arrays.stream(buckets).sum();
+    }
+
+    private static long halfPointSum(long[] buckets) {
+        long sum = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            sum += buckets[i] * (i + 1);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,195 @@
+package com.movie.movie_backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.movie.movie_backend.entity.MovieRatingAggregate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 영화별 평균 별점 캐시
+ * - 영화 하나당 키 하나 (averageRatings::{movieCd}), 로컬 Caffeine near-cache → Redis → DB 순서로 조회
+ * - 여러 영화 조회는 near-cache 적중분을 빼고 Redis MGET 한 번, 남은 것만 집계 쿼리 한 번으로 채움
+ * - 별점이 바뀌면 커밋 후 그 영화 키만 지우고, TOP 평점 목록은 기준 평점에 걸치는 변경일 때만 지움
+ * - Redis 장애 시에는 캐시 없이 DB 집계로 응답
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RatingCacheService {
+
+    public static final String CACHE_NAME = "averageRatings";
+    private static final String KEY_PREFIX = CACHE_NAME + "::";
+    private static final Duration REDIS_TTL = Duration.ofMinutes(5);
+    // 별점 없는 영화도 캐시해서 매번 DB까지 내려가지 않도록 하는 표시값
+    private static final double NO_RATING = -1.0;
+
+    private final RatingAggregateService ratingAggregateService;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final CacheManager cacheManager;
+
+    // 다른 서버에서 바뀐 값은 만료 시간 안에 반영
+    private final Cache<String, Double> nearCache = Caffeine.newBuilder()
+            .maximumSize(20_000)
+            .expireAfterWrite(Duration.ofSeconds(30))
+            .build();
+
+    /**
+     * 영화 평균 별점 (별점이 없으면 null)
+     */
+    public Double getAverage(String movieCd) {
+        if (movieCd == null) {
+            return null;
+        }
+        return getAverages(List.of(movieCd)).get(movieCd);
+    }
+
+    /**
+     * 여러 영화 평균 별점 (요청한 영화 코드마다 값 또는 null)
+     */
+    public Map<String, Double> getAverages(Collection<String> movieCds) {
+        Map<String, Double> result = new HashMap<>();
+        if (movieCds == null || movieCds.isEmpty()) {
+            return result;
+        }
+        List<String> keys = new ArrayList<>(new LinkedHashSet<>(movieCds));
+        keys.removeIf(Objects::isNull);
+
+        // 1. near-cache
+        Map<String, Double> local = nearCache.getAllPresent(keys);
+        result.putAll(local);
+        List<String> misses = new ArrayList<>();
+        for (String movieCd : keys) {
+            if (!local.containsKey(movieCd)) {
+                misses.add(movieCd);
+            }
+        }
+
+        // 2. Redis MGET
+        if (!misses.isEmpty()) {
+            misses = readFromRedis(misses, result);
+        }
+
+        // 3. DB (남은 영화만 한 번에)
+        if (!misses.isEmpty()) {
+            Map<String, MovieRatingAggregate> aggregates = ratingAggregateService.getAll(misses);
+            Map<String, Double> loaded = new HashMap<>();
+            for (String movieCd : misses) {
+                MovieRatingAggregate aggregate = aggregates.get(movieCd);
+                Double average = aggregate != null ? aggregate.getAverage() : null;
+                loaded.put(movieCd, average != null ? average : NO_RATING);
+            }
+            nearCache.putAll(loaded);
+            writeToRedis(loaded);
+            loaded.forEach((movieCd, average) -> result.put(movieCd, average));
+        }
+
+        result.replaceAll((movieCd, average) -> average == null || average < 0 ? null : average);
+        return result;
+    }
+
+    /**
+     * 별점 변경 후 캐시 무효화 (커밋 후, 트랜잭션 밖이면 즉시)
+     * TOP 평점 목록은 변경 전후 평균 중 하나라도 기준 평점 이상일 때만 비운다.
+     */
+    public void evictAfterCommit(String movieCd, Double oldAverage, Double newAverage) {
+        boolean topRatedAffected = isTopRated(oldAverage) || isTopRated(newAverage);
+        runAfterCommit(() -> {
+            evict(movieCd);
+            if (topRatedAffected) {
+                org.springframework.cache.Cache topRated = cacheManager.getCache("topRatedMovies");
+                if (topRated != null) {
+                    topRated.clear();
+                }
+            }
+        });
+    }
+
+    public void evict(String movieCd) {
+        nearCache.invalidate(movieCd);
+        try {
+            redisTemplate.delete(KEY_PREFIX + movieCd);
+        } catch (DataAccessException e) {
+            log.warn("평균 별점 캐시 삭제 실패: movieCd={}, {}", movieCd, e.getMessage());
+        }
+    }
+
+    private static boolean isTopRated(Double average) {
+        return average != null && average >= TmdbPosterService.TOP_RATED_MIN_RATING;
+    }
+
+    private List<String> readFromRedis(List<String> movieCds, Map<String, Double> result) {
+        List<String> keys = new ArrayList<>(movieCds.size());
+        for (String movieCd : movieCds) {
+            keys.add(KEY_PREFIX + movieCd);
+        }
+        List<Object> values;
+        try {
+            values = redisTemplate.opsForValue().multiGet(keys);
+        } catch (DataAccessException e) {
+            log.warn("평균 별점 캐시 조회 실패: {}", e.getMessage());
+            return movieCds;
+        }
+        if (values == null) {
+            return movieCds;
+        }
+        List<String> misses = new ArrayList<>();
+        for (int i = 0; i < movieCds.size(); i++) {
+            Object value = i < values.size() ? values.get(i) : null;
+            if (value instanceof Number number) {
+                double average = number.doubleValue();
+                nearCache.put(movieCds.get(i), average);
+                result.put(movieCds.get(i), average);
+            } else {
+                misses.add(movieCds.get(i));
+            }
+        }
+        return misses;
+    }
+
+    private void writeToRedis(Map<String, Double> averages) {
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    averages.forEach((movieCd, average) -> ops.opsForValue().set(KEY_PREFIX + movieCd, average, REDIS_TTL));
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("평균 별점 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,350 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.entity.SearchHistory;
+import com.movie.movie_backend.entity.User;
+import com.movie.movie_backend.repository.SearchHistoryRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자별 최근 검색어 (최신 10개)
+ * - Redis ZSET(search:recent:{userId}, score = 검색 시각)에 저장: 같은 검색어는 시각만 갱신, 10개 초과분은 바로 잘라냄
+ * - 검색 요청은 메모리 대기열(사용자별 검색어 → 시각)에 넣기만 하고, 백그라운드 스레드가 모아서 Redis에 파이프라인으로 반영
+ *   (Redis에 없는 사용자는 이때 search_history에서 읽어 다시 채움, Redis 장애 시에는 이 스레드가 DB에 바로 저장)
+ * - search_history 테이블에는 바뀐 사용자만 모아 두었다가 주기적으로 사용자별 한 트랜잭션으로 덮어씀
+ * - 조회는 Redis 1번 + 아직 반영 안 된 대기열을 합쳐서 반환, Redis에 없으면 search_history에서 읽음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecentSearchService {
+
+    static final int MAX_RECENT = 10;
+    private static final String KEY_PREFIX = "search:recent:";
+    private static final Duration TTL = Duration.ofDays(30);
+    private static final int WRITE_BATCH_USERS = 200;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SearchHistoryRepository searchHistoryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${search.recent.pending-capacity:50000}")
+    private int pendingCapacity;
+
+    @Value("${search.recent.write-interval-ms:100}")
+    private long writeIntervalMillis;
+
+    private final Set<Long> dirtyUsers = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<Long, Map<String, Long>> pending = new ConcurrentHashMap<>(); // 사용자 → 검색어 → 시각(ms)
+
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "recent-search-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PostConstruct
+    public void start() {
+        writer.scheduleWithFixedDelay(this::drainSafely, writeIntervalMillis, writeIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 최근 검색어 추가 (대기열에만 넣고 Redis/DB 반영은 백그라운드에서)
+     * 대기 중인 사용자가 pendingCapacity를 넘으면 새 사용자의 검색어는 버림 (요청을 막지 않음)
+     */
+    public void add(User user, String keyword, LocalDateTime searchedAt) {
+        Long userId = user.getId();
+        if (pending.size() >= pendingCapacity && !pending.containsKey(userId)) {
+            log.warn("최근 검색어 대기열 가득 참, 버림: userId={}", userId);
+            return;
+        }
+        long millis = toEpochMillis(searchedAt);
+        pending.compute(userId, (id, entries) -> {
+            Map<String, Long> updated = entries != null ? entries : new HashMap<>();
+            updated.merge(keyword, millis, Math::max);
+            if (updated.size() > MAX_RECENT) {
+                updated.entrySet().stream().min(Map.Entry.comparingByValue())
+                        .ifPresent(oldest -> updated.remove(oldest.getKey()));
+            }
+            return updated;
+        });
+    }
+
+    /**
+     * 최근 검색어 최신순 10개 (id 없는 SearchHistory로 반환)
+     */
+    public List<SearchHistory> getRecent(User user) {
+        Map<String, Long> merged = new HashMap<>();
+        try {
+            Set<ZSetOperations.TypedTuple<String>> tuples =
+                    stringRedisTemplate.opsForZSet().reverseRangeWithScores(key(user.getId()), 0, MAX_RECENT - 1);
+            if (tuples != null && !tuples.isEmpty()) {
+                for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                    merged.put(tuple.getValue(), toEpochMillis(toLocalDateTime(tuple.getScore())));
+                }
+            } else {
+                putStored(merged, searchHistoryRepository.findTop10ByUserOrderBySearchedAtDesc(user));
+            }
+        } catch (DataAccessException e) {
+            log.warn("최근 검색어 Redis 조회 실패, DB에서 조회: userId={}, {}", user.getId(), e.getMessage());
+            putStored(merged, searchHistoryRepository.findTop10ByUserOrderBySearchedAtDesc(user));
+        }
+        pendingOf(user.getId()).forEach((keyword, millis) -> merged.merge(keyword, millis, Math::max));
+
+        List<SearchHistory> result = new ArrayList<>();
+        merged.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(MAX_RECENT)
+                .forEach(entry -> result.add(SearchHistory.builder()
+                        .user(user)
+                        .keyword(entry.getKey())
+                        .searchedAt(toLocalDateTime((double) entry.getValue()))
+                        .build()));
+        return result;
+    }
+
+    /**
+     * 최근 검색어 하나 삭제 (대기열 + Redis + DB)
+     */
+    @Transactional
+    public void remove(User user, String keyword) {
+        pending.computeIfPresent(user.getId(), (id, entries) -> {
+            entries.remove(keyword);
+            return entries.isEmpty() ? null : entries;
+        });
+        try {
+            stringRedisTemplate.opsForZSet().remove(key(user.getId()), keyword);
+        } catch (DataAccessException e) {
+            log.warn("최근 검색어 Redis 삭제 실패: userId={}, {}", user.getId(), e.getMessage());
+        }
+        searchHistoryRepository.deleteByUserIdAndKeyword(user.getId(), keyword);
+    }
+
+    /**
+     * 바뀐 사용자의 최근 검색어를 search_history에 반영 (사용자당 한 트랜잭션에서 DELETE 1번 + batch INSERT)
+     */
+    @Scheduled(fixedDelayString = "${search.recent.flush-interval-ms:30000}")
+    public void flushDirtyUsers() {
+        if (dirtyUsers.isEmpty()) {
+            return;
+        }
+        List<Long> userIds = new ArrayList<>(dirtyUsers);
+        dirtyUsers.removeAll(userIds);
+        int flushed = 0;
+        for (Long userId : userIds) {
+            try {
+                Set<ZSetOperations.TypedTuple<String>> tuples =
+                        stringRedisTemplate.opsForZSet().reverseRangeWithScores(key(userId), 0, MAX_RECENT - 1);
+                if (tuples == null || tuples.isEmpty()) {
+                    // 키가 만료/삭제됐으면 Redis에 남은 게 없으므로 DB를 그대로 둠 (비우면 저장된 기록까지 사라짐)
+                    continue;
+                }
+                List<ZSetOperations.TypedTuple<String>> rows = new ArrayList<>(tuples);
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.update("DELETE FROM search_history WHERE user_id = ?", userId);
+                    jdbcTemplate.batchUpdate("INSERT INTO search_history (keyword, searched_at, user_id) VALUES (?, ?, ?)",
+                            rows, rows.size(), (ps, tuple) -> {
+                                ps.setString(1, tuple.getValue());
+                                ps.setTimestamp(2, Timestamp.valueOf(toLocalDateTime(tuple.getScore())));
+                                ps.setLong(3, userId);
+                            });
+                });
+                flushed++;
+            } catch (Exception e) {
+                dirtyUsers.add(userId);
+                log.warn("최근 검색어 DB 반영 실패: userId={}, {}", userId, e.getMessage());
+            }
+        }
+        log.debug("최근 검색어 DB 반영: {}명", flushed);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 종료 전 남은 대기열을 Redis에 반영한 뒤 DB까지 저장
+        while (!pending.isEmpty()) {
+            drainSafely();
+        }
+        flushDirtyUsers();
+    }
+
+    private void drainSafely() {
+        try {
+            while (!pending.isEmpty()) {
+                drain();
+            }
+        } catch (Exception e) {
+            // 스케줄이 멈추지 않도록 여기서 삼킴
+            log.warn("최근 검색어 반영 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 대기열에서 최대 WRITE_BATCH_USERS명을 꺼내 Redis에 반영
+     * 1) 파이프라인으로 키 존재 여부 확인 → 2) 없는 사용자는 search_history에서 한 번에 읽음
+     * → 3) 파이프라인 한 번으로 복원분(ZADD NX) + 새 검색어 ZADD + 10개 초과분 삭제 + TTL 갱신
+     */
+    void drain() {
+        Map<Long, Map<String, Long>> batch = new HashMap<>();
+        Iterator<Long> userIds = pending.keySet().iterator();
+        while (batch.size() < WRITE_BATCH_USERS && userIds.hasNext()) {
+            Long userId = userIds.next();
+            Map<String, Long> entries = pending.remove(userId);
+            if (entries != null) {
+                batch.put(userId, entries);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(batch.keySet());
+        try {
+            List<Object> exists = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    for (Long userId : ids) {
+                        ops.hasKey(key(userId));
+                    }
+                    return null;
+                }
+            });
+            List<Long> coldUserIds = new ArrayList<>();
+            for (int i = 0; i < ids.size(); i++) {
+                if (!Boolean.TRUE.equals(exists.get(i))) {
+                    coldUserIds.add(ids.get(i));
+                }
+            }
+            Map<Long, Map<String, Long>> stored = loadStored(coldUserIds);
+
+            stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    stored.forEach((userId, entries) -> entries.forEach((keyword, millis) ->
+                            ops.opsForZSet().addIfAbsent(key(userId), keyword, millis)));
+                    batch.forEach((userId, entries) -> {
+                        String key = key(userId);
+                        entries.forEach((keyword, millis) -> ops.opsForZSet().add(key, keyword, millis));
+                        ops.opsForZSet().removeRange(key, 0, -(MAX_RECENT + 1));
+                        ops.expire(key, TTL);
+                    });
+                    return null;
+                }
+            });
+            dirtyUsers.addAll(ids);
+        } catch (DataAccessException e) {
+            log.warn("최근 검색어 Redis 저장 실패, DB에 바로 저장: {}명, {}", batch.size(), e.getMessage());
+            batch.forEach(this::saveDirectly);
+        }
+    }
+
+    /**
+     * Redis에 없는 사용자들의 search_history를 한 번에 읽어 사용자별 최신 10개로 묶음
+     */
+    private Map<Long, Map<String, Long>> loadStored(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        String placeholders = String.join(",", Collections.nCopies(userIds.size(), "?"));
+        Map<Long, Map<String, Long>> stored = new HashMap<>();
+        jdbcTemplate.query("SELECT user_id, keyword, searched_at FROM search_history WHERE user_id IN (" + placeholders
+                        + ") ORDER BY searched_at DESC",
+                rs -> {
+                    String keyword = rs.getString("keyword");
+                    Timestamp searchedAt = rs.getTimestamp("searched_at");
+                    if (keyword == null || searchedAt == null) {
+                        return;
+                    }
+                    Map<String, Long> entries = stored.computeIfAbsent(rs.getLong("user_id"), id -> new HashMap<>());
+                    if (entries.size() < MAX_RECENT) {
+                        entries.putIfAbsent(keyword, toEpochMillis(searchedAt.toLocalDateTime()));
+                    }
+                },
+                userIds.toArray());
+        return stored;
+    }
+
+    private void saveDirectly(Long userId, Map<String, Long> entries) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> entries.forEach((keyword, millis) -> {
+                jdbcTemplate.update("DELETE FROM search_history WHERE user_id = ? AND keyword = ?", userId, keyword);
+                jdbcTemplate.update("INSERT INTO search_history (keyword, searched_at, user_id) VALUES (?, ?, ?)",
+                        keyword, Timestamp.valueOf(toLocalDateTime((double) millis)), userId);
+            }));
+        } catch (Exception e) {
+            log.warn("최근 검색어 DB 저장 실패: userId={}, {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 아직 Redis에 반영되지 않은 검색어 (복사본)
+     */
+    private Map<String, Long> pendingOf(Long userId) {
+        Map<String, Long> copy = new HashMap<>();
+        pending.computeIfPresent(userId, (id, entries) -> {
+            copy.putAll(entries);
+            return entries;
+        });
+        return copy;
+    }
+
+    private static void putStored(Map<String, Long> merged, List<SearchHistory> stored) {
+        for (SearchHistory history : stored) {
+            if (history.getKeyword() != null && history.getSearchedAt() != null) {
+                merged.merge(history.getKeyword(), toEpochMillis(history.getSearchedAt()), Math::max);
+            }
+        }
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(Double epochMillis) {
+        long millis = epochMillis != null ? epochMillis.longValue() : System.currentTimeMillis();
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,170 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.dto.RecommendationDto;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자별 추천 순위 캐시
+ * - "recommendations" 캐시에 사용자 ID 하나당 정렬된 추천 목록 하나를 저장하고, 페이지는 그 목록을 잘라서 응답
+ * - 찜/평점 등으로 무효화할 때는 해당 사용자 키만 지움 (커밋 후)
+ * - 지운 뒤 잠시(debounce) 기다렸다가 백그라운드에서 다시 계산해 두므로 다음 요청은 계산을 기다리지 않는다
+ *   (짧은 시간에 여러 번 바뀌면 마지막 변경 뒤 한 번만 계산)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendationCacheService {
+
+    public static final String CACHE_NAME = "recommendations";
+
+    private final RecommendationFeatureService recommendationFeatureService;
+    private final ItemCollaborativeFilteringService itemCollaborativeFilteringService;
+    private final CacheManager cacheManager;
+
+    @Value("${recommendation.ranked-list-size:500}")
+    private int rankedListSize = 500;
+
+    @Value("${recommendation.warmup-debounce-ms:3000}")
+    private long warmupDebounceMillis = 3000;
+
+    private final Map<Long, ScheduledFuture<?>> pendingWarmups = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService warmupExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "recommendation-warmup");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 사용자 추천 전체 순위 (캐시에 없으면 계산 후 저장)
+     */
+    @SuppressWarnings("unchecked")
+    public List<RecommendationDto> getRanked(Long userId) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            try {
+                List<RecommendationDto> cached = cache.get(key(userId), List.class);
+                if (cached != null) {
+                    return cached;
+                }
+            } catch (Exception e) {
+                log.warn("추천 캐시 조회 실패: userId={}, {}", userId, e.getMessage());
+            }
+        }
+        return compute(userId);
+    }
+
+    /**
+     * 사용자 추천 캐시 무효화 후 백그라운드 재계산 예약 (커밋 후, 트랜잭션 밖이면 즉시)
+     */
+    public void evictAndWarmUp(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        itemCollaborativeFilteringService.markUserDirty(userId);
+        runAfterCommit(() -> {
+            evict(userId);
+            scheduleWarmup(userId);
+        });
+    }
+
+    /**
+     * 모든 사용자 추천 캐시 무효화 (재계산은 각 사용자의 다음 요청에서)
+     */
+    public void evictAll() {
+        runAfterCommit(() -> {
+            recommendationFeatureService.invalidateAllUsers();
+            Cache cache = cacheManager.getCache(CACHE_NAME);
+            if (cache != null) {
+                cache.clear();
+            }
+        });
+    }
+
+    public int getPendingWarmupCount() {
+        return pendingWarmups.size();
+    }
+
+    private void evict(Long userId) {
+        recommendationFeatureService.invalidateUser(userId);
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            try {
+                cache.evict(key(userId));
+            } catch (Exception e) {
+                log.warn("추천 캐시 삭제 실패: userId={}, {}", userId, e.getMessage());
+            }
+        }
+    }
+
+    private void scheduleWarmup(Long userId) {
+        pendingWarmups.compute(userId, (id, previous) -> {
+            if (previous != null) {
+                previous.cancel(false);
+            }
+            return warmupExecutor.schedule(() -> warmUp(id), warmupDebounceMillis, TimeUnit.MILLISECONDS);
+        });
+    }
+
+    private void warmUp(Long userId) {
+        pendingWarmups.remove(userId);
+        try {
+            long startTime = System.currentTimeMillis();
+            int size = compute(userId).size();
+            log.debug("추천 캐시 재계산 완료: userId={}, {}건, {}ms", userId, size, System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.warn("추천 캐시 재계산 실패: userId={}, {}", userId, e.getMessage());
+        }
+    }
+
+    private List<RecommendationDto> compute(Long userId) {
+        List<RecommendationDto> ranked = new ArrayList<>(recommendationFeatureService.recommend(userId, rankedListSize));
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            try {
+                cache.put(key(userId), ranked);
+            } catch (Exception e) {
+                log.warn("추천 캐시 저장 실패: userId={}, {}", userId, e.getMessage());
+            }
+        }
+        return ranked;
+    }
+
+    private static String key(Long userId) {
+        return "user:" + userId;
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        warmupExecutor.shutdownNow();
+    }
+}
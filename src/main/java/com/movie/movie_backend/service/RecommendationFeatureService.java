@@ -0,0 +1,681 @@
+package com.movie.movie_backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.movie.movie_backend.config.TwoLevelCacheManager;
+import com.movie.movie_backend.constant.RoleType;
+import com.movie.movie_backend.dto.RecommendationDto;
+import com.movie.movie_backend.entity.Review;
+import com.movie.movie_backend.entity.Tag;
+import com.movie.movie_backend.entity.User;
+import com.movie.movie_backend.repository.CastRepository;
+import com.movie.movie_backend.repository.PRDMovieRepository;
+import com.movie.movie_backend.repository.PRDTagRepository;
+import com.movie.movie_backend.repository.PersonLikeRepository;
+import com.movie.movie_backend.repository.REVLikeRepository;
+import com.movie.movie_backend.repository.REVRatingRepository;
+import com.movie.movie_backend.repository.REVReviewRepository;
+import com.movie.movie_backend.repository.StillcutRepository;
+import com.movie.movie_backend.repository.USRUserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 특성 벡터 기반 개인화 추천 엔진
+ * - 영화마다 감독 ID, 주연 배우 ID, 장르 비트마스크, 태그 ID를 기본형 배열에 담은 불변 스냅샷을 만들어 통째로 교체
+ * - 사용자 선호 프로필(좋아하는 감독/배우, 선호 태그, 찜/고평점 영화에서 뽑은 관련 감독/배우/장르, 제외 영화)은
+ *   사용자별로 한 번 만들어 두고 찜/평점/리뷰/태그 변경 시 무효화 (다른 서버에도 cache:invalidate 채널로 알림)
+ * - 추천은 전체 영화 배열을 한 번 훑으며 점수를 계산하고 힙으로 상위 K개만 남긴다 (요청당 DB 조회는 포스터 보완 1번)
+ * - 점수 규칙과 추천 근거(reasonDetails)는 기존 규칙과 같다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendationFeatureService {
+
+    // 추천 결과에 포함되는 최소 점수
+    private static final int MIN_SCORE = 5;
+    // 고평점 기준 (이 점수 이상 준 영화의 감독/배우/장르를 관련 정보로 사용)
+    private static final double HIGH_RATING = 4.0;
+
+    private final PRDMovieRepository movieRepository;
+    private final CastRepository castRepository;
+    private final PRDTagRepository tagRepository;
+    private final StillcutRepository stillcutRepository;
+    private final PersonLikeRepository personLikeRepository;
+    private final REVLikeRepository likeRepository;
+    private final REVReviewRepository reviewRepository;
+    private final REVRatingRepository ratingRepository;
+    private final USRUserRepository userRepository;
+    private final TwoLevelCacheManager cacheManager;
+
+    static final String PROFILE_CACHE_NAME = "recommendationProfiles";
+
+    private volatile FeatureSnapshot snapshot;
+
+    private final Cache<Long, UserProfile> profiles = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(30)) // 무효화 알림을 놓친 서버도 30분 안에는 다시 만듦
+            .build();
+
+    @PostConstruct
+    public void registerInvalidationListener() {
+        cacheManager.registerLocalCache(PROFILE_CACHE_NAME, key -> {
+            if (key == null) {
+                profiles.invalidateAll();
+            } else {
+                profiles.invalidate(Long.valueOf(key));
+            }
+        });
+    }
+
+    /**
+     * 영화 특성 벡터 (영화 i의 주연 배우 = actorIds[actorOffsets[i] .. actorOffsets[i + 1]), 태그도 같은 방식)
+     */
+    static final class FeatureSnapshot {
+        private final long version;
+        private final int size;
+        private final long[] movieIds;
+        private final String[] movieCds;
+        private final String[] movieNms;
+        private final String[] genreNms;
+        private final String[] posterUrls;
+        private final long[] directorIds; // 0 = 감독 없음
+        private final int[] actorOffsets;
+        private final long[] actorIds;
+        private final int[] tagOffsets;
+        private final long[] tagIds;
+        private final long[] genreMasks;
+        private final long[] openEpochDays; // Long.MIN_VALUE = 개봉일 없음
+        private final double[] averageRatings; // NaN = 평점 없음 (별점 변경 시 제자리 갱신)
+        private final String[] genreNames; // 비트 번호 → 장르명
+        private final Map<Long, Integer> indexById;
+        private final Map<String, long[]> tagIdsByName;
+
+        private FeatureSnapshot(long version, int size, long[] movieIds, String[] movieCds, String[] movieNms,
+                                String[] genreNms, String[] posterUrls, long[] directorIds,
+                                int[] actorOffsets, long[] actorIds, int[] tagOffsets, long[] tagIds,
+                                long[] genreMasks, long[] openEpochDays, double[] averageRatings,
+                                String[] genreNames, Map<Long, Integer> indexById, Map<String, long[]> tagIdsByName) {
+            this.version = version;
+            this.size = size;
+            this.movieIds = movieIds;
+            this.movieCds = movieCds;
+            this.movieNms = movieNms;
+            this.genreNms = genreNms;
+            this.posterUrls = posterUrls;
+            this.directorIds = directorIds;
+            this.actorOffsets = actorOffsets;
+            this.actorIds = actorIds;
+            this.tagOffsets = tagOffsets;
+            this.tagIds = tagIds;
+            this.genreMasks = genreMasks;
+            this.openEpochDays = openEpochDays;
+            this.averageRatings = averageRatings;
+            this.genreNames = genreNames;
+            this.indexById = indexById;
+            this.tagIdsByName = tagIdsByName;
+        }
+    }
+
+    /**
+     * 사용자 선호 프로필 (ID 배열은 모두 정렬되어 있어 이진 탐색으로 포함 여부 확인)
+     */
+    static final class UserProfile {
+        private final long snapshotVersion;
+        private final long[] likedDirectorIds;
+        private final long[] likedActorIds;
+        private final boolean hasPreferredTags;
+        private final long[] preferredTagIds;
+        private final long[] relatedDirectorIds;
+        private final long[] relatedActorIds;
+        private final long relatedGenreMask;
+        private final long[] relatedGenreTagIds;
+        private final long[] excludedMovieIds;
+
+        private UserProfile(long snapshotVersion, long[] likedDirectorIds, long[] likedActorIds,
+                            boolean hasPreferredTags, long[] preferredTagIds,
+                            long[] relatedDirectorIds, long[] relatedActorIds, long relatedGenreMask,
+                            long[] relatedGenreTagIds, long[] excludedMovieIds) {
+            this.snapshotVersion = snapshotVersion;
+            this.likedDirectorIds = likedDirectorIds;
+            this.likedActorIds = likedActorIds;
+            this.hasPreferredTags = hasPreferredTags;
+            this.preferredTagIds = preferredTagIds;
+            this.relatedDirectorIds = relatedDirectorIds;
+            this.relatedActorIds = relatedActorIds;
+            this.relatedGenreMask = relatedGenreMask;
+            this.relatedGenreTagIds = relatedGenreTagIds;
+            this.excludedMovieIds = excludedMovieIds;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 30분마다 특성 벡터 재구축 (신규 영화, 감독/배우/태그 변경 반영)
+     */
+    @Scheduled(fixedDelayString = "${recommendation.features.rebuild-interval-ms:1800000}", initialDelay = 1800000)
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * 전체 영화 특성 벡터 재구축 후 스냅샷 교체
+     */
+    public synchronized FeatureSnapshot rebuild() {
+        long startTime = System.currentTimeMillis();
+        try {
+            FeatureSnapshot built = build(snapshot != null ? snapshot.version + 1 : 1);
+            snapshot = built;
+            profiles.invalidateAll();
+            log.info("추천 특성 벡터 구축 완료: 영화 {}편, 장르 {}개, {}ms",
+                    built.size, built.genreNames.length, System.currentTimeMillis() - startTime);
+            return built;
+        } catch (Exception e) {
+            log.error("추천 특성 벡터 구축 실패: {}", e.getMessage(), e);
+            return snapshot;
+        }
+    }
+
+    /**
+     * 사용자 프로필 무효화 (찜/평점/리뷰/인물 좋아요/선호 태그 변경 시, 다른 서버 프로필도 무효화)
+     */
+    public void invalidateUser(Long userId) {
+        if (userId != null) {
+            profiles.invalidate(userId);
+            cacheManager.publishInvalidation(PROFILE_CACHE_NAME, userId.toString());
+        }
+    }
+
+    public void invalidateAllUsers() {
+        profiles.invalidateAll();
+        cacheManager.publishInvalidation(PROFILE_CACHE_NAME, null);
+    }
+
+    /**
+     * 영화 평균 별점 변경 반영 (커밋 후, 다음 재구축 전까지 평점 점수에 바로 반영)
+     * 롤백된 별점이 공유 스냅샷에 남지 않도록 트랜잭션 안에서는 커밋 뒤에 반영
+     */
+    public void updateAverageRating(Long movieId, Double averageRating) {
+        if (movieId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyAverageRating(movieId, averageRating);
+                }
+            });
+        } else {
+            applyAverageRating(movieId, averageRating);
+        }
+    }
+
+    private void applyAverageRating(Long movieId, Double averageRating) {
+        FeatureSnapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        Integer index = current.indexById.get(movieId);
+        if (index != null) {
+            current.averageRatings[index] = averageRating != null ? averageRating : Double.NaN;
+        }
+    }
+
+    /**
+     * 사용자 추천 상위 limit개 (점수 내림차순)
+     */
+    @Transactional(readOnly = true)
+    public List<RecommendationDto> recommend(Long userId, int limit) {
+        FeatureSnapshot current = current();
+        if (current == null || limit <= 0) {
+            return new ArrayList<>();
+        }
+        UserProfile profile = profiles.getIfPresent(userId);
+        if (profile == null || profile.snapshotVersion != current.version) {
+            profile = buildProfile(userId, current);
+            profiles.put(userId, profile);
+        }
+
+        LocalDate today = LocalDate.now();
+        long recent2Years = today.minusYears(3).toEpochDay(); // 개봉 후 2년 이내 (Period 기준 years <= 2)
+        long recent5Years = today.minusYears(6).toEpochDay(); // 개봉 후 5년 이내
+
+        // 점수 상위 limit개를 최소 힙으로 유지 (키 = 점수 << 32 | 동점이면 앞 인덱스 우선)
+        long[] heap = new long[Math.min(limit, current.size)];
+        int heapSize = 0;
+        for (int i = 0; i < current.size; i++) {
+            int score = score(current, i, profile, recent2Years, recent5Years, null);
+            if (score < MIN_SCORE) {
+                continue;
+            }
+            long key = ((long) score << 32) | (Integer.MAX_VALUE - i);
+            if (heapSize < heap.length) {
+                heap[heapSize] = key;
+                siftUp(heap, heapSize++);
+            } else if (heap.length > 0 && key > heap[0]) {
+                heap[0] = key;
+                siftDown(heap, heapSize);
+            }
+        }
+        long[] ranked = Arrays.copyOf(heap, heapSize);
+        Arrays.sort(ranked);
+
+        List<RecommendationDto> result = new ArrayList<>(heapSize);
+        List<Integer> missingPoster = new ArrayList<>();
+        for (int r = ranked.length - 1; r >= 0; r--) {
+            int i = Integer.MAX_VALUE - (int) (ranked[r] & 0xFFFFFFFFL);
+            List<RecommendationDto.ReasonDetail> reasonDetails = new ArrayList<>();
+            int score = score(current, i, profile, recent2Years, recent5Years, reasonDetails);
+            List<String> reasons = new ArrayList<>(reasonDetails.size());
+            reasonDetails.forEach(detail -> reasons.add(detail.getReason()));
+            double averageRating = current.averageRatings[i];
+            result.add(RecommendationDto.builder()
+                    .movieId(current.movieIds[i])
+                    .movieCd(current.movieCds[i])
+                    .movieNm(current.movieNms[i])
+                    .posterUrl(current.posterUrls[i])
+                    .genreNm(current.genreNms[i])
+                    .averageRating(Double.isNaN(averageRating) ? null : averageRating)
+                    .score(score)
+                    .reasons(reasons)
+                    .reasonDetails(reasonDetails)
+                    .build());
+            if (current.posterUrls[i] == null) {
+                missingPoster.add(result.size() - 1);
+            }
+        }
+        fillStillcutPosters(result, missingPoster);
+        return result;
+    }
+
+    /**
+     * 다른 추천 소스(협업 필터링 등)의 결과를 영화 정보가 채워진 DTO로 변환 (스냅샷에 없는 영화는 제외)
+     */
+    public List<RecommendationDto> describe(long[] movieIds, int[] scores, String reason) {
+        FeatureSnapshot current = current();
+        List<RecommendationDto> result = new ArrayList<>(movieIds.length);
+        if (current == null) {
+            return result;
+        }
+        List<Integer> missingPoster = new ArrayList<>();
+        for (int r = 0; r < movieIds.length; r++) {
+            Integer i = current.indexById.get(movieIds[r]);
+            if (i == null) {
+                continue;
+            }
+            double averageRating = current.averageRatings[i];
+            result.add(RecommendationDto.builder()
+                    .movieId(current.movieIds[i])
+                    .movieCd(current.movieCds[i])
+                    .movieNm(current.movieNms[i])
+                    .posterUrl(current.posterUrls[i])
+                    .genreNm(current.genreNms[i])
+                    .averageRating(Double.isNaN(averageRating) ? null : averageRating)
+                    .score(scores[r])
+                    .reasons(List.of(reason))
+                    .reasonDetails(List.of(new RecommendationDto.ReasonDetail(reason, scores[r])))
+                    .build());
+            if (current.posterUrls[i] == null) {
+                missingPoster.add(result.size() - 1);
+            }
+        }
+        fillStillcutPosters(result, missingPoster);
+        return result;
+    }
+
+    /**
+     * 영화 i의 추천 점수 (후보가 아니면 -1)
+     * reasonDetails가 null이 아니면 추천 근거도 채운다.
+     */
+    private static int score(FeatureSnapshot s, int i, UserProfile p, long recent2Years, long recent5Years,
+                             List<RecommendationDto.ReasonDetail> reasonDetails) {
+        if (Arrays.binarySearch(p.excludedMovieIds, s.movieIds[i]) >= 0) {
+            return -1;
+        }
+        long directorId = s.directorIds[i];
+        boolean likedDirector = directorId != 0 && Arrays.binarySearch(p.likedDirectorIds, directorId) >= 0;
+        boolean relatedDirector = directorId != 0 && Arrays.binarySearch(p.relatedDirectorIds, directorId) >= 0;
+
+        int likedActorMatches = 0;
+        int relatedActorMatches = 0;
+        for (int a = s.actorOffsets[i]; a < s.actorOffsets[i + 1]; a++) {
+            long actorId = s.actorIds[a];
+            if (Arrays.binarySearch(p.likedActorIds, actorId) >= 0) {
+                likedActorMatches++;
+            }
+            if (Arrays.binarySearch(p.relatedActorIds, actorId) >= 0) {
+                relatedActorMatches++;
+            }
+        }
+
+        int preferredTagMatches = 0;
+        boolean relatedGenreTag = false;
+        for (int t = s.tagOffsets[i]; t < s.tagOffsets[i + 1]; t++) {
+            long tagId = s.tagIds[t];
+            if (Arrays.binarySearch(p.preferredTagIds, tagId) >= 0) {
+                preferredTagMatches++;
+            }
+            if (!relatedGenreTag && Arrays.binarySearch(p.relatedGenreTagIds, tagId) >= 0) {
+                relatedGenreTag = true;
+            }
+        }
+
+        // 후보군: 좋아하는/관련 감독·배우, 선호 태그, 관련 장르 태그 중 하나라도 걸리는 영화
+        if (!likedDirector && likedActorMatches == 0 && preferredTagMatches == 0
+                && !relatedDirector && relatedActorMatches == 0 && !relatedGenreTag) {
+            return -1;
+        }
+
+        int score = 0;
+        if (likedDirector) {
+            score += add(reasonDetails, "좋아하는 감독", 5);
+        }
+        if (likedActorMatches > 0) {
+            score += add(reasonDetails, "좋아하는 배우", 3 * Math.min(likedActorMatches, 3));
+        }
+        if (p.hasPreferredTags && preferredTagMatches > 0) {
+            score += add(reasonDetails, "선호 장르", 4 * Math.min(preferredTagMatches, 3));
+        }
+        if (relatedDirector) {
+            score += add(reasonDetails, "관련 감독", 5);
+        }
+        if (relatedActorMatches > 0) {
+            score += add(reasonDetails, "관련 배우", 2 * Math.min(relatedActorMatches, 3));
+        }
+        int relatedGenreMatches = Long.bitCount(s.genreMasks[i] & p.relatedGenreMask);
+        if (relatedGenreMatches > 0) {
+            score += add(reasonDetails, "관련 장르", 2 * Math.min(relatedGenreMatches, 3));
+        }
+        long openEpochDay = s.openEpochDays[i];
+        if (openEpochDay != Long.MIN_VALUE) {
+            if (openEpochDay > recent2Years) {
+                score += add(reasonDetails, "최신작", 2);
+            } else if (openEpochDay > recent5Years) {
+                score += add(reasonDetails, "최신작", 1);
+            }
+        }
+        double averageRating = s.averageRatings[i];
+        if (!Double.isNaN(averageRating)) {
+            if (averageRating >= 4.0) {
+                score += add(reasonDetails, "평점 우수", 2);
+            } else if (averageRating >= 3.0) {
+                score += add(reasonDetails, "평점 우수", 1);
+            }
+        }
+        return score;
+    }
+
+    private static int add(List<RecommendationDto.ReasonDetail> reasonDetails, String reason, int score) {
+        if (reasonDetails != null) {
+            reasonDetails.add(RecommendationDto.ReasonDetail.builder().reason(reason).score(score).build());
+        }
+        return score;
+    }
+
+    private UserProfile buildProfile(Long userId, FeatureSnapshot s) {
+        long[] likedDirectorIds = toSortedArray(personLikeRepository.findLikedDirectorIdsByUserId(userId));
+        long[] likedActorIds = toSortedArray(personLikeRepository.findLikedActorIdsByUserId(userId));
+
+        // 선호 태그는 이름으로 비교 (같은 이름의 태그는 모두 매칭)
+        User user = userRepository.findById(userId).orElse(null);
+        List<Tag> preferredTags = user != null && user.getPreferredTags() != null ? user.getPreferredTags() : List.of();
+        Set<Long> preferredTagIds = new HashSet<>();
+        for (Tag tag : preferredTags) {
+            long[] ids = s.tagIdsByName.get(tag.getName());
+            if (ids != null) {
+                Arrays.stream(ids).forEach(preferredTagIds::add);
+            }
+        }
+
+        Set<Long> likedMovieIds = new HashSet<>(likeRepository.findMovieIdsByUserId(userId));
+        Set<Long> ratedMovieIds = new HashSet<>(reviewRepository.findRatedMovieIdsByUserId(userId, Review.ReviewStatus.ACTIVE));
+        Set<Long> reviewedMovieIds = new HashSet<>(reviewRepository.findMovieIdsByUserId(userId, Review.ReviewStatus.ACTIVE));
+        Set<Long> highRatedMovieIds = new HashSet<>(ratingRepository.findMovieIdsByUserIdAndMinScore(userId, HIGH_RATING));
+
+        // 찜한 영화 + 평점 4점 이상 준 영화의 감독/주연 배우/장르 (리뷰만 한 영화는 제외)
+        Set<Long> sourceMovieIds = new HashSet<>(likedMovieIds);
+        for (Long movieId : ratedMovieIds) {
+            if (highRatedMovieIds.contains(movieId)) {
+                sourceMovieIds.add(movieId);
+            }
+        }
+        Set<Long> relatedDirectorIds = new HashSet<>();
+        Set<Long> relatedActorIds = new HashSet<>();
+        long relatedGenreMask = 0L;
+        for (Long movieId : sourceMovieIds) {
+            Integer index = s.indexById.get(movieId);
+            if (index == null) {
+                continue;
+            }
+            if (s.directorIds[index] != 0) {
+                relatedDirectorIds.add(s.directorIds[index]);
+            }
+            for (int a = s.actorOffsets[index]; a < s.actorOffsets[index + 1]; a++) {
+                relatedActorIds.add(s.actorIds[a]);
+            }
+            relatedGenreMask |= s.genreMasks[index];
+        }
+        Set<Long> relatedGenreTagIds = new HashSet<>();
+        for (int bit = 0; bit < s.genreNames.length; bit++) {
+            if ((relatedGenreMask & (1L << bit)) != 0) {
+                long[] ids = s.tagIdsByName.get(s.genreNames[bit]);
+                if (ids != null) {
+                    Arrays.stream(ids).forEach(relatedGenreTagIds::add);
+                }
+            }
+        }
+
+        Set<Long> excluded = new HashSet<>(likedMovieIds);
+        excluded.addAll(ratedMovieIds);
+        excluded.addAll(reviewedMovieIds);
+
+        return new UserProfile(s.version, likedDirectorIds, likedActorIds,
+                !preferredTags.isEmpty(), toSortedArray(preferredTagIds),
+                toSortedArray(relatedDirectorIds), toSortedArray(relatedActorIds), relatedGenreMask,
+                toSortedArray(relatedGenreTagIds), toSortedArray(excluded));
+    }
+
+    private FeatureSnapshot build(long version) {
+        // (id, movieCd, movieNm, genreNm, openDt, averageRating, directorId, posterUrl)
+        List<Object[]> rows = movieRepository.findRecommendationFeatureRows();
+        int size = rows.size();
+        long[] movieIds = new long[size];
+        String[] movieCds = new String[size];
+        String[] movieNms = new String[size];
+        String[] genreNms = new String[size];
+        String[] posterUrls = new String[size];
+        long[] directorIds = new long[size];
+        long[] genreMasks = new long[size];
+        long[] openEpochDays = new long[size];
+        double[] averageRatings = new double[size];
+        Map<Long, Integer> indexById = new HashMap<>(size * 2);
+        Map<String, Integer> genreBits = new LinkedHashMap<>();
+
+        for (int i = 0; i < size; i++) {
+            Object[] row = rows.get(i);
+            movieIds[i] = (Long) row[0];
+            movieCds[i] = (String) row[1];
+            movieNms[i] = (String) row[2];
+            genreNms[i] = (String) row[3];
+            openEpochDays[i] = row[4] != null ? ((LocalDate) row[4]).toEpochDay() : Long.MIN_VALUE;
+            averageRatings[i] = row[5] != null ? (Double) row[5] : Double.NaN;
+            directorIds[i] = row[6] != null ? (Long) row[6] : 0L;
+            posterUrls[i] = (String) row[7];
+            genreMasks[i] = genreMask(genreNms[i], genreBits);
+            indexById.put(movieIds[i], i);
+        }
+
+        // 주연 배우 (movieDetailId, actorId)
+        List<Object[]> actorRows = castRepository.findMovieActorIdPairs(RoleType.LEAD);
+        int[] actorOffsets = new int[size + 1];
+        long[] actorIds = new long[actorRows.size()];
+        fillGrouped(actorRows, indexById, actorOffsets, actorIds);
+
+        // 태그 (movieDetailId, tagId, tagName)
+        List<Object[]> tagRows = tagRepository.findMovieTagRows();
+        int[] tagOffsets = new int[size + 1];
+        long[] tagIds = new long[tagRows.size()];
+        fillGrouped(tagRows, indexById, tagOffsets, tagIds);
+        Map<String, Set<Long>> tagIdSets = new HashMap<>();
+        for (Object[] row : tagRows) {
+            if (row[2] != null) {
+                tagIdSets.computeIfAbsent((String) row[2], k -> new HashSet<>()).add((Long) row[1]);
+            }
+        }
+        Map<String, long[]> tagIdsByName = new HashMap<>();
+        tagIdSets.forEach((name, ids) -> tagIdsByName.put(name, toSortedArray(ids)));
+
+        return new FeatureSnapshot(version, size, movieIds, movieCds, movieNms, genreNms, posterUrls, directorIds,
+                actorOffsets, actorIds, tagOffsets, tagIds, genreMasks, openEpochDays, averageRatings,
+                genreBits.keySet().toArray(new String[0]), indexById, tagIdsByName);
+    }
+
+    /**
+     * (movieDetailId, id) 목록을 영화 인덱스 순서로 묶어서 offsets/values에 채움
+     */
+    private static void fillGrouped(List<Object[]> rows, Map<Long, Integer> indexById, int[] offsets, long[] values) {
+        int size = offsets.length - 1;
+        int[] counts = new int[size];
+        int[] indexes = new int[rows.size()];
+        for (int r = 0; r < rows.size(); r++) {
+            Integer index = indexById.get((Long) rows.get(r)[0]);
+            indexes[r] = index != null ? index : -1;
+            if (index != null) {
+                counts[index]++;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            offsets[i + 1] = offsets[i] + counts[i];
+        }
+        int[] cursor = Arrays.copyOf(offsets, size);
+        for (int r = 0; r < rows.size(); r++) {
+            if (indexes[r] >= 0) {
+                values[cursor[indexes[r]]++] = (Long) rows.get(r)[1];
+            }
+        }
+    }
+
+    /**
+     * "액션,드라마" → 장르 비트마스크 (장르는 처음 나온 순서로 비트 번호 부여, 최대 64개)
+     */
+    private static long genreMask(String genreNm, Map<String, Integer> genreBits) {
+        if (genreNm == null) {
+            return 0L;
+        }
+        long mask = 0L;
+        for (String genre : genreNm.split(",")) {
+            String name = genre.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            Integer bit = genreBits.get(name);
+            if (bit == null) {
+                if (genreBits.size() >= Long.SIZE) {
+                    log.warn("장르가 {}개를 넘어 비트마스크에서 제외: {}", Long.SIZE, name);
+                    continue;
+                }
+                bit = genreBits.size();
+                genreBits.put(name, bit);
+            }
+            mask |= 1L << bit;
+        }
+        return mask;
+    }
+
+    /**
+     * 포스터가 없는 추천 결과는 첫 번째 스틸컷으로 보완 (한 번에 조회)
+     */
+    private void fillStillcutPosters(List<RecommendationDto> result, List<Integer> missingPoster) {
+        if (missingPoster.isEmpty()) {
+            return;
+        }
+        List<Long> movieIds = new ArrayList<>(missingPoster.size());
+        missingPoster.forEach(index -> movieIds.add(result.get(index).getMovieId()));
+        Map<Long, String> firstImage = new HashMap<>();
+        for (Object[] row : stillcutRepository.findImageUrlsByMovieIds(movieIds)) {
+            firstImage.putIfAbsent((Long) row[0], (String) row[1]);
+        }
+        for (Integer index : missingPoster) {
+            RecommendationDto dto = result.get(index);
+            dto.setPosterUrl(firstImage.get(dto.getMovieId()));
+        }
+    }
+
+    private FeatureSnapshot current() {
+        FeatureSnapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = rebuild();
+                }
+            }
+        }
+        return current;
+    }
+
+    private static long[] toSortedArray(Collection<Long> ids) {
+        long[] array = ids.stream().filter(id -> id != null).mapToLong(Long::longValue).distinct().toArray();
+        Arrays.sort(array);
+        return array;
+    }
+
+    static void siftUp(long[] heap, int index) {
+        long key = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] <= key) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = key;
+    }
+
+    static void siftDown(long[] heap, int size) {
+        int index = 0;
+        long key = heap[0];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (key <= heap[child]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = key;
+    }
+}
@@ -0,0 +1,68 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.dto.RecommendationDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 추천 로그(recommendation_log) 비동기 배치 저장 (큐/flush 동작은 AsyncJdbcBatchWriter)
+ */
+@Service
+public class RecommendationLogWriter extends AsyncJdbcBatchWriter<RecommendationLogWriter.LogEntry> {
+
+    private static final int REASONS_MAX_LENGTH = 255;
+
+    record LogEntry(long userId, long movieId, int score, String reasons, LocalDateTime recommendedAt) {
+    }
+
+    public RecommendationLogWriter(JdbcTemplate jdbcTemplate,
+                                   @Value("${recommendation.log.queue-capacity:50000}") int queueCapacity,
+                                   @Value("${recommendation.log.batch-size:500}") int batchSize,
+                                   @Value("${recommendation.log.flush-interval-ms:1000}") long flushIntervalMillis) {
+        super("recommendation-log", jdbcTemplate, queueCapacity, batchSize, flushIntervalMillis);
+    }
+
+    /**
+     * 추천 결과 한 페이지를 로그 큐에 추가 (큐가 가득 차면 남는 항목은 버림)
+     */
+    public void enqueue(Long userId, List<RecommendationDto> recommendations) {
+        if (userId == null || recommendations == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (RecommendationDto dto : recommendations) {
+            if (dto.getMovieId() != null) {
+                offer(new LogEntry(userId, dto.getMovieId(), dto.getScore(), joinReasons(dto.getReasons()), now));
+            }
+        }
+    }
+
+    @Override
+    protected String insertSql() {
+        return "INSERT INTO recommendation_log (user_id, movie_id, score, reasons, recommended_at) VALUES (?, ?, ?, ?, ?)";
+    }
+
+    @Override
+    protected void bind(PreparedStatement ps, LogEntry entry) throws SQLException {
+        ps.setLong(1, entry.userId());
+        ps.setLong(2, entry.movieId());
+        ps.setInt(3, entry.score());
+        ps.setString(4, entry.reasons());
+        ps.setTimestamp(5, Timestamp.valueOf(entry.recommendedAt()));
+    }
+
+    private static String joinReasons(List<String> reasons) {
+        if (reasons == null || reasons.isEmpty()) {
+            return null;
+        }
+        String joined = String.join(",", reasons);
+        return joined.length() > REASONS_MAX_LENGTH ? joined.substring(0, REASONS_MAX_LENGTH) : joined;
+    }
+}
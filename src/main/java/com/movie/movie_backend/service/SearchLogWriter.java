@@ -0,0 +1,57 @@
+package com.movie.movie_backend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+
+/**
+ * 검색 로그(search_log) 비동기 배치 저장 (큐/flush 동작은 AsyncJdbcBatchWriter)
+ */
+@Service
+public class SearchLogWriter extends AsyncJdbcBatchWriter<SearchLogWriter.LogEntry> {
+
+    private static final int KEYWORD_MAX_LENGTH = 100;
+
+    record LogEntry(Long userId, String keyword, LocalDateTime searchedAt) {
+    }
+
+    public SearchLogWriter(JdbcTemplate jdbcTemplate,
+                           @Value("${search.log.queue-capacity:50000}") int queueCapacity,
+                           @Value("${search.log.batch-size:500}") int batchSize,
+                           @Value("${search.log.flush-interval-ms:1000}") long flushIntervalMillis) {
+        super("search-log", jdbcTemplate, queueCapacity, batchSize, flushIntervalMillis);
+    }
+
+    /**
+     * 검색 1건을 로그 큐에 추가 (비로그인은 userId null)
+     */
+    public void enqueue(Long userId, String keyword, LocalDateTime searchedAt) {
+        if (keyword == null || keyword.isBlank()) {
+            return;
+        }
+        String trimmed = keyword.length() > KEYWORD_MAX_LENGTH ? keyword.substring(0, KEYWORD_MAX_LENGTH) : keyword;
+        offer(new LogEntry(userId, trimmed, searchedAt));
+    }
+
+    @Override
+    protected String insertSql() {
+        return "INSERT INTO search_log (user_id, keyword, searched_at) VALUES (?, ?, ?)";
+    }
+
+    @Override
+    protected void bind(PreparedStatement ps, LogEntry entry) throws SQLException {
+        if (entry.userId() != null) {
+            ps.setLong(1, entry.userId());
+        } else {
+            ps.setNull(1, Types.BIGINT);
+        }
+        ps.setString(2, entry.keyword());
+        ps.setTimestamp(3, Timestamp.valueOf(entry.searchedAt()));
+    }
+}
@@ -1,125 +1,644 @@
 package com.movie.movie_backend.service;
 
 import com.movie.movie_backend.dto.*;
+import com.movie.movie_backend.entity.Tag;
+import com.movie.movie_backend.repository.CastRepository;
+import com.movie.movie_backend.repository.PRDMovieRepository;
+import com.movie.movie_backend.repository.PRDTagRepository;
+import com.movie.movie_backend.repository.USRUserRepository;
+import com.movie.movie_backend.util.HangulUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * 영화/사용자/태그 통합 검색 엔진
+ * - 세 종류의 문서를 하나의 n-gram 역색인에 넣고 BM25로 점수 계산
+ * - 영화는 TMDB 인기도(MovieList.tmdbPopularity)로 가산점
+ * - 색인은 불변 스냅샷으로 만들어 통째로 교체하므로 검색 요청은 DB를 조회하지 않는다
+ * - 영화가 바뀌면 커밋 후 표시만 해 두고, 주기 작업이 그 영화만 추가 스냅샷으로 재색인 (5분마다 전체 재구축 때 기본 스냅샷에 합침)
+ * - 변경이 많이 쌓이면 전용 스레드에서 전체 재구축 (요청 스레드에서는 재구축하지 않음)
+ */
+@Slf4j
 @Service
+@RequiredArgsConstructor
 public class SearchService {
 
+    private static final int TYPE_MOVIE = 0;
+    private static final int TYPE_USER = 1;
+    private static final int TYPE_TAG = 2;
+    private static final int TYPE_COUNT = 3;
+
+    // BM25 파라미터
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    // 인기도 가산점 최대치 (가장 인기 있는 영화가 점수 x1.5)
+    private static final float POPULARITY_BOOST = 0.5f;
+
+    // 검색어 n-gram 중 이 비율 이상이 매칭되어야 결과로 인정
+    private static final double MIN_TERM_COVERAGE = 0.75;
+
+    // 결과 DTO에 담을 배우 수
+    private static final int MAX_ACTORS_IN_RESULT = 5;
+
+    // 필드별 가중치
+    private static final float WEIGHT_TITLE = 3.0f;
+    private static final float WEIGHT_TITLE_EN = 2.0f;
+    private static final float WEIGHT_DIRECTOR = 1.5f;
+    private static final float WEIGHT_ACTOR = 1.0f;
+    private static final float WEIGHT_TAG = 1.0f;
+    private static final float WEIGHT_GENRE = 1.0f;
+    private static final float WEIGHT_NICKNAME = 2.0f;
+    private static final float WEIGHT_LOGIN_ID = 1.5f;
+
+    private final PRDMovieRepository movieRepository;
+    private final CastRepository castRepository;
+    private final PRDTagRepository tagRepository;
+    private final USRUserRepository userRepository;
+
+    // 재구축 전까지 쌓아 둘 수 있는 영화 변경 수 (넘으면 백그라운드 전체 재구축 예약)
+    static final int MAX_PENDING_CHANGES = 500;
+
+    private volatile Index index = new Index(new SnapshotBuilder().build(0), List.of());
+
+    // 마지막 재구축 이후 바뀐 영화 (movieCd → 변경, 영화가 삭제됐으면 movie null)
+    private final Map<String, Change> changes = new LinkedHashMap<>();
+    private long changeSeq;
+    private final Object indexLock = new Object();
+    private final Object rebuildLock = new Object();
+
+    // 커밋 후 표시된 영화 (applyPendingChanges에서 재색인)
+    private final Set<String> dirtyMovieCds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "search-index-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 서버 기동 시 색인 구축
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 5분마다 색인 재구축 (신규 회원/태그 반영, 그 사이 재색인된 영화 변경분을 기본 색인에 합침)
+     */
+    @Scheduled(fixedDelay = 300000, initialDelay = 300000)
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * 전체 색인 재구축 후 스냅샷 교체
+     * 재구축 중에 들어온 영화 재색인은 새 스냅샷 위에 다시 얹는다 (DB를 읽은 시점보다 늦은 변경일 수 있으므로).
+     */
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            long startTime = System.currentTimeMillis();
+            try {
+                long startSeq;
+                synchronized (indexLock) {
+                    startSeq = changeSeq;
+                }
+                SnapshotBuilder builder = new SnapshotBuilder();
+
+                // 영화: 배우/태그는 movieCd 기준으로 먼저 모아둔다
+                Map<String, List<String>> actorsByMovie = groupByMovie(castRepository.findSearchIndexRows());
+                Map<String, List<String>> tagsByMovie = groupByMovie(movieRepository.findTagRows());
+                for (Object[] row : movieRepository.findSearchEngineRows()) {
+                    String movieCd = (String) row[1];
+                    addMovie(builder, new MovieSource(row, actorsByMovie.getOrDefault(movieCd, List.of()),
+                            tagsByMovie.getOrDefault(movieCd, List.of())));
+                }
+
+                // 사용자: (id, loginId, nickname)
+                for (Object[] row : userRepository.findSearchIndexRows()) {
+                    String loginId = (String) row[1];
+                    String nickname = (String) row[2];
+                    UserSearchResultDto dto = new UserSearchResultDto((Long) row[0], loginId, nickname);
+                    builder.addDocument(TYPE_USER, null, dto, 0.0, new DocumentFields()
+                            .add(WEIGHT_NICKNAME, nickname)
+                            .add(WEIGHT_LOGIN_ID, loginId));
+                }
+
+                // 태그
+                for (Tag tag : tagRepository.findAll()) {
+                    TagSearchResultDto dto = new TagSearchResultDto(tag.getId(), tag.getName());
+                    builder.addDocument(TYPE_TAG, null, dto, 0.0, new DocumentFields().add(WEIGHT_TAG, tag.getName()));
+                }
+
+                Snapshot built = builder.build(0);
+                synchronized (indexLock) {
+                    changes.values().removeIf(change -> change.seq <= startSeq);
+                    index = new Index(built, List.copyOf(changes.values()));
+                }
+                log.info("통합 검색 색인 구축 완료: 영화={}, 사용자={}, 태그={}, 토큰={} ({}ms)",
+                        built.docCount[TYPE_MOVIE], built.docCount[TYPE_USER], built.docCount[TYPE_TAG],
+                        built.postings.size(), System.currentTimeMillis() - startTime);
+            } catch (Exception e) {
+                log.error("통합 검색 색인 구축 실패: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 백그라운드 전체 재구축 예약 (이미 예약/진행 중이면 무시)
+     */
+    void requestRebuild() {
+        if (!rebuildQueued.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuild();
+                } finally {
+                    rebuildQueued.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            rebuildQueued.set(false);
+            log.warn("통합 검색 색인 재구축 예약 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 영화 변경 표시 (커밋 후 MovieSearchIndexService.reindex에서 호출, 재색인은 applyPendingChanges에서)
+     */
+    public void markDirty(String movieCd) {
+        if (movieCd != null) {
+            dirtyMovieCds.add(movieCd);
+        }
+    }
+
+    /**
+     * 표시된 영화만 재색인
+     */
+    @Scheduled(fixedDelayString = "${search.reindex-interval-ms:2000}")
+    public void applyPendingChanges() {
+        if (dirtyMovieCds.isEmpty()) {
+            return;
+        }
+        List<String> movieCds = new ArrayList<>(dirtyMovieCds);
+        dirtyMovieCds.removeAll(movieCds);
+        movieCds.forEach(this::reindexMovie);
+    }
+
+    /**
+     * 영화 한 편 재색인
+     * 기본 스냅샷은 그대로 두고, 바뀐 영화만 작은 추가 스냅샷으로 만들어 기본 스냅샷의 같은 영화를 가린다.
+     */
+    void reindexMovie(String movieCd) {
+        if (movieCd == null) {
+            return;
+        }
+        try {
+            List<Object[]> rows = movieRepository.findSearchEngineRowsByMovieCd(movieCd);
+            MovieSource movie = rows.isEmpty() ? null : new MovieSource(rows.get(0),
+                    groupByMovie(castRepository.findSearchIndexRowsByMovieCd(movieCd)).getOrDefault(movieCd, List.of()),
+                    groupByMovie(movieRepository.findTagRowsByMovieCd(movieCd)).getOrDefault(movieCd, List.of()));
+            int pending;
+            synchronized (indexLock) {
+                changes.remove(movieCd); // 최근 변경이 뒤에 오도록
+                changes.put(movieCd, new Change(++changeSeq, movieCd, movie));
+                pending = changes.size();
+                index = new Index(index.base, List.copyOf(changes.values()));
+            }
+            log.debug("통합 검색 색인 갱신: {}", movieCd);
+            if (pending > MAX_PENDING_CHANGES) {
+                requestRebuild();
+            }
+        } catch (Exception e) {
+            dirtyMovieCds.add(movieCd); // 다음 주기에 다시 시도
+            log.warn("통합 검색 색인 갱신 실패: {} - {}", movieCd, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    private static Map<String, List<String>> groupByMovie(List<Object[]> rows) {
+        Map<String, List<String>> grouped = new HashMap<>();
+        for (Object[] row : rows) {
+            if (row[1] != null) {
+                grouped.computeIfAbsent((String) row[0], k -> new ArrayList<>()).add((String) row[1]);
+            }
+        }
+        return grouped;
+    }
+
+    /**
+     * 영화 문서 추가 (id, movieCd, movieNm, movieNmEn, genreNm, directorName, posterUrl, tmdbPopularity)
+     */
+    private static void addMovie(SnapshotBuilder builder, MovieSource movie) {
+        Object[] row = movie.row();
+        String title = (String) row[2];
+        String directorName = (String) row[5];
+        String posterUrl = (String) row[6];
+        List<String> actors = movie.actors();
+
+        MovieSearchResultDto dto = new MovieSearchResultDto(
+                (Long) row[0], title, directorName, List.copyOf(movie.tags()),
+                List.copyOf(actors.subList(0, Math.min(actors.size(), MAX_ACTORS_IN_RESULT))),
+                posterUrl == null || "null".equals(posterUrl) ? "" : posterUrl);
+
+        DocumentFields fields = new DocumentFields()
+                .add(WEIGHT_TITLE, title)
+                .add(WEIGHT_TITLE_EN, (String) row[3])
+                .add(WEIGHT_GENRE, (String) row[4])
+                .add(WEIGHT_DIRECTOR, directorName);
+        actors.forEach(actor -> fields.add(WEIGHT_ACTOR, actor));
+        movie.tags().forEach(tag -> fields.add(WEIGHT_TAG, tag));
+        builder.addDocument(TYPE_MOVIE, (String) row[1], dto, row[7] != null ? (Double) row[7] : 0.0, fields);
+    }
+
     public SearchResultDto search(String query) {
         return search(query, "all", 0, 10);
     }
 
+    /**
+     * 통합 검색 (type: all, movie, user, tag)
+     * 한 번의 색인 순회로 세 타입의 점수를 모두 계산한 뒤 타입별로 페이지를 자른다.
+     */
     public SearchResultDto search(String query, String type, int page, int size) {
-        // 임시 더미 데이터 (실제 DB 연동 시 Repository로 교체)
-        List<MovieSearchResultDto> allMovies = Arrays.asList(
-                new MovieSearchResultDto(1L, "기생충", "봉준호", Arrays.asList("스릴러", "드라마"), Arrays.asList("송강호", "이선균"), "https://dummyimage.com/200x300/000/fff&text=기생충"),
-                new MovieSearchResultDto(2L, "인터스텔라", "크리스토퍼 놀란", Arrays.asList("SF", "드라마"), Arrays.asList("매튜 맥커너히", "앤 해서웨이"), "https://dummyimage.com/200x300/000/fff&text=인터스텔라"),
-                new MovieSearchResultDto(3L, "오펜하이머", "크리스토퍼 놀란", Arrays.asList("드라마", "전쟁"), Arrays.asList("킬리언 머피", "에밀리 블런트"), "https://dummyimage.com/200x300/000/fff&text=오펜하이머"),
-                new MovieSearchResultDto(4L, "듄", "드니 빌뇌브", Arrays.asList("SF", "모험"), Arrays.asList("티모시 샬라메", "레베카 퍼거슨"), "https://dummyimage.com/200x300/000/fff&text=듄"),
-                new MovieSearchResultDto(5L, "블랙팬서", "라이언 쿠글러", Arrays.asList("액션", "SF"), Arrays.asList("채드윅 보스만", "마이클 B. 조던"), "https://dummyimage.com/200x300/000/fff&text=블랙팬서"),
-                new MovieSearchResultDto(6L, "어벤져스", "조스 웨던", Arrays.asList("액션", "SF"), Arrays.asList("로버트 다우니 주니어", "크리스 에반스"), "https://dummyimage.com/200x300/000/fff&text=어벤져스")
-        );
-        
-        List<UserSearchResultDto> allUsers = Arrays.asList(
-                new UserSearchResultDto(1L, "user1", "영화마니아"),
-                new UserSearchResultDto(2L, "user2", "SF팬"),
-                new UserSearchResultDto(3L, "user3", "액션러버"),
-                new UserSearchResultDto(4L, "user4", "드라마퀸"),
-                new UserSearchResultDto(5L, "user5", "코미디킹"),
-                new UserSearchResultDto(6L, "user6", "로맨스퀸")
-        );
-        
-        List<TagSearchResultDto> allTags = Arrays.asList(
-                new TagSearchResultDto(1L, "SF"),
-                new TagSearchResultDto(2L, "스릴러"),
-                new TagSearchResultDto(3L, "드라마"),
-                new TagSearchResultDto(4L, "액션"),
-                new TagSearchResultDto(5L, "코미디"),
-                new TagSearchResultDto(6L, "로맨스"),
-                new TagSearchResultDto(7L, "전쟁"),
-                new TagSearchResultDto(8L, "모험")
-        );
-
-        List<MovieSearchResultDto> filteredMovies = allMovies;
-        List<UserSearchResultDto> filteredUsers = allUsers;
-        List<TagSearchResultDto> filteredTags = allTags;
-
-        // 검색어가 있으면 필터링
-        if (query != null && !query.trim().isEmpty()) {
-            if ("all".equals(type) || "movie".equals(type)) {
-                filteredMovies = allMovies.stream()
-                        .filter(movie -> movie.getTitle().contains(query) || 
-                                       movie.getDirectorName().contains(query) ||
-                                       movie.getActors().stream().anyMatch(actor -> actor.contains(query)) ||
-                                       movie.getTags().stream().anyMatch(tag -> tag.contains(query)))
-                        .collect(Collectors.toList());
-            }
-
-            if ("all".equals(type) || "user".equals(type)) {
-                filteredUsers = allUsers.stream()
-                        .filter(user -> user.getUserName().contains(query) || 
-                                      user.getNickname().contains(query))
-                        .collect(Collectors.toList());
-            }
-
-            if ("all".equals(type) || "tag".equals(type)) {
-                filteredTags = allTags.stream()
-                        .filter(tag -> tag.getTagName().contains(query))
-                        .collect(Collectors.toList());
-            }
-        }
-
-        // 페이징 처리
-        int totalElements = 0;
-        if ("all".equals(type)) {
-            totalElements = filteredMovies.size() + filteredUsers.size() + filteredTags.size();
-        } else if ("movie".equals(type)) {
-            totalElements = filteredMovies.size();
-        } else if ("user".equals(type)) {
-            totalElements = filteredUsers.size();
-        } else if ("tag".equals(type)) {
-            totalElements = filteredTags.size();
+        page = Math.max(page, 0);
+        size = Math.max(size, 1);
+        boolean all = "all".equals(type);
+        boolean[] wanted = {
+                all || "movie".equals(type),
+                all || "user".equals(type),
+                all || "tag".equals(type)
+        };
+
+        List<List<Hit>> hitsByType = score(index, query, wanted);
+
+        // 통합 검색은 타입별로 size를 3등분, 특정 타입 검색은 해당 타입만 size만큼
+        int[] pageSizes = new int[TYPE_COUNT];
+        if (all) {
+            pageSizes[TYPE_MOVIE] = size / 3;
+            pageSizes[TYPE_USER] = size / 3;
+            pageSizes[TYPE_TAG] = size - pageSizes[TYPE_MOVIE] - pageSizes[TYPE_USER];
+        } else {
+            for (int t = 0; t < TYPE_COUNT; t++) {
+                pageSizes[t] = wanted[t] ? size : 0;
+            }
         }
 
+        long totalElements = 0;
+        for (int t = 0; t < TYPE_COUNT; t++) {
+            if (wanted[t]) {
+                totalElements += hitsByType.get(t).size();
+            }
+        }
         int totalPages = (int) Math.ceil((double) totalElements / size);
-        int startIndex = page * size;
-
-        // 페이징 적용 (실제로는 DB에서 처리)
-        if ("all".equals(type)) {
-            // 통합 검색의 경우 각 타입별로 일부씩 반환
-            int movieSize = Math.min(size / 3, filteredMovies.size());
-            int userSize = Math.min(size / 3, filteredUsers.size());
-            int tagSize = size - movieSize - userSize;
-            
-            filteredMovies = filteredMovies.stream().limit(movieSize).collect(Collectors.toList());
-            filteredUsers = filteredUsers.stream().limit(userSize).collect(Collectors.toList());
-            filteredTags = filteredTags.stream().limit(tagSize).collect(Collectors.toList());
-        } else {
-            // 특정 타입 검색의 경우 페이징 적용
-            if ("movie".equals(type)) {
-                filteredMovies = filteredMovies.stream()
-                        .skip(startIndex).limit(size).collect(Collectors.toList());
-                filteredUsers = Arrays.asList();
-                filteredTags = Arrays.asList();
-            } else if ("user".equals(type)) {
-                filteredUsers = filteredUsers.stream()
-                        .skip(startIndex).limit(size).collect(Collectors.toList());
-                filteredMovies = Arrays.asList();
-                filteredTags = Arrays.asList();
-            } else if ("tag".equals(type)) {
-                filteredTags = filteredTags.stream()
-                        .skip(startIndex).limit(size).collect(Collectors.toList());
-                filteredMovies = Arrays.asList();
-                filteredUsers = Arrays.asList();
-            }
-        }
-
-        return new SearchResultDto(filteredMovies, filteredUsers, filteredTags, 
-                                 totalPages, totalElements, page, size);
-    }
-} 
+
+        List<MovieSearchResultDto> movies = pageOf(hitsByType.get(TYPE_MOVIE), page, pageSizes[TYPE_MOVIE]);
+        List<UserSearchResultDto> users = pageOf(hitsByType.get(TYPE_USER), page, pageSizes[TYPE_USER]);
+        List<TagSearchResultDto> tags = pageOf(hitsByType.get(TYPE_TAG), page, pageSizes[TYPE_TAG]);
+
+        return new SearchResultDto(movies, users, tags, totalPages, totalElements, page, size);
+    }
+
+    /**
+     * BM25 점수 계산 (타입별 문서 수/평균 길이로 정규화)
+     * 기본 스냅샷과 추가 스냅샷을 같은 문서 수/df 기준으로 계산하고, 추가 스냅샷이 가린 기본 문서는 건너뛴다.
+     */
+    private List<List<Hit>> score(Index idx, String query, boolean[] wanted) {
+        List<List<Hit>> hitsByType = new ArrayList<>(TYPE_COUNT);
+        for (int t = 0; t < TYPE_COUNT; t++) {
+            hitsByType.add(new ArrayList<>());
+        }
+        List<String> terms = queryTerms(HangulUtil.normalize(query));
+        Snapshot base = idx.base;
+        Snapshot delta = idx.delta;
+        if (terms.isEmpty() || base.size() + delta.size() == 0) {
+            return hitsByType;
+        }
+        int[] docCount = new int[TYPE_COUNT];
+        for (int t = 0; t < TYPE_COUNT; t++) {
+            docCount[t] = base.docCount[t] + delta.docCount[t] - idx.shadowedCount[t];
+        }
+        float[] avgLength = base.size() > 0 ? base.avgLength : delta.avgLength;
+        int required = terms.size() <= 2 ? terms.size() : (int) Math.ceil(terms.size() * MIN_TERM_COVERAGE);
+
+        collectHits(base, delta, idx.shadowed, 0, terms, wanted, docCount, avgLength, required, hitsByType);
+        collectHits(delta, base, null, base.size(), terms, wanted, docCount, avgLength, required, hitsByType);
+        for (List<Hit> hits : hitsByType) {
+            hits.sort((a, b) -> a.score != b.score ? Float.compare(b.score, a.score) : Integer.compare(a.order, b.order));
+        }
+        return hitsByType;
+    }
+
+    /**
+     * 스냅샷 하나의 매칭 문서를 타입별 결과에 추가 (idf의 df는 두 스냅샷 합계)
+     */
+    private static void collectHits(Snapshot s, Snapshot other, boolean[] shadowed, int orderOffset,
+                                    List<String> terms, boolean[] wanted, int[] docCount, float[] avgLength,
+                                    int required, List<List<Hit>> hitsByType) {
+        if (s.size() == 0) {
+            return;
+        }
+        float[] scores = new float[s.size()];
+        int[] matched = new int[s.size()];
+        int[] touched = new int[16];
+        int touchedCount = 0;
+
+        for (String term : terms) {
+            Postings postings = s.postings.get(term);
+            if (postings == null) {
+                continue;
+            }
+            Postings otherPostings = other.postings.get(term);
+            float[] idf = new float[TYPE_COUNT];
+            for (int t = 0; t < TYPE_COUNT; t++) {
+                int n = docCount[t];
+                int df = postings.df[t] + (otherPostings != null ? otherPostings.df[t] : 0);
+                idf[t] = df == 0 ? 0f : (float) Math.log(1 + Math.max(0, n - df + 0.5) / (df + 0.5));
+            }
+            for (int i = 0; i < postings.docs.length; i++) {
+                int doc = postings.docs[i];
+                int t = s.types[doc];
+                if (!wanted[t] || (shadowed != null && shadowed[doc])) {
+                    continue;
+                }
+                float tf = postings.tfs[i];
+                float norm = K1 * (1 - B + B * s.lengths[doc] / avgLength[t]);
+                if (matched[doc] == 0) {
+                    if (touchedCount == touched.length) {
+                        touched = Arrays.copyOf(touched, touchedCount * 2);
+                    }
+                    touched[touchedCount++] = doc;
+                }
+                matched[doc]++;
+                scores[doc] += idf[t] * (tf * (K1 + 1)) / (tf + norm);
+            }
+        }
+
+        for (int i = 0; i < touchedCount; i++) {
+            int doc = touched[i];
+            if (matched[doc] >= required) {
+                hitsByType.get(s.types[doc]).add(new Hit(orderOffset + doc, scores[doc] * s.boosts[doc], s.payloads[doc]));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> pageOf(List<Hit> hits, int page, int pageSize) {
+        if (pageSize <= 0) {
+            return List.of();
+        }
+        int from = (int) Math.min((long) page * pageSize, hits.size());
+        int to = Math.min(from + pageSize, hits.size());
+        List<T> result = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            result.add((T) hits.get(i).payload);
+        }
+        return result;
+    }
+
+    /**
+     * 검색어 → 중복 없는 bigram (1글자 검색어는 unigram)
+     */
+    private static List<String> queryTerms(String normalized) {
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        if (normalized.length() == 1) {
+            return List.of(normalized);
+        }
+        Set<String> terms = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < normalized.length(); i++) {
+            terms.add(normalized.substring(i, i + 2));
+        }
+        return new ArrayList<>(terms);
+    }
+
+    /**
+     * 문서 필드 (가중치, 원문)
+     */
+    private static class DocumentFields {
+        private final Map<String, Float> fields = new LinkedHashMap<>();
+
+        DocumentFields add(float weight, String value) {
+            String text = HangulUtil.normalize(value);
+            if (!text.isEmpty() && !"null".equals(text)) {
+                fields.merge(text, weight, Math::max);
+            }
+            return this;
+        }
+    }
+
+    /**
+     * 재색인된 영화 (movie null = 삭제)
+     */
+    private record Change(long seq, String movieCd, MovieSource movie) {
+    }
+
+    /**
+     * 영화 문서 원본 (검색 엔진 행, 배우명(출연 순), 태그명)
+     */
+    private record MovieSource(Object[] row, List<String> actors, List<String> tags) {
+    }
+
+    /**
+     * 검색 시점의 색인: 기본 스냅샷 + 재색인된 영화만 담은 추가 스냅샷 (기본 스냅샷의 같은 영화는 shadowed로 가림)
+     */
+    private static class Index {
+        private final Snapshot base;
+        private final Snapshot delta;
+        private final boolean[] shadowed;
+        private final int[] shadowedCount = new int[TYPE_COUNT];
+
+        Index(Snapshot base, List<Change> changes) {
+            this.base = base;
+            SnapshotBuilder builder = new SnapshotBuilder();
+            this.shadowed = new boolean[base.size()];
+            for (Change change : changes) {
+                Integer doc = base.docByKey.get(change.movieCd());
+                if (doc != null && !shadowed[doc]) {
+                    shadowed[doc] = true;
+                    shadowedCount[base.types[doc]]++;
+                }
+                if (change.movie() != null) {
+                    addMovie(builder, change.movie());
+                }
+            }
+            // 인기도 가산점은 기본 스냅샷의 최대 인기도 기준
+            this.delta = builder.build(base.maxPopularity);
+        }
+    }
+
+    private static class Postings {
+        private final int[] docs;
+        private final float[] tfs;    // 필드 가중치가 반영된 term frequency
+        private final int[] df;       // 타입별 document frequency
+
+        Postings(int[] docs, float[] tfs, int[] df) {
+            this.docs = docs;
+            this.tfs = tfs;
+            this.df = df;
+        }
+    }
+
+    /**
+     * 불변 색인 스냅샷 (문서 번호는 배열 인덱스)
+     */
+    private static class Snapshot {
+        private final int[] types;
+        private final float[] lengths;
+        private final float[] boosts;
+        private final Object[] payloads;
+        private final Map<String, Postings> postings;
+        private final int[] docCount;
+        private final float[] avgLength;
+        private final Map<String, Integer> docByKey; // movieCd → 문서 번호
+        private final double maxPopularity;
+
+        Snapshot(int[] types, float[] lengths, float[] boosts, Object[] payloads,
+                 Map<String, Postings> postings, int[] docCount, float[] avgLength,
+                 Map<String, Integer> docByKey, double maxPopularity) {
+            this.types = types;
+            this.lengths = lengths;
+            this.boosts = boosts;
+            this.payloads = payloads;
+            this.postings = postings;
+            this.docCount = docCount;
+            this.avgLength = avgLength;
+            this.docByKey = docByKey;
+            this.maxPopularity = maxPopularity;
+        }
+
+        int size() {
+            return types.length;
+        }
+    }
+
+    private static class SnapshotBuilder {
+        private int[] types = new int[1024];
+        private float[] lengths = new float[1024];
+        private double[] popularity = new double[1024];
+        private final List<Object> payloads = new ArrayList<>();
+        private final Map<String, PostingsBuilder> postings = new HashMap<>();
+        private final Map<String, Integer> docByKey = new HashMap<>();
+        private int size = 0;
+
+        void addDocument(int type, String key, Object payload, double docPopularity, DocumentFields fields) {
+            if (size == types.length) {
+                types = Arrays.copyOf(types, size * 2);
+                lengths = Arrays.copyOf(lengths, size * 2);
+                popularity = Arrays.copyOf(popularity, size * 2);
+            }
+            int doc = size++;
+            types[doc] = type;
+            popularity[doc] = docPopularity;
+            payloads.add(payload);
+            if (key != null) {
+                docByKey.put(key, doc);
+            }
+
+            Map<String, Float> termFrequencies = new HashMap<>();
+            float length = 0;
+            for (Map.Entry<String, Float> field : fields.fields.entrySet()) {
+                String text = field.getKey();
+                float weight = field.getValue();
+                for (int i = 0; i < text.length(); i++) {
+                    termFrequencies.merge(text.substring(i, i + 1), weight, Float::sum);
+                    if (i + 1 < text.length()) {
+                        termFrequencies.merge(text.substring(i, i + 2), weight, Float::sum);
+                        length += weight;
+                    }
+                }
+            }
+            lengths[doc] = Math.max(length, 1f);
+            for (Map.Entry<String, Float> entry : termFrequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), k -> new PostingsBuilder()).add(doc, type, entry.getValue());
+            }
+        }
+
+        /**
+         * @param minMaxPopularity 인기도 가산점 기준 최대 인기도의 하한 (추가 스냅샷은 기본 스냅샷 기준)
+         */
+        Snapshot build(double minMaxPopularity) {
+            int[] docCount = new int[TYPE_COUNT];
+            double[] lengthSum = new double[TYPE_COUNT];
+            double maxPopularity = minMaxPopularity;
+            for (int doc = 0; doc < size; doc++) {
+                docCount[types[doc]]++;
+                lengthSum[types[doc]] += lengths[doc];
+                maxPopularity = Math.max(maxPopularity, popularity[doc]);
+            }
+            float[] avgLength = new float[TYPE_COUNT];
+            for (int t = 0; t < TYPE_COUNT; t++) {
+                avgLength[t] = docCount[t] == 0 ? 1f : (float) (lengthSum[t] / docCount[t]);
+            }
+            float[] boosts = new float[size];
+            for (int doc = 0; doc < size; doc++) {
+                boosts[doc] = maxPopularity > 0
+                        ? 1f + POPULARITY_BOOST * (float) (Math.log1p(popularity[doc]) / Math.log1p(maxPopularity))
+                        : 1f;
+            }
+            Map<String, Postings> built = new HashMap<>(postings.size() * 2);
+            postings.forEach((term, builder) -> built.put(term, builder.build()));
+            return new Snapshot(Arrays.copyOf(types, size), Arrays.copyOf(lengths, size), boosts,
+                    payloads.toArray(), built, docCount, avgLength, docByKey, maxPopularity);
+        }
+    }
+
+    private static class PostingsBuilder {
+        private int[] docs = new int[4];
+        private float[] tfs = new float[4];
+        private final int[] df = new int[TYPE_COUNT];
+        private int size = 0;
+
+        void add(int doc, int type, float tf) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                tfs = Arrays.copyOf(tfs, size * 2);
+            }
+            docs[size] = doc;
+            tfs[size] = tf;
+            size++;
+            df[type]++;
+        }
+
+        Postings build() {
+            return new Postings(Arrays.copyOf(docs, size), Arrays.copyOf(tfs, size), df);
+        }
+    }
+
+    private static class Hit {
+        private final int order; // 동점이면 색인 순서 (기본 스냅샷 → 추가 스냅샷)
+        private final float score;
+        private final Object payload;
+
+        Hit(int order, float score, Object payload) {
+            this.order = order;
+            this.score = score;
+            this.payload = payload;
+        }
+    }
+}
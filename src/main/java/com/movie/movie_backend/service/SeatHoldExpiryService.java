@@ -0,0 +1,162 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.constant.ScreeningSeatStatus;
+import com.movie.movie_backend.repository.ScreeningSeatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 좌석 임시 홀드 만료 처리
+ * - 홀드마다 만료 시각을 DelayQueue에 넣어 두고, 만료된 홀드만 상영별로 묶어서 UPDATE 한 번으로 해제
+ * - 결제 중인(아직 만료 전) 홀드는 건드리지 않고 LOCKED 전체를 읽어 오지도 않는다
+ * - 이 서버가 모르는 홀드(다른 서버, 재기동 전)는 주기적인 만료 시각 인덱스 스캔으로 보정
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatHoldExpiryService {
+
+    // 한 번의 UPDATE에 넣을 최대 홀드 토큰 수
+    private static final int RELEASE_BATCH_SIZE = 500;
+
+    private final ScreeningSeatRepository screeningSeatRepository;
+    private final SeatMapCacheService seatMapCacheService;
+
+    private final DelayQueue<HoldDeadline> deadlines = new DelayQueue<>();
+    private final Map<Long, AtomicLong> expiredSeatsByScreening = new ConcurrentHashMap<>();
+
+    /**
+     * 만료 대기 중인 홀드
+     */
+    private static final class HoldDeadline implements Delayed {
+        private final Long screeningId;
+        private final String holdToken;
+        private final long deadlineMillis;
+
+        private HoldDeadline(Long screeningId, String holdToken, long deadlineMillis) {
+            this.screeningId = screeningId;
+            this.holdToken = holdToken;
+            this.deadlineMillis = deadlineMillis;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadlineMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(deadlineMillis, ((HoldDeadline) other).deadlineMillis);
+        }
+    }
+
+    /**
+     * 새 홀드 등록 (TTL이 지나면 expireDueHolds에서 해제)
+     */
+    public void track(Long screeningId, String holdToken, Duration ttl) {
+        deadlines.add(new HoldDeadline(screeningId, holdToken, System.currentTimeMillis() + ttl.toMillis()));
+    }
+
+    /**
+     * 만료된 홀드만 해제 (상영별로 묶어서 배치 UPDATE)
+     * @return 해제된 좌석 수
+     */
+    @Scheduled(fixedDelayString = "${booking.seat-hold.expire-interval-ms:5000}")
+    @Transactional
+    public int expireDueHolds() {
+        Map<Long, List<String>> tokensByScreening = new LinkedHashMap<>();
+        HoldDeadline deadline;
+        while ((deadline = deadlines.poll()) != null) {
+            tokensByScreening.computeIfAbsent(deadline.screeningId, id -> new ArrayList<>()).add(deadline.holdToken);
+        }
+        if (tokensByScreening.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int released = 0;
+        for (Map.Entry<Long, List<String>> entry : tokensByScreening.entrySet()) {
+            List<String> tokens = entry.getValue();
+            int releasedForScreening = 0;
+            for (int from = 0; from < tokens.size(); from += RELEASE_BATCH_SIZE) {
+                List<String> batch = tokens.subList(from, Math.min(from + RELEASE_BATCH_SIZE, tokens.size()));
+                releasedForScreening += screeningSeatRepository.releaseExpiredHolds(entry.getKey(), batch, now,
+                        ScreeningSeatStatus.AVAILABLE, ScreeningSeatStatus.LOCKED);
+            }
+            if (releasedForScreening > 0) {
+                seatMapCacheService.refreshAfterCommit(entry.getKey());
+                expiredSeatsByScreening.computeIfAbsent(entry.getKey(), id -> new AtomicLong()).addAndGet(releasedForScreening);
+                released += releasedForScreening;
+            }
+        }
+        if (released > 0) {
+            log.info("Expired seat holds released: {} seats in {} screenings", released, tokensByScreening.size());
+        }
+        return released;
+    }
+
+    /**
+     * 만료 시각이 지난 홀드 전체 보정 해제 ((status, locked_until) 인덱스 범위 스캔)
+     * @return 해제된 좌석 수
+     */
+    @Scheduled(fixedDelayString = "${booking.seat-hold.sweep-interval-ms:60000}", initialDelay = 60000)
+    @Transactional
+    public int releaseExpiredHolds() {
+        int released = screeningSeatRepository.releaseAllExpiredHolds(LocalDateTime.now(),
+                ScreeningSeatStatus.AVAILABLE, ScreeningSeatStatus.LOCKED);
+        if (released > 0) {
+            seatMapCacheService.refreshAllAfterCommit();
+            log.info("Expired seat holds swept: {} seats", released);
+        }
+        return released;
+    }
+
+    /**
+     * 이 서버에서 만료 대기 중인 홀드 수
+     */
+    public int getPendingHoldCount() {
+        return deadlines.size();
+    }
+
+    /**
+     * 상영별 홀드 지표 (현재 홀드 좌석/홀드 수, 가장 빠른 만료 시각, 이 서버에서 만료 해제한 누적 좌석 수)
+     */
+    public Map<String, Object> getHoldMetrics(Long screeningId, Duration holdTtl) {
+        long heldSeats = 0;
+        long activeHolds = 0;
+        LocalDateTime nextExpiry = null;
+        List<Object[]> rows = screeningSeatRepository.findHoldStats(screeningId, ScreeningSeatStatus.LOCKED);
+        if (!rows.isEmpty() && rows.get(0) != null) {
+            Object[] row = rows.get(0);
+            heldSeats = row[0] != null ? ((Number) row[0]).longValue() : 0;
+            activeHolds = row[1] != null ? ((Number) row[1]).longValue() : 0;
+            nextExpiry = (LocalDateTime) row[2];
+        }
+        AtomicLong expired = expiredSeatsByScreening.get(screeningId);
+
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("screeningId", screeningId);
+        metrics.put("holdTtlSeconds", holdTtl.getSeconds());
+        metrics.put("heldSeats", heldSeats);
+        metrics.put("activeHolds", activeHolds);
+        metrics.put("nextExpiry", nextExpiry);
+        metrics.put("expiredSeats", expired != null ? expired.get() : 0L);
+        return metrics;
+    }
+}
@@ -0,0 +1,146 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.constant.ScreeningSeatStatus;
+import com.movie.movie_backend.entity.Reservation;
+import com.movie.movie_backend.repository.ScreeningSeatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 좌석 홀드 엔진
+ * - 좌석 묶음을 조건부 UPDATE 한 번으로 잡는다 (AVAILABLE인 행만 변경되고 DB 행 락이 동시 요청을 직렬화)
+ * - 변경된 행 수가 요청 좌석 수와 다르면 이번 요청에서 잡은 좌석만 되돌려서 전부-아니면-전무를 보장
+ * - 자바에서 상태를 읽고 저장하는 check-then-act 구간이 없으므로 동시 구매자 두 명이 같은 좌석을 잡을 수 없다
+ * - 홀드마다 만료 시각(locked_until)을 기록하고 SeatHoldExpiryService가 만료된 홀드만 해제
+ * - 홀드 토큰(hold_token)이 홀드 소유자: 취소/예매 확정은 같은 토큰을 가진 요청만 가능
+ * - 상태가 바뀌면 커밋 후 SeatMapCacheService의 좌석 배치도에 바로 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatHoldService {
+
+    private final ScreeningSeatRepository screeningSeatRepository;
+    private final SeatHoldExpiryService seatHoldExpiryService;
+    private final SeatMapCacheService seatMapCacheService;
+
+    @Value("${booking.seat-hold.ttl-minutes:10}")
+    private long holdTtlMinutes = 10;
+
+    public Duration getHoldTtl() {
+        return Duration.ofMinutes(holdTtlMinutes);
+    }
+
+    /**
+     * 좌석 임시 홀드 (기본 TTL)
+     * @return 성공 시 홀드 토큰, 하나라도 잡지 못하면 null
+     */
+    public String hold(Long screeningId, Collection<Long> seatIds) {
+        return hold(screeningId, seatIds, getHoldTtl());
+    }
+
+    /**
+     * 좌석 임시 홀드
+     * @return 성공 시 홀드 토큰, 하나라도 잡지 못하면 null (이때 일부 좌석도 잡힌 채로 남지 않는다)
+     */
+    public String hold(Long screeningId, Collection<Long> seatIds, Duration ttl) {
+        List<Long> ids = normalize(seatIds);
+        if (screeningId == null || ids.isEmpty()) {
+            return null;
+        }
+        String holdToken = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lockedUntil = now.plus(ttl);
+
+        int held = screeningSeatRepository.holdSeats(screeningId, ids, holdToken, lockedUntil, now,
+                ScreeningSeatStatus.AVAILABLE, ScreeningSeatStatus.LOCKED);
+        if (held == ids.size()) {
+            seatHoldExpiryService.track(screeningId, holdToken, ttl);
+            seatMapCacheService.applyAfterCommit(screeningId, ids, ScreeningSeatStatus.LOCKED);
+            return holdToken;
+        }
+
+        // 일부만 잡힌 경우 이번 토큰으로 잡은 좌석만 되돌림
+        if (held > 0) {
+            screeningSeatRepository.releaseHeldSeats(screeningId, ids, holdToken,
+                    ScreeningSeatStatus.AVAILABLE, ScreeningSeatStatus.LOCKED);
+        }
+        log.warn("Seat hold failed: screeningId={}, seatIds={}, held={}/{}", screeningId, ids, held, ids.size());
+        return null;
+    }
+
+    /**
+     * 홀드 취소 (LOCKED → AVAILABLE, 같은 홀드 토큰으로 잡은 좌석만)
+     * @return 요청한 좌석이 모두 이 토큰으로 잡혀 있었다면 true
+     */
+    public boolean release(Long screeningId, Collection<Long> seatIds, String holdToken) {
+        List<Long> ids = normalize(seatIds);
+        if (screeningId == null || ids.isEmpty() || holdToken == null) {
+            return false;
+        }
+        int released = screeningSeatRepository.releaseHeldSeats(screeningId, ids, holdToken,
+                ScreeningSeatStatus.AVAILABLE, ScreeningSeatStatus.LOCKED);
+        if (released == ids.size()) {
+            seatMapCacheService.applyAfterCommit(screeningId, ids, ScreeningSeatStatus.AVAILABLE);
+            return true;
+        }
+        log.warn("Seat release partial: screeningId={}, seatIds={}, released={}/{}", screeningId, ids, released, ids.size());
+        if (released > 0) {
+            seatMapCacheService.refreshAfterCommit(screeningId);
+        }
+        return false;
+    }
+
+    /**
+     * 예매 확정 (AVAILABLE 또는 이 홀드 토큰으로 잡은 LOCKED → RESERVED, 다른 사람이 홀드한 좌석은 확정 불가)
+     * 하나라도 확정하지 못하면 현재 트랜잭션을 롤백 전용으로 표시해 예약과 좌석 변경을 함께 취소한다.
+     */
+    public boolean reserve(Long screeningId, Collection<Long> seatIds, String holdToken, Reservation reservation) {
+        List<Long> ids = normalize(seatIds);
+        if (screeningId == null || ids.isEmpty()) {
+            return false;
+        }
+        int reserved = screeningSeatRepository.reserveSeats(screeningId, ids, holdToken, reservation,
+                ScreeningSeatStatus.AVAILABLE, ScreeningSeatStatus.LOCKED, ScreeningSeatStatus.RESERVED);
+        if (reserved == ids.size()) {
+            seatMapCacheService.applyAfterCommit(screeningId, ids, ScreeningSeatStatus.RESERVED);
+            return true;
+        }
+        log.warn("Seat reserve failed: screeningId={}, seatIds={}, reserved={}/{}", screeningId, ids, reserved, ids.size());
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+        }
+        return false;
+    }
+
+    /**
+     * 상영별 홀드 지표 (TTL, 홀드 수 등)
+     */
+    public Map<String, Object> getHoldMetrics(Long screeningId) {
+        return seatHoldExpiryService.getHoldMetrics(screeningId, getHoldTtl());
+    }
+
+    private List<Long> normalize(Collection<Long> seatIds) {
+        if (seatIds == null) {
+            return List.of();
+        }
+        return seatIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,307 @@
+package com.movie.movie_backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.movie.movie_backend.constant.ScreeningSeatStatus;
+import com.movie.movie_backend.dto.ScreeningSeatDto;
+import com.movie.movie_backend.dto.SeatMapDeltaDto;
+import com.movie.movie_backend.dto.SeatMapSnapshotDto;
+import com.movie.movie_backend.repository.ScreeningSeatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 상영별 좌석 배치도 캐시
+ * - 좌석 상태를 좌석 인덱스당 4비트로 묶어 long 배열에 저장 (long 하나에 16석)
+ * - 홀드/예매/취소 경로가 커밋 후 해당 좌석 비트만 바꾸고 SSE로 변경분을 push
+ * - 다른 서버에서 바뀐 상태는 MAX_AGE마다 다시 읽어 비교한 변경분만 push
+ *   (DB를 읽는 동안 이 서버에서 반영된 좌석은 읽은 값이 더 오래됐을 수 있으므로 덮어쓰지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatMapCacheService {
+
+    private static final ScreeningSeatStatus[] STATUSES = ScreeningSeatStatus.values();
+    private static final int BITS_PER_SEAT = 4;
+    private static final int SEATS_PER_WORD = Long.SIZE / BITS_PER_SEAT;
+    private static final long STATE_MASK = (1L << BITS_PER_SEAT) - 1;
+    // 상태 없음(null) 표시용 코드 (enum 상수는 0부터)
+    private static final int NO_STATUS = (int) STATE_MASK;
+
+    private static final long MAX_AGE_MILLIS = 30_000L;
+
+    private final ScreeningSeatRepository screeningSeatRepository;
+    private final SeatMapStreamService seatMapStreamService;
+
+    private final Cache<Long, ScreeningSeatMap> seatMaps = Caffeine.newBuilder()
+            .maximumSize(2_000)
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build();
+
+    /**
+     * 상영 하나의 좌석 배치도 (좌석 구성은 불변, 상태 비트만 변경)
+     */
+    static final class ScreeningSeatMap {
+        private final Long screeningId;
+        private final Long[] screeningSeatIds;
+        private final Long[] seatIds;
+        private final String[] seatNumbers;
+        private final Map<Long, Integer> indexBySeatId;
+        private final AtomicLongArray states;
+        private final AtomicLong version = new AtomicLong();
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private volatile long loadedAt = System.currentTimeMillis();
+        // apply 순번과 좌석별 마지막 apply 순번 (this 락 안에서만 접근)
+        private long applySeq;
+        private final long[] appliedSeq;
+
+        private ScreeningSeatMap(Long screeningId, List<Object[]> rows) {
+            int size = rows.size();
+            this.screeningId = screeningId;
+            this.screeningSeatIds = new Long[size];
+            this.seatIds = new Long[size];
+            this.seatNumbers = new String[size];
+            this.indexBySeatId = new HashMap<>(size * 2);
+            this.states = new AtomicLongArray((size + SEATS_PER_WORD - 1) / SEATS_PER_WORD);
+            this.appliedSeq = new long[size];
+            for (int i = 0; i < size; i++) {
+                Object[] row = rows.get(i);
+                screeningSeatIds[i] = (Long) row[0];
+                seatIds[i] = (Long) row[1];
+                seatNumbers[i] = (String) row[2];
+                if (seatIds[i] != null) {
+                    indexBySeatId.putIfAbsent(seatIds[i], i);
+                }
+                set(i, (ScreeningSeatStatus) row[3]);
+            }
+        }
+
+        int size() {
+            return screeningSeatIds.length;
+        }
+
+        ScreeningSeatStatus get(int index) {
+            int code = (int) ((states.get(index / SEATS_PER_WORD) >>> shift(index)) & STATE_MASK);
+            return code == NO_STATUS ? null : STATUSES[code];
+        }
+
+        /**
+         * @return 상태가 실제로 바뀌었으면 true
+         */
+        boolean set(int index, ScreeningSeatStatus status) {
+            int word = index / SEATS_PER_WORD;
+            int shift = shift(index);
+            long code = status != null ? status.ordinal() : NO_STATUS;
+            while (true) {
+                long current = states.get(word);
+                if (((current >>> shift) & STATE_MASK) == code) {
+                    return false;
+                }
+                long next = (current & ~(STATE_MASK << shift)) | (code << shift);
+                if (states.compareAndSet(word, current, next)) {
+                    return true;
+                }
+            }
+        }
+
+        boolean sameLayout(ScreeningSeatMap other) {
+            return Arrays.equals(screeningSeatIds, other.screeningSeatIds) && Arrays.equals(seatIds, other.seatIds);
+        }
+
+        List<ScreeningSeatDto> toDtos() {
+            List<ScreeningSeatDto> dtos = new ArrayList<>(size());
+            for (int i = 0; i < size(); i++) {
+                ScreeningSeatStatus status = get(i);
+                dtos.add(ScreeningSeatDto.builder()
+                        .id(screeningSeatIds[i])
+                        .seatId(seatIds[i])
+                        .seatNumber(seatNumbers[i])
+                        .status(status != null ? status.name() : null)
+                        .build());
+            }
+            return dtos;
+        }
+
+        SeatMapSnapshotDto toSnapshot() {
+            return new SeatMapSnapshotDto(screeningId, version.get(), toDtos());
+        }
+
+        private static int shift(int index) {
+            return (index % SEATS_PER_WORD) * BITS_PER_SEAT;
+        }
+    }
+
+    /**
+     * 상영 좌석 목록 (캐시에서 변환, 오래된 캐시는 DB와 비교 후 갱신)
+     */
+    public List<ScreeningSeatDto> getSeats(Long screeningId) {
+        return getMap(screeningId).toDtos();
+    }
+
+    /**
+     * 좌석 배치도 SSE 구독 (snapshot 1번 + 이후 delta)
+     */
+    public SseEmitter subscribe(Long screeningId) {
+        getMap(screeningId);
+        return seatMapStreamService.subscribe(screeningId, () -> getMap(screeningId).toSnapshot());
+    }
+
+    /**
+     * 커밋 후 좌석 상태 반영 (트랜잭션 밖이면 즉시)
+     */
+    public void applyAfterCommit(Long screeningId, Collection<Long> seatIds, ScreeningSeatStatus status) {
+        List<Long> ids = new ArrayList<>(seatIds);
+        runAfterCommit(() -> apply(screeningId, ids, status));
+    }
+
+    /**
+     * 커밋 후 해당 상영 배치도를 DB와 다시 맞춤 (바뀐 좌석을 알 수 없는 경로용)
+     */
+    public void refreshAfterCommit(Long screeningId) {
+        runAfterCommit(() -> refresh(screeningId));
+    }
+
+    /**
+     * 커밋 후 캐시된 모든 상영 배치도를 DB와 다시 맞춤
+     */
+    public void refreshAllAfterCommit() {
+        runAfterCommit(() -> new ArrayList<>(seatMaps.asMap().keySet()).forEach(this::refresh));
+    }
+
+    void apply(Long screeningId, Collection<Long> seatIds, ScreeningSeatStatus status) {
+        ScreeningSeatMap map;
+        // 캐시에 없으면 다음 조회 때 DB에서 새로 읽음
+        while ((map = seatMaps.getIfPresent(screeningId)) != null) {
+            // 변경분 계산과 version 증가/전송 순서를 맞추기 위해 상영 단위로 직렬화
+            synchronized (map) {
+                if (seatMaps.getIfPresent(screeningId) != map) {
+                    continue; // 락을 기다리는 사이 refresh가 배치도를 교체함
+                }
+                long seq = ++map.applySeq;
+                List<SeatMapDeltaDto.SeatChange> changes = new ArrayList<>();
+                for (Long seatId : seatIds) {
+                    Integer index = map.indexBySeatId.get(seatId);
+                    if (index == null) {
+                        continue;
+                    }
+                    map.appliedSeq[index] = seq;
+                    if (map.set(index, status)) {
+                        changes.add(new SeatMapDeltaDto.SeatChange(seatId, status != null ? status.name() : null));
+                    }
+                }
+                publish(map, changes);
+                return;
+            }
+        }
+    }
+
+    /**
+     * DB에서 다시 읽어 캐시와 맞춤
+     * 읽기 시작한 뒤 apply된 좌석은 커밋 후 반영된 값이 더 최신이므로 읽은 값으로 덮어쓰지 않는다.
+     */
+    void refresh(Long screeningId) {
+        ScreeningSeatMap current = seatMaps.getIfPresent(screeningId);
+        long startSeq = 0;
+        if (current != null) {
+            synchronized (current) {
+                startSeq = current.applySeq;
+            }
+        }
+        ScreeningSeatMap loaded;
+        try {
+            loaded = load(screeningId);
+        } catch (Exception e) {
+            log.warn("Seat map refresh failed: screeningId={}, {}", screeningId, e.getMessage());
+            seatMaps.invalidate(screeningId);
+            return;
+        }
+        if (current == null) {
+            seatMaps.put(screeningId, loaded);
+            return;
+        }
+        if (!current.sameLayout(loaded)) {
+            // 좌석 구성이 바뀌었으면 통째로 교체하고 전체 스냅샷 push (읽는 동안 apply된 좌석은 옮겨 담음)
+            synchronized (current) {
+                for (int i = 0; i < current.size(); i++) {
+                    Integer index = current.seatIds[i] != null ? loaded.indexBySeatId.get(current.seatIds[i]) : null;
+                    if (current.appliedSeq[i] > startSeq && index != null) {
+                        loaded.set(index, current.get(i));
+                    }
+                }
+                loaded.version.set(current.version.get() + 1);
+                seatMaps.put(screeningId, loaded);
+            }
+            seatMapStreamService.publishSnapshot(loaded.toSnapshot());
+            return;
+        }
+        synchronized (current) {
+            List<SeatMapDeltaDto.SeatChange> changes = new ArrayList<>();
+            for (int i = 0; i < loaded.size(); i++) {
+                if (current.appliedSeq[i] > startSeq) {
+                    continue;
+                }
+                ScreeningSeatStatus status = loaded.get(i);
+                if (current.set(i, status)) {
+                    changes.add(new SeatMapDeltaDto.SeatChange(current.seatIds[i], status != null ? status.name() : null));
+                }
+            }
+            current.loadedAt = System.currentTimeMillis();
+            publish(current, changes);
+        }
+    }
+
+    private ScreeningSeatMap getMap(Long screeningId) {
+        ScreeningSeatMap map = seatMaps.get(screeningId, this::load);
+        // 오래된 배치도는 한 요청만 DB와 다시 맞추고 나머지는 현재 캐시로 응답
+        if (System.currentTimeMillis() - map.loadedAt > MAX_AGE_MILLIS && map.refreshing.compareAndSet(false, true)) {
+            try {
+                refresh(screeningId);
+            } finally {
+                map.refreshing.set(false);
+            }
+            map = seatMaps.get(screeningId, this::load);
+        }
+        return map;
+    }
+
+    private ScreeningSeatMap load(Long screeningId) {
+        return new ScreeningSeatMap(screeningId, screeningSeatRepository.findSeatMapRows(screeningId));
+    }
+
+    private void publish(ScreeningSeatMap map, List<SeatMapDeltaDto.SeatChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        long version = map.version.incrementAndGet();
+        seatMapStreamService.publishDelta(new SeatMapDeltaDto(map.screeningId, version, changes));
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
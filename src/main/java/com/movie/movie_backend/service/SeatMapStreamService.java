@@ -0,0 +1,112 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.dto.SeatMapDeltaDto;
+import com.movie.movie_backend.dto.SeatMapSnapshotDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * 좌석 배치도 SSE 구독 관리
+ * - 구독 시 "snapshot" 이벤트 1번, 이후 좌석 상태가 바뀔 때마다 "delta" 이벤트 전송
+ * - 전송은 전용 스레드 하나에서 순서대로 처리 (예매 처리 스레드가 느린 클라이언트를 기다리지 않도록)
+ */
+@Slf4j
+@Service
+public class SeatMapStreamService {
+
+    private static final long EMITTER_TIMEOUT_MILLIS = 5 * 60 * 1000L;
+
+    private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final ExecutorService sender = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "seat-map-sse");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 상영 좌석 배치도 구독
+     * 먼저 등록한 뒤 같은 전송 스레드에서 스냅샷을 보내므로 등록 직후의 변경분도 빠지지 않는다.
+     */
+    public SseEmitter subscribe(Long screeningId, Supplier<SeatMapSnapshotDto> snapshotSupplier) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        emitters.compute(screeningId, (id, list) -> {
+            List<SseEmitter> screeningEmitters = list != null ? list : new CopyOnWriteArrayList<>();
+            screeningEmitters.add(emitter);
+            return screeningEmitters;
+        });
+        emitter.onCompletion(() -> remove(screeningId, emitter));
+        emitter.onTimeout(() -> remove(screeningId, emitter));
+        emitter.onError(e -> remove(screeningId, emitter));
+
+        sender.execute(() -> {
+            try {
+                send(screeningId, emitter, "snapshot", snapshotSupplier.get());
+            } catch (Exception e) {
+                log.warn("Seat map snapshot failed: screeningId={}, {}", screeningId, e.getMessage());
+                remove(screeningId, emitter);
+                emitter.completeWithError(e);
+            }
+        });
+        return emitter;
+    }
+
+    public boolean hasSubscribers(Long screeningId) {
+        List<SseEmitter> screeningEmitters = emitters.get(screeningId);
+        return screeningEmitters != null && !screeningEmitters.isEmpty();
+    }
+
+    public void publishDelta(SeatMapDeltaDto delta) {
+        broadcast(delta.getScreeningId(), "delta", delta);
+    }
+
+    public void publishSnapshot(SeatMapSnapshotDto snapshot) {
+        broadcast(snapshot.getScreeningId(), "snapshot", snapshot);
+    }
+
+    private void broadcast(Long screeningId, String eventName, Object data) {
+        if (!hasSubscribers(screeningId)) {
+            return;
+        }
+        sender.execute(() -> {
+            List<SseEmitter> screeningEmitters = emitters.get(screeningId);
+            if (screeningEmitters == null) {
+                return;
+            }
+            for (SseEmitter emitter : screeningEmitters) {
+                send(screeningId, emitter, eventName, data);
+            }
+        });
+    }
+
+    private void send(Long screeningId, SseEmitter emitter, String eventName, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(data));
+        } catch (Exception e) {
+            log.debug("Seat map SSE send failed: screeningId={}, {}", screeningId, e.getMessage());
+            remove(screeningId, emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void remove(Long screeningId, SseEmitter emitter) {
+        emitters.computeIfPresent(screeningId, (id, list) -> {
+            list.remove(emitter);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+    }
+}
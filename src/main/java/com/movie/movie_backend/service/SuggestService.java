@@ -0,0 +1,497 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.dto.SuggestionDto;
+import com.movie.movie_backend.entity.PopularKeyword;
+import com.movie.movie_backend.repository.CastRepository;
+import com.movie.movie_backend.repository.PRDMovieListRepository;
+import com.movie.movie_backend.repository.PRDMovieRepository;
+import com.movie.movie_backend.repository.PopularKeywordRepository;
+import com.movie.movie_backend.util.HangulUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 검색어 자동완성 (typeahead)
+ * - 영화 제목/영문 제목, 감독·배우 이름, 인기검색어를 배열 기반 접두 트라이 두 개(자모 분해 키, 초성 키)에 색인
+ * - 트라이 노드마다 하위 항목 중 가중치 상위 K개를 미리 계산해 두므로 접두 조회는 검색어 길이만큼만 내려가면 끝
+ * - "ㄱㅅㅊ" 같은 초성 검색은 초성 트라이, "기생ㅊ" 같은 입력 중 검색은 자모 트라이로 처리
+ * - 접두 일치가 부족하면 자모 단위 편집 거리(1~2) 이내의 키를 트라이를 따라가며 찾음 (오타 허용)
+ * - 색인은 불변 스냅샷으로 만들어 통째로 교체 (조회 시 DB/잠금 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SuggestService {
+
+    static final int TOP_K = 10;
+    private static final int MAX_WORD_KEYS = 5;      // 제목 중간 단어에서 시작하는 키 최대 개수
+    private static final int MAX_FUZZY_NODES = 200;  // 오타 검색에서 후보를 모을 노드 수 상한
+
+    static final String TYPE_MOVIE = "movie";
+    static final String TYPE_DIRECTOR = "director";
+    static final String TYPE_ACTOR = "actor";
+    static final String TYPE_KEYWORD = "keyword";
+
+    private final PRDMovieListRepository movieListRepository;
+    private final PRDMovieRepository movieRepository;
+    private final CastRepository castRepository;
+    private final PopularKeywordRepository popularKeywordRepository;
+    private final PopularKeywordService popularKeywordService;
+
+    private volatile Snapshot snapshot = Snapshot.build(List.of());
+
+    /**
+     * 자동완성 후보 (표시 문자열, 종류, movieCd, 가중치)
+     */
+    static final class Entry {
+        final String text;
+        final String type;
+        final String movieCd;
+        final float weight;
+
+        Entry(String text, String type, String movieCd, float weight) {
+            this.text = text;
+            this.type = type;
+            this.movieCd = movieCd;
+            this.weight = weight;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 10분마다 재구축 (신규 영화/인물, 인기검색어 반영)
+     */
+    @Scheduled(fixedDelayString = "${search.suggest.rebuild-interval-ms:600000}", initialDelay = 600000)
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        long startTime = System.currentTimeMillis();
+        try {
+            Snapshot built = Snapshot.build(loadEntries());
+            snapshot = built;
+            log.info("자동완성 색인 구축 완료: 항목 {}개, 자모 노드 {}개, 초성 노드 {}개 ({}ms)",
+                    built.entries.length, built.jamoTrie.size, built.choseongTrie.size,
+                    System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("자동완성 색인 구축 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 자동완성 (접두 일치 우선, 부족하면 오타 허용 일치로 채움)
+     */
+    public List<SuggestionDto> suggest(String query, int limit) {
+        List<SuggestionDto> result = new ArrayList<>();
+        for (Entry entry : snapshot.suggest(query, Math.max(1, Math.min(limit, TOP_K)))) {
+            result.add(new SuggestionDto(entry.text, entry.type, entry.movieCd));
+        }
+        return result;
+    }
+
+    private List<Entry> loadEntries() {
+        // 영화: movie_list + movie_detail (movieCd 기준 병합)
+        Map<String, String[]> titles = new LinkedHashMap<>(); // movieCd → {제목, 영문 제목}
+        Map<String, Double> popularity = new HashMap<>();
+        Set<String> hasDetail = new HashSet<>();
+        // (movieCd, movieNm, movieNmEn, genreNm, nationNm, tmdbPopularity, openDt)
+        for (Object[] row : movieListRepository.findSearchIndexRows()) {
+            titles.put((String) row[0], new String[] {(String) row[1], (String) row[2]});
+            if (row[5] != null) {
+                popularity.put((String) row[0], (Double) row[5]);
+            }
+        }
+        // (movieCd, movieNm, movieNmEn, genreNm, directorName, openDt)
+        Map<String, Integer> directorMovies = new HashMap<>();
+        for (Object[] row : movieRepository.findSearchIndexRows()) {
+            String movieCd = (String) row[0];
+            hasDetail.add(movieCd);
+            titles.merge(movieCd, new String[] {(String) row[1], (String) row[2]}, (a, b) -> new String[] {
+                    a[0] != null ? a[0] : b[0], a[1] != null ? a[1] : b[1]});
+            if (isText((String) row[4])) {
+                directorMovies.merge(((String) row[4]).trim(), 1, Integer::sum);
+            }
+        }
+        // (movieCd, actorName)
+        Map<String, Integer> actorMovies = new HashMap<>();
+        for (Object[] row : castRepository.findSearchIndexRows()) {
+            if (isText((String) row[1])) {
+                actorMovies.merge(((String) row[1]).trim(), 1, Integer::sum);
+            }
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        titles.forEach((movieCd, title) -> {
+            float weight = 3.0f + (float) Math.log1p(popularity.getOrDefault(movieCd, 0.0))
+                    + (hasDetail.contains(movieCd) ? 1.0f : 0.0f);
+            if (isText(title[0])) {
+                entries.add(new Entry(title[0].trim(), TYPE_MOVIE, movieCd, weight));
+            }
+            if (isText(title[1])) {
+                entries.add(new Entry(title[1].trim(), TYPE_MOVIE, movieCd, weight - 0.5f));
+            }
+        });
+        directorMovies.forEach((name, count) ->
+                entries.add(new Entry(name, TYPE_DIRECTOR, null, 1.5f + (float) Math.log1p(count))));
+        actorMovies.forEach((name, count) ->
+                entries.add(new Entry(name, TYPE_ACTOR, null, 1.0f + (float) Math.log1p(count))));
+
+        // 인기검색어: 저장된 스냅샷 + 현재 실시간 집계
+        Map<String, Long> keywords = new HashMap<>();
+        for (PopularKeyword keyword : popularKeywordRepository.findAll()) {
+            if (isText(keyword.getKeyword()) && keyword.getSearchCount() != null) {
+                keywords.merge(keyword.getKeyword().trim(), keyword.getSearchCount().longValue(), Math::max);
+            }
+        }
+        popularKeywordService.getTopKeywords().forEach(keyword ->
+                keywords.merge(keyword.getKeyword(), keyword.getCount(), Math::max));
+        keywords.forEach((keyword, count) ->
+                entries.add(new Entry(keyword, TYPE_KEYWORD, null, 4.0f + (float) Math.log1p(count))));
+        return entries;
+    }
+
+    private static boolean isText(String value) {
+        return value != null && !value.isBlank() && !"null".equals(value);
+    }
+
+    /**
+     * 자동완성 색인 스냅샷
+     */
+    static final class Snapshot {
+        final Entry[] entries;
+        final String[] normalized; // 결과 중복 제거용 (공백 제거 + 소문자)
+        final Trie jamoTrie;
+        final Trie choseongTrie;
+
+        private Snapshot(Entry[] entries, String[] normalized, Trie jamoTrie, Trie choseongTrie) {
+            this.entries = entries;
+            this.normalized = normalized;
+            this.jamoTrie = jamoTrie;
+            this.choseongTrie = choseongTrie;
+        }
+
+        static Snapshot build(List<Entry> entryList) {
+            Entry[] entries = entryList.toArray(new Entry[0]);
+            String[] normalized = new String[entries.length];
+            float[] weights = new float[entries.length];
+            List<String> jamoKeys = new ArrayList<>();
+            List<String> choseongKeys = new ArrayList<>();
+            List<Integer> jamoIds = new ArrayList<>();
+            List<Integer> choseongIds = new ArrayList<>();
+            for (int id = 0; id < entries.length; id++) {
+                normalized[id] = HangulUtil.normalize(entries[id].text);
+                weights[id] = entries[id].weight;
+                for (String key : keys(entries[id].text)) {
+                    jamoKeys.add(HangulUtil.toJamo(key));
+                    jamoIds.add(id);
+                    choseongKeys.add(HangulUtil.toChoseong(key));
+                    choseongIds.add(id);
+                }
+            }
+            return new Snapshot(entries, normalized,
+                    Trie.build(jamoKeys, jamoIds, weights), Trie.build(choseongKeys, choseongIds, weights));
+        }
+
+        /**
+         * 색인 키: 전체 문자열 + 두 번째 단어부터 시작하는 문자열 ("어벤져스 엔드게임" → "엔드게임"으로도 검색)
+         */
+        private static List<String> keys(String text) {
+            List<String> keys = new ArrayList<>();
+            String full = HangulUtil.normalize(text);
+            if (full.isEmpty()) {
+                return keys;
+            }
+            keys.add(full);
+            String[] words = text.trim().split("[\\s:·,\\-]+");
+            StringBuilder suffix = new StringBuilder();
+            for (int w = words.length - 1; w >= 1; w--) {
+                suffix.insert(0, HangulUtil.normalize(words[w]));
+                if (w <= MAX_WORD_KEYS && suffix.length() > 0) {
+                    keys.add(suffix.toString());
+                }
+            }
+            return keys;
+        }
+
+        List<Entry> suggest(String query, int limit) {
+            String normalizedQuery = HangulUtil.normalize(query);
+            if (normalizedQuery.isEmpty() || entries.length == 0) {
+                return List.of();
+            }
+            List<Entry> result = new ArrayList<>(limit);
+            Set<String> seen = new HashSet<>();
+            if (HangulUtil.isChoseongOnly(normalizedQuery)) {
+                collect(choseongTrie.prefix(normalizedQuery), result, seen, limit);
+                if (result.size() >= limit) {
+                    return result;
+                }
+            }
+            String key = HangulUtil.toJamo(normalizedQuery);
+            collect(jamoTrie.prefix(key), result, seen, limit);
+            int maxDistance = key.length() <= 3 ? 0 : key.length() <= 8 ? 1 : 2;
+            if (result.size() < limit && maxDistance > 0) {
+                collect(jamoTrie.fuzzyPrefix(key, maxDistance, limit), result, seen, limit);
+            }
+            return result;
+        }
+
+        private void collect(int[] ids, List<Entry> result, Set<String> seen, int limit) {
+            for (int id : ids) {
+                if (result.size() >= limit) {
+                    return;
+                }
+                if (seen.add(normalized[id])) {
+                    result.add(entries[id]);
+                }
+            }
+        }
+    }
+
+    /**
+     * 배열 기반 접두 트라이
+     * - 노드의 자식은 labels 기준 정렬되어 연속 구간(childStart ~ +childCount)에 저장 → 이진 탐색
+     * - 노드마다 하위 항목 가중치 상위 K개(top)를 공유 배열 구간으로 보관
+     */
+    static final class Trie {
+        final int size;
+        private final char[] labels;
+        private final int[] childStart;
+        private final int[] childCount;
+        private final int[] topStart;
+        private final int[] topCount;
+        private final int[] topIds;
+        private final float[] weights;
+
+        private Trie(int size, char[] labels, int[] childStart, int[] childCount,
+                     int[] topStart, int[] topCount, int[] topIds, float[] weights) {
+            this.size = size;
+            this.labels = labels;
+            this.childStart = childStart;
+            this.childCount = childCount;
+            this.topStart = topStart;
+            this.topCount = topCount;
+            this.topIds = topIds;
+            this.weights = weights;
+        }
+
+        static Trie build(List<String> keys, List<Integer> ids, float[] weights) {
+            Integer[] order = new Integer[keys.size()];
+            int totalChars = 1;
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+                totalChars += keys.get(i).length();
+            }
+            Arrays.sort(order, (a, b) -> keys.get(a).compareTo(keys.get(b)));
+            String[] sortedKeys = new String[order.length];
+            int[] sortedIds = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                sortedKeys[i] = keys.get(order[i]);
+                sortedIds[i] = ids.get(order[i]);
+            }
+            Builder builder = new Builder(totalChars, sortedKeys, sortedIds, weights);
+            builder.size = 1; // 0 = 루트
+            builder.build(0, 0, sortedKeys.length, 0);
+            return builder.finish();
+        }
+
+        /**
+         * 접두사 노드의 상위 K개 (없으면 빈 배열)
+         */
+        int[] prefix(String key) {
+            int node = 0;
+            for (int i = 0; i < key.length() && node >= 0; i++) {
+                node = child(node, key.charAt(i));
+            }
+            return node < 0 ? new int[0] : Arrays.copyOfRange(topIds, topStart[node], topStart[node] + topCount[node]);
+        }
+
+        /**
+         * 어떤 접두사가 key와 편집 거리 maxDistance 이내인 항목 (거리 오름차순, 같은 거리는 가중치 내림차순)
+         */
+        int[] fuzzyPrefix(String key, int maxDistance, int limit) {
+            int n = key.length();
+            int[][] rows = new int[n + maxDistance + 2][n + 1];
+            for (int i = 0; i <= n; i++) {
+                rows[0][i] = i;
+            }
+            Map<Integer, Integer> best = new HashMap<>(); // 항목 → 최소 거리
+            int[] visitedNodes = {0};
+            fuzzy(0, 1, key, maxDistance, rows, best, visitedNodes);
+            List<Integer> ids = new ArrayList<>(best.keySet());
+            ids.sort((a, b) -> !best.get(a).equals(best.get(b)) ? Integer.compare(best.get(a), best.get(b))
+                    : Float.compare(weights[b], weights[a]));
+            int[] result = new int[Math.min(limit, ids.size())];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = ids.get(i);
+            }
+            return result;
+        }
+
+        private void fuzzy(int node, int depth, String key, int maxDistance, int[][] rows,
+                           Map<Integer, Integer> best, int[] collectedNodes) {
+            if (depth >= rows.length) {
+                return;
+            }
+            int n = key.length();
+            int[] prev = rows[depth - 1];
+            int[] row = rows[depth];
+            for (int c = childStart[node]; c < childStart[node] + childCount[node]; c++) {
+                char label = labels[c];
+                row[0] = prev[0] + 1;
+                int rowMin = row[0];
+                for (int i = 1; i <= n; i++) {
+                    int cost = key.charAt(i - 1) == label ? 0 : 1;
+                    row[i] = Math.min(Math.min(prev[i] + 1, row[i - 1] + 1), prev[i - 1] + cost);
+                    rowMin = Math.min(rowMin, row[i]);
+                }
+                if (row[n] <= maxDistance && collectedNodes[0] < MAX_FUZZY_NODES) {
+                    collectedNodes[0]++;
+                    int distance = row[n];
+                    for (int t = topStart[c]; t < topStart[c] + topCount[c]; t++) {
+                        best.merge(topIds[t], distance, Math::min);
+                    }
+                }
+                if (rowMin <= maxDistance) {
+                    fuzzy(c, depth + 1, key, maxDistance, rows, best, collectedNodes);
+                    // 재귀 호출이 rows[depth]를 덮어쓰지 않으므로 다음 형제는 같은 prev로 계산
+                }
+            }
+        }
+
+        private int child(int node, char label) {
+            int lo = childStart[node];
+            int hi = lo + childCount[node] - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                if (labels[mid] < label) {
+                    lo = mid + 1;
+                } else if (labels[mid] > label) {
+                    hi = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * 정렬된 키 구간을 재귀적으로 나눠 노드 배열을 채움
+         */
+        private static final class Builder {
+            private final String[] keys;
+            private final int[] ids;
+            private final float[] weights;
+            private final char[] labels;
+            private final int[] childStart;
+            private final int[] childCount;
+            private final int[] topStart;
+            private final int[] topCount;
+            private int[] topIds = new int[1024];
+            private int topSize;
+            private int size;
+
+            Builder(int capacity, String[] keys, int[] ids, float[] weights) {
+                this.keys = keys;
+                this.ids = ids;
+                this.weights = weights;
+                this.labels = new char[capacity];
+                this.childStart = new int[capacity];
+                this.childCount = new int[capacity];
+                this.topStart = new int[capacity];
+                this.topCount = new int[capacity];
+            }
+
+            /**
+             * keys[lo, hi)는 모두 길이 depth의 공통 접두사를 가짐 (node가 그 접두사)
+             */
+            void build(int node, int lo, int hi, int depth) {
+                List<Integer> candidates = new ArrayList<>();
+                int from = lo;
+                while (from < hi && keys[from].length() == depth) {
+                    candidates.add(ids[from++]); // 이 노드에서 끝나는 키
+                }
+                // 자식 그룹 수를 먼저 세어 자식 노드를 연속으로 배정
+                int groups = 0;
+                for (int i = from; i < hi; ) {
+                    char label = keys[i].charAt(depth);
+                    while (i < hi && keys[i].charAt(depth) == label) {
+                        i++;
+                    }
+                    groups++;
+                }
+                int first = size;
+                childStart[node] = first;
+                childCount[node] = groups;
+                size += groups;
+                int child = first;
+                for (int i = from; i < hi; child++) {
+                    char label = keys[i].charAt(depth);
+                    int end = i;
+                    while (end < hi && keys[end].charAt(depth) == label) {
+                        end++;
+                    }
+                    labels[child] = label;
+                    build(child, i, end, depth + 1);
+                    for (int t = topStart[child]; t < topStart[child] + topCount[child]; t++) {
+                        candidates.add(topIds[t]);
+                    }
+                    i = end;
+                }
+                // 상위 K개 (중복 제거, 가중치 내림차순, 같으면 앞 항목 우선)
+                candidates.sort((a, b) -> weights[a] != weights[b] ? Float.compare(weights[b], weights[a])
+                        : Integer.compare(a, b));
+                topStart[node] = topSize;
+                int count = 0;
+                int last = -1;
+                for (int id : candidates) {
+                    if (count >= TOP_K) {
+                        break;
+                    }
+                    if (id == last || contains(topIds, topSize, topSize + count, id)) {
+                        continue;
+                    }
+                    if (topSize + count == topIds.length) {
+                        topIds = Arrays.copyOf(topIds, topIds.length * 2);
+                    }
+                    topIds[topSize + count++] = id;
+                    last = id;
+                }
+                topCount[node] = count;
+                topSize += count;
+            }
+
+            private static boolean contains(int[] array, int from, int to, int value) {
+                for (int i = from; i < to; i++) {
+                    if (array[i] == value) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+
+            Trie finish() {
+                return new Trie(size, Arrays.copyOf(labels, size), Arrays.copyOf(childStart, size),
+                        Arrays.copyOf(childCount, size), Arrays.copyOf(topStart, size), Arrays.copyOf(topCount, size),
+                        Arrays.copyOf(topIds, topSize), weights);
+            }
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.movie.movie_backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * 외부 API 보완 작업(포스터/스틸컷/관람등급)의 증분 실행
+ * - 전체 movie_list를 읽지 않고, 보완이 필요한 영화만 movie_cd 순서로 page-size건씩 조회해서 IngestionPipeline에 넘김
+ * - 페이지가 끝날 때마다 sync_checkpoint에 마지막 movie_cd를 기록 → 중간에 죽으면 다음 실행은 거기서부터 이어서 진행
+ * - 영화별 시도/성공/연속 실패 수는 movie_sync_state에 기록, 실패할수록 다음 시도까지 간격을 두 배로 늘림
+ */
+@Slf4j
+@Service
+public class SyncStateService {
+
+    static final String STATUS_RUNNING = "RUNNING";
+    static final String STATUS_DONE = "DONE";
+    static final String STATUS_FAILED = "FAILED";
+
+    /**
+     * 보완 작업 종류 (작업 이름, 추가 조인, 보완 대상 조건)
+     */
+    public enum Job {
+        TMDB_POSTER("tmdb-poster", "",
+                "(m.poster_url IS NULL OR m.poster_url = '')"),
+        TMDB_STILLCUT("tmdb-stillcut", "JOIN movie_detail d ON d.movie_cd = m.movie_cd ",
+                "NOT EXISTS (SELECT 1 FROM stillcut st WHERE st.movie_detail_id = d.movie_detail_id)"),
+        KOBIS_WATCH_GRADE("kobis-watch-grade", "",
+                "(m.watch_grade_nm IS NULL OR m.watch_grade_nm = '')");
+
+        private final String key;
+        private final String join;
+        private final String condition;
+
+        Job(String key, String join, String condition) {
+            this.key = key;
+            this.join = join;
+            this.condition = condition;
+        }
+
+        public String getKey() {
+            return key;
+        }
+    }
+
+    /**
+     * 보완 대상 영화
+     */
+    public record Target(String movieCd, String movieNm, String movieNmEn, LocalDate openDt) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IngestionPipeline ingestionPipeline;
+    private final int pageSize;
+    private final long failureBackoffMinutes;
+    private final long maxFailureBackoffMinutes;
+    private final Set<Job> running = ConcurrentHashMap.newKeySet();
+
+    public SyncStateService(JdbcTemplate jdbcTemplate,
+                            IngestionPipeline ingestionPipeline,
+                            @Value("${sync.page-size:500}") int pageSize,
+                            @Value("${sync.failure-backoff-minutes:360}") long failureBackoffMinutes,
+                            @Value("${sync.max-failure-backoff-minutes:43200}") long maxFailureBackoffMinutes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ingestionPipeline = ingestionPipeline;
+        this.pageSize = pageSize;
+        this.failureBackoffMinutes = failureBackoffMinutes;
+        this.maxFailureBackoffMinutes = maxFailureBackoffMinutes;
+    }
+
+    /**
+     * 보완 대상 영화마다 task 실행 (true면 성공, false나 예외면 실패로 기록)
+     * 같은 작업이 이미 실행 중이면 아무것도 하지 않고 빈 결과를 돌려줌
+     */
+    public CompletableFuture<IngestionPipeline.JobResult> run(Job job, Predicate<Target> task) {
+        if (!running.add(job)) {
+            log.info("보완 작업이 이미 실행 중: {}", job.key);
+            return CompletableFuture.completedFuture(new IngestionPipeline.JobResult(job.key, 0, 0, 0, 0));
+        }
+        long startTime = System.currentTimeMillis();
+        RunTotals totals = new RunTotals();
+        CompletableFuture<Void> pages;
+        try {
+            String resumeFrom = start(job);
+            if (!resumeFrom.isEmpty()) {
+                log.info("보완 작업 이어서 진행: {} (movieCd > {})", job.key, resumeFrom);
+            }
+            pages = runPages(job, task, resumeFrom, LocalDateTime.now(), totals);
+        } catch (RuntimeException e) {
+            pages = CompletableFuture.failedFuture(e);
+        }
+        return pages.handle((ignored, error) -> {
+            try {
+                if (error != null) {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                    log.error("보완 작업 실패: {} - {}", job.key, cause.getMessage());
+                    finish(job, STATUS_FAILED, totals, cause.getMessage());
+                } else {
+                    finish(job, STATUS_DONE, totals, null);
+                }
+            } finally {
+                running.remove(job);
+            }
+            return new IngestionPipeline.JobResult(job.key, totals.processed.get(), totals.succeeded.get(),
+                    totals.failed.get(), System.currentTimeMillis() - startTime);
+        });
+    }
+
+    /**
+     * 작업별 진행 위치/마지막 실행 결과
+     */
+    public List<Map<String, Object>> getCheckpoints() {
+        return new ArrayList<>(jdbcTemplate.queryForList(
+                "SELECT job, last_movie_cd, status, run_processed, run_succeeded, run_failed, " +
+                "run_started_at, run_finished_at, updated_at, last_error FROM sync_checkpoint ORDER BY job"));
+    }
+
+    /**
+     * 연속 실패 n번째 뒤 다음 시도까지 대기 시간(분): base * 2^(n-1), 최대 max
+     */
+    static long failureBackoffMinutes(int failureCount, long baseMinutes, long maxMinutes) {
+        long delay = baseMinutes << Math.min(Math.max(failureCount - 1, 0), 20);
+        return Math.min(delay, maxMinutes);
+    }
+
+    // 한 페이지를 처리하고 체크포인트를 남긴 뒤 다음 페이지로 (페이지 하나만 메모리에 둠)
+    private CompletableFuture<Void> runPages(Job job, Predicate<Target> task, String after,
+                                             LocalDateTime runStartedAt, RunTotals totals) {
+        List<Target> page = findTargets(job, after, runStartedAt);
+        if (page.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        String lastMovieCd = page.get(page.size() - 1).movieCd();
+        return ingestionPipeline.submit(job.key, page, target -> {
+            boolean success;
+            try {
+                success = task.test(target);
+            } catch (RuntimeException e) {
+                recordFailure(job, target.movieCd(), e.getMessage());
+                throw e;
+            }
+            if (success) {
+                recordSuccess(job, target.movieCd());
+            } else {
+                recordFailure(job, target.movieCd(), "no match");
+            }
+            return success;
+        }).thenCompose(result -> {
+            totals.processed.addAndGet(result.total());
+            totals.succeeded.addAndGet(result.succeeded());
+            totals.failed.addAndGet(result.failed());
+            checkpoint(job, lastMovieCd, totals);
+            if (page.size() < pageSize) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return runPages(job, task, lastMovieCd, runStartedAt, totals);
+        });
+    }
+
+    private List<Target> findTargets(Job job, String after, LocalDateTime runStartedAt) {
+        String sql = "SELECT m.movie_cd, m.movie_nm, m.movie_nm_en, m.open_dt FROM movie_list m " + job.join +
+                "LEFT JOIN movie_sync_state s ON s.job = ? AND s.movie_cd = m.movie_cd " +
+                "WHERE " + job.condition + " AND m.movie_cd > ? " +
+                "AND (s.next_attempt_at IS NULL OR s.next_attempt_at <= ?) " +
+                "ORDER BY m.movie_cd LIMIT " + pageSize;
+        return jdbcTemplate.query(sql, (rs, rowNum) -> {
+            Date openDt = rs.getDate("open_dt");
+            return new Target(rs.getString("movie_cd"), rs.getString("movie_nm"), rs.getString("movie_nm_en"),
+                    openDt != null ? openDt.toLocalDate() : null);
+        }, job.key, after, Timestamp.valueOf(runStartedAt));
+    }
+
+    /**
+     * 실행 시작 기록, 이어서 진행할 위치 반환 (지난 실행이 끝까지 갔으면 처음부터)
+     */
+    private String start(Job job) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT last_movie_cd, status FROM sync_checkpoint WHERE job = ?", job.key);
+        String resumeFrom = "";
+        if (!rows.isEmpty() && !STATUS_DONE.equals(rows.get(0).get("status")) && rows.get(0).get("last_movie_cd") != null) {
+            resumeFrom = (String) rows.get(0).get("last_movie_cd");
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(
+                "INSERT INTO sync_checkpoint (job, last_movie_cd, status, run_processed, run_succeeded, run_failed, " +
+                "run_started_at, run_finished_at, updated_at, last_error) VALUES (?, ?, ?, 0, 0, 0, ?, NULL, ?, NULL) " +
+                "ON DUPLICATE KEY UPDATE last_movie_cd = VALUES(last_movie_cd), status = VALUES(status), " +
+                "run_processed = 0, run_succeeded = 0, run_failed = 0, run_started_at = VALUES(run_started_at), " +
+                "run_finished_at = NULL, updated_at = VALUES(updated_at), last_error = NULL",
+                job.key, resumeFrom.isEmpty() ? null : resumeFrom, STATUS_RUNNING, now, now);
+        return resumeFrom;
+    }
+
+    private void checkpoint(Job job, String lastMovieCd, RunTotals totals) {
+        jdbcTemplate.update(
+                "UPDATE sync_checkpoint SET last_movie_cd = ?, run_processed = ?, run_succeeded = ?, run_failed = ?, " +
+                "updated_at = ? WHERE job = ?",
+                lastMovieCd, totals.processed.get(), totals.succeeded.get(), totals.failed.get(),
+                Timestamp.valueOf(LocalDateTime.now()), job.key);
+    }
+
+    private void finish(Job job, String status, RunTotals totals, String error) {
+        try {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            // 끝까지 갔으면 진행 위치를 지워서 다음 실행은 처음부터 (실패면 위치를 남겨 이어서 진행)
+            jdbcTemplate.update(
+                    "UPDATE sync_checkpoint SET last_movie_cd = CASE WHEN ? = 'DONE' THEN NULL ELSE last_movie_cd END, " +
+                    "status = ?, run_processed = ?, run_succeeded = ?, run_failed = ?, run_finished_at = ?, " +
+                    "updated_at = ?, last_error = ? WHERE job = ?",
+                    status, status, totals.processed.get(), totals.succeeded.get(), totals.failed.get(), now, now,
+                    truncate(error), job.key);
+        } catch (Exception e) {
+            log.warn("보완 작업 진행 상황 기록 실패: {} - {}", job.key, e.getMessage());
+        }
+    }
+
+    private void recordSuccess(Job job, String movieCd) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(
+                "INSERT INTO movie_sync_state (job, movie_cd, last_attempt_at, last_success_at, failure_count, " +
+                "next_attempt_at, last_error) VALUES (?, ?, ?, ?, 0, NULL, NULL) " +
+                "ON DUPLICATE KEY UPDATE last_attempt_at = VALUES(last_attempt_at), " +
+                "last_success_at = VALUES(last_success_at), failure_count = 0, next_attempt_at = NULL, last_error = NULL",
+                job.key, movieCd, now, now);
+    }
+
+    private void recordFailure(Job job, String movieCd, String error) {
+        try {
+            List<Integer> previous = jdbcTemplate.queryForList(
+                    "SELECT failure_count FROM movie_sync_state WHERE job = ? AND movie_cd = ?",
+                    Integer.class, job.key, movieCd);
+            int failureCount = (previous.isEmpty() ? 0 : previous.get(0)) + 1;
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime nextAttemptAt = now.plusMinutes(
+                    failureBackoffMinutes(failureCount, failureBackoffMinutes, maxFailureBackoffMinutes));
+            jdbcTemplate.update(
+                    "INSERT INTO movie_sync_state (job, movie_cd, last_attempt_at, last_success_at, failure_count, " +
+                    "next_attempt_at, last_error) VALUES (?, ?, ?, NULL, ?, ?, ?) " +
+                    "ON DUPLICATE KEY UPDATE last_attempt_at = VALUES(last_attempt_at), " +
+                    "failure_count = VALUES(failure_count), next_attempt_at = VALUES(next_attempt_at), " +
+                    "last_error = VALUES(last_error)",
+                    job.key, movieCd, Timestamp.valueOf(now), failureCount, Timestamp.valueOf(nextAttemptAt),
+                    truncate(error));
+        } catch (Exception e) {
+            log.warn("보완 실패 기록 실패: {} {} - {}", job.key, movieCd, e.getMessage());
+        }
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > 500 ? error.substring(0, 500) : error;
+    }
+
+    private static final class RunTotals {
+        final AtomicInteger processed = new AtomicInteger();
+        final AtomicInteger succeeded = new AtomicInteger();
+        final AtomicInteger failed = new AtomicInteger();
+    }
+}
@@ -7,16 +7,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
@@ -24,7 +19,8 @@ import java.util.List;
 public class TmdbPosterBatchService {
 
     private final PRDMovieListRepository movieListRepository;
-    private final RestTemplate restTemplate;
+    private final IngestionPipeline ingestionPipeline;
+    private final SyncStateService syncStateService;
     private final ObjectMapper objectMapper;
 
     @Value("${tmdb.api.key}")
@@ -32,45 +28,34 @@ public class TmdbPosterBatchService {
 
     private static final String TMDB_SEARCH_URL = "https://api.themoviedb.org/3/search/movie";
 
-    @Transactional
     public void updatePosterUrlsForAllMovies() {
-        List<MovieList> movies = new ArrayList<>();
-        int page = 0, size = 1000;
-        Page<MovieList> moviePage;
-        do {
-            moviePage = movieListRepository.findAll(PageRequest.of(page++, size));
-            movies.addAll(moviePage.getContent());
-        } while (moviePage.hasNext());
-
-        int updated = 0, failed = 0;
-
-        for (MovieList movie : movies) {
-            if (movie.getPosterUrl() != null && !movie.getPosterUrl().isEmpty()) continue;
+        updatePosterUrlsAsync().join();
+    }
 
+    /**
+     * 포스터가 없는 영화만 골라 TMDB에서 찾아 저장 (SyncStateService로 페이지 단위 증분 실행, 연속 실패한 영화는 잠시 건너뜀)
+     * 영화마다 따로 저장하므로 중간에 실패해도 앞서 찾은 포스터는 남음
+     */
+    public CompletableFuture<IngestionPipeline.JobResult> updatePosterUrlsAsync() {
+        return syncStateService.run(SyncStateService.Job.TMDB_POSTER, target -> {
+            MovieList movie = MovieList.builder()
+                    .movieCd(target.movieCd())
+                    .movieNm(target.movieNm())
+                    .movieNmEn(target.movieNmEn())
+                    .openDt(target.openDt())
+                    .build();
             String posterUrl = fetchPosterUrlFromTmdb(movie);
-            if (posterUrl != null) {
-                movie.setPosterUrl(posterUrl);
-                movieListRepository.save(movie);
-                updated++;
-                log.info("포스터 매칭 성공: {} ({}) -> {}", movie.getMovieNm(), movie.getOpenDt(), posterUrl);
-            } else {
-                failed++;
+            if (posterUrl == null) {
                 log.warn("포스터 매칭 실패: {} ({})", movie.getMovieNm(), movie.getOpenDt());
+                return false;
             }
-        }
-        log.info("TMDB 포스터 자동 매칭 완료: 성공 {}건, 실패 {}건", updated, failed);
-    }
-
-    public List<MovieList> getAllMovieListsPaged(int chunkSize) {
-        List<MovieList> result = new ArrayList<>();
-        int page = 0;
-        Page<MovieList> moviePage;
-        do {
-            moviePage = movieListRepository.findAll(PageRequest.of(page, chunkSize));
-            result.addAll(moviePage.getContent());
-            page++;
-        } while (!moviePage.isLast());
-        return result;
+            movieListRepository.findById(movie.getMovieCd()).ifPresent(current -> {
+                current.setPosterUrl(posterUrl);
+                movieListRepository.save(current);
+            });
+            log.info("포스터 매칭 성공: {} ({}) -> {}", movie.getMovieNm(), movie.getOpenDt(), posterUrl);
+            return true;
+        });
     }
 
     private String fetchPosterUrlFromTmdb(MovieList movie) {
@@ -83,8 +68,8 @@ public class TmdbPosterBatchService {
                     (year != null ? "&year=" + year : "") +
                     "&language=ko-KR";
 
-            String response = restTemplate.getForObject(url, String.class);
-            JsonNode root = objectMapper.readTree(response);
+            String response = ingestionPipeline.get(IngestionPipeline.Upstream.TMDB, url);
+            JsonNode root = objectMapper.readTree(response != null ? response : "{}");
             JsonNode results = root.get("results");
             if (results != null && results.size() > 0) {
                 String posterPath = results.get(0).get("poster_path").asText();
@@ -100,8 +85,8 @@ public class TmdbPosterBatchService {
                         "&query=" + query +
                         (year != null ? "&year=" + year : "") +
                         "&language=ko-KR";
-                response = restTemplate.getForObject(url, String.class);
-                root = objectMapper.readTree(response);
+                response = ingestionPipeline.get(IngestionPipeline.Upstream.TMDB, url);
+                root = objectMapper.readTree(response != null ? response : "{}");
                 results = root.get("results");
                 if (results != null && results.size() > 0) {
                     String posterPath = results.get(0).get("poster_path").asText();
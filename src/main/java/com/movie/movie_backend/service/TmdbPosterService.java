@@ -9,7 +9,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -21,13 +20,16 @@ import com.movie.movie_backend.dto.TopRatedMovieDto;
 @RequiredArgsConstructor
 public class TmdbPosterService {
 
-    private final RestTemplate restTemplate;
+    private final IngestionPipeline ingestionPipeline;
     private final ObjectMapper objectMapper;
     private final PRDMovieRepository movieRepository;
     private final PRDMovieListRepository movieListRepository;
     private final TopRatedMovieMapper topRatedMovieMapper;
     private final REVRatingService ratingService; // 사용자 평점 서비스 사용
 
+    // TOP 평점 목록에 들어가는 최소 평균 별점
+    public static final double TOP_RATED_MIN_RATING = 4.0;
+
     @Value("${tmdb.api.key}")
     private String tmdbApiKey;
 
@@ -42,7 +44,7 @@ public class TmdbPosterService {
         // 데이터베이스 레벨에서 직접 평점 높은 영화 조회 (매우 빠름)
         org.springframework.data.domain.PageRequest pageRequest = org.springframework.data.domain.PageRequest.of(0, limit * 2);
         // MovieList JOIN 없이 평점 높은 영화 조회 (더 많은 영화가 표시되도록)
-        List<MovieDetail> topRatedMovies = movieRepository.findTopRatedMovies(4.0, pageRequest);
+        List<MovieDetail> topRatedMovies = movieRepository.findTopRatedMovies(TOP_RATED_MIN_RATING, pageRequest);
         
         // MovieList가 있는 영화만 필터링 (이미 JOIN으로 처리됨)
         topRatedMovies = topRatedMovies.stream()
@@ -86,7 +88,7 @@ public class TmdbPosterService {
                     (year != null ? "&year=" + year : "") +
                     "&language=ko-KR";
 
-            String response = restTemplate.getForObject(url, String.class);
+            String response = ingestionPipeline.get(IngestionPipeline.Upstream.TMDB, url);
             JsonNode root = objectMapper.readTree(response);
             JsonNode results = root.get("results");
             if (results != null && results.size() > 0) {
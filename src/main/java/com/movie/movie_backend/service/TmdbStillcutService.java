@@ -10,17 +10,16 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
@@ -29,7 +28,9 @@ public class TmdbStillcutService {
 
     private final PRDMovieListRepository movieListRepository;
     private final PRDMovieRepository movieRepository;
-    private final RestTemplate restTemplate;
+    private final IngestionPipeline ingestionPipeline;
+    private final SyncStateService syncStateService;
+    private final TransactionTemplate transactionTemplate;
     private final ObjectMapper objectMapper;
 
     @Value("${tmdb.api.key}")
@@ -41,53 +42,41 @@ public class TmdbStillcutService {
     /**
      * MovieList를 기반으로 모든 영화의 스틸컷을 가져와서 MovieDetail에 저장
      */
-    @Transactional
     public void updateStillcutsForAllMovies() {
-        List<MovieList> movieLists = new ArrayList<>();
-        int page = 0, size = 1000;
-        Page<MovieList> moviePage;
-        do {
-            moviePage = movieListRepository.findAll(PageRequest.of(page++, size));
-            movieLists.addAll(moviePage.getContent());
-        } while (moviePage.hasNext());
-
-        int updated = 0, failed = 0;
+        updateStillcutsAsync().join();
+    }
 
-        for (MovieList movieList : movieLists) {
-            try {
-                Optional<MovieDetail> movieDetailOpt = movieRepository.findByMovieCd(movieList.getMovieCd());
-                if (movieDetailOpt.isPresent()) {
-                    MovieDetail movieDetail = movieDetailOpt.get();
-                    // 이미 스틸컷이 있으면 건너뜀
-                    if (movieDetail.getStillcuts() != null && !movieDetail.getStillcuts().isEmpty()) continue;
-                    List<Stillcut> stillcuts = fetchStillcutsFromTmdb(movieList, movieDetail);
-                    if (!stillcuts.isEmpty()) {
-                        // 기존 스틸컷 제거
-                        movieDetail.getStillcuts().clear();
-                        
-                        // 새 스틸컷들을 MovieDetail에 추가
+    /**
+     * 스틸컷이 없는 영화만 골라 TMDB에서 찾아 저장 (SyncStateService로 페이지 단위 증분 실행, 연속 실패한 영화는 잠시 건너뜀)
+     * TMDB 호출은 트랜잭션 밖에서 하고, 저장만 영화마다 짧은 트랜잭션으로 처리
+     */
+    public CompletableFuture<IngestionPipeline.JobResult> updateStillcutsAsync() {
+        return syncStateService.run(SyncStateService.Job.TMDB_STILLCUT, target -> {
+            MovieList movieList = MovieList.builder()
+                    .movieCd(target.movieCd())
+                    .movieNm(target.movieNm())
+                    .movieNmEn(target.movieNmEn())
+                    .openDt(target.openDt())
+                    .build();
+            List<Stillcut> stillcuts = fetchStillcutsFromTmdb(movieList, null);
+            if (stillcuts.isEmpty()) {
+                log.warn("스틸컷 매칭 실패: {} ({})", movieList.getMovieNm(), movieList.getOpenDt());
+                return false;
+            }
+            transactionTemplate.executeWithoutResult(status ->
+                    movieRepository.findByMovieCd(movieList.getMovieCd()).ifPresent(movieDetail -> {
+                        if (!movieDetail.getStillcuts().isEmpty()) {
+                            return; // 그 사이 다른 경로로 저장됨
+                        }
                         for (Stillcut stillcut : stillcuts) {
                             stillcut.setMovieDetail(movieDetail);
                             movieDetail.getStillcuts().add(stillcut);
                         }
-                        
                         movieRepository.save(movieDetail);
-                        updated++;
-                        log.info("스틸컷 매칭 성공: {} ({}) -> {}개", movieList.getMovieNm(), movieList.getOpenDt(), stillcuts.size());
-                    } else {
-                        failed++;
-                        log.warn("스틸컷 매칭 실패: {} ({})", movieList.getMovieNm(), movieList.getOpenDt());
-                    }
-                } else {
-                    failed++;
-                    log.warn("MovieDetail을 찾을 수 없음: {} ({})", movieList.getMovieNm(), movieList.getMovieCd());
-                }
-            } catch (Exception e) {
-                failed++;
-                log.error("스틸컷 처리 오류: {} ({}) - {}", movieList.getMovieNm(), movieList.getOpenDt(), e.getMessage());
-            }
-        }
-        log.info("TMDB 스틸컷 자동 매칭 완료: 성공 {}건, 실패 {}건", updated, failed);
+                    }));
+            log.info("스틸컷 매칭 성공: {} ({}) -> {}개", movieList.getMovieNm(), movieList.getOpenDt(), stillcuts.size());
+            return true;
+        });
     }
 
     /**
@@ -146,7 +135,10 @@ public class TmdbStillcutService {
             String url = TMDB_IMAGES_URL.replace("{movie_id}", tmdbMovieId.toString()) +
                     "?api_key=" + tmdbApiKey;
 
-            String response = restTemplate.getForObject(url, String.class);
+            String response = ingestionPipeline.get(IngestionPipeline.Upstream.TMDB, url);
+            if (response == null) {
+                return stillcuts;
+            }
             JsonNode root = objectMapper.readTree(response);
             
             // backdrop 이미지들 (스틸컷으로 사용)
@@ -213,8 +205,8 @@ public class TmdbStillcutService {
                     (year != null ? "&year=" + year : "") +
                     "&language=ko-KR";
 
-            String response = restTemplate.getForObject(url, String.class);
-            JsonNode root = objectMapper.readTree(response);
+            String response = ingestionPipeline.get(IngestionPipeline.Upstream.TMDB, url);
+            JsonNode root = objectMapper.readTree(response != null ? response : "{}");
             JsonNode results = root.get("results");
             
             if (results != null && results.size() > 0) {
@@ -230,8 +222,8 @@ public class TmdbStillcutService {
                         (year != null ? "&year=" + year : "") +
                         "&language=en-US";
                 
-                response = restTemplate.getForObject(url, String.class);
-                root = objectMapper.readTree(response);
+                response = ingestionPipeline.get(IngestionPipeline.Upstream.TMDB, url);
+                root = objectMapper.readTree(response != null ? response : "{}");
                 results = root.get("results");
                 
                 if (results != null && results.size() > 0) {
@@ -245,16 +237,4 @@ public class TmdbStillcutService {
         
         return null;
     }
-
-    public List<MovieList> getAllMovieListsPaged(int chunkSize) {
-        List<MovieList> result = new ArrayList<>();
-        int page = 0;
-        Page<MovieList> moviePage;
-        do {
-            moviePage = movieListRepository.findAll(PageRequest.of(page, chunkSize));
-            result.addAll(moviePage.getContent());
-            page++;
-        } while (!moviePage.isLast());
-        return result;
-    }
-} 
+} 
\ No newline at end of file
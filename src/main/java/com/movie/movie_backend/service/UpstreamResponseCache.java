@@ -0,0 +1,343 @@
+package com.movie.movie_backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * 외부 API(KOBIS/TMDB/KMDb/네이버) GET 응답 디스크 캐시
+ * - 키는 정규화한 URL (호스트 소문자, 쿼리 파라미터 정렬, API 키 파라미터 제외)의 SHA-256
+ * - 엔드포인트별 TTL 안이면 네트워크 없이 반환, 지나면 ETag/Last-Modified로 조건부 요청해서 304면 본문 재사용
+ * - 같은 키를 동시에 요청하면 한 번만 가져오고 나머지는 그 결과를 기다림
+ * - 가져오기가 실패하면 만료된 캐시라도 있으면 그걸 반환
+ * - 200이라도 호출자가 캐시 불가로 판단한 본문(한도 초과/키 오류 응답 등)은 저장하지 않음
+ */
+@Slf4j
+@Component
+public class UpstreamResponseCache {
+
+    /**
+     * 엔드포인트별 TTL (정규화 URL의 호스트+경로가 이 접두사로 시작하면 적용, 위에서부터 먼저 맞는 것)
+     */
+    private static final List<Map.Entry<String, Duration>> TTL_RULES = List.of(
+            Map.entry("www.kobis.or.kr/kobisopenapi/webservice/rest/boxoffice/", Duration.ofHours(1)),
+            Map.entry("www.kobis.or.kr/kobisopenapi/webservice/rest/movie/searchmovieinfo", Duration.ofDays(7)),
+            Map.entry("www.kobis.or.kr/kobisopenapi/webservice/rest/movie/searchmovielist", Duration.ofDays(1)),
+            Map.entry("api.themoviedb.org/3/movie/popular", Duration.ofHours(1)),
+            Map.entry("api.themoviedb.org/3/movie/upcoming", Duration.ofHours(6)),
+            Map.entry("api.themoviedb.org/3/movie/now_playing", Duration.ofHours(6)),
+            Map.entry("api.themoviedb.org/3/search/", Duration.ofDays(3)),
+            Map.entry("api.themoviedb.org/3/movie/", Duration.ofDays(7)), // 상세/이미지/크레딧
+            Map.entry("api.koreafilm.or.kr/", Duration.ofDays(7)),
+            Map.entry("openapi.naver.com/", Duration.ofDays(1)));
+
+    // 캐시 키에서 빼는 파라미터 (API 키)
+    private static final Set<String> SECRET_PARAMS = Set.of("key", "api_key", "servicekey");
+
+    /**
+     * 디스크에 저장되는 응답
+     */
+    record Entry(String url, long fetchedAt, String etag, String lastModified, String body) {
+    }
+
+    /**
+     * 네트워크 응답 (304면 notModified, 404 등 본문이 없으면 body null)
+     */
+    public record Response(boolean notModified, String body, String etag, String lastModified) {
+    }
+
+    /**
+     * 실제 요청 (캐시에 검증자가 있으면 조건부 요청 헤더로 사용)
+     */
+    @FunctionalInterface
+    public interface Fetcher {
+        Response fetch(String etag, String lastModified);
+    }
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final boolean enabled;
+    private final Duration defaultTtl;
+    private final Duration maxAge;
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder revalidated = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder staleServed = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final AtomicLong lastPurged = new AtomicLong();
+
+    public UpstreamResponseCache(ObjectMapper objectMapper,
+                                 @Value("${upstream.cache.dir:${java.io.tmpdir}/movie-upstream-cache}") String directory,
+                                 @Value("${upstream.cache.enabled:true}") boolean enabled,
+                                 @Value("${upstream.cache.default-ttl-hours:24}") long defaultTtlHours,
+                                 @Value("${upstream.cache.max-age-days:30}") long maxAgeDays) {
+        this.objectMapper = objectMapper;
+        this.directory = Path.of(directory);
+        this.enabled = enabled;
+        this.defaultTtl = Duration.ofHours(defaultTtlHours);
+        this.maxAge = Duration.ofDays(maxAgeDays);
+    }
+
+    /**
+     * 캐시를 거쳐 응답 본문 반환 (본문이 없는 응답은 캐시하지 않음)
+     */
+    public String get(String url, Fetcher fetcher) {
+        return get(url, fetcher, body -> true);
+    }
+
+    /**
+     * cacheable이 false인 본문은 그대로 반환하되 저장하지 않음 (기존 캐시도 덮어쓰지 않음)
+     * 이전에 저장된 본문도 cacheable이 false면 없는 것으로 봄
+     */
+    public String get(String url, Fetcher fetcher, Predicate<String> cacheable) {
+        if (!enabled) {
+            Response response = fetcher.fetch(null, null);
+            return response.notModified() ? null : response.body();
+        }
+        String key = normalize(url);
+        Entry cached = read(key, cacheable);
+        if (cached != null && isFresh(cached, key)) {
+            hits.increment();
+            return cached.body();
+        }
+
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.increment();
+            return join(existing);
+        }
+        try {
+            String body = fetch(key, cached, fetcher, cacheable);
+            mine.complete(body);
+            return body;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 캐시 적중/실패/재검증/합쳐진 요청 수
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("hits", hits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("revalidated", revalidated.sum());
+        stats.put("coalesced", coalesced.sum());
+        stats.put("staleServed", staleServed.sum());
+        stats.put("errors", errors.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("inFlight", inFlight.size());
+        stats.put("lastPurgedFiles", lastPurged.get());
+        return stats;
+    }
+
+    /**
+     * max-age-days보다 오래된 캐시 파일 삭제 (매일 새벽 5시)
+     */
+    @Scheduled(cron = "${upstream.cache.purge-cron:0 0 5 * * *}")
+    public void purgeExpired() {
+        if (!enabled || !Files.isDirectory(directory)) {
+            return;
+        }
+        FileTime cutoff = FileTime.fromMillis(System.currentTimeMillis() - maxAge.toMillis());
+        List<Path> expired = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.filter(Files::isRegularFile).forEach(file -> {
+                try {
+                    if (Files.getLastModifiedTime(file).compareTo(cutoff) < 0) {
+                        expired.add(file);
+                    }
+                } catch (IOException ignored) {
+                    // 그 사이 지워진 파일
+                }
+            });
+        } catch (IOException e) {
+            log.warn("외부 API 캐시 정리 실패: {}", e.getMessage());
+            return;
+        }
+        for (Path file : expired) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+                // 다음 정리에서 다시 시도
+            }
+        }
+        lastPurged.set(expired.size());
+        log.info("외부 API 캐시 정리: {}개 파일 삭제", expired.size());
+    }
+
+    /**
+     * 캐시 키용 URL 정규화: 스킴/호스트 소문자, 경로는 그대로, 쿼리 파라미터는 이름순 정렬 (API 키 제외)
+     */
+    static String normalize(String url) {
+        URI uri = URI.create(url);
+        StringBuilder normalized = new StringBuilder();
+        normalized.append(uri.getHost() != null ? uri.getHost().toLowerCase(Locale.ROOT) : "");
+        if (uri.getPort() != -1) {
+            normalized.append(':').append(uri.getPort());
+        }
+        normalized.append(uri.getRawPath() != null ? uri.getRawPath() : "");
+        String query = uri.getRawQuery();
+        if (query != null && !query.isEmpty()) {
+            List<String> params = new ArrayList<>();
+            for (String param : query.split("&")) {
+                if (param.isEmpty()) {
+                    continue;
+                }
+                int eq = param.indexOf('=');
+                String name = (eq >= 0 ? param.substring(0, eq) : param).toLowerCase(Locale.ROOT);
+                if (!SECRET_PARAMS.contains(name)) {
+                    params.add(param);
+                }
+            }
+            params.sort(null);
+            if (!params.isEmpty()) {
+                normalized.append('?').append(String.join("&", params));
+            }
+        }
+        return normalized.toString();
+    }
+
+    Duration ttlFor(String key) {
+        String lower = key.toLowerCase(Locale.ROOT);
+        for (Map.Entry<String, Duration> rule : TTL_RULES) {
+            if (lower.startsWith(rule.getKey())) {
+                return rule.getValue();
+            }
+        }
+        return defaultTtl;
+    }
+
+    private boolean isFresh(Entry entry, String key) {
+        return System.currentTimeMillis() - entry.fetchedAt() < ttlFor(key).toMillis();
+    }
+
+    private String fetch(String key, Entry cached, Fetcher fetcher, Predicate<String> cacheable) {
+        // 기다리는 사이 다른 요청이 먼저 채웠을 수 있음
+        Entry latest = read(key, cacheable);
+        if (latest != null && isFresh(latest, key)) {
+            hits.increment();
+            return latest.body();
+        }
+        if (latest != null) {
+            cached = latest;
+        }
+        Response response;
+        try {
+            response = fetcher.fetch(cached != null ? cached.etag() : null, cached != null ? cached.lastModified() : null);
+        } catch (RuntimeException e) {
+            errors.increment();
+            if (cached != null) {
+                staleServed.increment();
+                log.warn("외부 API 호출 실패, 만료된 캐시 사용: {} - {}", key, e.getMessage());
+                return cached.body();
+            }
+            throw e;
+        }
+        long now = System.currentTimeMillis();
+        if (response.notModified() && cached != null) {
+            revalidated.increment();
+            write(key, new Entry(key, now, cached.etag(), cached.lastModified(), cached.body()));
+            return cached.body();
+        }
+        misses.increment();
+        if (response.body() != null) {
+            if (cacheable.test(response.body())) {
+                write(key, new Entry(key, now, response.etag(), response.lastModified(), response.body()));
+            } else {
+                rejected.increment();
+                log.debug("외부 API 오류 응답, 캐시하지 않음: {}", key);
+            }
+        }
+        return response.body();
+    }
+
+    private Entry read(String key, Predicate<String> cacheable) {
+        Path file = fileFor(key);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            Entry entry = objectMapper.readValue(file.toFile(), Entry.class);
+            // 해시 충돌 방지
+            return key.equals(entry.url()) && entry.body() != null && cacheable.test(entry.body()) ? entry : null;
+        } catch (IOException e) {
+            log.debug("외부 API 캐시 읽기 실패 (무시): {} - {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private void write(String key, Entry entry) {
+        Path file = fileFor(key);
+        try {
+            Files.createDirectories(file.getParent());
+            // 다른 스레드/프로세스가 반쯤 쓴 파일을 읽지 않도록 임시 파일에 쓰고 교체
+            Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            objectMapper.writeValue(temp.toFile(), entry);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("외부 API 캐시 쓰기 실패: {} - {}", file, e.getMessage());
+        }
+    }
+
+    private Path fileFor(String key) {
+        String hash = sha256(key);
+        return directory.resolve(hash.substring(0, 2)).resolve(hash + ".json");
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String join(CompletableFuture<String> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.movie.movie_backend.util;
+
+/**
+ * 한글 검색 관련 유틸리티 클래스
+ * - 초성 추출 (기생충 → ㄱㅅㅊ)
+ * - 자모 분해 (기생충 → ㄱㅣㅅㅐㅇㅊㅜㅇ)
+ */
+public final class HangulUtil {
+
+    private static final char HANGUL_BASE = 0xAC00;
+    private static final char HANGUL_LAST = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final String[] CHO = {
+        "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+        "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 겹모음은 입력 순서대로 풀어서 저장 (ㅘ → ㅗㅏ)
+    private static final String[] JUNG = {
+        "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+        "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    // 겹받침도 입력 순서대로 풀어서 저장 (ㄳ → ㄱㅅ)
+    private static final String[] JONG = {
+        "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+        "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+        "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private HangulUtil() {
+    }
+
+    /**
+     * 검색용 정규화 (소문자 변환 + 모든 공백 제거)
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 완성형 한글 음절인지 확인
+     */
+    public static boolean isSyllable(char c) {
+        return c >= HANGUL_BASE && c <= HANGUL_LAST;
+    }
+
+    /**
+     * 호환 자모 자음인지 확인 (ㄱ ~ ㅎ)
+     */
+    public static boolean isConsonant(char c) {
+        return c >= 0x3131 && c <= 0x314E;
+    }
+
+    /**
+     * 호환 자모 (자음/모음) 인지 확인
+     */
+    public static boolean isJamo(char c) {
+        return c >= 0x3131 && c <= 0x3163;
+    }
+
+    /**
+     * 초성만으로 이루어진 검색어인지 확인 (예: "ㄱㅅㅊ")
+     */
+    public static boolean isChoseongOnly(String text) {
+        if (text == null || text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (!isConsonant(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 초성 추출 (한글 음절 이외의 문자는 그대로 유지)
+     */
+    public static String toChoseong(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                sb.append(CHO[(c - HANGUL_BASE) / (JUNG_COUNT * JONG_COUNT)]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 자모 분해 (한글 음절 이외의 문자는 그대로 유지)
+     * 입력 중인 검색어("기생ㅊ", "기생추")도 완성된 제목과 비교할 수 있게 한다.
+     */
+    public static String toJamo(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                int index = c - HANGUL_BASE;
+                sb.append(CHO[index / (JUNG_COUNT * JONG_COUNT)]);
+                sb.append(JUNG[(index % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT]);
+                sb.append(JONG[index % JONG_COUNT]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,51 @@
+package com.movie.movie_backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 키셋(seek) 페이지네이션 커서 인코딩
+ * - 마지막으로 내려준 행의 (정렬 키..., id)를 Base64URL 문자열 하나로 묶어 클라이언트에 넘김
+ * - 클라이언트는 내용을 해석하지 않고 그대로 다시 보내면 됨 (다음 페이지 = 그 키보다 뒤의 행)
+ */
+public final class KeysetCursor {
+
+    private static final char SEPARATOR = '\u001F';
+    private static final String NULL_VALUE = "\u0000";
+
+    private KeysetCursor() {
+    }
+
+    public static String encode(Object... values) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                sb.append(SEPARATOR);
+            }
+            sb.append(values[i] != null ? values[i].toString() : NULL_VALUE);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서를 값 배열로 복원 (null이었던 값은 null)
+     * @throws IllegalArgumentException 형식이 맞지 않는 커서
+     */
+    public static String[] decode(String cursor, int expectedLength) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = decoded.split(String.valueOf(SEPARATOR), -1);
+            if (values.length != expectedLength) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            for (int i = 0; i < values.length; i++) {
+                if (NULL_VALUE.equals(values[i])) {
+                    values[i] = null;
+                }
+            }
+            return values;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+-- 좌석 임시 홀드(LOCKED) 소유자/만료 시각 컬럼 추가
+ALTER TABLE screening_seat ADD COLUMN hold_token VARCHAR(64) NULL COMMENT '임시 홀드 소유자 토큰';
+ALTER TABLE screening_seat ADD COLUMN locked_until DATETIME(6) NULL COMMENT '임시 홀드 만료 시각';
+
+-- 상영별 좌석 조건부 UPDATE 성능 향상 인덱스
+CREATE INDEX idx_screening_seat_screening_seat ON screening_seat (screening_id, seat_id);
@@ -0,0 +1,3 @@
+-- 만료된 임시 홀드만 골라서 해제하기 위한 인덱스 (LOCKED 전체 스캔 방지)
+CREATE INDEX idx_screening_seat_status_locked_until ON screening_seat (status, locked_until);
+CREATE INDEX idx_screening_seat_hold_token ON screening_seat (hold_token);
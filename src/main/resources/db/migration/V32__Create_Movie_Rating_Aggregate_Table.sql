@@ -0,0 +1,38 @@
+-- 영화별 별점 증분 집계 테이블 (개수, 합계(0.5점 단위), 0.5~5.0 구간별 분포)
+CREATE TABLE IF NOT EXISTS movie_rating_aggregate (
+    movie_detail_id BIGINT PRIMARY KEY,
+    movie_cd VARCHAR(255) NOT NULL,
+    rating_count BIGINT NOT NULL DEFAULT 0,
+    half_point_sum BIGINT NOT NULL DEFAULT 0,
+    bucket_05 BIGINT NOT NULL DEFAULT 0,
+    bucket_10 BIGINT NOT NULL DEFAULT 0,
+    bucket_15 BIGINT NOT NULL DEFAULT 0,
+    bucket_20 BIGINT NOT NULL DEFAULT 0,
+    bucket_25 BIGINT NOT NULL DEFAULT 0,
+    bucket_30 BIGINT NOT NULL DEFAULT 0,
+    bucket_35 BIGINT NOT NULL DEFAULT 0,
+    bucket_40 BIGINT NOT NULL DEFAULT 0,
+    bucket_45 BIGINT NOT NULL DEFAULT 0,
+    bucket_50 BIGINT NOT NULL DEFAULT 0,
+    updated_at DATETIME
+);
+CREATE INDEX idx_movie_rating_aggregate_movie_cd ON movie_rating_aggregate (movie_cd);
+
+-- 기존 별점으로 초기 집계
+INSERT INTO movie_rating_aggregate (movie_detail_id, movie_cd, rating_count, half_point_sum,
+    bucket_05, bucket_10, bucket_15, bucket_20, bucket_25, bucket_30, bucket_35, bucket_40, bucket_45, bucket_50, updated_at)
+SELECT md.movie_detail_id, md.movie_cd, COUNT(*), SUM(LEAST(10, GREATEST(1, ROUND(r.score * 2)))),
+    SUM(LEAST(10, GREATEST(1, ROUND(r.score * 2))) = 1),
+    SUM(LEAST(10, GREATEST(1, ROUND(r.score * 2))) = 2),
+    SUM(LEAST(10, GREATEST(1, ROUND(r.score * 2))) = 3),
+    SUM(LEAST(10, GREATEST(1, ROUND(r.score * 2))) = 4),
+    SUM(LEAST(10, GREATEST(1, ROUND(r.score * 2))) = 5),
+    SUM(LEAST(10, GREATEST(1, ROUND(r.score * 2))) = 6),
+    SUM(LEAST(10, GREATEST(1, ROUND(r.score * 2))) = 7),
+    SUM(LEAST(10, GREATEST(1, ROUND(r.score * 2))) = 8),
+    SUM(LEAST(10, GREATEST(1, ROUND(r.score * 2))) = 9),
+    SUM(LEAST(10, GREATEST(1, ROUND(r.score * 2))) = 10),
+    NOW()
+FROM rating r
+JOIN movie_detail md ON md.movie_detail_id = r.movie_detail_id
+GROUP BY md.movie_detail_id, md.movie_cd;
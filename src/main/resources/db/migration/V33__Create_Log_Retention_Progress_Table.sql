@@ -0,0 +1,16 @@
+-- 로그 테이블 보존 기간 정리 진행 상황 (테이블별 1행, 청크 삭제마다 갱신)
+CREATE TABLE IF NOT EXISTS log_retention_progress (
+    table_name VARCHAR(64) PRIMARY KEY,
+    retention_days INT NOT NULL,
+    cutoff DATETIME NULL,
+    status VARCHAR(20) NOT NULL,
+    run_deleted_rows BIGINT NOT NULL DEFAULT 0,
+    total_deleted_rows BIGINT NOT NULL DEFAULT 0,
+    run_started_at DATETIME NULL,
+    run_finished_at DATETIME NULL,
+    updated_at DATETIME NOT NULL,
+    last_error VARCHAR(500) NULL
+);
+
+-- 청크 삭제(WHERE 시각 < ? ORDER BY 시각 LIMIT n)가 인덱스 범위로만 읽도록
+CREATE INDEX IF NOT EXISTS idx_recommendation_log_recommended_at ON recommendation_log (recommended_at);
@@ -0,0 +1,6 @@
+-- 키셋(커서) 페이지네이션용 인덱스
+-- 영화별 리뷰 최신순: WHERE movie_detail_id = ? AND status = ? AND (created_at, id) < (?, ?) ORDER BY created_at DESC, id DESC
+CREATE INDEX idx_reviews_movie_status_created ON reviews (movie_detail_id, status, created_at, id);
+
+-- 비슷한 장르 영화 평점순: ORDER BY average_rating DESC, movie_detail_id DESC 를 인덱스 순서대로 읽다가 LIMIT에서 멈춤
+CREATE INDEX idx_movie_detail_average_rating ON movie_detail (average_rating, movie_detail_id);
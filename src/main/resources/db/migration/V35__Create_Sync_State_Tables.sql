@@ -0,0 +1,29 @@
+-- 외부 API 보완 작업(포스터/스틸컷/관람등급)의 영화별 시도 기록
+-- 연속 실패한 영화는 next_attempt_at까지 후보에서 빠짐 (실패할수록 간격이 늘어남)
+CREATE TABLE IF NOT EXISTS movie_sync_state (
+    job VARCHAR(40) NOT NULL,
+    movie_cd VARCHAR(255) NOT NULL,
+    last_attempt_at DATETIME NULL,
+    last_success_at DATETIME NULL,
+    failure_count INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME NULL,
+    last_error VARCHAR(500) NULL,
+    PRIMARY KEY (job, movie_cd)
+);
+
+CREATE INDEX idx_movie_sync_state_next_attempt ON movie_sync_state (job, next_attempt_at);
+
+-- 작업별 진행 위치 (movie_cd 순서로 페이지 단위 처리, 페이지마다 갱신)
+-- 서버가 중간에 죽으면 다음 실행은 last_movie_cd 다음부터 이어서 진행
+CREATE TABLE IF NOT EXISTS sync_checkpoint (
+    job VARCHAR(40) PRIMARY KEY,
+    last_movie_cd VARCHAR(255) NULL,
+    status VARCHAR(20) NOT NULL,
+    run_processed INT NOT NULL DEFAULT 0,
+    run_succeeded INT NOT NULL DEFAULT 0,
+    run_failed INT NOT NULL DEFAULT 0,
+    run_started_at DATETIME NULL,
+    run_finished_at DATETIME NULL,
+    updated_at DATETIME NOT NULL,
+    last_error VARCHAR(500) NULL
+);
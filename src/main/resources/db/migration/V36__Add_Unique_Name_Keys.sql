@@ -0,0 +1,60 @@
+-- 감독/배우/태그 이름 유니크 키
+-- 일괄 저장(BulkIngestionWriter)이 INSERT ... ON DUPLICATE KEY UPDATE로 이름을 넣으므로,
+-- 동시에 도는 배치가 같은 이름을 넣어도 행이 하나만 생기도록 name에 유니크 키를 둠
+-- 키를 걸기 전에 이미 중복된 이름은 가장 작은 id 하나로 합침 (참조하는 행을 옮긴 뒤 나머지 삭제)
+
+-- 감독
+CREATE TEMPORARY TABLE director_name_dup AS
+SELECT d.id AS dup_id, k.keep_id
+FROM director d
+JOIN (SELECT name, MIN(id) AS keep_id FROM director GROUP BY name HAVING COUNT(*) > 1) k ON k.name = d.name
+WHERE d.id <> k.keep_id;
+
+UPDATE movie_detail m JOIN director_name_dup d ON d.dup_id = m.director_id SET m.director_id = d.keep_id;
+UPDATE person_likes p JOIN director_name_dup d ON d.dup_id = p.director_id SET p.director_id = d.keep_id;
+DELETE FROM director WHERE id IN (SELECT dup_id FROM director_name_dup);
+DROP TEMPORARY TABLE director_name_dup;
+
+-- 배우
+CREATE TEMPORARY TABLE actor_name_dup AS
+SELECT a.id AS dup_id, k.keep_id
+FROM actor a
+JOIN (SELECT name, MIN(id) AS keep_id FROM actor GROUP BY name HAVING COUNT(*) > 1) k ON k.name = a.name
+WHERE a.id <> k.keep_id;
+
+UPDATE casts c JOIN actor_name_dup d ON d.dup_id = c.actor_id SET c.actor_id = d.keep_id;
+UPDATE person_likes p JOIN actor_name_dup d ON d.dup_id = p.actor_id SET p.actor_id = d.keep_id;
+DELETE FROM actor WHERE id IN (SELECT dup_id FROM actor_name_dup);
+DROP TEMPORARY TABLE actor_name_dup;
+
+-- 합쳐지면서 같은 사용자가 같은 인물을 두 번 좋아요한 경우 먼저 누른 것만 남김
+DELETE p FROM person_likes p
+JOIN person_likes q ON q.user_id = p.user_id AND q.actor_id = p.actor_id AND q.id < p.id;
+DELETE p FROM person_likes p
+JOIN person_likes q ON q.user_id = p.user_id AND q.director_id = p.director_id AND q.id < p.id;
+
+-- 태그 (연결 테이블은 키가 없으므로, 남길 태그로 연결을 새로 넣고 중복 태그 연결은 삭제)
+CREATE TEMPORARY TABLE tag_name_dup AS
+SELECT t.id AS dup_id, k.keep_id
+FROM tag t
+JOIN (SELECT name, MIN(id) AS keep_id FROM tag GROUP BY name HAVING COUNT(*) > 1) k ON k.name = t.name
+WHERE t.id <> k.keep_id;
+
+INSERT INTO movie_detail_tag (movie_detail_id, tag_id)
+SELECT DISTINCT l.movie_detail_id, d.keep_id
+FROM movie_detail_tag l JOIN tag_name_dup d ON d.dup_id = l.tag_id
+WHERE NOT EXISTS (SELECT 1 FROM movie_detail_tag e WHERE e.movie_detail_id = l.movie_detail_id AND e.tag_id = d.keep_id);
+DELETE l FROM movie_detail_tag l JOIN tag_name_dup d ON d.dup_id = l.tag_id;
+
+INSERT INTO user_preferred_tags (user_id, tag_id)
+SELECT DISTINCT l.user_id, d.keep_id
+FROM user_preferred_tags l JOIN tag_name_dup d ON d.dup_id = l.tag_id
+WHERE NOT EXISTS (SELECT 1 FROM user_preferred_tags e WHERE e.user_id = l.user_id AND e.tag_id = d.keep_id);
+DELETE l FROM user_preferred_tags l JOIN tag_name_dup d ON d.dup_id = l.tag_id;
+
+DELETE FROM tag WHERE id IN (SELECT dup_id FROM tag_name_dup);
+DROP TEMPORARY TABLE tag_name_dup;
+
+ALTER TABLE director ADD CONSTRAINT uk_director_name UNIQUE (name);
+ALTER TABLE actor ADD CONSTRAINT uk_actor_name UNIQUE (name);
+ALTER TABLE tag ADD CONSTRAINT uk_tag_name UNIQUE (name);
@@ -0,0 +1,68 @@
+package com.movie.movie_backend.controller;
+
+import com.movie.movie_backend.config.SecurityConfig;
+import com.movie.movie_backend.repository.USRUserRepository;
+import com.movie.movie_backend.service.CustomOAuth2UserService;
+import com.movie.movie_backend.service.MovieCatalogIndexService;
+import com.movie.movie_backend.service.USRUserDetailServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 영화 필터 API 공개 접근 테스트 (실제 SecurityConfig 적용, 카탈로그는 Mockito로 대체)
+ */
+@WebMvcTest(MovieFilterController.class)
+@Import(SecurityConfig.class)
+public class MovieFilterControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private MovieCatalogIndexService movieCatalogIndexService;
+    @MockBean
+    private USRUserDetailServiceImpl userDetailService;
+    @MockBean
+    private CustomOAuth2UserService customOAuth2UserService;
+    @MockBean
+    private USRUserRepository userRepository;
+    @MockBean
+    private ClientRegistrationRepository clientRegistrationRepository;
+
+    @Test
+    void cursorFilterIsPublic() throws Exception {
+        when(movieCatalogIndexService.filterAfter(anyCollection(), any(), anyString(), any(), anyInt()))
+                .thenReturn(new MovieCatalogIndexService.CatalogCursorPage(List.of(), 0, false, null));
+
+        mockMvc.perform(get("/api/movies/filter/cursor").param("genres", "액션").param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    void pageFilterIsPublic() throws Exception {
+        when(movieCatalogIndexService.filter(anyCollection(), any(), anyString(), anyInt(), anyInt()))
+                .thenReturn(new MovieCatalogIndexService.CatalogPage(List.of(), 0));
+
+        mockMvc.perform(get("/api/movies/filter"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void otherMovieEndpointsStillRequireLogin() throws Exception {
+        mockMvc.perform(get("/api/movies/1"))
+                .andExpect(status().isUnauthorized());
+    }
+}
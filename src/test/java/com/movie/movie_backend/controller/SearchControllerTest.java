@@ -0,0 +1,54 @@
+package com.movie.movie_backend.controller;
+
+import com.movie.movie_backend.config.SecurityConfig;
+import com.movie.movie_backend.repository.USRUserRepository;
+import com.movie.movie_backend.service.CustomOAuth2UserService;
+import com.movie.movie_backend.service.SearchService;
+import com.movie.movie_backend.service.SuggestService;
+import com.movie.movie_backend.service.USRUserDetailServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 검색어 자동완성 API 공개 접근 테스트 (실제 SecurityConfig 적용, 서비스는 Mockito로 대체)
+ */
+@WebMvcTest(SearchController.class)
+@Import(SecurityConfig.class)
+public class SearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private SearchService searchService;
+    @MockBean
+    private SuggestService suggestService;
+    @MockBean
+    private USRUserDetailServiceImpl userDetailService;
+    @MockBean
+    private CustomOAuth2UserService customOAuth2UserService;
+    @MockBean
+    private USRUserRepository userRepository;
+    @MockBean
+    private ClientRegistrationRepository clientRegistrationRepository;
+
+    @Test
+    void suggestIsPublic() throws Exception {
+        when(suggestService.suggest("ㄱㅅ", 10)).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/search/suggest").param("q", "ㄱㅅ"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isArray());
+    }
+}
@@ -0,0 +1,198 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.constant.RoleType;
+import com.movie.movie_backend.entity.MovieDetail;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 영화 일괄 저장 테스트
+ * 이름 조회는 테이블마다 IN 쿼리로, 새 이름/영화/출연진은 배치 한 번씩으로 저장되는지 확인
+ * 이름 유니크 키 업서트는 H2 MySQL 모드로 확인
+ */
+public class BulkIngestionWriterTest {
+
+    private final Map<String, Map<String, Long>> nameTables = new HashMap<>();
+    private final Map<String, Long> movieDetailIds = new HashMap<>();
+    private final List<String> queries = new ArrayList<>();
+    private final List<Object[]> castRows = new ArrayList<>();
+    private final List<String> photoLookups = new ArrayList<>();
+    private JdbcTemplate jdbcTemplate;
+    private BulkIngestionWriter writer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        nameTables.put("director", new HashMap<>(Map.of("봉준호", 1L)));
+        nameTables.put("actor", new HashMap<>(Map.of("송강호", 10L)));
+        nameTables.put("tag", new HashMap<>());
+
+        jdbcTemplate = mock(JdbcTemplate.class);
+        doAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            RowCallbackHandler handler = invocation.getArgument(1);
+            Object[] args = (Object[]) invocation.getRawArguments()[2];
+            queries.add(sql);
+            for (Object arg : args) {
+                String key = (String) arg;
+                Long id = sql.contains("FROM movie_detail") ? movieDetailIds.get(key) : nameTables.get(table(sql)).get(key);
+                if (id != null) {
+                    ResultSet rs = mock(ResultSet.class);
+                    when(rs.getString(anyString())).thenReturn(key);
+                    when(rs.getLong(anyString())).thenReturn(id);
+                    handler.processRow(rs);
+                }
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+
+        // 이름 INSERT / movie_detail 업서트는 인메모리 테이블에 반영
+        doAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            Collection<Object> rows = invocation.getArgument(1);
+            if (sql.startsWith("INSERT INTO movie_detail ")) {
+                for (Object row : rows) {
+                    BulkIngestionWriter.ParsedMovie movie = (BulkIngestionWriter.ParsedMovie) row;
+                    movieDetailIds.putIfAbsent(movie.detail().getMovieCd(), 100L + movieDetailIds.size());
+                }
+            } else {
+                Map<String, Long> names = nameTables.get(sql.substring("INSERT INTO ".length(), sql.indexOf(' ', 12)));
+                for (Object row : rows) {
+                    names.putIfAbsent((String) row, 1000L + names.size());
+                }
+            }
+            return new int[0][];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            if (sql.startsWith("INSERT INTO casts")) {
+                castRows.addAll(invocation.getArgument(1));
+            }
+            return new int[0];
+        });
+
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+
+        writer = new BulkIngestionWriter(jdbcTemplate, transactionTemplate, mock(EntityManager.class),
+                mock(MovieSearchIndexService.class));
+    }
+
+    @Test
+    void writesBatchWithConstantRoundTrips() {
+        List<BulkIngestionWriter.ParsedMovie> movies = List.of(
+                movie("1", "봉준호", "송강호", "이선균", "조여정"),
+                movie("2", "박찬욱", "송강호", "최민식"),
+                movie("3", "봉준호", "이선균"));
+
+        Map<String, Long> ids = writer.write(movies,
+                name -> { photoLookups.add(name); return null; },
+                name -> { photoLookups.add(name); return "photo:" + name; });
+
+        assertEquals(3, ids.size());
+        // 새 인물만 사진 조회
+        assertEquals(List.of("박찬욱", "조여정", "이선균", "최민식").stream().sorted().toList(),
+                photoLookups.stream().sorted().toList());
+        // 감독/배우 INSERT는 테이블마다 한 번, 이미 있는 이름은 넣지 않음
+        assertEquals(Map.of("봉준호", 1L, "박찬욱", 1001L), nameTables.get("director"));
+        assertEquals(4, nameTables.get("actor").size());
+        verify(jdbcTemplate, times(1)).batchUpdate(startsWith("INSERT INTO actor "), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        verify(jdbcTemplate, times(1)).batchUpdate(startsWith("INSERT INTO movie_detail "), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        verify(jdbcTemplate, never()).update(startsWith("INSERT"), any(Object[].class));
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
+
+        // 출연진은 영화별 순서대로, 한 번의 배치로
+        assertEquals(6, castRows.size());
+        Object[] first = castRows.get(0);
+        assertEquals(ids.get("1"), first[0]);
+        assertEquals(10L, first[1]);
+        assertEquals(RoleType.LEAD.name(), first[2]);
+        assertEquals(1, first[4]);
+
+        // 이름 조회: 사진 조회 전(감독/배우) + 트랜잭션 안(감독/배우 조회, 새 이름 재조회) + movie_detail id 조회
+        assertEquals(7, queries.size());
+    }
+
+    @Test
+    void nameInsertedByConcurrentBatchIsReusedNotDuplicated() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:bulk-ingestion-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        JdbcTemplate h2 = spy(new JdbcTemplate(dataSource));
+        h2.execute("CREATE TABLE director (id BIGINT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(255), photo_url VARCHAR(1000), " +
+                "CONSTRAINT uk_director_name UNIQUE (name))");
+        h2.execute("CREATE TABLE actor (id BIGINT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(255), photo_url VARCHAR(1000), " +
+                "CONSTRAINT uk_actor_name UNIQUE (name))");
+        h2.execute("CREATE TABLE tag (id BIGINT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(255), CONSTRAINT uk_tag_name UNIQUE (name))");
+        h2.execute("CREATE TABLE movie_detail (movie_detail_id BIGINT AUTO_INCREMENT PRIMARY KEY, movie_cd VARCHAR(255) UNIQUE, " +
+                "movie_nm VARCHAR(255), movie_nm_en VARCHAR(255), prdt_year VARCHAR(10), show_tm INT, open_dt DATE, " +
+                "prdt_stat_nm VARCHAR(50), type_nm VARCHAR(50), genre_nm VARCHAR(255), nation_nm VARCHAR(255), " +
+                "watch_grade_nm VARCHAR(50), company_nm VARCHAR(255), description TEXT, audits VARCHAR(255), director_id BIGINT, " +
+                "reservation_rank INT, reservation_rate DOUBLE, days_since_release INT, total_audience INT, average_rating DOUBLE)");
+        h2.execute("CREATE TABLE casts (id BIGINT AUTO_INCREMENT PRIMARY KEY, movie_detail_id BIGINT, actor_id BIGINT, " +
+                "role_type VARCHAR(20), character_name VARCHAR(255), order_in_credits INT)");
+        h2.execute("CREATE TABLE movie_detail_tag (movie_detail_id BIGINT, tag_id BIGINT)");
+
+        // 이 배치가 없는 이름을 확인한 뒤 INSERT하기 직전에 다른 배치가 같은 배우/태그를 먼저 넣은 상황
+        doAnswer(invocation -> {
+            h2.update("INSERT INTO actor (name, photo_url) VALUES ('최민식', NULL)");
+            h2.update("INSERT INTO tag (name) VALUES ('스릴러')");
+            return invocation.callRealMethod();
+        }).when(h2).batchUpdate(startsWith("INSERT INTO actor "), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        BulkIngestionWriter h2Writer = new BulkIngestionWriter(h2, transactionTemplate, mock(EntityManager.class),
+                mock(MovieSearchIndexService.class));
+        MovieDetail detail = MovieDetail.builder().movieCd("1").movieNm("올드보이").build();
+        h2Writer.write(List.of(new BulkIngestionWriter.ParsedMovie(detail, "박찬욱",
+                        List.of(new BulkIngestionWriter.ParsedCast("최민식", "오대수", RoleType.LEAD)), List.of("스릴러"))),
+                name -> null, name -> "photo:" + name);
+
+        assertEquals(1, h2.queryForObject("SELECT COUNT(*) FROM actor WHERE name = '최민식'", Integer.class));
+        assertEquals(1, h2.queryForObject("SELECT COUNT(*) FROM tag WHERE name = '스릴러'", Integer.class));
+        Long actorId = h2.queryForObject("SELECT id FROM actor WHERE name = '최민식'", Long.class);
+        assertEquals("photo:최민식", h2.queryForObject("SELECT photo_url FROM actor WHERE id = ?", String.class, actorId));
+        assertEquals(actorId, h2.queryForObject("SELECT actor_id FROM casts", Long.class));
+        assertEquals(1, h2.queryForObject("SELECT COUNT(*) FROM movie_detail_tag", Integer.class));
+    }
+
+    private static BulkIngestionWriter.ParsedMovie movie(String movieCd, String director, String... actors) {
+        MovieDetail detail = MovieDetail.builder().movieCd(movieCd).movieNm("영화" + movieCd).build();
+        List<BulkIngestionWriter.ParsedCast> casts = new ArrayList<>();
+        for (String actor : actors) {
+            casts.add(new BulkIngestionWriter.ParsedCast(actor, "", casts.size() < 3 ? RoleType.LEAD : RoleType.SUPPORTING));
+        }
+        return new BulkIngestionWriter.ParsedMovie(detail, director, casts, List.of());
+    }
+
+    private static String table(String sql) {
+        int from = sql.indexOf("FROM ") + 5;
+        return sql.substring(from, sql.indexOf(' ', from));
+    }
+}
@@ -0,0 +1,72 @@
+package com.movie.movie_backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 수집 파이프라인 토큰 버킷/백오프/작업 실행 테스트
+ */
+public class IngestionPipelineTest {
+
+    @Test
+    void tokenBucketReservesInOrder() {
+        IngestionPipeline.TokenBucket bucket = new IngestionPipeline.TokenBucket(10, 2); // 초당 10개, 최대 2개
+        long now = System.nanoTime();
+        assertEquals(0, bucket.reserve(now));
+        assertEquals(0, bucket.reserve(now));
+        // 버스트를 다 쓰면 100ms 간격으로 예약
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), bucket.reserve(now), 1000);
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(200), bucket.reserve(now), 1000);
+        // 충분히 지나면 최대 2개까지만 다시 쌓임
+        long later = now + TimeUnit.SECONDS.toNanos(5);
+        assertEquals(0, bucket.reserve(later));
+        assertEquals(0, bucket.reserve(later));
+        assertTrue(bucket.reserve(later) > 0);
+    }
+
+    @Test
+    void backoffGrowsWithJitterWithinCap() {
+        for (int i = 0; i < 100; i++) {
+            long first = IngestionPipeline.backoff(1, 500, 10_000);
+            long third = IngestionPipeline.backoff(3, 500, 10_000);
+            long capped = IngestionPipeline.backoff(10, 500, 10_000);
+            assertTrue(first >= 250 && first <= 500, "first=" + first);
+            assertTrue(third >= 1000 && third <= 2000, "third=" + third);
+            assertTrue(capped >= 5000 && capped <= 10_000, "capped=" + capped);
+        }
+    }
+
+    @Test
+    void submitCountsResultsAndBoundsConcurrency() {
+        IngestionPipeline pipeline = new IngestionPipeline(WebClient.builder(),
+                new UpstreamResponseCache(new ObjectMapper(), "unused", false, 24, 30), 40, 10, 10, 10, 3, 3, 10, 100, 1000);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        IngestionPipeline.JobResult result = pipeline.submit("test", List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), n -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            if (n == 7) {
+                throw new IllegalStateException("boom");
+            }
+            return n % 2 == 0;
+        }).join();
+        pipeline.shutdown();
+
+        assertEquals(10, result.total());
+        assertEquals(5, result.succeeded());
+        assertEquals(5, result.failed()); // 홀수 4개 + 예외 1개
+        assertTrue(maxRunning.get() <= 3);
+    }
+}
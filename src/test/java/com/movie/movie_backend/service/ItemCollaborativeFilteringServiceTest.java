@@ -0,0 +1,83 @@
+package com.movie.movie_backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 아이템 기반 협업 필터링 모델 계산 테스트 (DB 없이 정적 메서드만)
+ */
+public class ItemCollaborativeFilteringServiceTest {
+
+    private static Map<Long, Float> row(long... movieIds) {
+        Map<Long, Float> row = new HashMap<>();
+        for (long movieId : movieIds) {
+            row.put(movieId, 1.0f);
+        }
+        return row;
+    }
+
+    private static Map<Long, Map<Long, Float>> interactions() {
+        Map<Long, Map<Long, Float>> users = new HashMap<>();
+        users.put(1L, row(100, 101, 102));
+        users.put(2L, row(100, 101));
+        users.put(3L, row(100, 101, 103));
+        users.put(4L, row(102, 103));
+        users.put(5L, row(100));
+        return users;
+    }
+
+    private static long[] neighbourMovieIds(ItemCollaborativeFilteringService.Model model, long movieId) {
+        int[] neighbours = model.neighbourItems[model.itemIndex.get(movieId)];
+        return Arrays.stream(neighbours).mapToLong(j -> model.movieIds[j]).toArray();
+    }
+
+    @Test
+    void mostCoLikedMovieIsTopNeighbour() {
+        ItemCollaborativeFilteringService.Model model =
+                ItemCollaborativeFilteringService.update(ItemCollaborativeFilteringService.Model.EMPTY, interactions(), 10);
+
+        assertEquals(101L, neighbourMovieIds(model, 100L)[0]);
+        float[] sims = model.neighbourSims[model.itemIndex.get(100L)];
+        for (int i = 1; i < sims.length; i++) {
+            assertTrue(sims[i - 1] >= sims[i]);
+        }
+    }
+
+    @Test
+    void recommendsNeighboursExcludingSeenMovies() {
+        ItemCollaborativeFilteringService.Model model =
+                ItemCollaborativeFilteringService.update(ItemCollaborativeFilteringService.Model.EMPTY, interactions(), 10);
+        int u = model.userIndex.get(5L);
+
+        ItemCollaborativeFilteringService.Scored scored = ItemCollaborativeFilteringService.score(
+                model, model.userItems[u], model.userWeights[u], new long[] {102L}, 10);
+
+        assertEquals(101L, scored.movieIds()[0]);
+        assertFalse(Arrays.stream(scored.movieIds()).anyMatch(id -> id == 100L || id == 102L));
+    }
+
+    @Test
+    void incrementalUpdateMatchesFullRebuild() {
+        Map<Long, Map<Long, Float>> users = interactions();
+        ItemCollaborativeFilteringService.Model base =
+                ItemCollaborativeFilteringService.update(ItemCollaborativeFilteringService.Model.EMPTY, users, 10);
+
+        Map<Long, Map<Long, Float>> changed = new HashMap<>();
+        changed.put(2L, row(100, 103, 104));
+        changed.put(4L, new HashMap<>()); // 상호작용이 모두 사라진 사용자
+        ItemCollaborativeFilteringService.Model incremental = ItemCollaborativeFilteringService.update(base, changed, 10);
+
+        users.putAll(changed);
+        ItemCollaborativeFilteringService.Model full =
+                ItemCollaborativeFilteringService.update(ItemCollaborativeFilteringService.Model.EMPTY, users, 10);
+
+        for (long movieId : new long[] {100L, 101L, 102L, 103L, 104L}) {
+            assertArrayEquals(neighbourMovieIds(full, movieId), neighbourMovieIds(incremental, movieId), "movie " + movieId);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.movie.movie_backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.movie.movie_backend.dto.MovieListDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * KOBIS 목록 응답 스트리밍 파서 테스트
+ */
+public class KobisListStreamReaderTest {
+
+    private final KobisListStreamReader reader = new KobisListStreamReader(new ObjectMapper());
+
+    @Test
+    void readsMovieListItemsAndSkipsNestedFields() throws Exception {
+        String json = """
+                {"movieListResult":{"totCnt":3,"source":"영화진흥위원회","movieList":[
+                  {"movieCd":"20231234","movieNm":"서울의 봄","movieNmEn":"12.12: The Day","openDt":"20231122",
+                   "genreAlt":"드라마","nationAlt":"한국","directors":[{"peopleNm":"김성수"}],
+                   "companys":[{"companyCd":"1","companyNm":"하이브미디어코프"}],"watchGradeNm":null},
+                  {"movieNm":"코드 없음"},
+                  {"movieCd":"20240001","movieNm":"파묘","openDt":"","directors":[]}
+                ]}}
+                """;
+        List<MovieListDto> movies = new ArrayList<>();
+
+        int size = reader.readMovieList(json, movies::add);
+
+        assertEquals(3, size);
+        assertEquals(2, movies.size());
+        MovieListDto first = movies.get(0);
+        assertEquals("20231234", first.getMovieCd());
+        assertEquals("서울의 봄", first.getMovieNm());
+        assertEquals("12.12: The Day", first.getMovieNmEn());
+        assertEquals(LocalDate.of(2023, 11, 22), first.getOpenDt());
+        assertEquals("", first.getWatchGradeNm());
+        assertNull(movies.get(1).getOpenDt());
+    }
+
+    @Test
+    void readsBoxOfficeList() throws Exception {
+        String json = """
+                {"boxOfficeResult":{"boxofficeType":"일별 박스오피스","showRange":"20240101~20240101",
+                 "dailyBoxOfficeList":[
+                  {"rnum":"1","rank":"1","movieCd":"20231234","movieNm":"서울의 봄","openDt":"2023-11-22",
+                   "salesAmt":"1000","audiCnt":"10","audiAcc":"100"},
+                  {"rnum":"2","rank":"2","movieCd":"20231235","movieNm":"노량","openDt":" ",
+                   "salesAmt":"500","audiCnt":"5","audiAcc":"50"}]}}
+                """;
+        List<KobisListStreamReader.BoxOfficeItem> items = new ArrayList<>();
+
+        assertEquals(2, reader.readBoxOfficeList(json, "dailyBoxOfficeList", items::add));
+
+        assertEquals(new KobisListStreamReader.BoxOfficeItem("20231234", "서울의 봄", 1, 1000, 10, 100,
+                LocalDate.of(2023, 11, 22)), items.get(0));
+        assertNull(items.get(1).openDt());
+        assertEquals(-1, reader.readBoxOfficeList(json, "weeklyBoxOfficeList", items::add));
+    }
+
+    @Test
+    void deliversItemsInChunksWhileParsing() throws Exception {
+        StringBuilder list = new StringBuilder();
+        for (int rank = 1; rank <= 5; rank++) {
+            list.append(rank > 1 ? "," : "").append("{\"rank\":\"").append(rank).append("\",\"movieCd\":\"M").append(rank)
+                    .append("\",\"movieNm\":\"영화\",\"salesAmt\":\"0\",\"audiCnt\":\"0\",\"audiAcc\":\"0\"}");
+        }
+        String json = "{\"boxOfficeResult\":{\"dailyBoxOfficeList\":[" + list + "]}}";
+        List<List<String>> chunks = new ArrayList<>();
+
+        int size = reader.readBoxOfficeList(json, "dailyBoxOfficeList", 2,
+                chunk -> chunks.add(chunk.stream().map(KobisListStreamReader.BoxOfficeItem::movieCd).toList()));
+
+        assertEquals(5, size);
+        assertEquals(List.of(List.of("M1", "M2"), List.of("M3", "M4"), List.of("M5")), chunks);
+        assertEquals(-1, reader.readMovieList(null, 2, chunk -> fail("빈 응답에서 묶음 전달")));
+    }
+
+    @Test
+    void missingListReturnsMinusOne() throws Exception {
+        List<MovieListDto> movies = new ArrayList<>();
+        assertEquals(-1, reader.readMovieList("{\"faultInfo\":{\"message\":\"키 오류\"}}", movies::add));
+        assertEquals(-1, reader.readMovieList(null, movies::add));
+        assertTrue(movies.isEmpty());
+    }
+}
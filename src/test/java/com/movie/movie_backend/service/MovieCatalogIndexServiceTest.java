@@ -0,0 +1,126 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.dto.MovieListDto;
+import com.movie.movie_backend.repository.PRDMovieListRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 영화 카탈로그 인덱스 필터/정렬/증분 갱신 테스트
+ */
+public class MovieCatalogIndexServiceTest {
+
+    @Test
+    void filterByGenreAndSort() {
+        MovieCatalogIndexService.Catalog catalog = MovieCatalogIndexService.Catalog.build(List.of(
+                row("A", "아바타", "SF,액션", "p", 50.0, LocalDate.of(2009, 12, 17)),
+                row("B", "기생충", "드라마", "p", 80.0, LocalDate.of(2019, 5, 30)),
+                row("C", "범죄도시", "액션, 범죄", "p", null, LocalDate.of(2017, 10, 3)),
+                row("D", "포스터없음", "액션", "null", 99.0, null)));
+
+        assertEquals(List.of("B", "A", "C"), codes(catalog.filter(List.of(), null, "tmdb_popularity", 0, 10)));
+        assertEquals(List.of("B", "C", "A"), codes(catalog.filter(List.of(), null, "openDt", 0, 10)));
+        assertEquals(List.of("A", "C"), codes(catalog.filter(List.of("액션"), null, "tmdb_popularity", 0, 10)));
+        assertEquals(List.of("A"), codes(catalog.filter(List.of("범죄", "SF"), null, "name", 1, 1))); // 범죄도시 < 아바타
+        assertEquals(2, catalog.filter(List.of("범죄", "SF"), null, "name", 1, 1).total());
+        assertEquals(List.of("A"), codes(catalog.filter(List.of(), "아바", "name", 0, 10)));
+    }
+
+    @Test
+    void incrementalApplyMatchesRebuild() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            rows.add(row("M" + i, "영화" + i, i % 2 == 0 ? "액션" : "드라마", i % 5 == 0 ? null : "p",
+                    i % 7 == 0 ? null : (double) (i * 37 % 50), LocalDate.of(2000 + i % 20, 1, 1)));
+        }
+        MovieCatalogIndexService.Catalog catalog = MovieCatalogIndexService.Catalog.build(rows);
+
+        // 수정 2건(장르/포스터 변경), 삭제 1건, 신규 1건
+        rows.set(3, row("M3", "영화3", "액션", "p", 999.0, LocalDate.of(2030, 1, 1)));
+        rows.set(10, row("M10", "영화10", "액션", "p", 1.0, null));
+        Object[] removed = rows.remove(20);
+        rows.add(row("NEW", "새 영화", "드라마,액션", "p", 45.5, LocalDate.of(2024, 1, 1)));
+        MovieCatalogIndexService.Catalog updated = catalog.apply(
+                List.of("M3", "M10", (String) removed[0], "NEW"),
+                List.of(rows.get(3), rows.get(10), rows.get(rows.size() - 1)));
+        MovieCatalogIndexService.Catalog rebuilt = MovieCatalogIndexService.Catalog.build(rows);
+
+        for (String sort : List.of("tmdb_popularity", "openDt", "name")) {
+            for (List<String> genres : List.of(List.<String>of(), List.of("액션"), List.of("드라마"))) {
+                assertEquals(codes(rebuilt.filter(genres, null, sort, 0, 100)),
+                        codes(updated.filter(genres, null, sort, 0, 100)), sort + " " + genres);
+            }
+        }
+    }
+
+    @Test
+    void cursorPagesFollowSortOrder() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            rows.add(row("M" + i, "영화" + i, i % 3 == 0 ? "액션" : "드라마", "p",
+                    i % 4 == 0 ? null : (double) (i % 6), i % 5 == 0 ? null : LocalDate.of(2000 + i % 3, 1, 1)));
+        }
+        MovieCatalogIndexService.Catalog catalog = MovieCatalogIndexService.Catalog.build(rows);
+
+        for (String sort : List.of("tmdb_popularity", "openDt", "name")) {
+            for (List<String> genres : List.of(List.<String>of(), List.of("액션"))) {
+                List<String> expected = codes(catalog.filter(genres, null, sort, 0, 100));
+                List<String> paged = new ArrayList<>();
+                String cursor = null;
+                do {
+                    MovieCatalogIndexService.CatalogCursorPage page = catalog.filterAfter(genres, null, sort, cursor, 4);
+                    page.content().forEach(movie -> paged.add(movie.getMovieCd()));
+                    cursor = page.nextCursor();
+                } while (cursor != null);
+                assertEquals(expected, paged, sort + " " + genres);
+            }
+        }
+        String cursor = catalog.filterAfter(List.of(), null, "name", null, 2).nextCursor();
+        assertThrows(IllegalArgumentException.class, () -> catalog.filterAfter(List.of(), null, "openDt", cursor, 2));
+    }
+
+    @Test
+    void requestsBeforeFirstBuildAreRejectedWhileOneBackgroundBuildRuns() throws Exception {
+        PRDMovieListRepository repository = mock(PRDMovieListRepository.class);
+        CountDownLatch release = new CountDownLatch(1);
+        when(repository.findCatalogRows()).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return List.<Object[]>of(row("A", "아바타", "SF", "p", 50.0, null));
+        });
+        MovieCatalogIndexService service = new MovieCatalogIndexService(repository);
+        try {
+            service.onApplicationReady();
+            // 요청 스레드는 구축을 기다리거나 다시 돌리지 않음
+            assertThrows(MovieCatalogIndexService.CatalogNotReadyException.class,
+                    () -> service.filter(List.of(), null, "name", 0, 10));
+            assertThrows(MovieCatalogIndexService.CatalogNotReadyException.class,
+                    () -> service.filterAfter(List.of(), null, "name", null, 10));
+
+            release.countDown();
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (!service.isReady() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(List.of("A"), codes(service.filter(List.of(), null, "name", 0, 10)));
+            verify(repository, times(1)).findCatalogRows();
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    private static Object[] row(String movieCd, String name, String genres, String poster, Double popularity, LocalDate openDt) {
+        return new Object[] {movieCd, name, null, openDt, genres, null, null, poster, null, null, null, popularity};
+    }
+
+    private static List<String> codes(MovieCatalogIndexService.CatalogPage page) {
+        return page.content().stream().map(MovieListDto::getMovieCd).toList();
+    }
+}
@@ -0,0 +1,88 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.repository.SearchLogRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 인기검색어 슬라이딩 윈도우 집계 테스트
+ */
+public class PopularKeywordServiceTest {
+
+    @Test
+    void topKeywordsOrderedByCount() {
+        // Redis를 못 쓰면 이 서버 집계로 응답
+        PopularKeywordService service = new PopularKeywordService(mock(SearchLogRepository.class),
+                mock(StringRedisTemplate.class));
+        for (int i = 0; i < 3; i++) {
+            service.record("인터스텔라");
+        }
+        service.record(" 기생충 ");
+        service.record("기생충");
+        service.record("듄");
+        service.record("  ");
+        service.refresh();
+
+        List<PopularKeywordService.KeywordCount> top = service.getTopKeywords();
+        assertEquals(List.of("인터스텔라", "기생충", "듄"), top.stream().map(PopularKeywordService.KeywordCount::getKeyword).toList());
+        assertEquals(3, top.get(0).getCount());
+        assertEquals(2, top.get(1).getCount());
+        assertFalse(service.isGlobal());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void topKeywordsMergeGlobalWindowWithCurrentMinute() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> valueOps = mock(ValueOperations.class);
+        ZSetOperations<String, String> zSetOps = mock(ZSetOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOps);
+        when(valueOps.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        // 다른 서버들에서 합산된 24시간 윈도우
+        Set<ZSetOperations.TypedTuple<String>> window = new LinkedHashSet<>();
+        window.add(new DefaultTypedTuple<>("파묘", 10.0));
+        window.add(new DefaultTypedTuple<>("기생충", 4.0));
+        when(zSetOps.reverseRangeWithScores(PopularKeywordService.WINDOW_KEY, 0,
+                PopularKeywordService.GLOBAL_READ_SIZE - 1)).thenReturn(window);
+
+        PopularKeywordService service = new PopularKeywordService(mock(SearchLogRepository.class), redisTemplate);
+        for (int i = 0; i < 7; i++) {
+            service.record("기생충");
+        }
+        service.record("듄");
+        service.refresh();
+
+        List<PopularKeywordService.KeywordCount> top = service.getTopKeywords();
+        assertEquals(List.of("기생충", "파묘", "듄"), top.stream().map(PopularKeywordService.KeywordCount::getKeyword).toList());
+        assertEquals(11, top.get(0).getCount());
+        assertTrue(service.isGlobal());
+        // 분이 바뀌어 처음 갱신할 때 한 서버만 윈도우를 다시 합산
+        verify(zSetOps).unionAndStore(anyString(), anyList(), eq(PopularKeywordService.WINDOW_KEY));
+    }
+
+    @Test
+    void spaceSavingKeepsHeavyHittersWhenFull() {
+        PopularKeywordService.SpaceSaving summary = new PopularKeywordService.SpaceSaving(2);
+        summary.offer("a", 5);
+        summary.offer("b", 1);
+        summary.offer("c", 1); // b를 밀어내고 b의 횟수를 이어받음
+
+        Map<String, Long> counts = summary.toCounts();
+        assertEquals(5L, counts.get("a"));
+        assertEquals(2L, counts.get("c"));
+        assertFalse(counts.containsKey("b"));
+    }
+}
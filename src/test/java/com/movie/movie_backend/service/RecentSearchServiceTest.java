@@ -0,0 +1,101 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.entity.SearchHistory;
+import com.movie.movie_backend.entity.User;
+import com.movie.movie_backend.repository.SearchHistoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 최근 검색어 대기열/Redis 반영 테스트
+ */
+public class RecentSearchServiceTest {
+
+    private StringRedisTemplate redisTemplate;
+    private ZSetOperations<String, String> zSetOps;
+    private SearchHistoryRepository searchHistoryRepository;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private RecentSearchService service;
+    private final User user = User.builder().id(7L).build();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        zSetOps = mock(ZSetOperations.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOps);
+        searchHistoryRepository = mock(SearchHistoryRepository.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        transactionTemplate = mock(TransactionTemplate.class);
+        service = new RecentSearchService(redisTemplate, searchHistoryRepository, jdbcTemplate, transactionTemplate);
+        ReflectionTestUtils.setField(service, "pendingCapacity", 100);
+    }
+
+    @Test
+    void addOnlyQueuesAndRecentMergesPendingWithRedis() {
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        service.add(user, "파묘", now);
+        service.add(user, "듄", now.plusSeconds(1));
+        verifyNoInteractions(redisTemplate, jdbcTemplate, searchHistoryRepository);
+
+        Set<ZSetOperations.TypedTuple<String>> stored = new LinkedHashSet<>();
+        stored.add(new DefaultTypedTuple<>("기생충", (double) toMillis(now.minusMinutes(1))));
+        stored.add(new DefaultTypedTuple<>("파묘", (double) toMillis(now.minusMinutes(2))));
+        when(zSetOps.reverseRangeWithScores("search:recent:7", 0, RecentSearchService.MAX_RECENT - 1)).thenReturn(stored);
+
+        List<SearchHistory> recent = service.getRecent(user);
+        assertEquals(List.of("듄", "파묘", "기생충"), recent.stream().map(SearchHistory::getKeyword).toList());
+        assertEquals(now, recent.get(1).getSearchedAt()); // 대기열의 더 최근 시각이 우선
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void drainWritesQueuedSearchesInPipelines() {
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(List.of(true));
+        service.add(user, "파묘", LocalDateTime.now());
+
+        service.drain();
+
+        // 키 존재 확인 1번 + 쓰기 1번, Redis에 이미 있는 사용자라 DB는 읽지 않음
+        verify(redisTemplate, times(2)).executePipelined(any(SessionCallback.class));
+        verifyNoInteractions(jdbcTemplate, searchHistoryRepository);
+        service.drain();
+        verify(redisTemplate, times(2)).executePipelined(any(SessionCallback.class)); // 대기열이 비었음
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flushKeepsStoredHistoryWhenRedisKeyIsGone() {
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(List.of(true));
+        service.add(user, "파묘", LocalDateTime.now());
+        service.drain(); // 사용자 7을 DB 반영 대상으로 표시
+        when(zSetOps.reverseRangeWithScores("search:recent:7", 0, RecentSearchService.MAX_RECENT - 1))
+                .thenReturn(new LinkedHashSet<>()); // 그 사이 키가 만료됨
+
+        service.flushDirtyUsers();
+
+        // DELETE 후 빈 INSERT로 search_history를 지우지 않음
+        verifyNoInteractions(transactionTemplate, jdbcTemplate);
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
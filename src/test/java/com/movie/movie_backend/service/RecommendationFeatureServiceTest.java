@@ -0,0 +1,128 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.config.TwoLevelCacheManager;
+import com.movie.movie_backend.constant.RoleType;
+import com.movie.movie_backend.dto.RecommendationDto;
+import com.movie.movie_backend.entity.Tag;
+import com.movie.movie_backend.entity.User;
+import com.movie.movie_backend.repository.CastRepository;
+import com.movie.movie_backend.repository.PRDMovieRepository;
+import com.movie.movie_backend.repository.PRDTagRepository;
+import com.movie.movie_backend.repository.PersonLikeRepository;
+import com.movie.movie_backend.repository.REVLikeRepository;
+import com.movie.movie_backend.repository.REVRatingRepository;
+import com.movie.movie_backend.repository.REVReviewRepository;
+import com.movie.movie_backend.repository.StillcutRepository;
+import com.movie.movie_backend.repository.USRUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 특성 벡터 추천 엔진 점수/근거 테스트 (저장소는 Mockito로 대체)
+ */
+public class RecommendationFeatureServiceTest {
+
+    private static final long USER_ID = 7L;
+
+    private RecommendationFeatureService recommendationFeatureService;
+
+    @BeforeEach
+    void setUp() {
+        PRDMovieRepository movieRepository = mock(PRDMovieRepository.class);
+        CastRepository castRepository = mock(CastRepository.class);
+        PRDTagRepository tagRepository = mock(PRDTagRepository.class);
+        StillcutRepository stillcutRepository = mock(StillcutRepository.class);
+        PersonLikeRepository personLikeRepository = mock(PersonLikeRepository.class);
+        REVLikeRepository likeRepository = mock(REVLikeRepository.class);
+        REVReviewRepository reviewRepository = mock(REVReviewRepository.class);
+        REVRatingRepository ratingRepository = mock(REVRatingRepository.class);
+        USRUserRepository userRepository = mock(USRUserRepository.class);
+
+        LocalDate old = LocalDate.now().minusYears(20);
+        List<Object[]> movies = new ArrayList<>();
+        // (id, movieCd, movieNm, genreNm, openDt, averageRating, directorId, posterUrl)
+        movies.add(new Object[] {1L, "M1", "찜한 영화", "드라마", old, null, 11L, "p1"});
+        movies.add(new Object[] {2L, "M2", "좋아하는 감독 영화", "코미디", old, null, 10L, "p2"});
+        movies.add(new Object[] {3L, "M3", "관련 영화", "드라마, 액션", old, 4.5, 11L, null});
+        movies.add(new Object[] {4L, "M4", "무관한 영화", "코미디", LocalDate.now(), 5.0, 12L, "p4"});
+        when(movieRepository.findRecommendationFeatureRows()).thenReturn(movies);
+        when(castRepository.findMovieActorIdPairs(RoleType.LEAD)).thenReturn(List.<Object[]>of(new Object[] {1L, 20L}));
+        when(tagRepository.findMovieTagRows()).thenReturn(List.of(
+                new Object[] {3L, 100L, "액션"},
+                new Object[] {1L, 101L, "드라마"}));
+        when(stillcutRepository.findImageUrlsByMovieIds(anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[] {3L, "still3"}));
+
+        Tag action = new Tag();
+        action.setId(100L);
+        action.setName("액션");
+        User user = new User();
+        user.setPreferredTags(List.of(action));
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+        when(personLikeRepository.findLikedDirectorIdsByUserId(USER_ID)).thenReturn(List.of(10L));
+        when(personLikeRepository.findLikedActorIdsByUserId(USER_ID)).thenReturn(List.of());
+        when(likeRepository.findMovieIdsByUserId(USER_ID)).thenReturn(List.of(1L));
+        when(reviewRepository.findRatedMovieIdsByUserId(eq(USER_ID), any())).thenReturn(List.of());
+        when(reviewRepository.findMovieIdsByUserId(eq(USER_ID), any())).thenReturn(List.of());
+        when(ratingRepository.findMovieIdsByUserIdAndMinScore(eq(USER_ID), anyDouble())).thenReturn(List.of());
+
+        recommendationFeatureService = new RecommendationFeatureService(movieRepository, castRepository, tagRepository,
+                stillcutRepository, personLikeRepository, likeRepository, reviewRepository, ratingRepository, userRepository,
+                mock(TwoLevelCacheManager.class));
+    }
+
+    @Test
+    void scoresWithSameReasonsAsRuleBasedRecommendation() {
+        List<RecommendationDto> result = recommendationFeatureService.recommend(USER_ID, 10);
+
+        // 찜한 영화(1)는 제외, 후보가 아닌 영화(4)는 점수가 있어도 제외
+        assertEquals(List.of("M3", "M2"), result.stream().map(RecommendationDto::getMovieCd).toList());
+
+        RecommendationDto related = result.get(0);
+        assertEquals(13, related.getScore());
+        assertEquals(List.of("선호 장르", "관련 감독", "관련 장르", "평점 우수"), related.getReasons());
+        assertEquals("still3", related.getPosterUrl());
+
+        RecommendationDto likedDirector = result.get(1);
+        assertEquals(5, likedDirector.getScore());
+        assertEquals(List.of("좋아하는 감독"), likedDirector.getReasons());
+    }
+
+    @Test
+    void limitKeepsOnlyTopScores() {
+        List<RecommendationDto> result = recommendationFeatureService.recommend(USER_ID, 1);
+        assertEquals(1, result.size());
+        assertEquals("M3", result.get(0).getMovieCd());
+    }
+
+    @Test
+    void averageRatingUpdateChangesScore() {
+        recommendationFeatureService.recommend(USER_ID, 10);
+        recommendationFeatureService.updateAverageRating(3L, 3.0);
+        assertEquals(12, recommendationFeatureService.recommend(USER_ID, 10).get(0).getScore());
+    }
+
+    @Test
+    void averageRatingUpdateWaitsForCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            recommendationFeatureService.updateAverageRating(3L, 3.0);
+            assertEquals(13, recommendationFeatureService.recommend(USER_ID, 10).get(0).getScore()); // 커밋 전
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(12, recommendationFeatureService.recommend(USER_ID, 10).get(0).getScore());
+    }
+}
@@ -0,0 +1,136 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.dto.MovieSearchResultDto;
+import com.movie.movie_backend.dto.SearchResultDto;
+import com.movie.movie_backend.dto.UserSearchResultDto;
+import com.movie.movie_backend.entity.Tag;
+import com.movie.movie_backend.repository.CastRepository;
+import com.movie.movie_backend.repository.PRDMovieRepository;
+import com.movie.movie_backend.repository.PRDTagRepository;
+import com.movie.movie_backend.repository.USRUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 통합 검색 BM25 순위/토큰화/영화 재색인 테스트 (저장소는 Mockito로 대체)
+ */
+public class SearchServiceTest {
+
+    private PRDMovieRepository movieRepository;
+    private CastRepository castRepository;
+    private SearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        movieRepository = mock(PRDMovieRepository.class);
+        castRepository = mock(CastRepository.class);
+        PRDTagRepository tagRepository = mock(PRDTagRepository.class);
+        USRUserRepository userRepository = mock(USRUserRepository.class);
+
+        // (id, movieCd, movieNm, movieNmEn, genreNm, directorName, posterUrl, tmdbPopularity)
+        List<Object[]> movies = new ArrayList<>();
+        movies.add(new Object[] {1L, "M1", "기생충", "Parasite", "드라마", "봉준호", "p1", 80.0});
+        movies.add(new Object[] {2L, "M2", "괴물", "The Host", "SF", "봉준호", "null", 20.0});
+        movies.add(new Object[] {3L, "M3", "기생수 더 그레이", null, "액션", "연상호", null, 50.0});
+        when(movieRepository.findSearchEngineRows()).thenReturn(movies);
+        when(movieRepository.findTagRows()).thenReturn(List.of(
+                new Object[] {"M1", "가족"},
+                new Object[] {"M1", null})); // 이름 없는 태그는 건너뜀
+        when(castRepository.findSearchIndexRows()).thenReturn(List.<Object[]>of(new Object[] {"M2", "송강호"}));
+        when(userRepository.findSearchIndexRows()).thenReturn(List.<Object[]>of(new Object[] {10L, "bong", "봉준호팬"}));
+        Tag tag = new Tag();
+        tag.setId(100L);
+        tag.setName("가족");
+        when(tagRepository.findAll()).thenReturn(List.of(tag));
+
+        searchService = new SearchService(movieRepository, castRepository, tagRepository, userRepository);
+        searchService.rebuild();
+    }
+
+    @Test
+    void titleMatchOutranksDirectorMatchAndIgnoresSpacing() {
+        SearchResultDto result = searchService.search("기 생충", "movie", 0, 10);
+
+        // "기생" bigram은 M1, M3 모두 매칭되지만 "생충"까지 맞는 M1만 결과 (2개 이하 bigram은 전부 매칭해야 함)
+        assertEquals(List.of("기생충"), titles(result));
+        assertEquals(List.of("가족"), result.getMovies().get(0).getTags());
+    }
+
+    @Test
+    void searchesAllTypesAndRanksByFieldWeight() {
+        SearchResultDto result = searchService.search("봉준호", "all", 0, 9);
+
+        // 감독 필드는 두 영화가 같고, 인기도 가산점이 큰 M1이 먼저
+        assertEquals(List.of("기생충", "괴물"), titles(result));
+        assertEquals(List.of("봉준호팬"), result.getUsers().stream().map(UserSearchResultDto::getNickname).toList());
+        assertEquals("", result.getMovies().get(1).getPosterUrl());
+        assertEquals(List.of("송강호"), result.getMovies().get(1).getActors());
+        assertEquals(3, result.getTotalElements());
+    }
+
+    @Test
+    void reindexMovieReplacesOnlyThatMovie() {
+        when(movieRepository.findSearchEngineRowsByMovieCd("M2")).thenReturn(List.<Object[]>of(
+                new Object[] {2L, "M2", "괴물 리마스터", "The Host", "SF", "봉준호", "p2", 20.0}));
+        when(castRepository.findSearchIndexRowsByMovieCd("M2")).thenReturn(List.of());
+        when(movieRepository.findTagRowsByMovieCd("M2")).thenReturn(List.of());
+
+        searchService.reindexMovie("M2");
+
+        assertEquals(List.of("괴물 리마스터"), titles(searchService.search("리마스터", "movie", 0, 10)));
+        assertEquals(List.of("기생충", "괴물 리마스터"), titles(searchService.search("봉준호", "movie", 0, 10)));
+        assertTrue(titles(searchService.search("송강호", "movie", 0, 10)).isEmpty()); // 이전 문서는 가려짐
+
+        // 삭제된 영화는 결과에서 빠짐
+        when(movieRepository.findSearchEngineRowsByMovieCd("M1")).thenReturn(List.of());
+        searchService.reindexMovie("M1");
+        assertEquals(List.of("괴물 리마스터"), titles(searchService.search("봉준호", "movie", 0, 10)));
+    }
+
+    @Test
+    void markedMoviesAreReindexedByPendingJob() {
+        when(movieRepository.findSearchEngineRowsByMovieCd("M2")).thenReturn(List.<Object[]>of(
+                new Object[] {2L, "M2", "괴물 리마스터", "The Host", "SF", "봉준호", "p2", 20.0}));
+        when(castRepository.findSearchIndexRowsByMovieCd("M2")).thenReturn(List.of());
+        when(movieRepository.findTagRowsByMovieCd("M2")).thenReturn(List.of());
+
+        searchService.markDirty("M2");
+        assertTrue(titles(searchService.search("리마스터", "movie", 0, 10)).isEmpty()); // 표시만 하고 아직 반영 전
+
+        searchService.applyPendingChanges();
+        assertEquals(List.of("괴물 리마스터"), titles(searchService.search("리마스터", "movie", 0, 10)));
+    }
+
+    @Test
+    void tooManyPendingChangesRebuildInBackground() throws Exception {
+        Set<String> rebuildThreads = ConcurrentHashMap.newKeySet();
+        when(movieRepository.findSearchEngineRows()).thenAnswer(invocation -> {
+            rebuildThreads.add(Thread.currentThread().getName());
+            return List.of();
+        });
+
+        for (int i = 0; i <= SearchService.MAX_PENDING_CHANGES; i++) {
+            searchService.markDirty("X" + i); // 없는 영화 → 삭제 변경
+        }
+        searchService.applyPendingChanges();
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (rebuildThreads.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(Set.of("search-index-rebuild"), rebuildThreads);
+        searchService.shutdown();
+    }
+
+    private static List<String> titles(SearchResultDto result) {
+        return result.getMovies().stream().map(MovieSearchResultDto::getTitle).toList();
+    }
+}
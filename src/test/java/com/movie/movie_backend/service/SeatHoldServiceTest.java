@@ -0,0 +1,240 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.constant.ReservationStatus;
+import com.movie.movie_backend.constant.ScreeningSeatStatus;
+import com.movie.movie_backend.entity.Reservation;
+import com.movie.movie_backend.entity.Screening;
+import com.movie.movie_backend.entity.ScreeningSeat;
+import com.movie.movie_backend.entity.Seat;
+import com.movie.movie_backend.repository.ReservationRepository;
+import com.movie.movie_backend.repository.ScreeningRepository;
+import com.movie.movie_backend.repository.ScreeningSeatRepository;
+import com.movie.movie_backend.repository.SeatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 좌석 홀드 엔진 테스트 (H2 MySQL 모드에 실제 조건부 UPDATE 실행)
+ * 요청마다 홀드 트랜잭션과 예매 확정 트랜잭션을 따로 실행해서 결제 전후 흐름을 그대로 재현한다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:seat-hold;MODE=MySQL;LOCK_TIMEOUT=30000;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size=32",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({SeatHoldService.class, SeatHoldExpiryService.class, SeatMapCacheService.class, SeatMapStreamService.class,
+        SeatHoldServiceTest.BookingFlow.class})
+public class SeatHoldServiceTest {
+
+    private static final int SEAT_COUNT = 40;
+
+    @Autowired
+    private BookingFlow bookingFlow;
+    @Autowired
+    private ScreeningRepository screeningRepository;
+    @Autowired
+    private SeatRepository seatRepository;
+    @Autowired
+    private ScreeningSeatRepository screeningSeatRepository;
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    private Long screeningId;
+    private List<Long> seatIds;
+
+    /**
+     * BookingService처럼 홀드/취소/확정을 각각 하나의 트랜잭션으로 실행
+     */
+    @TestComponent
+    static class BookingFlow {
+
+        @Autowired
+        private SeatHoldService seatHoldService;
+        @Autowired
+        private ScreeningRepository screeningRepository;
+        @Autowired
+        private ReservationRepository reservationRepository;
+
+        @Transactional
+        public String hold(Long screeningId, List<Long> seatIds) {
+            return seatHoldService.hold(screeningId, seatIds, Duration.ofMinutes(5));
+        }
+
+        @Transactional
+        public boolean release(Long screeningId, List<Long> seatIds, String holdToken) {
+            return seatHoldService.release(screeningId, seatIds, holdToken);
+        }
+
+        @Transactional
+        public boolean reserve(Long screeningId, List<Long> seatIds, String holdToken) {
+            Reservation reservation = new Reservation();
+            reservation.setScreening(screeningRepository.getReferenceById(screeningId));
+            reservation.setStatus(ReservationStatus.CONFIRMED);
+            reservation.setTotalAmount(BigDecimal.valueOf(10000L * seatIds.size()));
+            reservation.setReservedAt(LocalDateTime.now());
+            return seatHoldService.reserve(screeningId, seatIds, holdToken, reservationRepository.save(reservation));
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        screeningSeatRepository.deleteAllInBatch();
+        reservationRepository.deleteAllInBatch();
+        Screening screening = screeningRepository.save(new Screening());
+        screeningId = screening.getId();
+        seatIds = new ArrayList<>();
+        List<ScreeningSeat> screeningSeats = new ArrayList<>();
+        for (int i = 1; i <= SEAT_COUNT; i++) {
+            Seat seat = new Seat();
+            seat.setSeatNumber("A" + i);
+            seat = seatRepository.save(seat);
+            seatIds.add(seat.getId());
+            screeningSeats.add(ScreeningSeat.builder()
+                    .screening(screening)
+                    .seat(seat)
+                    .status(ScreeningSeatStatus.AVAILABLE)
+                    .build());
+        }
+        screeningSeatRepository.saveAll(screeningSeats);
+    }
+
+    @Test
+    void holdIsAllOrNothing() {
+        assertNotNull(bookingFlow.hold(screeningId, seats(2)));
+
+        // 2번은 이미 잡혀 있으므로 1, 2, 3 요청은 실패하고 1, 3도 잡힌 채로 남으면 안 된다
+        assertNull(bookingFlow.hold(screeningId, seats(1, 2, 3)));
+        Map<Long, ScreeningSeat> rows = rows();
+        assertEquals(ScreeningSeatStatus.AVAILABLE, rows.get(seat(1)).getStatus());
+        assertEquals(ScreeningSeatStatus.LOCKED, rows.get(seat(2)).getStatus());
+        assertEquals(ScreeningSeatStatus.AVAILABLE, rows.get(seat(3)).getStatus());
+    }
+
+    @Test
+    void onlyHolderCanReleaseOrReserve() {
+        String holdToken = bookingFlow.hold(screeningId, seats(5, 6));
+        assertNotNull(holdToken);
+
+        // 다른 사용자(토큰 없음/다른 토큰)는 남이 잡은 좌석을 풀거나 예매할 수 없다
+        assertFalse(bookingFlow.release(screeningId, seats(5, 6), null));
+        assertFalse(bookingFlow.release(screeningId, seats(5, 6), "other-token"));
+        assertFalse(bookingFlow.reserve(screeningId, seats(5, 6), null));
+        assertFalse(bookingFlow.reserve(screeningId, seats(5, 6), "other-token"));
+        assertEquals(0, reservationRepository.count()); // 실패한 예매는 예약까지 롤백
+        assertEquals(ScreeningSeatStatus.LOCKED, rows().get(seat(5)).getStatus());
+
+        assertTrue(bookingFlow.release(screeningId, seats(5, 6), holdToken));
+        String nextToken = bookingFlow.hold(screeningId, seats(5, 6));
+        assertTrue(bookingFlow.reserve(screeningId, seats(5, 6), nextToken));
+        assertEquals(ScreeningSeatStatus.RESERVED, rows().get(seat(6)).getStatus());
+        assertFalse(bookingFlow.release(screeningId, seats(5, 6), nextToken)); // 확정된 좌석은 홀드 취소 불가
+    }
+
+    @Test
+    void noDoubleBookingUnderParallelHoldAndReserve() throws Exception {
+        int requests = 400;
+        Random random = new Random(42);
+        List<List<Long>> wanted = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            // 인접한 2~3석을 요청해서 요청끼리 최대한 겹치게 함
+            int size = 2 + random.nextInt(2);
+            int first = 1 + random.nextInt(SEAT_COUNT - size + 1);
+            List<Long> seats = new ArrayList<>();
+            for (int j = 0; j < size; j++) {
+                seats.add(seat(first + j));
+            }
+            wanted.add(seats);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            List<Long> seats = wanted.get(i);
+            // 절반은 홀드 없이 바로 예매, 절반은 홀드 후 예매 (홀드 없는 쪽은 남이 잡은 좌석을 예매할 수 없어야 함)
+            boolean direct = i % 2 == 0;
+            futures.add(executor.submit(() -> {
+                start.await();
+                if (direct) {
+                    return bookingFlow.reserve(screeningId, seats, null);
+                }
+                String holdToken = bookingFlow.hold(screeningId, seats);
+                return holdToken != null && bookingFlow.reserve(screeningId, seats, holdToken);
+            }));
+        }
+        start.countDown();
+
+        List<List<Long>> booked = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            if (futures.get(i).get(60, TimeUnit.SECONDS)) {
+                booked.add(wanted.get(i));
+            }
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertFalse(booked.isEmpty());
+
+        // 1. 성공한 예매끼리 좌석이 겹치지 않는다
+        Map<Long, Integer> bookedCount = new HashMap<>();
+        for (List<Long> seats : booked) {
+            for (Long seatId : seats) {
+                assertNull(bookedCount.put(seatId, 1), "seat " + seatId + " booked twice");
+            }
+        }
+
+        // 2. DB에서도 성공한 예매의 좌석만 RESERVED, 예약 행 수는 성공한 예매 수와 같다 (실패한 예매는 롤백)
+        for (Map.Entry<Long, ScreeningSeat> row : rows().entrySet()) {
+            boolean reserved = row.getValue().getStatus() == ScreeningSeatStatus.RESERVED;
+            assertEquals(bookedCount.containsKey(row.getKey()), reserved, "seat " + row.getKey());
+            assertNotEquals(ScreeningSeatStatus.LOCKED, row.getValue().getStatus(), "hold leaked");
+        }
+        assertEquals(booked.size(), reservationRepository.count());
+    }
+
+    private Long seat(int number) {
+        return seatIds.get(number - 1);
+    }
+
+    private List<Long> seats(int... numbers) {
+        List<Long> ids = new ArrayList<>();
+        for (int number : numbers) {
+            ids.add(seat(number));
+        }
+        return ids;
+    }
+
+    private Map<Long, ScreeningSeat> rows() {
+        Map<Long, ScreeningSeat> rows = new HashMap<>();
+        for (Object[] row : screeningSeatRepository.findSeatMapRows(screeningId)) {
+            ScreeningSeat seat = new ScreeningSeat();
+            seat.setStatus((ScreeningSeatStatus) row[3]);
+            rows.put((Long) row[1], seat);
+        }
+        return rows;
+    }
+}
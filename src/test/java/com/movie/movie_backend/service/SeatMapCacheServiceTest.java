@@ -0,0 +1,113 @@
+package com.movie.movie_backend.service;
+
+import com.movie.movie_backend.constant.ScreeningSeatStatus;
+import com.movie.movie_backend.dto.ScreeningSeatDto;
+import com.movie.movie_backend.dto.SeatMapDeltaDto;
+import com.movie.movie_backend.dto.SeatMapSnapshotDto;
+import com.movie.movie_backend.repository.ScreeningSeatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 좌석 배치도 캐시 변경분/재동기화 테스트 (저장소/SSE는 Mockito로 대체)
+ */
+public class SeatMapCacheServiceTest {
+
+    private static final Long SCREENING_ID = 1L;
+
+    private ScreeningSeatRepository screeningSeatRepository;
+    private SeatMapStreamService seatMapStreamService;
+    private SeatMapCacheService seatMapCacheService;
+
+    @BeforeEach
+    void setUp() {
+        screeningSeatRepository = mock(ScreeningSeatRepository.class);
+        seatMapStreamService = mock(SeatMapStreamService.class);
+        seatMapCacheService = new SeatMapCacheService(screeningSeatRepository, seatMapStreamService);
+        when(screeningSeatRepository.findSeatMapRows(SCREENING_ID)).thenReturn(rows(
+                ScreeningSeatStatus.AVAILABLE, ScreeningSeatStatus.AVAILABLE, ScreeningSeatStatus.AVAILABLE));
+        seatMapCacheService.getSeats(SCREENING_ID);
+    }
+
+    @Test
+    void applyPublishesOnlyChangedSeatsWithIncreasingVersion() {
+        seatMapCacheService.apply(SCREENING_ID, List.of(11L, 12L), ScreeningSeatStatus.LOCKED);
+        seatMapCacheService.apply(SCREENING_ID, List.of(12L, 13L), ScreeningSeatStatus.LOCKED);
+
+        ArgumentCaptor<SeatMapDeltaDto> deltas = ArgumentCaptor.forClass(SeatMapDeltaDto.class);
+        verify(seatMapStreamService, times(2)).publishDelta(deltas.capture());
+        assertEquals(1, deltas.getAllValues().get(0).getVersion());
+        assertEquals(2, deltas.getAllValues().get(0).getChanges().size());
+        assertEquals(2, deltas.getAllValues().get(1).getVersion());
+        assertEquals(13L, deltas.getAllValues().get(1).getChanges().get(0).getSeatId()); // 12번은 이미 LOCKED
+        assertEquals(List.of("LOCKED", "LOCKED", "LOCKED"), statuses());
+    }
+
+    @Test
+    void refreshPushesSeatsChangedByOtherServers() {
+        when(screeningSeatRepository.findSeatMapRows(SCREENING_ID)).thenReturn(rows(
+                ScreeningSeatStatus.AVAILABLE, ScreeningSeatStatus.RESERVED, ScreeningSeatStatus.AVAILABLE));
+
+        seatMapCacheService.refresh(SCREENING_ID);
+
+        ArgumentCaptor<SeatMapDeltaDto> delta = ArgumentCaptor.forClass(SeatMapDeltaDto.class);
+        verify(seatMapStreamService).publishDelta(delta.capture());
+        assertEquals(1, delta.getValue().getChanges().size());
+        assertEquals(12L, delta.getValue().getChanges().get(0).getSeatId());
+        assertEquals(List.of("AVAILABLE", "RESERVED", "AVAILABLE"), statuses());
+    }
+
+    @Test
+    void deltaAppliedWhileRefreshReadsIsNotOverwritten() {
+        // refresh가 DB를 읽는 도중 커밋 후 반영(apply)이 끼어들고, refresh는 그 전 상태를 읽어 온 상황
+        when(screeningSeatRepository.findSeatMapRows(SCREENING_ID)).thenAnswer(invocation -> {
+            seatMapCacheService.apply(SCREENING_ID, List.of(11L), ScreeningSeatStatus.LOCKED);
+            return rows(ScreeningSeatStatus.AVAILABLE, ScreeningSeatStatus.AVAILABLE, ScreeningSeatStatus.RESERVED);
+        });
+
+        seatMapCacheService.refresh(SCREENING_ID);
+
+        // 11번은 apply 값 유지, 읽은 값 중 apply와 무관한 13번은 반영
+        assertEquals(List.of("LOCKED", "AVAILABLE", "RESERVED"), statuses());
+    }
+
+    @Test
+    void layoutChangeReplacesMapKeepsConcurrentDeltaAndPushesSnapshot() {
+        when(screeningSeatRepository.findSeatMapRows(SCREENING_ID)).thenAnswer(invocation -> {
+            seatMapCacheService.apply(SCREENING_ID, List.of(12L), ScreeningSeatStatus.LOCKED);
+            List<Object[]> rows = rows(ScreeningSeatStatus.AVAILABLE, ScreeningSeatStatus.AVAILABLE,
+                    ScreeningSeatStatus.AVAILABLE);
+            rows.add(new Object[] {104L, 14L, "A4", ScreeningSeatStatus.AVAILABLE});
+            return rows;
+        });
+
+        seatMapCacheService.refresh(SCREENING_ID);
+
+        ArgumentCaptor<SeatMapSnapshotDto> snapshot = ArgumentCaptor.forClass(SeatMapSnapshotDto.class);
+        verify(seatMapStreamService).publishSnapshot(snapshot.capture());
+        assertEquals(2, snapshot.getValue().getVersion()); // delta 1 다음
+        assertEquals(List.of("AVAILABLE", "LOCKED", "AVAILABLE", "AVAILABLE"), statuses());
+    }
+
+    /**
+     * (screeningSeatId, seatId, seatNumber, status) - 좌석 11, 12, 13
+     */
+    private static List<Object[]> rows(ScreeningSeatStatus... statuses) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < statuses.length; i++) {
+            rows.add(new Object[] {101L + i, 11L + i, "A" + (i + 1), statuses[i]});
+        }
+        return rows;
+    }
+
+    private List<String> statuses() {
+        return seatMapCacheService.getSeats(SCREENING_ID).stream().map(ScreeningSeatDto::getStatus).toList();
+    }
+}
@@ -0,0 +1,52 @@
+package com.movie.movie_backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 자동완성 트라이 테스트 (초성/입력 중인 글자/오타/영문/단어 시작)
+ */
+public class SuggestServiceTest {
+
+    private final SuggestService.Snapshot snapshot = SuggestService.Snapshot.build(List.of(
+            new SuggestService.Entry("기생충", SuggestService.TYPE_MOVIE, "1", 8f),
+            new SuggestService.Entry("Parasite", SuggestService.TYPE_MOVIE, "1", 7.5f),
+            new SuggestService.Entry("기억의 밤", SuggestService.TYPE_MOVIE, "2", 4f),
+            new SuggestService.Entry("어벤져스: 엔드게임", SuggestService.TYPE_MOVIE, "3", 9f),
+            new SuggestService.Entry("봉준호", SuggestService.TYPE_DIRECTOR, null, 3f),
+            new SuggestService.Entry("기생충", SuggestService.TYPE_KEYWORD, null, 5f)));
+
+    @Test
+    void choseongAndPartialSyllable() {
+        assertEquals("기생충", first("ㄱㅅㅊ").text);
+        assertEquals("기생충", first("기생ㅊ").text);
+        assertEquals("봉준호", first("ㅂㅈ").text);
+
+        // 같은 표시 문자열(영화 + 인기검색어)은 한 번만, 가중치 높은 영화가 남음
+        List<SuggestService.Entry> result = snapshot.suggest("기", 10);
+        assertEquals(List.of("기생충", "기억의 밤"), result.stream().map(e -> e.text).toList());
+        assertEquals(SuggestService.TYPE_MOVIE, result.get(0).type);
+    }
+
+    @Test
+    void englishPrefixAndWordStart() {
+        assertEquals("Parasite", first("para").text);
+        assertEquals("어벤져스: 엔드게임", first("엔드게").text);
+    }
+
+    @Test
+    void typoTolerance() {
+        assertEquals("기생충", first("기섕충").text);
+        assertEquals("Parasite", first("parasote").text);
+        assertTrue(snapshot.suggest("zzzz", 10).isEmpty());
+    }
+
+    private SuggestService.Entry first(String query) {
+        List<SuggestService.Entry> result = snapshot.suggest(query, 10);
+        assertFalse(result.isEmpty(), query);
+        return result.get(0);
+    }
+}
@@ -0,0 +1,157 @@
+package com.movie.movie_backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 보완 작업 체크포인트/재시도 간격 테스트
+ * H2 MySQL 모드에 실제 sync 테이블(V35)을 만들고, IngestionPipeline은 같은 스레드에서 바로 실행하는 Mockito로 대체
+ */
+public class SyncStateServiceTest {
+
+    private static final String JOB = SyncStateService.Job.TMDB_POSTER.getKey();
+
+    private JdbcTemplate jdbcTemplate;
+    private IngestionPipeline ingestionPipeline;
+    private SyncStateService syncStateService;
+    private final List<String> attempted = new ArrayList<>();
+    private final AtomicInteger submits = new AtomicInteger();
+    private int failOnSubmit = -1;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:sync-state-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE movie_list (movie_cd VARCHAR(255) PRIMARY KEY, movie_nm VARCHAR(255), " +
+                "movie_nm_en VARCHAR(255), open_dt DATE, poster_url VARCHAR(500), watch_grade_nm VARCHAR(50))");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V35__Create_Sync_State_Tables.sql"))
+                .execute(dataSource);
+        for (String movieCd : List.of("M1", "M2", "M3", "M4", "M5")) {
+            jdbcTemplate.update("INSERT INTO movie_list (movie_cd, movie_nm) VALUES (?, ?)", movieCd, "영화 " + movieCd);
+        }
+        jdbcTemplate.update("INSERT INTO movie_list (movie_cd, movie_nm, poster_url) VALUES ('M0', '포스터 있음', 'p')");
+
+        ingestionPipeline = mock(IngestionPipeline.class);
+        when(ingestionPipeline.submit(anyString(), anyCollection(), any())).thenAnswer(invocation -> {
+            if (submits.getAndIncrement() == failOnSubmit) {
+                return CompletableFuture.failedFuture(new IllegalStateException("pipeline stopped"));
+            }
+            Collection<Object> items = invocation.getArgument(1);
+            Predicate<Object> task = invocation.getArgument(2);
+            int succeeded = 0;
+            for (Object item : items) {
+                if (task.test(item)) {
+                    succeeded++;
+                }
+            }
+            return CompletableFuture.completedFuture(new IngestionPipeline.JobResult(
+                    invocation.getArgument(0), items.size(), succeeded, items.size() - succeeded, 0));
+        });
+        syncStateService = new SyncStateService(jdbcTemplate, ingestionPipeline, 2, 360, 43200);
+    }
+
+    @Test
+    void failureBackoffDoublesUpToMax() {
+        assertEquals(360, SyncStateService.failureBackoffMinutes(1, 360, 43200));
+        assertEquals(720, SyncStateService.failureBackoffMinutes(2, 360, 43200));
+        assertEquals(2880, SyncStateService.failureBackoffMinutes(4, 360, 43200));
+        assertEquals(43200, SyncStateService.failureBackoffMinutes(10, 360, 43200));
+        assertEquals(43200, SyncStateService.failureBackoffMinutes(100, 360, 43200));
+    }
+
+    @Test
+    void resumesFromCheckpointAndClearsItWhenDone() {
+        jdbcTemplate.update("INSERT INTO sync_checkpoint (job, last_movie_cd, status, updated_at) " +
+                "VALUES (?, 'M2', 'RUNNING', CURRENT_TIMESTAMP)", JOB);
+
+        IngestionPipeline.JobResult result = run(target -> true);
+
+        assertEquals(List.of("M3", "M4", "M5"), attempted); // 포스터 있는 M0와 이미 지나간 M1, M2는 제외
+        assertEquals(3, result.succeeded());
+        assertEquals(2, submits.get()); // page-size 2 → 두 페이지
+        Map<String, Object> checkpoint = checkpoint();
+        assertEquals(SyncStateService.STATUS_DONE, checkpoint.get("status"));
+        assertNull(checkpoint.get("last_movie_cd"));
+        assertEquals(3, ((Number) checkpoint.get("run_processed")).intValue());
+
+        // 끝까지 갔으므로 다음 실행은 처음부터
+        attempted.clear();
+        run(target -> true);
+        assertEquals(List.of("M1", "M2", "M3", "M4", "M5"), attempted);
+    }
+
+    @Test
+    void failedRunKeepsCheckpointForNextRun() {
+        failOnSubmit = 1; // 두 번째 페이지에서 중단
+
+        run(target -> true);
+
+        Map<String, Object> checkpoint = checkpoint();
+        assertEquals(SyncStateService.STATUS_FAILED, checkpoint.get("status"));
+        assertEquals("M2", checkpoint.get("last_movie_cd"));
+        assertEquals("pipeline stopped", checkpoint.get("last_error"));
+
+        failOnSubmit = -1;
+        attempted.clear();
+        run(target -> true);
+        assertEquals(List.of("M3", "M4", "M5"), attempted);
+        assertNull(checkpoint().get("last_movie_cd"));
+    }
+
+    @Test
+    void failedMovieIsSkippedUntilNextAttemptAt() {
+        run(target -> !target.movieCd().equals("M1"));
+
+        Map<String, Object> state = jdbcTemplate.queryForMap(
+                "SELECT failure_count, next_attempt_at, last_error FROM movie_sync_state WHERE job = ? AND movie_cd = 'M1'",
+                JOB);
+        assertEquals(1, ((Number) state.get("failure_count")).intValue());
+        assertEquals("no match", state.get("last_error"));
+        assertNotNull(state.get("next_attempt_at"));
+
+        // 재시도 시각 전에는 후보에서 빠짐
+        attempted.clear();
+        run(target -> false);
+        assertFalse(attempted.contains("M1"));
+
+        // 재시도 시각이 지나면 다시 시도하고, 연속 실패 수가 늘어남
+        jdbcTemplate.update("UPDATE movie_sync_state SET next_attempt_at = DATEADD('MINUTE', -1, CURRENT_TIMESTAMP) " +
+                "WHERE job = ? AND movie_cd = 'M1'", JOB);
+        attempted.clear();
+        run(target -> false);
+        assertEquals(List.of("M1"), attempted);
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT failure_count FROM movie_sync_state WHERE job = ? AND movie_cd = 'M1'", Integer.class, JOB));
+    }
+
+    private IngestionPipeline.JobResult run(Predicate<SyncStateService.Target> task) {
+        submits.set(0);
+        return syncStateService.run(SyncStateService.Job.TMDB_POSTER, target -> {
+            attempted.add(target.movieCd());
+            return task.test(target);
+        }).join();
+    }
+
+    private Map<String, Object> checkpoint() {
+        return jdbcTemplate.queryForMap("SELECT * FROM sync_checkpoint WHERE job = ?", JOB);
+    }
+}
@@ -0,0 +1,150 @@
+package com.movie.movie_backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 외부 API 응답 캐시 테스트
+ */
+public class UpstreamResponseCacheTest {
+
+    private static final String URL = "https://example.com/movies?b=2&a=1&api_key=secret";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void normalizeIgnoresParamOrderAndApiKeys() {
+        assertEquals("example.com/movies?a=1&b=2", UpstreamResponseCache.normalize(URL));
+        assertEquals(UpstreamResponseCache.normalize("https://EXAMPLE.com/movies?a=1&key=x&b=2"),
+                UpstreamResponseCache.normalize(URL));
+    }
+
+    @Test
+    void freshEntryIsServedWithoutFetching() {
+        UpstreamResponseCache cache = cache(24);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertEquals("body", cache.get(URL, (etag, lastModified) -> {
+            calls.incrementAndGet();
+            return new UpstreamResponseCache.Response(false, "body", "\"v1\"", null);
+        }));
+        assertEquals("body", cache.get("https://example.com/movies?a=1&b=2&api_key=other", (etag, lastModified) -> {
+            calls.incrementAndGet();
+            return new UpstreamResponseCache.Response(false, "other", null, null);
+        }));
+
+        assertEquals(1, calls.get());
+        assertEquals(1L, cache.getStats().get("hits"));
+        assertEquals(1L, cache.getStats().get("misses"));
+    }
+
+    @Test
+    void staleEntryIsRevalidatedWithEtag() {
+        UpstreamResponseCache cache = cache(0);
+        cache.get(URL, (etag, lastModified) -> new UpstreamResponseCache.Response(false, "body", "\"v1\"", null));
+
+        List<String> sentEtags = new ArrayList<>();
+        String body = cache.get(URL, (etag, lastModified) -> {
+            sentEtags.add(etag);
+            return new UpstreamResponseCache.Response(true, null, null, null);
+        });
+
+        assertEquals("body", body);
+        assertEquals(List.of("\"v1\""), sentEtags);
+        assertEquals(1L, cache.getStats().get("revalidated"));
+    }
+
+    @Test
+    void staleEntryIsServedWhenFetchFails() {
+        UpstreamResponseCache cache = cache(0);
+        cache.get(URL, (etag, lastModified) -> new UpstreamResponseCache.Response(false, "body", null, null));
+
+        assertEquals("body", cache.get(URL, (etag, lastModified) -> {
+            throw new IllegalStateException("503");
+        }));
+        assertEquals(1L, cache.getStats().get("staleServed"));
+        assertThrows(IllegalStateException.class, () -> cache.get("https://example.com/other", (etag, lastModified) -> {
+            throw new IllegalStateException("503");
+        }));
+    }
+
+    @Test
+    void errorBodiesAreReturnedButNotCached() {
+        UpstreamResponseCache cache = cache(24);
+        String fault = "{\"faultInfo\":{\"message\":\"키 사용량 초과\",\"errorCode\":\"320011\"}}";
+        AtomicInteger calls = new AtomicInteger();
+        UpstreamResponseCache.Fetcher fetcher = (etag, lastModified) -> {
+            calls.incrementAndGet();
+            return new UpstreamResponseCache.Response(false, fault, null, null);
+        };
+
+        assertEquals(fault, cache.get(URL, fetcher,
+                body -> IngestionPipeline.isCacheable(IngestionPipeline.Upstream.KOBIS, body)));
+        assertEquals(fault, cache.get(URL, fetcher,
+                body -> IngestionPipeline.isCacheable(IngestionPipeline.Upstream.KOBIS, body)));
+
+        assertEquals(2, calls.get());
+        assertEquals(2L, cache.getStats().get("rejected"));
+    }
+
+    @Test
+    void isCacheableRejectsKobisFaultAndTmdbErrors() {
+        assertFalse(IngestionPipeline.isCacheable(IngestionPipeline.Upstream.KOBIS,
+                "{\"faultInfo\":{\"message\":\"유효하지않은 키값입니다.\"}}"));
+        assertTrue(IngestionPipeline.isCacheable(IngestionPipeline.Upstream.KOBIS,
+                "{\"movieListResult\":{\"totCnt\":0,\"movieList\":[]}}"));
+        assertFalse(IngestionPipeline.isCacheable(IngestionPipeline.Upstream.TMDB,
+                "{\"success\":false,\"status_code\":7,\"status_message\":\"Invalid API key\"}"));
+        assertTrue(IngestionPipeline.isCacheable(IngestionPipeline.Upstream.TMDB, "{\"id\":550,\"title\":\"Fight Club\"}"));
+    }
+
+    @Test
+    void concurrentCallersShareOneFetch() throws Exception {
+        UpstreamResponseCache cache = cache(24);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        UpstreamResponseCache.Fetcher slowFetcher = (etag, lastModified) -> {
+            calls.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new UpstreamResponseCache.Response(false, "body", null, null);
+        };
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            List<CompletableFuture<String>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(CompletableFuture.supplyAsync(() -> cache.get(URL, slowFetcher), executor));
+            }
+            while (calls.get() == 0 || (long) cache.getStats().get("coalesced") < 3) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+            for (CompletableFuture<String> result : results) {
+                assertEquals("body", result.get(5, TimeUnit.SECONDS));
+            }
+        }
+
+        assertEquals(1, calls.get());
+    }
+
+    private UpstreamResponseCache cache(long defaultTtlHours) {
+        return new UpstreamResponseCache(new ObjectMapper(), directory.toString(), true, defaultTtlHours, 30);
+    }
+}